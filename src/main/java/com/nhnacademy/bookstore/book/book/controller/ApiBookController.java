@@ -1,15 +1,24 @@
 package com.nhnacademy.bookstore.book.book.controller;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.nhnacademy.bookstore.book.book.dto.request.CreateApiBookBulkRequest;
+import com.nhnacademy.bookstore.book.book.dto.response.ApiBookBulkJobResponse;
+import com.nhnacademy.bookstore.book.book.exception.CreateApiBookBulkRequestFormException;
+import com.nhnacademy.bookstore.book.book.service.ApiBookBulkService;
 import com.nhnacademy.bookstore.book.book.service.ApiBookService;
 import com.nhnacademy.bookstore.util.ApiResponse;
+import com.nhnacademy.bookstore.util.ValidationUtils;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -25,6 +34,7 @@ import lombok.extern.slf4j.Slf4j;
 public class ApiBookController {
 
 	private final ApiBookService apiBookService;
+	private final ApiBookBulkService apiBookBulkService;
 
 	/**
 	 * 알라딘 API 로 책을 추가하는 메소드.
@@ -39,6 +49,36 @@ public class ApiBookController {
 		return ApiResponse.success(null);
 	}
 
+	/**
+	 * 알라딘 API 로 여러 책을 한 번에 추가하는 작업을 시작하는 메소드.
+	 * 작업이 끝나길 기다리지 않고 작업 아이디를 돌려주므로, 결과는 작업 아이디로 따로 조회합니다.
+	 *
+	 * @param createApiBookBulkRequest 추가할 책들의 isbn
+	 * @param bindingResult            binding result
+	 * @return 시작한 작업
+	 */
+	@PostMapping("/bulk")
+	@ResponseStatus(HttpStatus.ACCEPTED)
+	public ApiResponse<ApiBookBulkJobResponse> bulkBooks(
+		@Valid @RequestBody CreateApiBookBulkRequest createApiBookBulkRequest, BindingResult bindingResult) {
+		ValidationUtils.validateBindingResult(bindingResult,
+			new CreateApiBookBulkRequestFormException("isbn 은 1 개 이상 1000 개 이하로 보내야 합니다."));
+
+		return ApiResponse.success(apiBookBulkService.startImport(createApiBookBulkRequest.isbnList()));
+	}
+
+	/**
+	 * 여러 책을 추가하는 작업의 진행 상황을 조회하는 메소드.
+	 * 일부가 실패해도 나머지는 추가되고, 끝난 책마다 결과를 돌려줍니다.
+	 *
+	 * @param jobId 작업 아이디
+	 * @return 진행 상황과 책별 결과
+	 */
+	@GetMapping("/bulk/{jobId}")
+	public ApiResponse<ApiBookBulkJobResponse> bulkBooksStatus(@PathVariable String jobId) {
+		return ApiResponse.success(apiBookBulkService.readImport(jobId));
+	}
+
 }
 
 
@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.BindingResult;
@@ -20,6 +21,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.nhnacademy.bookstore.book.book.dto.request.CreateBookRequest;
+import com.nhnacademy.bookstore.book.book.dto.response.BookCursorResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.BookForCouponResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.BookListResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.BookManagementResponse;
@@ -45,6 +47,11 @@ import lombok.extern.slf4j.Slf4j;
 @RequestMapping("/bookstore/books")
 @Slf4j
 public class BookController {
+	/**
+	 * 커서 조회 한 번에 내려주는 최대 도서 수.
+	 */
+	private static final int MAX_CURSOR_SIZE = 100;
+
 	private final BookService bookService;
 
 	/**
@@ -72,29 +79,50 @@ public class BookController {
 	 * @param page 페이지
 	 * @param size 사이즈
 	 * @param sort 정렬 기준
+	 * @param total 전체 개수 포함 여부 (false 면 전체 개수 없이 다음 페이지 존재 여부만 내려줍니다.)
 	 * @return 도서 리스트
 	 * @author 김은비
 	 */
 	@GetMapping
-	public ApiResponse<Page<BookListResponse>> readAllBooks(
+	public ApiResponse<Slice<BookListResponse>> readAllBooks(
 		@RequestParam(defaultValue = "0") int page,
 		@RequestParam(defaultValue = "12") int size,
-		@RequestParam(defaultValue = "publishedDate,desc") String sort) {
+		@RequestParam(defaultValue = "publishedDate,desc") String sort,
+		@RequestParam(defaultValue = "true") boolean total) {
 
-		String[] sortParams = sort.split(",");
-		String property = sortParams[0];
-		String direction = sortParams.length > 1 ? sortParams[1].toUpperCase() : "DESC";
-		Sort.Direction directionEnum = Sort.Direction.valueOf(direction);
-
-		Sort sortOrder = Sort.by(new Sort.Order(directionEnum, property));
-		Pageable pageable = PageRequest.of(page, size, sortOrder);
+		Pageable pageable = PageRequest.of(page, size, Sort.by(toSortOrder(sort)));
 
 		log.info("정렬 기준 : {}", pageable);
 
+		if (!total) {
+			return ApiResponse.success(bookService.readAllBookSlice(pageable));
+		}
 		Page<BookListResponse> bookList = bookService.readAllBooks(pageable);
 		return ApiResponse.success(bookList);
 	}
 
+	/**
+	 * 도서 커서 조회 메서드입니다.
+	 * 페이지 번호 대신 이전 응답의 nextCursor 를 after 로 넘기면 이어지는 도서를 조회합니다.
+	 *
+	 * @param after      이전 응답의 nextCursor (첫 페이지면 생략)
+	 * @param size       사이즈 (1 ~ 100 사이로 맞춥니다.)
+	 * @param sort       정렬 기준
+	 * @param categoryId 카테고리 아이디 (생략하면 전체 도서)
+	 * @return 도서 리스트와 다음 커서
+	 */
+	@GetMapping("/cursor")
+	public ApiResponse<BookCursorResponse> readAllBooksByCursor(
+		@RequestParam(required = false) String after,
+		@RequestParam(defaultValue = "12") int size,
+		@RequestParam(defaultValue = "publishedDate,desc") String sort,
+		@RequestParam(required = false) Long categoryId) {
+
+		BookCursorResponse bookList = bookService.readBooksByCursor(toSortOrder(sort), after,
+			Math.clamp(size, 1, MAX_CURSOR_SIZE), categoryId);
+		return ApiResponse.success(bookList);
+	}
+
 	/**
 	 * 책 상세보기 -> 조회수가 올라갑니다.
 	 *
@@ -169,4 +197,16 @@ public class BookController {
 		return ApiResponse.success(bookList);
 	}
 
-}
\ No newline at end of file
+	/**
+	 * "property,direction" 형식의 정렬 파라미터를 Sort.Order 로 변환합니다.
+	 *
+	 * @param sort 정렬 파라미터
+	 * @return 정렬 기준
+	 */
+	private Sort.Order toSortOrder(String sort) {
+		String[] sortParams = sort.split(",");
+		String property = sortParams[0];
+		String direction = sortParams.length > 1 ? sortParams[1].toUpperCase() : "DESC";
+		return new Sort.Order(Sort.Direction.valueOf(direction), property);
+	}
+}
@@ -0,0 +1,81 @@
+package com.nhnacademy.bookstore.book.book.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+import org.springframework.data.domain.Sort;
+
+import com.nhnacademy.bookstore.book.book.exception.InvalidBookCursorException;
+
+/**
+ * 도서 목록 keyset 페이지네이션에 사용하는 커서입니다.
+ * 마지막으로 내려준 도서의 정렬 값과 도서 아이디를 담아 opaque 토큰(after)으로 주고 받습니다.
+ *
+ * @author 한민기
+ * @param property  정렬 기준
+ * @param direction 정렬 방향
+ * @param id        마지막 도서 아이디
+ * @param value     마지막 도서의 정렬 값 (null 가능)
+ */
+public record BookCursor(String property, Sort.Direction direction, long id, String value) {
+	private static final String DELIMITER = ",";
+	private static final String NULL_VALUE = "N";
+	private static final String VALUE_PREFIX = "V";
+
+	/**
+	 * 정렬 기준과 마지막 도서 정보로 커서를 생성합니다.
+	 *
+	 * @param order 정렬 기준
+	 * @param id    마지막 도서 아이디
+	 * @param value 마지막 도서의 정렬 값
+	 * @return 커서
+	 */
+	public static BookCursor of(Sort.Order order, long id, Object value) {
+		return new BookCursor(order.getProperty(), order.getDirection(), id,
+			Objects.isNull(value) ? null : String.valueOf(value));
+	}
+
+	/**
+	 * 커서를 url 에 그대로 실을 수 있는 토큰으로 변환합니다.
+	 *
+	 * @return base64url 토큰
+	 */
+	public String encode() {
+		String raw = property + DELIMITER + direction.name() + DELIMITER + id + DELIMITER
+			+ (Objects.isNull(value) ? NULL_VALUE : VALUE_PREFIX + value);
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 토큰을 커서로 변환합니다.
+	 *
+	 * @param token base64url 토큰
+	 * @return 커서
+	 * @throws InvalidBookCursorException 토큰 형식이 잘못된 경우
+	 */
+	public static BookCursor decode(String token) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			// 정렬 값(제목 등)에 구분자가 들어갈 수 있으므로 마지막 항목으로 두고 4개까지만 나눈다.
+			String[] parts = raw.split(DELIMITER, 4);
+			if (parts.length != 4 || parts[3].isEmpty()) {
+				throw new InvalidBookCursorException("잘못된 커서입니다.");
+			}
+			String value = parts[3].startsWith(VALUE_PREFIX) ? parts[3].substring(1) : null;
+			return new BookCursor(parts[0], Sort.Direction.valueOf(parts[1]), Long.parseLong(parts[2]), value);
+		} catch (IllegalArgumentException e) {
+			throw new InvalidBookCursorException("잘못된 커서입니다.");
+		}
+	}
+
+	/**
+	 * 커서가 요청한 정렬 기준으로 만들어진 것인지 확인합니다.
+	 *
+	 * @param order 요청한 정렬 기준
+	 * @return 일치 여부
+	 */
+	public boolean matches(Sort.Order order) {
+		return property.equals(order.getProperty()) && direction == order.getDirection();
+	}
+}
@@ -0,0 +1,20 @@
+package com.nhnacademy.bookstore.book.book.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+/**
+ * 알라딘 API 로 여러 도서를 한 번에 가져오는 요청.
+ *
+ * @param isbnList 가져올 도서의 isbn13 리스트 (한 번에 최대 1000 개)
+ * @author 한민기
+ */
+@Builder
+public record CreateApiBookBulkRequest(
+	@NotEmpty @Size(max = 1000) List<@NotBlank String> isbnList
+) {
+}
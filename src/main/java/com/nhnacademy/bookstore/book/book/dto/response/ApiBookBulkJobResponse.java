@@ -0,0 +1,53 @@
+package com.nhnacademy.bookstore.book.book.dto.response;
+
+import java.util.List;
+
+import lombok.Builder;
+
+/**
+ * 도서 일괄 가져오기 작업의 진행 상황.
+ *
+ * @param jobId         작업 아이디
+ * @param status        진행 상태
+ * @param total         가져올 도서 수
+ * @param created       새로 저장한 도서 수
+ * @param alreadyExists 이미 있어서 건너뛴 도서 수
+ * @param failed        실패한 도서 수
+ * @param results       요청한 순서대로의 도서별 결과 (끝난 도서만)
+ * @author 한민기
+ */
+@Builder
+public record ApiBookBulkJobResponse(String jobId, Status status, int total, int created, int alreadyExists,
+									 int failed, List<ApiBookImportResponse> results) {
+
+	/**
+	 * 작업 진행 상태.
+	 */
+	public enum Status {
+		RUNNING, COMPLETED
+	}
+
+	/**
+	 * 지금까지 끝난 도서별 결과로 개수를 세서 만듭니다.
+	 *
+	 * @param jobId   작업 아이디
+	 * @param total   가져올 도서 수
+	 * @param results 끝난 도서별 결과
+	 * @return 진행 상황
+	 */
+	public static ApiBookBulkJobResponse of(String jobId, int total, List<ApiBookImportResponse> results) {
+		return ApiBookBulkJobResponse.builder()
+			.jobId(jobId)
+			.status(results.size() >= total ? Status.COMPLETED : Status.RUNNING)
+			.total(total)
+			.created(count(results, ApiBookImportResponse.Status.CREATED))
+			.alreadyExists(count(results, ApiBookImportResponse.Status.ALREADY_EXISTS))
+			.failed(count(results, ApiBookImportResponse.Status.FAILED))
+			.results(results)
+			.build();
+	}
+
+	private static int count(List<ApiBookImportResponse> results, ApiBookImportResponse.Status status) {
+		return (int)results.stream().filter(result -> result.status() == status).count();
+	}
+}
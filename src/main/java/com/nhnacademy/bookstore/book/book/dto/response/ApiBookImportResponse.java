@@ -0,0 +1,22 @@
+package com.nhnacademy.bookstore.book.book.dto.response;
+
+import lombok.Builder;
+
+/**
+ * 도서 한 권을 가져온 결과.
+ *
+ * @param isbn    isbn13
+ * @param status  결과
+ * @param message 실패 사유 (성공이면 null)
+ * @author 한민기
+ */
+@Builder
+public record ApiBookImportResponse(String isbn, Status status, String message) {
+
+	/**
+	 * 도서 가져오기 결과.
+	 */
+	public enum Status {
+		CREATED, ALREADY_EXISTS, FAILED
+	}
+}
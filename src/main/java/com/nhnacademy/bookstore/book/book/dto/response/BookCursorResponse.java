@@ -0,0 +1,19 @@
+package com.nhnacademy.bookstore.book.book.dto.response;
+
+import java.util.List;
+
+import lombok.Builder;
+
+/**
+ * 커서 기반 도서 리스트 dto
+ *
+ * @param content    도서 리스트
+ * @param nextCursor 다음 페이지를 조회할 after 토큰 (마지막 페이지면 null)
+ * @param hasNext    다음 페이지 존재 여부
+ * @author 한민기
+ */
+@Builder
+public record BookCursorResponse(
+	List<BookListResponse> content, String nextCursor, boolean hasNext
+) {
+}
@@ -0,0 +1,24 @@
+package com.nhnacademy.bookstore.book.book.dto.response;
+
+import java.util.List;
+
+import com.nhnacademy.bookstore.book.booktag.dto.response.ReadTagByBookResponse;
+import com.nhnacademy.bookstore.book.category.dto.response.BookDetailCategoryResponse;
+
+import lombok.Builder;
+
+/**
+ * 도서 상세를 만들기 위해 한 번에 불러온 도서, 카테고리, 태그 dto
+ *
+ * @param book         도서와 메인 이미지
+ * @param categoryList 도서에 등록된 카테고리 (부모 아이디 포함)
+ * @param tagList      도서에 달린 태그
+ * @author 한민기
+ */
+@Builder
+public record BookDetailResponse(
+	ReadBookResponse book,
+	List<BookDetailCategoryResponse> categoryList,
+	List<ReadTagByBookResponse> tagList
+) {
+}
@@ -0,0 +1,12 @@
+package com.nhnacademy.bookstore.book.book.dto.response;
+
+/**
+ * 검색 색인에 반영할 도서 변경 내용.
+ *
+ * @param bookId   도서 아이디
+ * @param sequence 변경 순번 (클수록 나중 변경)
+ * @param body     elastic search bulk 요청 본문
+ * @author 한민기
+ */
+public record BookIndexChangeResponse(long bookId, long sequence, String body) {
+}
@@ -0,0 +1,14 @@
+package com.nhnacademy.bookstore.book.book.dto.response;
+
+/**
+ * 검색 결과에 덮어쓸 도서의 현재 가격, 재고, 썸네일.
+ *
+ * @param id           도서 아이디
+ * @param price        정가
+ * @param sellingPrice 판매가
+ * @param quantity     재고
+ * @param thumbnail    메인 이미지 썸네일 (없으면 null)
+ * @author 한민기
+ */
+public record BookStockResponse(long id, int price, int sellingPrice, int quantity, String thumbnail) {
+}
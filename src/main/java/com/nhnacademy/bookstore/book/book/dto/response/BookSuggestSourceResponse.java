@@ -0,0 +1,13 @@
+package com.nhnacademy.bookstore.book.book.dto.response;
+
+/**
+ * 자동완성 색인을 만들 때 필요한 도서 정보.
+ *
+ * @param id        도서 아이디
+ * @param title     제목
+ * @param author    작가
+ * @param viewCount 조회수 (자동완성 순위에 사용)
+ * @author 한민기
+ */
+public record BookSuggestSourceResponse(long id, String title, String author, int viewCount) {
+}
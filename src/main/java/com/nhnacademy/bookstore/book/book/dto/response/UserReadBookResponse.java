@@ -27,7 +27,7 @@ import lombok.Builder;
  * @param categoryList        카테고리 리스트
  * @param tagList            태그 리스트
  */
-@Builder
+@Builder(toBuilder = true)
 public record UserReadBookResponse(
 
 	long id,
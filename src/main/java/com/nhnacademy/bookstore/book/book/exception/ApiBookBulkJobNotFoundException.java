@@ -0,0 +1,12 @@
+package com.nhnacademy.bookstore.book.book.exception;
+
+/**
+ * 도서 일괄 가져오기 작업을 찾을 수 없을 때 예외. (없는 아이디거나 보관 기간이 지난 작업)
+ *
+ * @author 한민기
+ */
+public class ApiBookBulkJobNotFoundException extends RuntimeException {
+	public ApiBookBulkJobNotFoundException(String jobId) {
+		super("도서 가져오기 작업을 찾을 수 없습니다. : " + jobId);
+	}
+}
@@ -0,0 +1,12 @@
+package com.nhnacademy.bookstore.book.book.exception;
+
+/**
+ * 도서 일괄 가져오기 요청이 잘못되었을 때 발생하는 Exception.
+ *
+ * @author 한민기
+ */
+public class CreateApiBookBulkRequestFormException extends RuntimeException {
+	public CreateApiBookBulkRequestFormException(String message) {
+		super(message);
+	}
+}
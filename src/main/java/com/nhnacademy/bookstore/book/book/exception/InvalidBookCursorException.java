@@ -0,0 +1,12 @@
+package com.nhnacademy.bookstore.book.book.exception;
+
+/**
+ * 도서 목록 커서(after 토큰)가 잘못되었을 때 발생하는 Exception.
+ *
+ * @author 한민기
+ */
+public class InvalidBookCursorException extends RuntimeException {
+	public InvalidBookCursorException(String message) {
+		super(message);
+	}
+}
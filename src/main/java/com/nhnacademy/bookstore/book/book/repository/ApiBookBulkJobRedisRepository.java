@@ -0,0 +1,47 @@
+package com.nhnacademy.bookstore.book.book.repository;
+
+import java.util.List;
+import java.util.Map;
+
+import com.nhnacademy.bookstore.book.book.dto.response.ApiBookImportResponse;
+
+/**
+ * 도서 일괄 가져오기 작업의 진행 상황을 redis 에 저장하는 레포지토리입니다.
+ * 작업을 시작한 서버가 아니어도 진행 상황을 조회할 수 있게 합니다.
+ *
+ * @author 한민기
+ */
+public interface ApiBookBulkJobRedisRepository {
+
+	/**
+	 * 작업을 만듭니다.
+	 *
+	 * @param jobId 작업 아이디
+	 * @param isbns 가져올 도서의 isbn13 리스트
+	 */
+	void create(String jobId, List<String> isbns);
+
+	/**
+	 * 도서 한 권의 결과를 저장합니다.
+	 *
+	 * @param jobId  작업 아이디
+	 * @param result 도서 결과
+	 */
+	void saveResult(String jobId, ApiBookImportResponse result);
+
+	/**
+	 * 작업에서 가져올 도서의 isbn13 리스트를 요청한 순서대로 불러옵니다.
+	 *
+	 * @param jobId 작업 아이디
+	 * @return isbn13 리스트, 작업이 없으면 빈 리스트
+	 */
+	List<String> readIsbns(String jobId);
+
+	/**
+	 * 지금까지 끝난 도서의 결과를 불러옵니다.
+	 *
+	 * @param jobId 작업 아이디
+	 * @return isbn13 별 결과
+	 */
+	Map<String, ApiBookImportResponse> readResults(String jobId);
+}
@@ -1,11 +1,21 @@
 package com.nhnacademy.bookstore.book.book.repository;
 
-import org.springframework.data.domain.Page;
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
+import com.nhnacademy.bookstore.book.book.dto.request.BookCursor;
+import com.nhnacademy.bookstore.book.book.dto.response.BookCursorResponse;
+import com.nhnacademy.bookstore.book.book.dto.response.BookDetailResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.BookListResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.BookManagementResponse;
+import com.nhnacademy.bookstore.book.book.dto.response.BookStockResponse;
+import com.nhnacademy.bookstore.book.book.dto.response.BookSuggestSourceResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.ReadBookResponse;
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
 
 /**
  * 도서 커스텀 레포지토리입니다.
@@ -16,11 +26,12 @@ public interface BookCustomRepository {
 
 	/**
 	 * 도서 리스트를 불러오는 메서드입니다.
+	 * 전체 개수는 세지 않고 다음 페이지 존재 여부만 확인합니다.
 	 *
 	 * @param pageable 페이지
 	 * @return BookListResponse
 	 */
-	Page<BookListResponse> readBookList(Pageable pageable);
+	Slice<BookListResponse> readBookList(Pageable pageable);
 
 	/**
 	 * 도서 상세 보기 쿼리입니다.
@@ -29,13 +40,64 @@ public interface BookCustomRepository {
 	 * @return 도서 상세 정보
 	 */
 	ReadBookResponse readDetailBook(Long bookId);
+
+	/**
+	 * 도서 상세에 필요한 도서, 메인 이미지, 카테고리, 태그를 한 번에 불러옵니다.
+	 *
+	 * @param bookId 도서 아이디
+	 * @return 도서 상세 정보
+	 */
+	BookDetailResponse readBookDetail(Long bookId);
+
+	/**
+	 * 여러 도서의 리스트용 정보를 한 번의 쿼리로 불러옵니다. 순서는 보장하지 않고, 없는 도서는 빠집니다.
+	 *
+	 * @param bookIds 도서 아이디 리스트
+	 * @return 도서 리스트
+	 */
+	List<BookListResponse> readBookListByIds(Collection<Long> bookIds);
+
+	/**
+	 * 여러 도서의 검색 문서를 엔티티 연관관계를 타지 않고 두 번의 쿼리로 만듭니다.
+	 * 없는 도서는 결과에서 빠지고, 나머지는 요청한 순서대로 반환합니다.
+	 *
+	 * @param bookIds 도서 아이디 리스트
+	 * @return 검색 문서 리스트
+	 */
+	List<BookDocument> readBookDocuments(Collection<Long> bookIds);
+
+	/**
+	 * afterId 보다 큰 도서 아이디를 순서대로 size 개까지 조회합니다. 전체 도서를 나눠서 읽을 때 사용합니다.
+	 *
+	 * @param afterId 이전에 읽은 마지막 도서 아이디 (처음이면 0)
+	 * @param size    최대 개수
+	 * @return 도서 아이디
+	 */
+	List<Long> readBookIdsAfter(long afterId, int size);
+
+	/**
+	 * 여러 도서의 자동완성 색인용 정보를 한 번의 쿼리로 불러옵니다. 순서는 보장하지 않고, 없는 도서는 빠집니다.
+	 *
+	 * @param bookIds 도서 아이디 리스트
+	 * @return 자동완성 색인용 도서 정보
+	 */
+	List<BookSuggestSourceResponse> readBookSuggestSources(Collection<Long> bookIds);
+
+	/**
+	 * 여러 도서의 현재 가격, 재고, 썸네일을 한 번의 쿼리로 불러옵니다. 순서는 보장하지 않고, 없는 도서는 빠집니다.
+	 *
+	 * @param bookIds 도서 아이디 리스트
+	 * @return 도서별 가격, 재고, 썸네일
+	 */
+	List<BookStockResponse> readBookStocks(Collection<Long> bookIds);
+
 	/**
 	 * 관리자 페이지에서 도서 정보를 불러오는 쿼리입니다.
 	 *
 	 * @param pageable 페이지 객체
 	 * @return 도서 리스트
 	 */
-	Page<BookManagementResponse> readAdminBookList(Pageable pageable);
+	Slice<BookManagementResponse> readAdminBookList(Pageable pageable);
 	/**
 	 * 카테고리에 관련된 책을 가져오는 메소드.
 	 *
@@ -43,5 +105,25 @@ public interface BookCustomRepository {
 	 * @param categoryId 카테고리 아이디
 	 * @return 도서 리스트
 	 */
-	Page<BookListResponse> readCategoryAllBookList(Pageable pageable, Long categoryId);
+	Slice<BookListResponse> readCategoryAllBookList(Pageable pageable, Long categoryId);
+
+	/**
+	 * 카테고리에 속한 도서 수를 세는 메소드.
+	 *
+	 * @param categoryId 카테고리 아이디
+	 * @return 카테고리에 속한 도서 수
+	 */
+	long countBookByCategoryId(Long categoryId);
+
+	/**
+	 * 커서(keyset) 기반으로 도서 리스트를 불러오는 메서드입니다.
+	 * offset 을 쓰지 않으므로 몇 번째 페이지든 첫 페이지와 같은 비용으로 조회합니다.
+	 *
+	 * @param order      정렬 기준
+	 * @param after      마지막으로 조회한 도서의 커서 (첫 페이지면 null)
+	 * @param size       사이즈
+	 * @param categoryId 카테고리 아이디 (전체 조회면 null)
+	 * @return 도서 리스트와 다음 커서
+	 */
+	BookCursorResponse readBookListByCursor(Sort.Order order, BookCursor after, int size, Long categoryId);
 }
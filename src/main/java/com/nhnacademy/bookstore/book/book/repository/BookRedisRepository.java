@@ -1,9 +1,14 @@
 package com.nhnacademy.bookstore.book.book.repository;
 
-import com.nhnacademy.bookstore.entity.book.Book;
+import java.util.List;
+import java.util.OptionalLong;
+
+import com.nhnacademy.bookstore.book.book.dto.response.BookIndexChangeResponse;
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
 
 /**
  * 책의 변경내용을 batch sever 로 이동하기 위해 redis 에 저장.
+ * 변경 내용은 도서 아이디별로 마지막 것 하나만 남고, 변경 순번 순서로 읽습니다.
  *
  * @author 한민기
  */
@@ -11,19 +16,57 @@ public interface BookRedisRepository {
 	/**
 	 * 책이 생성될 떄 보내는 메소드.
 	 *
-	 * @param book 생성되는 책
+	 * @param document 생성되는 책의 검색 문서
 	 */
-	void createBook(Book book);
+	void createBook(BookDocument document);
 	/**
 	 * 책이 수정될 때 보내는 메소드.
 	 *
-	 * @param book 수정하는 책
+	 * @param document 수정하는 책의 검색 문서
 	 */
-	void updateBook(Book book);
+	void updateBook(BookDocument document);
 	/**
 	 * 책이 삭제될 때 보내는 메소드.
 	 *
 	 * @param bookId 삭제하는 책의 아이디
 	 */
 	void deleteBook(long bookId);
+
+	/**
+	 * 반영할 변경 내용을 변경 순번 순서로 limit 개까지 읽습니다.
+	 *
+	 * @param limit 최대 개수
+	 * @return 변경 내용
+	 */
+	List<BookIndexChangeResponse> readChanges(int limit);
+
+	/**
+	 * 반영한 변경 내용을 지웁니다. 읽은 뒤에 같은 도서가 다시 변경되었으면 새 변경 내용은 남겨둡니다.
+	 *
+	 * @param changes 반영한 변경 내용
+	 * @return 지운 개수
+	 */
+	long removeChanges(List<BookIndexChangeResponse> changes);
+
+	/**
+	 * 아직 반영하지 않은 변경 내용 수.
+	 *
+	 * @return 개수
+	 */
+	long countChanges();
+
+	/**
+	 * 아직 반영하지 않은 변경 중 가장 먼저 바뀐 시각.
+	 * 반영하기 전에 같은 도서가 여러 번 바뀌었으면 처음 바뀐 시각으로 셉니다.
+	 *
+	 * @return epoch milli 시각, 남은 변경이 없으면 empty
+	 */
+	OptionalLong readOldestChangeTime();
+
+	/**
+	 * 마지막 변경 순번. 변경이 있을 때마다 커집니다.
+	 *
+	 * @return 변경 순번, 변경이 없었으면 0
+	 */
+	long readSequence();
 }
@@ -1,8 +1,11 @@
 package com.nhnacademy.bookstore.book.book.repository;
 
+import java.util.Collection;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.nhnacademy.bookstore.entity.book.Book;
 
@@ -15,8 +18,45 @@ import io.lettuce.core.dynamic.annotation.Param;
  */
 public interface BookRepository extends JpaRepository<Book, Long>, BookCustomRepository {
 
+	/**
+	 * 같은 isbn 의 도서가 이미 있는지 확인합니다.
+	 *
+	 * @param isbn isbn13
+	 * @return 존재 여부
+	 */
+	boolean existsByIsbn(String isbn);
+
+	/**
+	 * 여러 도서의 조회수를 같은 값만큼 한 번에 올립니다.
+	 *
+	 * @param bookIds 도서 아이디 리스트
+	 * @param delta   올릴 조회수
+	 * @return 수정된 도서 수
+	 */
+	@Transactional
+	@Modifying
+	@Query("update Book b set b.viewCount = b.viewCount + :delta where b.id in :bookIds")
+	int increaseViewCount(@Param("bookIds") Collection<Long> bookIds, @Param("delta") long delta);
+
+	/**
+	 * 좋아요 수를 더하거나 뺍니다. 0 아래로는 내려가지 않습니다.
+	 *
+	 * @param bookId 도서 아이디
+	 * @param delta  변경할 좋아요 수
+	 */
+	@Modifying
+	@Query("update Book b set b.likeCount = case when b.likeCount + :delta < 0 then 0 else b.likeCount + :delta end"
+		+ " where b.id = :bookId")
+	void updateLikeCount(@Param("bookId") long bookId, @Param("delta") int delta);
+
+	/**
+	 * book_like 를 다시 세서 실제 좋아요 수와 다른 도서의 좋아요 수를 맞춥니다.
+	 *
+	 * @return 수정된 도서 수
+	 */
 	@Modifying
-	@Query("update Book b set b.viewCount = b.viewCount + 1 where b.id = :bookId")
-	void viewBook(@Param("bookId") long bookId);
+	@Query(value = "update book b set b.like_count = (select count(*) from book_like l where l.book_id = b.id)"
+		+ " where b.like_count <> (select count(*) from book_like l where l.book_id = b.id)", nativeQuery = true)
+	int reconcileLikeCount();
 
 }
@@ -0,0 +1,87 @@
+package com.nhnacademy.bookstore.book.book.repository.impl;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.nhnacademy.bookstore.book.book.dto.response.ApiBookImportResponse;
+import com.nhnacademy.bookstore.book.book.repository.ApiBookBulkJobRedisRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 도서 일괄 가져오기 작업 redis 레포지토리 구현체입니다.
+ * key 는 api-book-bulk:{작업 아이디}:isbns (list), api-book-bulk:{작업 아이디}:results (isbn13 별 hash) 입니다.
+ *
+ * @author 한민기
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApiBookBulkJobRedisRepositoryImpl implements ApiBookBulkJobRedisRepository {
+	private final RedisTemplate<String, Object> redisTemplate;
+	private static final String KEY_PREFIX = "api-book-bulk:";
+
+	/**
+	 * 끝난 작업의 결과를 확인할 수 있도록 남겨두는 시간.
+	 */
+	private static final Duration JOB_TTL = Duration.ofDays(1);
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void create(String jobId, List<String> isbns) {
+		String isbnKey = isbnKey(jobId);
+		redisTemplate.opsForList().rightPushAll(isbnKey, isbns.toArray());
+		redisTemplate.expire(isbnKey, JOB_TTL);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void saveResult(String jobId, ApiBookImportResponse result) {
+		String resultKey = resultKey(jobId);
+		redisTemplate.opsForHash().put(resultKey, result.isbn(), result);
+		redisTemplate.expire(resultKey, JOB_TTL);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<String> readIsbns(String jobId) {
+		List<Object> isbns = redisTemplate.opsForList().range(isbnKey(jobId), 0, -1);
+		if (Objects.isNull(isbns)) {
+			return List.of();
+		}
+		return isbns.stream().map(String::valueOf).toList();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Map<String, ApiBookImportResponse> readResults(String jobId) {
+		Map<String, ApiBookImportResponse> results = new LinkedHashMap<>();
+		redisTemplate.opsForHash().entries(resultKey(jobId)).forEach((isbn, result) -> {
+			if (result instanceof ApiBookImportResponse response) {
+				results.put(String.valueOf(isbn), response);
+			}
+		});
+		return results;
+	}
+
+	private static String isbnKey(String jobId) {
+		return KEY_PREFIX + jobId + ":isbns";
+	}
+
+	private static String resultKey(String jobId) {
+		return KEY_PREFIX + jobId + ":results";
+	}
+}
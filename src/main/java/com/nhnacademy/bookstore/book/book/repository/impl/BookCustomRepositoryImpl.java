@@ -1,30 +1,55 @@
 package com.nhnacademy.bookstore.book.book.repository.impl;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
+import com.nhnacademy.bookstore.book.book.dto.request.BookCursor;
+import com.nhnacademy.bookstore.book.book.dto.response.BookCursorResponse;
+import com.nhnacademy.bookstore.book.book.dto.response.BookDetailResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.BookListResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.BookManagementResponse;
+import com.nhnacademy.bookstore.book.book.dto.response.BookStockResponse;
+import com.nhnacademy.bookstore.book.book.dto.response.BookSuggestSourceResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.ReadBookResponse;
+import com.nhnacademy.bookstore.book.book.exception.InvalidBookCursorException;
 import com.nhnacademy.bookstore.book.book.repository.BookCustomRepository;
+import com.nhnacademy.bookstore.book.booktag.dto.response.ReadTagByBookResponse;
+import com.nhnacademy.bookstore.book.category.dto.response.BookDetailCategoryResponse;
+import com.nhnacademy.bookstore.book.image.enums.ImageVariant;
 import com.nhnacademy.bookstore.entity.book.QBook;
 import com.nhnacademy.bookstore.entity.bookcategory.QBookCategory;
 import com.nhnacademy.bookstore.entity.bookimage.QBookImage;
 import com.nhnacademy.bookstore.entity.bookimage.enums.BookImageType;
-import com.nhnacademy.bookstore.entity.booklike.QBookLike;
+import com.nhnacademy.bookstore.entity.booktag.QBookTag;
 import com.nhnacademy.bookstore.entity.category.QCategory;
+import com.nhnacademy.bookstore.entity.tag.QTag;
 import com.nhnacademy.bookstore.entity.totalimage.QTotalImage;
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
 import com.nhnacademy.bookstore.purchase.purchasebook.exception.NotExistsBook;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Ops;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import jakarta.persistence.EntityManager;
@@ -42,9 +67,10 @@ public class BookCustomRepositoryImpl implements BookCustomRepository {
 	private static final QBook qBook = QBook.book;
 	private static final QBookImage qBookImage = QBookImage.bookImage;
 	private static final QTotalImage qTotalImage = QTotalImage.totalImage;
-	private static final QBookLike qBookLike = QBookLike.bookLike;
-	private static final QCategory qCategory = QCategory.category;
 	private static final QBookCategory qBookCategory = QBookCategory.bookCategory;
+	private static final QCategory qCategory = QCategory.category;
+	private static final QBookTag qBookTag = QBookTag.bookTag;
+	private static final QTag qTag = QTag.tag;
 
 	public BookCustomRepositoryImpl(EntityManager entityManager) {
 		this.jpaQueryFactory = new JPAQueryFactory(entityManager);
@@ -54,7 +80,7 @@ public class BookCustomRepositoryImpl implements BookCustomRepository {
 	 * {@inheritDoc}
 	 */
 	@Override
-	public Page<BookListResponse> readBookList(Pageable pageable) {
+	public Slice<BookListResponse> readBookList(Pageable pageable) {
 		List<BookListResponse> content = jpaQueryFactory.select(
 				Projections.constructor(BookListResponse.class,
 					qBook.id,
@@ -62,27 +88,18 @@ public class BookCustomRepositoryImpl implements BookCustomRepository {
 					qBook.price,
 					qBook.sellingPrice,
 					qBook.author,
-					qTotalImage.url))
-			.distinct()
+					ImageVariant.THUMBNAIL.fileName(qTotalImage.url)))
 			.from(qBook)
 			.leftJoin(qBookImage)
 			.on(qBookImage.book.id.eq(qBook.id).and(qBookImage.type.eq(BookImageType.MAIN)))
 			.leftJoin(qTotalImage)
 			.on(qTotalImage.bookImage.id.eq(qBookImage.id))
-			.leftJoin(qBookLike).on(qBookLike.book.id.eq(qBook.id))
-			.groupBy(qBook.id, qBook.title, qBook.price, qBook.sellingPrice, qBook.author, qTotalImage.url)
 			.orderBy(getSort(pageable.getSort()))  // getSort 메서드에서 기본적으로 고유 정렬 키를 포함하도록 변경
 			.offset(pageable.getOffset())
-			.limit(pageable.getPageSize())
+			.limit(pageable.getPageSize() + 1L)
 			.fetch();
 
-		long total = Optional.ofNullable(
-			jpaQueryFactory.select(qBook.count())
-				.from(qBook)
-				.fetchOne()
-		).orElse(0L);
-
-		return new PageImpl<>(content, pageable, total);
+		return toSlice(content, pageable);
 	}
 
 	/**
@@ -107,7 +124,7 @@ public class BookCustomRepositoryImpl implements BookCustomRepository {
 						qBook.viewCount);
 					case "likes" -> new OrderSpecifier<>(
 						isAscending ? Order.ASC : Order.DESC,
-						qBookLike.count());
+						qBook.likeCount);
 					case "publishedDate" -> new OrderSpecifier<>(
 						isAscending ? Order.ASC : Order.DESC,
 						qBook.publishedDate);
@@ -168,7 +185,226 @@ public class BookCustomRepositoryImpl implements BookCustomRepository {
 	 * {@inheritDoc}
 	 */
 	@Override
-	public Page<BookManagementResponse> readAdminBookList(Pageable pageable) {
+	public List<BookListResponse> readBookListByIds(Collection<Long> bookIds) {
+		if (bookIds.isEmpty()) {
+			return List.of();
+		}
+		return jpaQueryFactory.select(
+				Projections.constructor(BookListResponse.class,
+					qBook.id,
+					qBook.title,
+					qBook.price,
+					qBook.sellingPrice,
+					qBook.author,
+					ImageVariant.THUMBNAIL.fileName(qTotalImage.url)))
+			.from(qBook)
+			.leftJoin(qBookImage)
+			.on(qBookImage.book.id.eq(qBook.id).and(qBookImage.type.eq(BookImageType.MAIN)))
+			.leftJoin(qTotalImage)
+			.on(qTotalImage.bookImage.id.eq(qBookImage.id))
+			.where(qBook.id.in(bookIds))
+			.fetch();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 썸네일은 목록과 같은 작은 크기 이미지 이름으로 넣습니다.
+	 */
+	@Override
+	public List<BookDocument> readBookDocuments(Collection<Long> bookIds) {
+		if (bookIds.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Long, Tuple> bookMap = new HashMap<>();
+		jpaQueryFactory.select(qBook.id, qBook.title, qBook.author, qBook.publisher, qBook.price, qBook.sellingPrice,
+				ImageVariant.THUMBNAIL.fileName(qTotalImage.url))
+			.from(qBook)
+			.leftJoin(qBookImage)
+			.on(qBookImage.book.id.eq(qBook.id).and(qBookImage.type.eq(BookImageType.MAIN)))
+			.leftJoin(qTotalImage)
+			.on(qTotalImage.bookImage.id.eq(qBookImage.id))
+			.where(qBook.id.in(bookIds))
+			.fetch()
+			.forEach(row -> bookMap.putIfAbsent(row.get(qBook.id), row));
+
+		if (bookMap.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Long, Map<Long, String>> categoryMap = new HashMap<>();
+		Map<Long, Map<Long, String>> tagMap = new HashMap<>();
+		List<Tuple> rows = jpaQueryFactory.select(qBook.id, qCategory.id, qCategory.name, qTag.id, qTag.name)
+			.from(qBook)
+			.leftJoin(qBookCategory).on(qBookCategory.book.id.eq(qBook.id))
+			.leftJoin(qCategory).on(qCategory.id.eq(qBookCategory.category.id))
+			.leftJoin(qBookTag).on(qBookTag.book.id.eq(qBook.id))
+			.leftJoin(qTag).on(qTag.id.eq(qBookTag.tag.id))
+			.where(qBook.id.in(bookMap.keySet()))
+			.fetch();
+
+		for (Tuple row : rows) {
+			Long bookId = row.get(qBook.id);
+			Long categoryId = row.get(qCategory.id);
+			if (Objects.nonNull(categoryId)) {
+				categoryMap.computeIfAbsent(bookId, id -> new LinkedHashMap<>())
+					.putIfAbsent(categoryId, row.get(qCategory.name));
+			}
+			Long tagId = row.get(qTag.id);
+			if (Objects.nonNull(tagId)) {
+				tagMap.computeIfAbsent(bookId, id -> new LinkedHashMap<>()).putIfAbsent(tagId, row.get(qTag.name));
+			}
+		}
+
+		return bookIds.stream()
+			.distinct()
+			.map(bookMap::get)
+			.filter(Objects::nonNull)
+			.map(row -> {
+				long bookId = Objects.requireNonNull(row.get(qBook.id));
+				return new BookDocument(bookId,
+					row.get(qBook.title),
+					row.get(qBook.author),
+					row.get(6, String.class),
+					row.get(qBook.publisher),
+					List.copyOf(tagMap.getOrDefault(bookId, Map.of()).values()),
+					List.copyOf(categoryMap.getOrDefault(bookId, Map.of()).values()),
+					Objects.requireNonNull(row.get(qBook.price)),
+					Objects.requireNonNull(row.get(qBook.sellingPrice)));
+			})
+			.toList();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * offset 대신 아이디 조건으로 읽어서 뒤쪽을 읽을 때도 느려지지 않습니다.
+	 */
+	@Override
+	public List<Long> readBookIdsAfter(long afterId, int size) {
+		return jpaQueryFactory.select(qBook.id)
+			.from(qBook)
+			.where(qBook.id.gt(afterId))
+			.orderBy(qBook.id.asc())
+			.limit(size)
+			.fetch();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<BookSuggestSourceResponse> readBookSuggestSources(Collection<Long> bookIds) {
+		if (bookIds.isEmpty()) {
+			return List.of();
+		}
+		return jpaQueryFactory.select(
+				Projections.constructor(BookSuggestSourceResponse.class,
+					qBook.id,
+					qBook.title,
+					qBook.author,
+					qBook.viewCount))
+			.from(qBook)
+			.where(qBook.id.in(bookIds))
+			.fetch();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 썸네일은 목록과 같은 작은 크기 이미지 이름으로 넣습니다.
+	 */
+	@Override
+	public List<BookStockResponse> readBookStocks(Collection<Long> bookIds) {
+		if (bookIds.isEmpty()) {
+			return List.of();
+		}
+		return jpaQueryFactory.select(
+				Projections.constructor(BookStockResponse.class,
+					qBook.id,
+					qBook.price,
+					qBook.sellingPrice,
+					qBook.quantity,
+					ImageVariant.THUMBNAIL.fileName(qTotalImage.url)))
+			.from(qBook)
+			.leftJoin(qBookImage)
+			.on(qBookImage.book.id.eq(qBook.id).and(qBookImage.type.eq(BookImageType.MAIN)))
+			.leftJoin(qTotalImage)
+			.on(qTotalImage.bookImage.id.eq(qBookImage.id))
+			.where(qBook.id.in(bookIds))
+			.fetch();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 카테고리와 태그는 도서 한 권당 몇 개 되지 않으므로 한 쿼리에서 같이 join 하고, 곱해진 행은 메모리에서 합칩니다.
+	 */
+	@Override
+	public BookDetailResponse readBookDetail(Long bookId) {
+		List<ReadBookResponse> content = jpaQueryFactory.select(Projections.constructor(ReadBookResponse.class,
+				qBook.id,
+				qBook.title,
+				qBook.description,
+				qBook.publishedDate,
+				qBook.price,
+				qBook.quantity,
+				qBook.sellingPrice,
+				qBook.viewCount,
+				qBook.packing,
+				qBook.author,
+				qBook.isbn,
+				qBook.publisher,
+				qTotalImage.url))
+			.from(qBook)
+			.leftJoin(qBookImage)
+			.on(qBookImage.book.id.eq(qBook.id).and(qBookImage.type.eq(BookImageType.MAIN)))
+			.leftJoin(qTotalImage)
+			.on(qTotalImage.bookImage.id.eq(qBookImage.id))
+			.where(qBook.id.eq(bookId))
+			.limit(1)
+			.fetch();
+
+		if (content.isEmpty()) {
+			throw new NotExistsBook();
+		}
+
+		Map<Long, BookDetailCategoryResponse> categories = new LinkedHashMap<>();
+		Map<Long, ReadTagByBookResponse> tags = new LinkedHashMap<>();
+		List<Tuple> rows = jpaQueryFactory.select(qCategory.id, qCategory.name, qCategory.parent.id, qTag.id,
+				qTag.name)
+			.from(qBook)
+			.leftJoin(qBookCategory).on(qBookCategory.book.id.eq(qBook.id))
+			.leftJoin(qCategory).on(qCategory.id.eq(qBookCategory.category.id))
+			.leftJoin(qBookTag).on(qBookTag.book.id.eq(qBook.id))
+			.leftJoin(qTag).on(qTag.id.eq(qBookTag.tag.id))
+			.where(qBook.id.eq(bookId))
+			.fetch();
+
+		for (Tuple row : rows) {
+			Long categoryId = row.get(qCategory.id);
+			if (Objects.nonNull(categoryId)) {
+				categories.putIfAbsent(categoryId, BookDetailCategoryResponse.builder()
+					.id(categoryId)
+					.name(row.get(qCategory.name))
+					.parentId(row.get(qCategory.parent.id))
+					.build());
+			}
+			Long tagId = row.get(qTag.id);
+			if (Objects.nonNull(tagId)) {
+				tags.putIfAbsent(tagId, ReadTagByBookResponse.builder().id(tagId).name(row.get(qTag.name)).build());
+			}
+		}
+
+		return BookDetailResponse.builder()
+			.book(content.getFirst())
+			.categoryList(List.copyOf(categories.values()))
+			.tagList(List.copyOf(tags.values()))
+			.build();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Slice<BookManagementResponse> readAdminBookList(Pageable pageable) {
 		List<BookManagementResponse> content = jpaQueryFactory.select(
 				Projections.constructor(BookManagementResponse.class,
 					qBook.id,
@@ -180,21 +416,16 @@ public class BookCustomRepositoryImpl implements BookCustomRepository {
 					qBook.viewCount))
 			.from(qBook)
 			.offset(pageable.getOffset())
-			.limit(pageable.getPageSize())
+			.limit(pageable.getPageSize() + 1L)
 			.fetch();
-		long total = Optional.ofNullable(
-			jpaQueryFactory.select(qBook.count())
-				.from(qBook)
-				.fetchOne()
-		).orElse(0L);
-		return new PageImpl<>(content, pageable, total);
+		return toSlice(content, pageable);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public Page<BookListResponse> readCategoryAllBookList(Pageable pageable, Long categoryId) {
+	public Slice<BookListResponse> readCategoryAllBookList(Pageable pageable, Long categoryId) {
 		List<BookListResponse> content = jpaQueryFactory.select(
 				Projections.constructor(BookListResponse.class,
 					qBook.id,
@@ -202,35 +433,193 @@ public class BookCustomRepositoryImpl implements BookCustomRepository {
 					qBook.price,
 					qBook.sellingPrice,
 					qBook.author,
-					qTotalImage.url))
-			.distinct()
+					ImageVariant.THUMBNAIL.fileName(qTotalImage.url)))
 			.from(qBook)
 			.leftJoin(qBookImage)
 			.on(qBookImage.book.id.eq(qBook.id).and(qBookImage.type.eq(BookImageType.MAIN)))
 			.leftJoin(qTotalImage)
 			.on(qTotalImage.bookImage.id.eq(qBookImage.id))
-			.leftJoin(qBookLike).on(qBookLike.book.id.eq(qBook.id))
-			.join(qBookCategory)
-			.on(qBook.id.eq(qBookCategory.book.id))
-			.join(qCategory)
-			.on(qBookCategory.category.id.eq(qCategory.id))
-			.groupBy(qBook.id, qBook.title, qBook.price, qBook.sellingPrice, qBook.author, qTotalImage.url)
+			.where(inCategory(categoryId))
 			.orderBy(getSort(pageable.getSort()))  // getSort 메서드에서 기본적으로 고유 정렬 키를 포함하도록 변경
 			.offset(pageable.getOffset())
-			.limit(pageable.getPageSize())
-			.where(qCategory.id.eq(categoryId))
+			.limit(pageable.getPageSize() + 1L)
 			.fetch();
 
-		long total = Optional.ofNullable(
-			jpaQueryFactory.select(qBook.count())
-				.from(qBook)
+		return toSlice(content, pageable);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long countBookByCategoryId(Long categoryId) {
+		return Optional.ofNullable(
+			jpaQueryFactory.select(qBookCategory.book.id.countDistinct())
+				.from(qBookCategory)
+				.where(qBookCategory.category.id.eq(categoryId))
 				.fetchOne()
 		).orElse(0L);
+	}
+
+	/**
+	 * 카테고리에 속한 도서만 남기는 조건을 만듭니다.
+	 * join 대신 exists 로 걸러서 한 도서가 여러 행으로 늘어나지 않도록 합니다.
+	 *
+	 * @param categoryId 카테고리 아이디
+	 * @return 카테고리 조건
+	 */
+	private BooleanExpression inCategory(Long categoryId) {
+		return JPAExpressions.selectOne()
+			.from(qBookCategory)
+			.where(qBookCategory.book.id.eq(qBook.id), qBookCategory.category.id.eq(categoryId))
+			.exists();
+	}
+
+	/**
+	 * 한 개 더 조회한 결과로 다음 페이지 존재 여부를 판단해 Slice 로 만듭니다.
+	 *
+	 * @param content  pageSize + 1 개까지 조회한 결과
+	 * @param pageable 페이지
+	 * @return Slice
+	 */
+	private <T> Slice<T> toSlice(List<T> content, Pageable pageable) {
+		boolean hasNext = content.size() > pageable.getPageSize();
+		return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public BookCursorResponse readBookListByCursor(Sort.Order order, BookCursor after, int size, Long categoryId) {
+		Expression<?> sortKey = getCursorSortKey(order.getProperty());
+		ConstructorExpression<BookListResponse> projection = Projections.constructor(BookListResponse.class,
+			qBook.id,
+			qBook.title,
+			qBook.price,
+			qBook.sellingPrice,
+			qBook.author,
+			ImageVariant.THUMBNAIL.fileName(qTotalImage.url));
+
+		JPAQuery<Tuple> query = jpaQueryFactory.select(projection, sortKey)
+			.from(qBook)
+			.leftJoin(qBookImage)
+			.on(qBookImage.book.id.eq(qBook.id).and(qBookImage.type.eq(BookImageType.MAIN)))
+			.leftJoin(qTotalImage)
+			.on(qTotalImage.bookImage.id.eq(qBookImage.id));
+
+		if (Objects.nonNull(categoryId)) {
+			query.where(inCategory(categoryId));
+		}
+		if (Objects.nonNull(after)) {
+			query.where(afterCursor(sortKey, order.getDirection(), toSortValue(after), after.id()));
+		}
+
+		List<Tuple> rows = query
+			.orderBy(getCursorOrder(order, sortKey), qBook.id.asc())
+			.limit(size + 1L)
+			.fetch();
 
-		return new PageImpl<>(content, pageable, total);
+		boolean hasNext = rows.size() > size;
+		List<Tuple> page = hasNext ? rows.subList(0, size) : rows;
+		List<BookListResponse> content = page.stream().map(row -> row.get(projection)).toList();
 
+		String nextCursor = null;
+		if (hasNext) {
+			Tuple last = page.getLast();
+			nextCursor = BookCursor.of(order, Objects.requireNonNull(last.get(projection)).id(), last.get(sortKey))
+				.encode();
+		}
+
+		return BookCursorResponse.builder()
+			.content(content)
+			.nextCursor(nextCursor)
+			.hasNext(hasNext)
+			.build();
 	}
 
-}
+	/**
+	 * 커서 조회에서 사용할 정렬 키를 반환합니다.
+	 *
+	 * @param property 정렬 기준
+	 * @return 정렬 키 expression
+	 * @throws IllegalArgumentException 정렬 기준이 잘못된 경우
+	 */
+	private Expression<?> getCursorSortKey(String property) {
+		return switch (property) {
+			case "viewCount" -> qBook.viewCount;
+			case "likes" -> qBook.likeCount;
+			case "publishedDate" -> qBook.publishedDate;
+			case "price" -> qBook.price;
+			case "title" -> qBook.title;
+			default -> throw new IllegalArgumentException("정렬 기준이 잘못되었습니다!!: " + property);
+		};
+	}
+
+	/**
+	 * 커서에 문자열로 담긴 정렬 값을 정렬 키의 타입으로 되돌립니다.
+	 *
+	 * @param cursor 커서
+	 * @return 정렬 값
+	 */
+	private Object toSortValue(BookCursor cursor) {
+		if (Objects.isNull(cursor.value())) {
+			return null;
+		}
+		try {
+			return switch (cursor.property()) {
+				case "viewCount", "price", "likes" -> Integer.valueOf(cursor.value());
+				case "publishedDate" -> ZonedDateTime.parse(cursor.value());
+				case "title" -> cursor.value();
+				default -> throw new InvalidBookCursorException("잘못된 커서입니다.");
+			};
+		} catch (RuntimeException e) {
+			throw new InvalidBookCursorException("잘못된 커서입니다.");
+		}
+	}
 
+	/**
+	 * 커서 이후의 도서만 남기는 조건을 만듭니다.
+	 * null 정렬 값은 가장 작은 값으로 취급하고, 같은 정렬 값은 도서 아이디 오름차순으로 이어 붙입니다.
+	 *
+	 * @param sortKey   정렬 키
+	 * @param direction 정렬 방향
+	 * @param value     마지막 도서의 정렬 값
+	 * @param lastId    마지막 도서 아이디
+	 * @return 커서 이후 조건
+	 */
+	private BooleanExpression afterCursor(Expression<?> sortKey, Sort.Direction direction, Object value,
+		long lastId) {
+		BooleanExpression nextId = qBook.id.gt(lastId);
+		BooleanExpression isNull = Expressions.predicate(Ops.IS_NULL, sortKey);
 
+		if (Objects.isNull(value)) {
+			return direction.isAscending()
+				? isNull.and(nextId).or(Expressions.predicate(Ops.IS_NOT_NULL, sortKey))
+				: isNull.and(nextId);
+		}
+
+		Expression<Object> constant = Expressions.constant(value);
+		BooleanExpression beyond = Expressions.predicate(direction.isAscending() ? Ops.GT : Ops.LT, sortKey,
+			constant);
+		if (direction.isDescending()) {
+			beyond = beyond.or(isNull);
+		}
+		return beyond.or(Expressions.predicate(Ops.EQ, sortKey, constant).and(nextId));
+	}
+
+	/**
+	 * 커서 조회의 정렬 조건을 만듭니다. afterCursor 와 맞추기 위해 null 은 가장 작은 값으로 정렬합니다.
+	 *
+	 * @param order   정렬 기준
+	 * @param sortKey 정렬 키
+	 * @return 정렬 조건
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private OrderSpecifier<?> getCursorOrder(Sort.Order order, Expression<?> sortKey) {
+		OrderSpecifier<?> specifier = new OrderSpecifier(order.isAscending() ? Order.ASC : Order.DESC,
+			(Expression<Comparable>)sortKey);
+		return order.isAscending() ? specifier.nullsFirst() : specifier.nullsLast();
+	}
+
+}
@@ -1,21 +1,36 @@
 package com.nhnacademy.bookstore.book.book.repository.impl;
 
-import java.util.UUID;
-
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
+
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.nhnacademy.bookstore.book.book.dto.response.BookIndexChangeResponse;
 import com.nhnacademy.bookstore.book.book.repository.BookRedisRepository;
-import com.nhnacademy.bookstore.entity.book.Book;
-import com.nhnacademy.bookstore.entity.bookcategory.BookCategory;
-import com.nhnacademy.bookstore.entity.booktag.BookTag;
+import com.nhnacademy.bookstore.global.elastic.book.bulk.BookBulkSerializer;
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 책의 변경내용을 batch sever 로 이동하기 위해 redis 에 저장
+ * bookDocument hash 의 field 는 도서 아이디라서 같은 도서의 변경은 마지막 것으로 덮어씁니다. (last-write-wins)
+ * 변경할 때마다 bookDocument:sequence 를 올리고, bookDocument:order zset 에 도서 아이디를 그 순번으로 넣어 순서를 남깁니다.
+ * 반영하지 않은 변경이 처음 생긴 시각은 bookDocument:changedAt zset 에 도서 아이디별로 남겨 색인 지연을 잽니다.
+ * key 들은 lua script 하나로 같이 바꿔서 순번과 본문이 어긋나지 않습니다.
  *
  * @author 한민기
  */
@@ -25,40 +40,65 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional(readOnly = true)
 public class BookRedisRepositoryImpl implements BookRedisRepository {
 	private final RedisTemplate<String, Object> redisTemplate;
+	private final BookBulkSerializer bookBulkSerializer;
 	private static final String DEFAULT_BOOK_KEY = "bookDocument";
-	private static final String IndexName = "3runner_book_alias";
+	private static final String ORDER_KEY = DEFAULT_BOOK_KEY + ":order";
+	private static final String SEQUENCE_KEY = DEFAULT_BOOK_KEY + ":sequence";
+	private static final String CHANGED_AT_KEY = DEFAULT_BOOK_KEY + ":changedAt";
+
+	/**
+	 * 변경 시각은 NX 로 넣어서, 반영하기 전에 같은 도서가 여러 번 바뀌면 처음 바뀐 시각이 남습니다.
+	 */
+	private static final RedisScript<Long> WRITE_SCRIPT = new DefaultRedisScript<>(
+		"local sequence = redis.call('INCR', KEYS[3]) "
+			+ "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) "
+			+ "redis.call('ZADD', KEYS[2], sequence, ARGV[1]) "
+			+ "redis.call('ZADD', KEYS[4], 'NX', ARGV[3], ARGV[1]) "
+			+ "return sequence", Long.class);
+
+	/**
+	 * 읽은 순번이 그대로인 변경만 지웁니다. ARGV 는 도서 아이디, 순번이 번갈아 들어옵니다.
+	 * 읽은 뒤에 다시 바뀐 도서는 처음 바뀐 시각을 그대로 두므로 지연이 실제보다 조금 크게 잡힐 수 있습니다.
+	 */
+	private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>(
+		"local removed = 0 "
+			+ "for i = 1, #ARGV, 2 do "
+			+ "  local score = redis.call('ZSCORE', KEYS[2], ARGV[i]) "
+			+ "  if score and tonumber(score) == tonumber(ARGV[i + 1]) then "
+			+ "    redis.call('ZREM', KEYS[2], ARGV[i]) "
+			+ "    redis.call('HDEL', KEYS[1], ARGV[i]) "
+			+ "    redis.call('ZREM', KEYS[3], ARGV[i]) "
+			+ "    removed = removed + 1 "
+			+ "  end "
+			+ "end "
+			+ "return removed", Long.class);
 
+	/**
+	 * 가장 먼저 바뀐 시각을 돌려줍니다. 다른 곳(batch server)에서 반영해 순서 zset 에 없는 도서는 지우고 넘어갑니다.
+	 */
+	private static final RedisScript<Long> OLDEST_SCRIPT = new DefaultRedisScript<>(
+		"while true do "
+			+ "  local oldest = redis.call('ZRANGE', KEYS[2], 0, 0, 'WITHSCORES') "
+			+ "  if #oldest == 0 then return -1 end "
+			+ "  if redis.call('ZSCORE', KEYS[1], oldest[1]) then return tonumber(oldest[2]) end "
+			+ "  redis.call('ZREM', KEYS[2], oldest[1]) "
+			+ "end", Long.class);
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public void createBook(Book book) {
-		String body = " {\"index\": {\"_index\": \""
-			+ IndexName
-			+ "\", \"_id\": \""
-			+ book.getId()
-			+ "\"}}" + "\n"
-			+ bookToBody(book);
-
-		redisTemplate.opsForHash().put(DEFAULT_BOOK_KEY, String.valueOf(UUID.randomUUID()), body);
+	public void createBook(BookDocument document) {
+		writeChange(document.getId(), bookBulkSerializer.index(document));
 	}
 
 	/**
 	 * {@inheritDoc}
+	 * 생성 직후의 수정은 생성과 합쳐지므로 update 대신 문서 전체를 index 로 보냅니다.
 	 */
 	@Override
-	public void updateBook(Book book) {
-		String body = " {\"update\": {\"_index\": \""
-			+ IndexName
-			+ "\", \"_id\": \""
-			+ book.getId()
-			+ "\"}}" + "\n"
-			+ "{\"doc\": "
-			+ bookToBody(book)
-			+ "}";
-
-		redisTemplate.opsForHash().put(DEFAULT_BOOK_KEY, String.valueOf(UUID.randomUUID()), body);
+	public void updateBook(BookDocument document) {
+		createBook(document);
 	}
 
 	/**
@@ -66,60 +106,108 @@ public class BookRedisRepositoryImpl implements BookRedisRepository {
 	 */
 	@Override
 	public void deleteBook(long bookId) {
-		String body = " {\"delete\": {\"_index\": \""
-			+ IndexName
-			+ "\", \"_id\": \""
-			+ bookId
-			+ "\"}}\n";
-
-		redisTemplate.opsForHash().put(DEFAULT_BOOK_KEY, String.valueOf(UUID.randomUUID()), body);
+		writeChange(bookId, bookBulkSerializer.delete(bookId));
 	}
 
 	/**
-	 * 책 관련 정보를 elastic search query Body 형식으로 변환.
-	 *
-	 * @param book 책
-	 * @return elastic search query Body
+	 * {@inheritDoc}
 	 */
-	private String bookToBody(Book book) {
-		StringBuilder body = new StringBuilder();
-		body.append("{\"").append("id").append("\":\"").append(book.getId()).append("\",");
-		body.append("\"").append("title").append("\":\"").append(book.getTitle()).append("\",");
-		body.append("\"").append("author").append("\":\"").append(book.getAuthor()).append("\",");
-
-		body.append("\"")
-			.append("thumbnail")
-			.append("\":\"")
-			.append(book.getBookImageList().getFirst().getTotalImage().getUrl())
-			.append("\",");
-
-		body.append("\"").append("publisher").append("\":\"").append(book.getPublisher()).append("\",");
-		body.append("\"").append("price").append("\":\"").append(book.getPrice()).append("\",");
-		body.append("\"")
-			.append("sellingPrice")
-			.append("\":\"")
-			.append(book.getSellingPrice())
-			.append("\",");
-
-		StringBuilder tags = new StringBuilder();
-		if (!book.getBookTagList().isEmpty()) {
-			for (BookTag tag : book.getBookTagList()) {
-				tags.append("\"").append(tag.getTag().getName()).append("\",");
+	@Override
+	public List<BookIndexChangeResponse> readChanges(int limit) {
+		RedisSerializer<Object> bodySerializer = hashValueSerializer();
+		return redisTemplate.execute((RedisCallback<List<BookIndexChangeResponse>>)connection -> {
+			Set<Tuple> orders = connection.zSetCommands().zRangeWithScores(bytes(ORDER_KEY), 0, limit - 1L);
+			if (Objects.isNull(orders) || orders.isEmpty()) {
+				return List.of();
 			}
-			tags.deleteCharAt(tags.length() - 1); // 마지막 쉼표 삭제
-		}
 
-		StringBuilder categories = new StringBuilder();
-		if (!book.getBookCategoryList().isEmpty()) {
-			for (BookCategory category : book.getBookCategoryList()) {
-				categories.append("\"").append(category.getCategory().getName()).append("\",");
+			byte[][] bookIds = orders.stream().map(Tuple::getValue).toArray(byte[][]::new);
+			List<byte[]> bodies = connection.hashCommands().hMGet(bytes(DEFAULT_BOOK_KEY), bookIds);
+
+			List<BookIndexChangeResponse> changes = new ArrayList<>(orders.size());
+			int index = 0;
+			for (Tuple order : orders) {
+				byte[] body = Objects.isNull(bodies) ? null : bodies.get(index++);
+				// 읽는 사이에 지워진 변경은 건너뛴다.
+				if (Objects.nonNull(body)) {
+					changes.add(new BookIndexChangeResponse(
+						Long.parseLong(new String(order.getValue(), StandardCharsets.UTF_8)),
+						order.getScore().longValue(),
+						(String)bodySerializer.deserialize(body)));
+				}
 			}
-			categories.deleteCharAt(categories.length() - 1); // 마지막 쉼표 삭제
+			return changes;
+		});
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long removeChanges(List<BookIndexChangeResponse> changes) {
+		if (changes.isEmpty()) {
+			return 0;
+		}
+		Object[] args = new Object[changes.size() * 2];
+		for (int i = 0; i < changes.size(); i++) {
+			args[i * 2] = String.valueOf(changes.get(i).bookId());
+			args[i * 2 + 1] = String.valueOf(changes.get(i).sequence());
 		}
+		Long removed = redisTemplate.execute(REMOVE_SCRIPT, RedisSerializer.string(),
+			new GenericToStringSerializer<>(Long.class), List.of(DEFAULT_BOOK_KEY, ORDER_KEY, CHANGED_AT_KEY), args);
+		return Objects.isNull(removed) ? 0 : removed;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long countChanges() {
+		Long count = redisTemplate.opsForZSet().zCard(ORDER_KEY);
+		return Objects.isNull(count) ? 0 : count;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public OptionalLong readOldestChangeTime() {
+		Long oldest = redisTemplate.execute(OLDEST_SCRIPT, RedisSerializer.string(),
+			new GenericToStringSerializer<>(Long.class), List.of(ORDER_KEY, CHANGED_AT_KEY));
+		return Objects.isNull(oldest) || oldest < 0 ? OptionalLong.empty() : OptionalLong.of(oldest);
+	}
 
-		body.append("\"").append("tagList").append("\":[").append(tags).append("],");
-		body.append("\"").append("categoryList").append("\":[").append(categories).append("]}");
+	/**
+	 * {@inheritDoc}
+	 * 순번은 INCR 로 올려서 숫자 문자열로 저장되어 있으므로 value serializer 를 거치지 않고 읽습니다.
+	 */
+	@Override
+	public long readSequence() {
+		byte[] sequence = redisTemplate.execute(
+			(RedisCallback<byte[]>)connection -> connection.stringCommands().get(bytes(SEQUENCE_KEY)));
+		return Objects.isNull(sequence) ? 0 : Long.parseLong(new String(sequence, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 도서의 변경 내용을 덮어쓰고 새 순번을 붙입니다.
+	 * 본문은 batch server 가 읽던 대로 hash value serializer 로 저장합니다.
+	 * 변경 시각은 redis 서버 시각 대신 이 서버 시각을 씁니다. 지연도 이 서버 시각으로 재기 때문입니다.
+	 *
+	 * @param bookId 도서 아이디
+	 * @param body   elastic search bulk 요청 본문
+	 */
+	private void writeChange(long bookId, String body) {
+		redisTemplate.execute(WRITE_SCRIPT, RedisSerializer.byteArray(), new GenericToStringSerializer<>(Long.class),
+			List.of(DEFAULT_BOOK_KEY, ORDER_KEY, SEQUENCE_KEY, CHANGED_AT_KEY), bytes(String.valueOf(bookId)),
+			hashValueSerializer().serialize(body), bytes(String.valueOf(System.currentTimeMillis())));
+	}
+
+	@SuppressWarnings("unchecked")
+	private RedisSerializer<Object> hashValueSerializer() {
+		return (RedisSerializer<Object>)redisTemplate.getHashValueSerializer();
+	}
 
-		return body.toString();
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
 	}
 }
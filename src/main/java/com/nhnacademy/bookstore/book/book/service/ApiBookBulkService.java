@@ -0,0 +1,31 @@
+package com.nhnacademy.bookstore.book.book.service;
+
+import java.util.List;
+
+import com.nhnacademy.bookstore.book.book.dto.response.ApiBookBulkJobResponse;
+
+/**
+ * 알라딘 API 로 여러 도서를 한 번에 가져오는 서비스입니다.
+ * 도서가 많으면 오래 걸리므로 작업만 시작해두고, 진행 상황은 작업 아이디로 따로 조회합니다.
+ *
+ * @author 한민기
+ */
+public interface ApiBookBulkService {
+
+	/**
+	 * 여러 도서를 가져오는 작업을 시작하고 바로 돌아옵니다.
+	 * 한 권이 실패해도 나머지는 계속 진행하고, 이미 같은 isbn 의 도서가 있으면 건너뜁니다.
+	 *
+	 * @param isbnList 가져올 도서의 isbn13 리스트
+	 * @return 시작한 작업의 진행 상황
+	 */
+	ApiBookBulkJobResponse startImport(List<String> isbnList);
+
+	/**
+	 * 작업의 진행 상황을 조회합니다.
+	 *
+	 * @param jobId 작업 아이디
+	 * @return 진행 상황
+	 */
+	ApiBookBulkJobResponse readImport(String jobId);
+}
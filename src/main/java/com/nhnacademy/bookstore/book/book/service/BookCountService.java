@@ -0,0 +1,53 @@
+package com.nhnacademy.bookstore.book.book.service;
+
+import java.util.List;
+
+/**
+ * 도서 목록 페이지에서 사용하는 전체/카테고리별 도서 수를 관리하는 서비스.
+ * 목록을 조회할 때마다 count 쿼리를 날리지 않도록 메모리에 두고 도서 등록, 수정, 삭제 시 갱신합니다.
+ *
+ * @author 한민기
+ */
+public interface BookCountService {
+	/**
+	 * 전체 도서 수를 반환합니다.
+	 *
+	 * @return 전체 도서 수
+	 */
+	long countBooks();
+
+	/**
+	 * 카테고리에 속한 도서 수를 반환합니다.
+	 *
+	 * @param categoryId 카테고리 아이디
+	 * @return 카테고리에 속한 도서 수
+	 */
+	long countCategoryBooks(Long categoryId);
+
+	/**
+	 * 도서가 등록되었을 때 호출합니다.
+	 *
+	 * @param categoryIds 등록된 도서의 카테고리 아이디 리스트
+	 */
+	void increaseBook(List<Long> categoryIds);
+
+	/**
+	 * 도서가 삭제되었을 때 호출합니다.
+	 *
+	 * @param categoryIds 삭제된 도서의 카테고리 아이디 리스트
+	 */
+	void decreaseBook(List<Long> categoryIds);
+
+	/**
+	 * 도서의 카테고리가 바뀌었을 때 호출합니다.
+	 *
+	 * @param beforeCategoryIds 수정 전 카테고리 아이디 리스트
+	 * @param afterCategoryIds  수정 후 카테고리 아이디 리스트
+	 */
+	void changeBookCategory(List<Long> beforeCategoryIds, List<Long> afterCategoryIds);
+
+	/**
+	 * 저장된 도서 수를 비워서 다음 조회 때 DB 에서 다시 세도록 합니다.
+	 */
+	void refresh();
+}
@@ -0,0 +1,35 @@
+package com.nhnacademy.bookstore.book.book.service;
+
+import java.util.function.LongFunction;
+
+import com.nhnacademy.bookstore.book.book.dto.response.UserReadBookResponse;
+
+/**
+ * 도서 상세 응답 캐시 서비스입니다.
+ * 도서 상세는 도서, 카테고리, 태그를 각각 조회해서 만들기 때문에 만들어진 응답을 그대로 저장해둡니다.
+ *
+ * @author 한민기
+ */
+public interface BookDetailCacheService {
+
+	/**
+	 * 캐시된 도서 상세를 반환하고, 없으면 loader 로 만들어서 저장합니다.
+	 *
+	 * @param bookId 도서 아이디
+	 * @param loader 캐시에 없을 때 도서 상세를 만드는 함수
+	 * @return 도서 상세
+	 */
+	UserReadBookResponse readBook(long bookId, LongFunction<UserReadBookResponse> loader);
+
+	/**
+	 * 도서 상세 캐시를 지웁니다. 트랜잭션 안이라면 커밋 후에 한 번 더 지웁니다.
+	 *
+	 * @param bookId 도서 아이디
+	 */
+	void evict(long bookId);
+
+	/**
+	 * 전체 도서 상세 캐시를 지웁니다. 여러 도서에 걸친 태그, 카테고리 변경 시 사용합니다.
+	 */
+	void evictAll();
+}
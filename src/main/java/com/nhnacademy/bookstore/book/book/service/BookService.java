@@ -5,8 +5,11 @@ import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 import com.nhnacademy.bookstore.book.book.dto.request.CreateBookRequest;
+import com.nhnacademy.bookstore.book.book.dto.response.BookCursorResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.BookForCouponResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.BookListResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.BookManagementResponse;
@@ -51,6 +54,15 @@ public interface BookService {
 	 */
 	Page<BookListResponse> readAllBooks(Pageable pageable);
 
+	/**
+	 * 전체 개수 없이 도서를 조회하는 메서드입니다.
+	 *
+	 * @param pageable 페이지 객체
+	 * @return 도서 리스트와 다음 페이지 존재 여부
+	 * @author 한민기
+	 */
+	Slice<BookListResponse> readAllBookSlice(Pageable pageable);
+
 	/**
 	 * 관리자 페이지에서 볼 도서 리스트입니다.
 	 *
@@ -87,10 +99,32 @@ public interface BookService {
 	 */
 	Page<BookListResponse> readCategoryAllBooks(Pageable pageable, Long categoryId);
 
+	/**
+	 * 전체 개수 없이 카테고리에 관련된 책을 조회하는 메서드 입니다.
+	 *
+	 * @param pageable   페이지 객체
+	 * @param categoryId 카테고리 아이디
+	 * @return 도서 리스트와 다음 페이지 존재 여부
+	 * @author 한민기
+	 */
+	Slice<BookListResponse> readCategoryAllBookSlice(Pageable pageable, Long categoryId);
+
 	/**
 	 * 책의 조회수를 올리는 메소드 입니다.
 	 *
 	 * @param bookId 책의 아이디
 	 */
 	void addView(Long bookId);
+
+	/**
+	 * 커서(keyset) 기반으로 도서를 조회하는 메서드입니다.
+	 *
+	 * @param order      정렬 기준
+	 * @param after      이전 응답의 nextCursor (첫 페이지면 null)
+	 * @param size       사이즈
+	 * @param categoryId 카테고리 아이디 (전체 조회면 null)
+	 * @return 도서 리스트와 다음 커서
+	 * @author 한민기
+	 */
+	BookCursorResponse readBooksByCursor(Sort.Order order, String after, int size, Long categoryId);
 }
@@ -0,0 +1,37 @@
+package com.nhnacademy.bookstore.book.book.service;
+
+/**
+ * 도서 조회수 서비스입니다.
+ * 조회할 때마다 DB 를 갱신하지 않고 메모리에 모아두었다가 주기적으로 한 번에 반영합니다.
+ *
+ * @author 한민기
+ */
+public interface BookViewCountService {
+
+	/**
+	 * 도서 조회수를 1 올립니다. DB 에는 다음 flush 때 반영됩니다.
+	 *
+	 * @param bookId 도서 아이디
+	 */
+	void increaseView(long bookId);
+
+	/**
+	 * 아직 DB 에 반영되지 않은 도서의 조회수를 반환합니다.
+	 *
+	 * @param bookId 도서 아이디
+	 * @return 반영 대기중인 조회수
+	 */
+	long readPendingView(long bookId);
+
+	/**
+	 * 반영 대기중인 전체 조회수를 반환합니다.
+	 *
+	 * @return 반영 대기중인 전체 조회수
+	 */
+	long readPendingViews();
+
+	/**
+	 * 모아둔 조회수를 DB 의 view_count 에 반영합니다.
+	 */
+	void flush();
+}
@@ -0,0 +1,138 @@
+package com.nhnacademy.bookstore.book.book.service.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.nhnacademy.bookstore.book.book.dto.response.ApiBookBulkJobResponse;
+import com.nhnacademy.bookstore.book.book.dto.response.ApiBookImportResponse;
+import com.nhnacademy.bookstore.book.book.exception.ApiBookBulkJobNotFoundException;
+import com.nhnacademy.bookstore.book.book.repository.ApiBookBulkJobRedisRepository;
+import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.book.book.service.ApiBookBulkService;
+import com.nhnacademy.bookstore.book.book.service.ApiBookService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 도서 일괄 가져오기 서비스 구현체입니다.
+ * 도서 한 권을 가져오는 시간 대부분이 알라딘 API, 상세 페이지, 이미지 업로드를 기다리는 시간이라
+ * 도서마다 가상 스레드를 띄우고 Semaphore 로 서버 전체에서 동시에 가져오는 수만 제한합니다.
+ * 도서별 결과는 끝나는 대로 redis 에 쌓아서 요청한 쪽은 기다리지 않고 진행 상황을 조회합니다.
+ * <p>
+ * 서버가 내려가면 진행 중인 작업은 멈추고, 끝나지 않은 도서는 결과 없이 남습니다.
+ *
+ * @author 한민기
+ */
+@Slf4j
+@Service
+public class ApiBookBulkServiceImpl implements ApiBookBulkService {
+	private final ApiBookService apiBookService;
+	private final BookRepository bookRepository;
+	private final ApiBookBulkJobRedisRepository apiBookBulkJobRedisRepository;
+	private final Semaphore permits;
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+	public ApiBookBulkServiceImpl(ApiBookService apiBookService, BookRepository bookRepository,
+		ApiBookBulkJobRedisRepository apiBookBulkJobRedisRepository,
+		@Value("${book.api.bulk.concurrency:4}") int concurrency) {
+		this.apiBookService = apiBookService;
+		this.bookRepository = bookRepository;
+		this.apiBookBulkJobRedisRepository = apiBookBulkJobRedisRepository;
+		this.permits = new Semaphore(Math.max(1, concurrency));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ApiBookBulkJobResponse startImport(List<String> isbnList) {
+		List<String> isbns = isbnList.stream().map(String::trim).distinct().toList();
+		String jobId = UUID.randomUUID().toString();
+		apiBookBulkJobRedisRepository.create(jobId, isbns);
+
+		AtomicInteger remaining = new AtomicInteger(isbns.size());
+		for (String isbn : isbns) {
+			executor.submit(() -> {
+				ApiBookImportResponse result = importBook(isbn);
+				try {
+					apiBookBulkJobRedisRepository.saveResult(jobId, result);
+				} catch (RuntimeException e) {
+					log.warn("도서 가져오기 결과 저장 실패 : jobId={}, isbn={}, status={}", jobId, isbn, result.status(), e);
+				}
+				if (remaining.decrementAndGet() == 0) {
+					log.info("도서 일괄 가져오기 완료 : jobId={}, {} 건", jobId, isbns.size());
+				}
+			});
+		}
+		return ApiBookBulkJobResponse.of(jobId, isbns.size(), List.of());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ApiBookBulkJobResponse readImport(String jobId) {
+		List<String> isbns = apiBookBulkJobRedisRepository.readIsbns(jobId);
+		if (isbns.isEmpty()) {
+			throw new ApiBookBulkJobNotFoundException(jobId);
+		}
+		Map<String, ApiBookImportResponse> results = apiBookBulkJobRedisRepository.readResults(jobId);
+		return ApiBookBulkJobResponse.of(jobId, isbns.size(),
+			isbns.stream().map(results::get).filter(Objects::nonNull).toList());
+	}
+
+	/**
+	 * 진행 중인 가져오기를 멈춥니다.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * 도서 한 권을 가져옵니다. 저장은 ApiBookService 를 거쳐 도서마다 각자의 트랜잭션으로 진행됩니다.
+	 *
+	 * @param isbn isbn13
+	 * @return 가져온 결과
+	 */
+	private ApiBookImportResponse importBook(String isbn) {
+		try {
+			permits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return failed(isbn, "interrupted");
+		}
+
+		try {
+			if (bookRepository.existsByIsbn(isbn)) {
+				return ApiBookImportResponse.builder().isbn(isbn).status(ApiBookImportResponse.Status.ALREADY_EXISTS)
+					.build();
+			}
+			apiBookService.save(isbn);
+			return ApiBookImportResponse.builder().isbn(isbn).status(ApiBookImportResponse.Status.CREATED).build();
+		} catch (RuntimeException e) {
+			log.warn("도서 가져오기 실패 : isbn={}", isbn, e);
+			return failed(isbn, e.getClass().getSimpleName() + ": " + e.getMessage());
+		} finally {
+			permits.release();
+		}
+	}
+
+	private ApiBookImportResponse failed(String isbn, String message) {
+		return ApiBookImportResponse.builder()
+			.isbn(isbn)
+			.status(ApiBookImportResponse.Status.FAILED)
+			.message(message)
+			.build();
+	}
+}
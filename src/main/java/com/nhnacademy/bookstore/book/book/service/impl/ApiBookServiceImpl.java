@@ -1,10 +1,6 @@
 package com.nhnacademy.bookstore.book.book.service.impl;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -19,27 +15,26 @@ import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.select.Elements;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.nhnacademy.bookstore.book.book.dto.response.AladinDetailResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.ApiCreateBookResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.DescriptionResponse;
-import com.nhnacademy.bookstore.book.book.dto.response.ImageMultipartFile;
 import com.nhnacademy.bookstore.book.book.exception.ApiBookResponseException;
 import com.nhnacademy.bookstore.book.book.repository.ApiBookRepository;
-import com.nhnacademy.bookstore.book.book.repository.BookRedisRepository;
 import com.nhnacademy.bookstore.book.book.repository.BookRepository;
 import com.nhnacademy.bookstore.book.book.service.ApiBookService;
+import com.nhnacademy.bookstore.book.book.service.BookCountService;
 import com.nhnacademy.bookstore.book.bookcategory.repository.BookCategoryRepository;
+import com.nhnacademy.bookstore.book.bookindex.service.BookIndexOutboxService;
 import com.nhnacademy.bookstore.book.category.exception.CategoryNotFoundException;
 import com.nhnacademy.bookstore.book.category.repository.CategoryRepository;
-import com.nhnacademy.bookstore.book.image.exception.MultipartFileException;
 import com.nhnacademy.bookstore.book.image.imageService.ImageService;
 import com.nhnacademy.bookstore.entity.book.Book;
 import com.nhnacademy.bookstore.entity.bookcategory.BookCategory;
 import com.nhnacademy.bookstore.entity.bookimage.BookImage;
 import com.nhnacademy.bookstore.entity.bookimage.enums.BookImageType;
+import com.nhnacademy.bookstore.entity.bookindexoutbox.enums.BookIndexOperation;
 import com.nhnacademy.bookstore.entity.category.Category;
 import com.nhnacademy.bookstore.entity.totalimage.TotalImage;
 
@@ -58,7 +53,9 @@ public class ApiBookServiceImpl implements ApiBookService {
 	private final CategoryRepository categoryRepository;
 	private final BookCategoryRepository bookCategoryRepository;
 	private final ImageService imageService;
-	private final BookRedisRepository redisRepository;
+	private final BookIndexOutboxService bookIndexOutboxService;
+	private final BookCountService bookCountService;
+	private final TransactionTemplate transactionTemplate;
 
 	private static final String DETAIL_VIEW_FRONT = "https://www.aladin.co.kr/shop/wproduct.aspx?ItemId=";
 
@@ -68,12 +65,20 @@ public class ApiBookServiceImpl implements ApiBookService {
 
 	/**
 	 * {@inheritDoc}
+	 * 알라딘 API, 상세 페이지, 이미지 업로드는 트랜잭션 밖에서 먼저 끝내고, DB 에 넣는 동안만 트랜잭션을 엽니다.
+	 * 네트워크를 기다리는 동안 DB 커넥션을 잡고 있지 않게 합니다.
 	 */
-	@Transactional
 	@Override
 	public void save(String isbnId) {
 		ApiCreateBookResponse bookResponse = apiBookRepository.getBookResponse(isbnId);
 
+		// 없는 카테고리면 이미지를 올리기 전에 실패시킨다.
+		List<Category> categories = new ArrayList<>();
+		for (String categoryName : categoryNameStringToList(bookResponse.item().getFirst().categoryName())) {
+			categories.add(categoryRepository.findByName(categoryName)
+				.orElseThrow(() -> new CategoryNotFoundException(categoryName)));
+		}
+
 		AladinDetailResponse detailResponse = getDetailResponse(getDetailApiItemId(bookResponse.link()),
 			bookResponse.item().getFirst().cover());
 
@@ -97,25 +102,21 @@ public class ApiBookServiceImpl implements ApiBookService {
 			null
 		);
 
-		List<String> categories = categoryNameStringToList(bookResponse.item().getFirst().categoryName());
-
-		bookRepository.save(book);
-		for (String categoryName : categories) {
-			Category category = categoryRepository.findByName(categoryName).orElse(null);
-
-			if (Objects.isNull(category)) {
-				throw new CategoryNotFoundException(categoryName);
+		transactionTemplate.executeWithoutResult(status -> {
+			bookRepository.save(book);
+			List<Long> categoryIds = new ArrayList<>();
+			for (Category category : categories) {
+				bookCategoryRepository.save(BookCategory.create(book, category));
+				categoryIds.add(category.getId());
 			}
-			BookCategory bookCategory = BookCategory.create(book, category);
-
-			bookCategoryRepository.save(bookCategory);
-		}
 
-		for (BookImage bookImage : descriptionResponse.bookImageList()) {
-			book.addBookImage(bookImage);
-		}
-		bookRepository.save(book);
-		redisRepository.createBook(book);
+			for (BookImage bookImage : descriptionResponse.bookImageList()) {
+				book.addBookImage(bookImage);
+			}
+			bookRepository.save(book);
+			bookIndexOutboxService.append(book.getId(), BookIndexOperation.INDEX);
+			bookCountService.increaseBook(categoryIds);
+		});
 	}
 
 	/**
@@ -134,39 +135,6 @@ public class ApiBookServiceImpl implements ApiBookService {
 		return author;
 	}
 
-	/**
-	 * imageUrl 에서 이미지 파일을 MultipartFile로 가져옴
-	 *
-	 * @param imageUrl api 에서 받은 cover 이미지의 사진
-	 * @return multipartFile 형식의 이미지  -> 이걸 나중에 image 등록
-	 */
-	public MultipartFile downloadImageAsMultipartFile(String imageUrl) {
-		try {
-			URL url = new URL(imageUrl);
-			HttpURLConnection connection = (HttpURLConnection)url.openConnection();
-			connection.setRequestMethod("GET");
-			connection.connect();
-
-			// 2. 이미지를 바이트 배열로 변환
-			ByteArrayOutputStream baos = new ByteArrayOutputStream();
-			try (InputStream is = connection.getInputStream()) {
-				byte[] buffer = new byte[1024];
-				int len;
-				while ((len = is.read(buffer)) != -1) {
-					baos.write(buffer, 0, len);
-				}
-			}
-
-			// 3. 바이트 배열을 MultipartFile로 변환
-			byte[] imageBytes = baos.toByteArray();
-
-			return new ImageMultipartFile(imageBytes);
-		} catch (IOException e) {
-			throw new MultipartFileException();
-		}
-
-	}
-
 	/**
 	 * String -> ZoneDateTime 으로 변경
 	 *
@@ -254,16 +222,14 @@ public class ApiBookServiceImpl implements ApiBookService {
 		List<BookImage> bookImageList = new ArrayList<>();
 
 		if (Objects.nonNull(detailResponse.mainImageUrl())) {
-			String fileName = imageService.createImage(downloadImageAsMultipartFile(detailResponse.mainImageUrl()),
-				"book");
+			String fileName = imageService.createImage(detailResponse.mainImageUrl(), "book");
 			TotalImage totalImage = new TotalImage(fileName);
 			BookImage bookImage = new BookImage(BookImageType.MAIN, totalImage);
 			bookImageList.add(bookImage);
 		}
 		if (!detailResponse.imageUrlList().isEmpty()) {
 			for (String imageUrl : detailResponse.imageUrlList()) {
-				String fileName = imageService.createImage(downloadImageAsMultipartFile(imageUrl),
-					"book");
+				String fileName = imageService.createImage(imageUrl, "book");
 				TotalImage totalImage = new TotalImage(fileName);
 				BookImage bookImage = new BookImage(BookImageType.DESCRIPTION, totalImage);
 
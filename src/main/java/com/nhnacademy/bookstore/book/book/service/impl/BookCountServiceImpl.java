@@ -0,0 +1,143 @@
+package com.nhnacademy.bookstore.book.book.service.impl;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.book.book.service.BookCountService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 도서 수 서비스 구현체입니다.
+ * 처음 조회할 때 DB 에서 센 값을 저장해두고, 이후에는 커밋된 변경만큼 더하고 뺍니다.
+ * 다른 인스턴스에서 일어난 변경은 주기적으로 비워서 다시 세는 것으로 맞춥니다.
+ *
+ * @author 한민기
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookCountServiceImpl implements BookCountService {
+	private static final long UNKNOWN = -1L;
+
+	private final BookRepository bookRepository;
+
+	private final AtomicLong totalCount = new AtomicLong(UNKNOWN);
+	private final Map<Long, Long> categoryCountMap = new ConcurrentHashMap<>();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long countBooks() {
+		long count = totalCount.get();
+		if (count == UNKNOWN) {
+			totalCount.compareAndSet(UNKNOWN, bookRepository.count());
+			count = totalCount.get();
+		}
+		return count;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long countCategoryBooks(Long categoryId) {
+		return categoryCountMap.computeIfAbsent(categoryId, bookRepository::countBookByCategoryId);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void increaseBook(List<Long> categoryIds) {
+		afterCommit(() -> {
+			addTotal(1);
+			nullToEmpty(categoryIds).stream().distinct().forEach(categoryId -> addCategory(categoryId, 1));
+		});
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void decreaseBook(List<Long> categoryIds) {
+		afterCommit(() -> {
+			addTotal(-1);
+			nullToEmpty(categoryIds).stream().distinct().forEach(categoryId -> addCategory(categoryId, -1));
+		});
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void changeBookCategory(List<Long> beforeCategoryIds, List<Long> afterCategoryIds) {
+		Set<Long> removed = new HashSet<>(nullToEmpty(beforeCategoryIds));
+		Set<Long> added = new HashSet<>(nullToEmpty(afterCategoryIds));
+		removed.removeAll(nullToEmpty(afterCategoryIds));
+		added.removeAll(nullToEmpty(beforeCategoryIds));
+
+		afterCommit(() -> {
+			removed.forEach(categoryId -> addCategory(categoryId, -1));
+			added.forEach(categoryId -> addCategory(categoryId, 1));
+		});
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Scheduled(fixedDelayString = "${book.count.refresh-delay:600000}")
+	public void refresh() {
+		totalCount.set(UNKNOWN);
+		categoryCountMap.clear();
+		log.debug("book count cache refreshed");
+	}
+
+	private void addTotal(long delta) {
+		totalCount.updateAndGet(count -> count == UNKNOWN ? UNKNOWN : Math.max(0, count + delta));
+	}
+
+	private void addCategory(Long categoryId, long delta) {
+		if (Objects.isNull(categoryId)) {
+			return;
+		}
+		// 아직 세지 않은 카테고리는 다음 조회 때 DB 에서 세므로 건드리지 않는다.
+		categoryCountMap.computeIfPresent(categoryId, (id, count) -> Math.max(0, count + delta));
+	}
+
+	private List<Long> nullToEmpty(List<Long> categoryIds) {
+		return Objects.isNull(categoryIds) ? List.of() : categoryIds;
+	}
+
+	/**
+	 * 트랜잭션 안이라면 커밋된 뒤에 실행하고, 롤백되면 반영하지 않습니다.
+	 *
+	 * @param task 실행할 작업
+	 */
+	private void afterCommit(Runnable task) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+}
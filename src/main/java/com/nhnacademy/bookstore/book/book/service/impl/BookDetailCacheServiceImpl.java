@@ -0,0 +1,182 @@
+package com.nhnacademy.bookstore.book.book.service.impl;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.nhnacademy.bookstore.book.book.dto.response.UserReadBookResponse;
+import com.nhnacademy.bookstore.book.book.service.BookDetailCacheService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 도서 상세 응답 캐시 구현체입니다.
+ * 최근에 읽은 순서(LRU)로 maxSize 개까지만 들고 있고, 다른 인스턴스의 수정을 놓치지 않도록 ttl 이 지나면 다시 만듭니다.
+ * 히트/미스는 Micrometer 의 cache.gets 와 같은 이름으로 내보내서 기존 캐시 대시보드로 적중률을 볼 수 있습니다.
+ *
+ * @author 한민기
+ */
+@Service
+public class BookDetailCacheServiceImpl implements BookDetailCacheService {
+	private static final String CACHE_NAME = "bookDetail";
+
+	private final long ttlNanos;
+	private final Map<Long, CachedBook> cache;
+
+	/**
+	 * 지우기가 일어날 때마다 올라가는 값. 만드는 중에 지워진 응답은 저장하지 않는 데 사용합니다.
+	 */
+	private final AtomicLong invalidation = new AtomicLong();
+
+	private final Counter hitCounter;
+	private final Counter missCounter;
+	private final Counter evictionCounter;
+
+	public BookDetailCacheServiceImpl(MeterRegistry meterRegistry,
+		@Value("${book.detail-cache.max-size:1000}") int maxSize,
+		@Value("${book.detail-cache.ttl:10m}") Duration ttl) {
+		this.ttlNanos = ttl.toNanos();
+		this.hitCounter = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit")
+			.register(meterRegistry);
+		this.missCounter = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss")
+			.register(meterRegistry);
+		this.evictionCounter = Counter.builder("cache.evictions").tag("cache", CACHE_NAME)
+			.register(meterRegistry);
+
+		Counter evictions = this.evictionCounter;
+		this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, CachedBook> eldest) {
+				boolean full = size() > maxSize;
+				if (full) {
+					evictions.increment();
+				}
+				return full;
+			}
+		};
+		Gauge.builder("cache.size", this, BookDetailCacheServiceImpl::size).tag("cache", CACHE_NAME)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 조회수는 캐시에 저장된 값에 이 인스턴스에서 그 뒤로 조회된 만큼 더해서 돌려줍니다.
+	 */
+	@Override
+	public UserReadBookResponse readBook(long bookId, LongFunction<UserReadBookResponse> loader) {
+		CachedBook cached = get(bookId);
+		if (Objects.nonNull(cached)) {
+			hitCounter.increment();
+			return cached.read();
+		}
+		missCounter.increment();
+
+		long version = invalidation.get();
+		UserReadBookResponse response = loader.apply(bookId);
+		CachedBook loaded = new CachedBook(response, System.nanoTime() + ttlNanos);
+		loaded.views.increment();
+		synchronized (cache) {
+			if (version == invalidation.get()) {
+				cache.put(bookId, loaded);
+			}
+		}
+		return response;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void evict(long bookId) {
+		remove(bookId);
+		afterCommit(() -> remove(bookId));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void evictAll() {
+		clear();
+		afterCommit(this::clear);
+	}
+
+	private CachedBook get(long bookId) {
+		synchronized (cache) {
+			CachedBook cached = cache.get(bookId);
+			if (Objects.nonNull(cached) && cached.expiresAt - System.nanoTime() < 0) {
+				cache.remove(bookId);
+				return null;
+			}
+			return cached;
+		}
+	}
+
+	private void remove(long bookId) {
+		synchronized (cache) {
+			invalidation.incrementAndGet();
+			cache.remove(bookId);
+		}
+	}
+
+	private void clear() {
+		synchronized (cache) {
+			invalidation.incrementAndGet();
+			cache.clear();
+		}
+	}
+
+	private int size() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	/**
+	 * 트랜잭션 안이라면 커밋된 뒤에도 실행합니다. 커밋 전에 다른 요청이 이전 값을 다시 채워넣는 경우를 막습니다.
+	 *
+	 * @param task 실행할 작업
+	 */
+	private void afterCommit(Runnable task) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+
+	/**
+	 * 캐시된 도서 상세와 캐시된 뒤로 조회된 수.
+	 */
+	private static final class CachedBook {
+		private final UserReadBookResponse response;
+		private final long expiresAt;
+		private final LongAdder views = new LongAdder();
+
+		private CachedBook(UserReadBookResponse response, long expiresAt) {
+			this.response = response;
+			this.expiresAt = expiresAt;
+		}
+
+		private UserReadBookResponse read() {
+			long viewCount = response.viewCount() + views.sum();
+			views.increment();
+			return response.toBuilder().viewCount((int)viewCount).build();
+		}
+	}
+}
@@ -1,35 +1,46 @@
 package com.nhnacademy.bookstore.book.book.service.impl;
 
 import com.nhnacademy.bookstore.book.book.dto.response.UserReadBookResponse;
-import com.nhnacademy.bookstore.book.booktag.dto.request.ReadBookIdRequest;
 import com.nhnacademy.bookstore.book.booktag.dto.response.ReadTagByBookResponse;
 import com.nhnacademy.bookstore.book.category.dto.response.CategoryParentWithChildrenResponse;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.nhnacademy.bookstore.book.book.dto.request.BookCursor;
 import com.nhnacademy.bookstore.book.book.dto.request.CreateBookRequest;
+import com.nhnacademy.bookstore.book.book.dto.response.BookCursorResponse;
+import com.nhnacademy.bookstore.book.book.dto.response.BookDetailResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.BookForCouponResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.BookListResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.BookManagementResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.ReadBookResponse;
 import com.nhnacademy.bookstore.book.book.exception.BookDoesNotExistException;
-import com.nhnacademy.bookstore.book.book.repository.BookRedisRepository;
+import com.nhnacademy.bookstore.book.book.exception.InvalidBookCursorException;
 import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.book.book.service.BookCountService;
+import com.nhnacademy.bookstore.book.book.service.BookDetailCacheService;
 import com.nhnacademy.bookstore.book.book.service.BookService;
+import com.nhnacademy.bookstore.book.book.service.BookViewCountService;
 import com.nhnacademy.bookstore.book.bookcategory.dto.request.CreateBookCategoryRequest;
 import com.nhnacademy.bookstore.book.bookcategory.dto.request.UpdateBookCategoryRequest;
 import com.nhnacademy.bookstore.book.bookcategory.service.BookCategoryService;
 import com.nhnacademy.bookstore.book.bookimage.service.BookImageService;
+import com.nhnacademy.bookstore.book.bookindex.service.BookIndexOutboxService;
 import com.nhnacademy.bookstore.book.booktag.dto.request.CreateBookTagListRequest;
 import com.nhnacademy.bookstore.book.booktag.service.BookTagService;
 import com.nhnacademy.bookstore.entity.book.Book;
 import com.nhnacademy.bookstore.entity.bookimage.enums.BookImageType;
+import com.nhnacademy.bookstore.entity.bookindexoutbox.enums.BookIndexOperation;
 
 import lombok.RequiredArgsConstructor;
 
@@ -46,7 +57,10 @@ public class BookServiceImpl implements BookService {
 	private final BookCategoryService bookCategoryService;
 	private final BookTagService bookTagService;
 	private final BookImageService bookImageService;
-	private final BookRedisRepository bookRedisRepository;
+	private final BookIndexOutboxService bookIndexOutboxService;
+	private final BookCountService bookCountService;
+	private final BookViewCountService bookViewCountService;
+	private final BookDetailCacheService bookDetailCacheService;
 
 	/**
 	 * {@inheritDoc}
@@ -83,26 +97,34 @@ public class BookServiceImpl implements BookService {
 		if (!Objects.isNull(createBookRequest.imageName())) {
 			bookImageService.createBookImage(List.of(createBookRequest.imageName()), book.getId(), BookImageType.MAIN);
 		}
-		book = bookRepository.findById(book.getId()).orElseThrow();
-		bookRedisRepository.createBook(book);
+		bookIndexOutboxService.append(book.getId(), BookIndexOperation.INDEX);
+		bookCountService.increaseBook(createBookRequest.categoryIds());
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	@Transactional
+	@Transactional(readOnly = true)
 	public UserReadBookResponse readBookById(Long bookId) {
-		ReadBookResponse detailBook = bookRepository.readDetailBook(bookId);
-		if (Objects.isNull(detailBook)) {
-			throw new BookDoesNotExistException("요청하신 책이 존재하지 않습니다.");
-		}
-		List<CategoryParentWithChildrenResponse> categoryList = bookCategoryService.readBookWithCategoryList(bookId);
+		UserReadBookResponse book = bookDetailCacheService.readBook(bookId, this::loadBook);
+		bookViewCountService.increaseView(bookId);
+		return book;
+	}
 
-		List<ReadTagByBookResponse> tagList =
-			bookTagService.readTagByBookId(
-				ReadBookIdRequest.builder().bookId(bookId).build());
-		UserReadBookResponse book = UserReadBookResponse.builder()
+	/**
+	 * 도서, 카테고리, 태그를 한 번에 조회해 도서 상세를 만듭니다.
+	 *
+	 * @param bookId 도서 아이디
+	 * @return 도서 상세
+	 */
+	private UserReadBookResponse loadBook(long bookId) {
+		BookDetailResponse bookDetail = bookRepository.readBookDetail(bookId);
+		ReadBookResponse detailBook = bookDetail.book();
+		List<CategoryParentWithChildrenResponse> categoryList =
+			bookCategoryService.createCategoryTree(bookDetail.categoryList());
+		List<ReadTagByBookResponse> tagList = bookDetail.tagList();
+		return UserReadBookResponse.builder()
 			.id(detailBook.id())
 			.title(detailBook.title())
 			.description(detailBook.description())
@@ -110,7 +132,7 @@ public class BookServiceImpl implements BookService {
 			.price(detailBook.price())
 			.quantity(detailBook.quantity())
 			.sellingPrice(detailBook.sellingPrice())
-			.viewCount(detailBook.viewCount())
+			.viewCount((int)(detailBook.viewCount() + bookViewCountService.readPendingView(bookId)))
 			.packing(detailBook.packing())
 			.author(detailBook.author())
 			.isbn(detailBook.isbn())
@@ -119,8 +141,6 @@ public class BookServiceImpl implements BookService {
 			.categoryList(categoryList)
 			.tagList(tagList)
 			.build();
-		bookRepository.viewBook(bookId);
-		return book;
 	}
 
 	/**
@@ -143,6 +163,7 @@ public class BookServiceImpl implements BookService {
 		book.setIsbn(createBookRequest.isbn());
 		book.setPublisher(createBookRequest.publisher());
 
+		List<Long> beforeCategoryIds = getCategoryIds(book);
 		book = bookRepository.save(book);
 
 		bookCategoryService.updateBookCategory(bookId,
@@ -152,8 +173,9 @@ public class BookServiceImpl implements BookService {
 
 		bookImageService.updateBookImage(createBookRequest.imageName(), createBookRequest.imageList(), bookId);
 
-		book = bookRepository.findById(book.getId()).orElseThrow();
-		bookRedisRepository.updateBook(book);
+		bookIndexOutboxService.append(bookId, BookIndexOperation.INDEX);
+		bookCountService.changeBookCategory(beforeCategoryIds, createBookRequest.categoryIds());
+		bookDetailCacheService.evict(bookId);
 	}
 
 	/**
@@ -162,6 +184,16 @@ public class BookServiceImpl implements BookService {
 	@Override
 	@Transactional(readOnly = true)
 	public Page<BookListResponse> readAllBooks(Pageable pageable) {
+		Slice<BookListResponse> bookList = bookRepository.readBookList(pageable);
+		return PageableExecutionUtils.getPage(bookList.getContent(), pageable, bookCountService::countBooks);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public Slice<BookListResponse> readAllBookSlice(Pageable pageable) {
 		return bookRepository.readBookList(pageable);
 	}
 
@@ -171,7 +203,8 @@ public class BookServiceImpl implements BookService {
 	@Override
 	@Transactional(readOnly = true)
 	public Page<BookManagementResponse> readAllAdminBooks(Pageable pageable) {
-		return bookRepository.readAdminBookList(pageable);
+		Slice<BookManagementResponse> bookList = bookRepository.readAdminBookList(pageable);
+		return PageableExecutionUtils.getPage(bookList.getContent(), pageable, bookCountService::countBooks);
 	}
 
 	/**
@@ -180,8 +213,11 @@ public class BookServiceImpl implements BookService {
 	@Override
 	@Transactional
 	public void deleteBook(Long bookId) {
+		Optional<List<Long>> categoryIds = bookRepository.findById(bookId).map(this::getCategoryIds);
 		bookRepository.deleteById(bookId);
-		bookRedisRepository.deleteBook(bookId);
+		bookIndexOutboxService.append(bookId, BookIndexOperation.DELETE);
+		categoryIds.ifPresent(bookCountService::decreaseBook);
+		bookDetailCacheService.evict(bookId);
 	}
 
 	/**
@@ -204,6 +240,17 @@ public class BookServiceImpl implements BookService {
 	@Override
 	@Transactional(readOnly = true)
 	public Page<BookListResponse> readCategoryAllBooks(Pageable pageable, Long categoryId) {
+		Slice<BookListResponse> bookList = bookRepository.readCategoryAllBookList(pageable, categoryId);
+		return PageableExecutionUtils.getPage(bookList.getContent(), pageable,
+			() -> bookCountService.countCategoryBooks(categoryId));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public Slice<BookListResponse> readCategoryAllBookSlice(Pageable pageable, Long categoryId) {
 		return bookRepository.readCategoryAllBookList(pageable, categoryId);
 	}
 
@@ -218,4 +265,32 @@ public class BookServiceImpl implements BookService {
 		book.viewBook();
 		bookRepository.save(book);
 	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public BookCursorResponse readBooksByCursor(Sort.Order order, String after, int size, Long categoryId) {
+		BookCursor cursor = null;
+		if (Objects.nonNull(after) && !after.isBlank()) {
+			cursor = BookCursor.decode(after);
+			if (!cursor.matches(order)) {
+				throw new InvalidBookCursorException("커서의 정렬 기준이 요청과 다릅니다.");
+			}
+		}
+		return bookRepository.readBookListByCursor(order, cursor, size, categoryId);
+	}
+
+	/**
+	 * 도서에 등록된 카테고리 아이디 리스트를 가져옵니다.
+	 *
+	 * @param book 도서
+	 * @return 카테고리 아이디 리스트
+	 */
+	private List<Long> getCategoryIds(Book book) {
+		return book.getBookCategoryList().stream()
+			.map(bookCategory -> bookCategory.getCategory().getId())
+			.toList();
+	}
 }
@@ -0,0 +1,112 @@
+package com.nhnacademy.bookstore.book.book.service.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.book.book.service.BookViewCountService;
+import com.nhnacademy.bookstore.book.ranking.enums.RankingType;
+import com.nhnacademy.bookstore.book.ranking.service.BookRankingService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 도서 조회수 서비스 구현체입니다.
+ * 도서별 LongAdder 에 조회수를 모아두고, 같은 증가량끼리 묶어 update 한 번으로 반영합니다.
+ * 도서 행마다 조회 요청이 몰려도 행 잠금을 flush 주기에 한 번만 잡습니다.
+ *
+ * @author 한민기
+ */
+@Slf4j
+@Service
+public class BookViewCountServiceImpl implements BookViewCountService {
+	private final BookRepository bookRepository;
+	private final BookRankingService bookRankingService;
+
+	/**
+	 * 도서별 반영 대기 조회수. 한 번 조회된 도서의 항목은 지우지 않고 재사용합니다. (도서 수만큼만 커집니다.)
+	 */
+	private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+	public BookViewCountServiceImpl(BookRepository bookRepository, BookRankingService bookRankingService,
+		MeterRegistry meterRegistry) {
+		this.bookRepository = bookRepository;
+		this.bookRankingService = bookRankingService;
+		Gauge.builder("bookstore.book.view.pending", this, BookViewCountServiceImpl::readPendingViews)
+			.description("아직 DB 에 반영되지 않은 도서 조회수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void increaseView(long bookId) {
+		pendingViews.computeIfAbsent(bookId, id -> new LongAdder()).increment();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long readPendingView(long bookId) {
+		LongAdder adder = pendingViews.get(bookId);
+		return Objects.isNull(adder) ? 0 : adder.sum();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long readPendingViews() {
+		return pendingViews.values().stream().mapToLong(LongAdder::sum).sum();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Scheduled(fixedDelayString = "${book.view.flush-delay:5000}")
+	public void flush() {
+		// sumThenReset 은 셀 단위로 값을 가져가며 0 으로 바꾸므로 그 사이에 들어온 조회수는 다음 flush 로 넘어간다.
+		Map<Long, List<Long>> bookIdsByDelta = new HashMap<>();
+		pendingViews.forEach((bookId, adder) -> {
+			long delta = adder.sumThenReset();
+			if (delta > 0) {
+				bookIdsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(bookId);
+			}
+		});
+
+		Map<Long, Long> flushedViews = new HashMap<>();
+		bookIdsByDelta.forEach((delta, bookIds) -> {
+			try {
+				bookRepository.increaseViewCount(bookIds, delta);
+				bookIds.forEach(bookId -> flushedViews.put(bookId, delta));
+			} catch (RuntimeException e) {
+				log.warn("조회수 반영 실패, 다음 주기에 다시 시도합니다. : {} 건", bookIds.size(), e);
+				bookIds.forEach(bookId -> pendingViews.computeIfAbsent(bookId, id -> new LongAdder()).add(delta));
+			}
+		});
+		// 랭킹은 DB 에 반영된 조회수만 더해서 실패 후 재시도 때 두 번 더해지지 않게 한다.
+		bookRankingService.increaseScore(RankingType.VIEW, flushedViews);
+	}
+
+	/**
+	 * 종료 전에 남은 조회수를 반영합니다.
+	 */
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+	}
+}
@@ -10,6 +10,7 @@ import org.springframework.stereotype.Repository;
 import com.nhnacademy.bookstore.book.book.dto.response.BookListResponse;
 import com.nhnacademy.bookstore.book.bookcategory.repository.BookCategoryCustomRepository;
 import com.nhnacademy.bookstore.book.category.dto.response.BookDetailCategoryResponse;
+import com.nhnacademy.bookstore.book.image.enums.ImageVariant;
 import com.nhnacademy.bookstore.entity.book.QBook;
 import com.nhnacademy.bookstore.entity.bookcategory.QBookCategory;
 import com.nhnacademy.bookstore.entity.bookimage.QBookImage;
@@ -49,7 +50,8 @@ public class BookCategoryCustomRepositoryImpl implements BookCategoryCustomRepos
 		List<BookListResponse> content = jpaQueryFactory.select(
 				Projections.constructor(BookListResponse.class, qBookCategory.book.id, qBookCategory.book.title,
 					qBookCategory.book.price,
-					qBookCategory.book.sellingPrice, qBookCategory.book.author, qTotalImage.url))
+					qBookCategory.book.sellingPrice, qBookCategory.book.author,
+					ImageVariant.THUMBNAIL.fileName(qTotalImage.url)))
 			.from(qBookCategory)
 			.join(qBookCategory.book, qBook)
 			.leftJoin(qBookImage)
@@ -101,7 +103,8 @@ public class BookCategoryCustomRepositoryImpl implements BookCategoryCustomRepos
 		List<BookListResponse> content = jpaQueryFactory.select(
 				Projections.constructor(BookListResponse.class, qBookCategory.book.id, qBookCategory.book.title,
 					qBookCategory.book.price,
-					qBookCategory.book.sellingPrice, qBookCategory.book.author, qTotalImage.url))
+					qBookCategory.book.sellingPrice, qBookCategory.book.author,
+					ImageVariant.THUMBNAIL.fileName(qTotalImage.url)))
 			.from(qBookCategory)
 			.join(qBookCategory.book, qBook)
 			.leftJoin(qBookImage)
@@ -8,6 +8,7 @@ import org.springframework.data.domain.Pageable;
 import com.nhnacademy.bookstore.book.book.dto.response.BookListResponse;
 import com.nhnacademy.bookstore.book.bookcategory.dto.request.CreateBookCategoryRequest;
 import com.nhnacademy.bookstore.book.bookcategory.dto.request.UpdateBookCategoryRequest;
+import com.nhnacademy.bookstore.book.category.dto.response.BookDetailCategoryResponse;
 import com.nhnacademy.bookstore.book.category.dto.response.CategoryParentWithChildrenResponse;
 
 public interface BookCategoryService {
@@ -19,6 +20,14 @@ public interface BookCategoryService {
 
 	List<CategoryParentWithChildrenResponse> readBookWithCategoryList(Long bookId);
 
+	/**
+	 * 이미 불러온 도서의 카테고리 목록을 부모-자식 구조로 만듭니다.
+	 *
+	 * @param categoryList 도서의 카테고리 목록
+	 * @return 책에 해당하는 카테고리 list
+	 */
+	List<CategoryParentWithChildrenResponse> createCategoryTree(List<BookDetailCategoryResponse> categoryList);
+
 	Page<BookListResponse> readCategoriesWithBookList(List<Long> categoryList, Pageable pageable);
 
 	List<CategoryParentWithChildrenResponse> allCategoryList();
@@ -15,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.nhnacademy.bookstore.book.book.dto.response.BookListResponse;
 import com.nhnacademy.bookstore.book.book.exception.BookDoesNotExistException;
 import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.book.book.service.BookDetailCacheService;
 import com.nhnacademy.bookstore.book.bookcategory.dto.request.CreateBookCategoryRequest;
 import com.nhnacademy.bookstore.book.bookcategory.dto.request.UpdateBookCategoryRequest;
 import com.nhnacademy.bookstore.book.bookcategory.exception.BookCategoryAlreadyExistsException;
@@ -45,6 +46,7 @@ public class BookCategoryServiceImpl implements BookCategoryService {
 	private final BookRepository bookRepository;
 	private final CategoryRepository categoryRepository;
 	private final BookCategoryRepository bookCategoryRepository;
+	private final BookDetailCacheService bookDetailCacheService;
 
 	/**
 	 * 도서-카테고리 생성 메서드
@@ -69,6 +71,7 @@ public class BookCategoryServiceImpl implements BookCategoryService {
 		}
 
 		bookRepository.save(book);
+		bookDetailCacheService.evict(book.getId());
 	}
 
 	/**
@@ -101,6 +104,7 @@ public class BookCategoryServiceImpl implements BookCategoryService {
 		}
 
 		bookRepository.save(book);
+		bookDetailCacheService.evict(bookId);
 		log.info("Updated book categories for bookId: {}", bookId);
 		log.info("categories : {}", book.getBookCategoryList().size());
 	}
@@ -114,6 +118,7 @@ public class BookCategoryServiceImpl implements BookCategoryService {
 		book.removeBookCategory(bookCategory);
 
 		bookCategoryRepository.deleteById(id);
+		bookDetailCacheService.evict(book.getId());
 	}
 
 	/**
@@ -127,6 +132,14 @@ public class BookCategoryServiceImpl implements BookCategoryService {
 		return categoryChildrenMade(bookCategoryRepository.bookWithCategoryList(bookId));
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<CategoryParentWithChildrenResponse> createCategoryTree(List<BookDetailCategoryResponse> categoryList) {
+		return categoryChildrenMade(categoryList);
+	}
+
 	/**
 	 * 카테고리에 해당하는 도서 목록 불러오는 메서드
 	 *
@@ -0,0 +1,47 @@
+package com.nhnacademy.bookstore.book.bookindex.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.nhnacademy.bookstore.book.bookindex.dto.response.BookReindexStatusResponse;
+import com.nhnacademy.bookstore.book.bookindex.service.BookReindexService;
+import com.nhnacademy.bookstore.util.ApiResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자용 도서 검색 재색인 컨트롤러입니다.
+ *
+ * @author 한민기
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/bookstore/books/search/reindex")
+public class BookReindexController {
+	private final BookReindexService bookReindexService;
+
+	/**
+	 * 재색인을 시작합니다. 끝날 때까지 기다리지 않고 바로 진행 상황을 반환합니다.
+	 *
+	 * @return 시작한 재색인의 진행 상황
+	 */
+	@PostMapping
+	@ResponseStatus(HttpStatus.CREATED)
+	public ApiResponse<BookReindexStatusResponse> startReindex() {
+		return ApiResponse.createSuccess(bookReindexService.startReindex());
+	}
+
+	/**
+	 * 마지막 재색인의 진행 상황을 조회합니다.
+	 *
+	 * @return 진행 상황
+	 */
+	@GetMapping
+	public ApiResponse<BookReindexStatusResponse> readStatus() {
+		return ApiResponse.success(bookReindexService.readStatus());
+	}
+}
@@ -0,0 +1,29 @@
+package com.nhnacademy.bookstore.book.bookindex.dto.response;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import com.nhnacademy.bookstore.book.bookindex.enums.BookReindexState;
+
+import lombok.Builder;
+
+/**
+ * 재색인 진행 상황.
+ *
+ * @param index           새 색인 이름
+ * @param state           진행 단계
+ * @param total           시작할 때의 전체 도서 수
+ * @param indexed         새 색인에 넣은 도서 수
+ * @param caughtUp        재색인 중에 바뀌어서 다시 넣은 도서 수
+ * @param previousIndices 별칭을 옮기기 전에 연결되어 있던 색인 (되돌릴 때 사용)
+ * @param startedAt       시작 시각
+ * @param finishedAt      끝난 시각
+ * @param error           실패 이유
+ * @author 한민기
+ */
+@Builder
+public record BookReindexStatusResponse(
+	String index, BookReindexState state, long total, long indexed, long caughtUp, List<String> previousIndices,
+	ZonedDateTime startedAt, ZonedDateTime finishedAt, String error
+) {
+}
@@ -0,0 +1,27 @@
+package com.nhnacademy.bookstore.book.bookindex.enums;
+
+/**
+ * 재색인 진행 단계.
+ *
+ * @author 한민기
+ */
+public enum BookReindexState {
+	/**
+	 * 새 색인에 전체 도서를 넣는 중.
+	 */
+	BUILDING,
+	/**
+	 * 재색인 중에 바뀐 도서를 새 색인에 반영하는 중.
+	 */
+	CATCHING_UP,
+	/**
+	 * 별칭을 새 색인으로 옮긴 뒤 마지막으로 바뀐 도서를 반영하는 중.
+	 */
+	SWAPPED,
+	COMPLETED,
+	FAILED;
+
+	public boolean isRunning() {
+		return this != COMPLETED && this != FAILED;
+	}
+}
@@ -0,0 +1,12 @@
+package com.nhnacademy.bookstore.book.bookindex.exception;
+
+/**
+ * 재색인이 이미 진행 중일 때 발생하는 Exception.
+ *
+ * @author 한민기
+ */
+public class BookReindexRunningException extends RuntimeException {
+	public BookReindexRunningException(String index) {
+		super("이미 재색인이 진행 중입니다. : " + index);
+	}
+}
@@ -0,0 +1,75 @@
+package com.nhnacademy.bookstore.book.bookindex.repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.nhnacademy.bookstore.entity.bookindexoutbox.BookIndexOutbox;
+
+/**
+ * 검색 색인 outbox 레포지토리입니다.
+ *
+ * @author 한민기
+ */
+public interface BookIndexOutboxRepository extends JpaRepository<BookIndexOutbox, Long> {
+
+	/**
+	 * 보낼 차례가 된 변경을 저장된 순서대로 조회합니다.
+	 *
+	 * @param now   현재 시각
+	 * @param limit 최대 개수
+	 * @return 보낼 변경
+	 */
+	List<BookIndexOutbox> findByPublishedAtIsNullAndNextAttemptAtLessThanEqualOrderByIdAsc(ZonedDateTime now,
+		Limit limit);
+
+	/**
+	 * createdAt 이후에 저장된 변경을 afterId 다음부터 순서대로 조회합니다. 재색인 중에 바뀐 도서를 찾을 때 사용합니다.
+	 *
+	 * @param createdAt 이 시각 이후에 저장된 변경
+	 * @param afterId   이전에 읽은 마지막 아이디
+	 * @param limit     최대 개수
+	 * @return 변경
+	 */
+	List<BookIndexOutbox> findByCreatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(ZonedDateTime createdAt,
+		long afterId, Limit limit);
+
+	/**
+	 * afterId 다음에 저장된 변경을 순서대로 조회합니다.
+	 *
+	 * @param afterId 이전에 읽은 마지막 아이디
+	 * @param limit   최대 개수
+	 * @return 변경
+	 */
+	List<BookIndexOutbox> findByIdGreaterThanOrderByIdAsc(long afterId, Limit limit);
+
+	/**
+	 * 마지막으로 저장된 변경.
+	 *
+	 * @return 변경
+	 */
+	Optional<BookIndexOutbox> findTopByOrderByIdDesc();
+
+	/**
+	 * 아직 보내지 않은 변경 수.
+	 *
+	 * @return 개수
+	 */
+	long countByPublishedAtIsNull();
+
+	/**
+	 * 보낸 지 오래된 변경을 지웁니다.
+	 *
+	 * @param before 이 시각 전에 보낸 변경을 지움
+	 * @return 지운 개수
+	 */
+	@Modifying
+	@Query("delete from BookIndexOutbox o where o.publishedAt < :before")
+	int deletePublishedBefore(@Param("before") ZonedDateTime before);
+}
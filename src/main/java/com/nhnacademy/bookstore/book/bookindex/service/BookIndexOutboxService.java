@@ -0,0 +1,32 @@
+package com.nhnacademy.bookstore.book.bookindex.service;
+
+import com.nhnacademy.bookstore.entity.bookindexoutbox.enums.BookIndexOperation;
+
+/**
+ * 검색 색인 outbox 서비스입니다.
+ * 도서 변경 트랜잭션에서는 outbox 에 기록만 하고, 검색 색인으로는 커밋된 기록만 따로 보냅니다.
+ *
+ * @author 한민기
+ */
+public interface BookIndexOutboxService {
+
+	/**
+	 * 도서 변경을 현재 트랜잭션에 같이 기록합니다.
+	 *
+	 * @param bookId    도서 아이디
+	 * @param operation 색인 작업
+	 */
+	void append(long bookId, BookIndexOperation operation);
+
+	/**
+	 * 보낼 차례가 된 변경을 한 묶음 보냅니다.
+	 *
+	 * @return 보낸 변경 수
+	 */
+	int relay();
+
+	/**
+	 * 보낸 지 오래된 기록을 지웁니다.
+	 */
+	void purge();
+}
@@ -0,0 +1,26 @@
+package com.nhnacademy.bookstore.book.bookindex.service;
+
+import com.nhnacademy.bookstore.book.bookindex.dto.response.BookReindexStatusResponse;
+
+/**
+ * 도서 검색 색인을 새로 만드는 서비스입니다.
+ * 새 버전의 색인을 만들어 전체 도서를 넣고, 그동안 바뀐 도서를 반영한 뒤 별칭을 한 번에 옮겨서 검색이 끊기지 않습니다.
+ *
+ * @author 한민기
+ */
+public interface BookReindexService {
+
+	/**
+	 * 재색인을 백그라운드에서 시작합니다.
+	 *
+	 * @return 시작한 재색인의 진행 상황
+	 */
+	BookReindexStatusResponse startReindex();
+
+	/**
+	 * 마지막 재색인의 진행 상황을 반환합니다.
+	 *
+	 * @return 진행 상황, 재색인을 한 적이 없으면 null
+	 */
+	BookReindexStatusResponse readStatus();
+}
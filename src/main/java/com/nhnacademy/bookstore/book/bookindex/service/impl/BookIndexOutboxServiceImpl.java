@@ -0,0 +1,161 @@
+package com.nhnacademy.bookstore.book.bookindex.service.impl;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.nhnacademy.bookstore.book.book.repository.BookRedisRepository;
+import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.book.bookindex.repository.BookIndexOutboxRepository;
+import com.nhnacademy.bookstore.book.bookindex.service.BookIndexOutboxService;
+import com.nhnacademy.bookstore.entity.bookindexoutbox.BookIndexOutbox;
+import com.nhnacademy.bookstore.entity.bookindexoutbox.enums.BookIndexOperation;
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색 색인 outbox 서비스 구현체입니다.
+ * relay 는 보낼 변경을 도서별로 묶고, 보낼 때의 검색 문서를 다시 조회해 redis 변경 목록에 씁니다.
+ * 같은 변경을 두 번 보내도 마지막 문서로 덮어쓸 뿐이라 최소 한 번(at-least-once) 보내는 것으로 충분합니다.
+ *
+ * @author 한민기
+ */
+@Slf4j
+@Service
+public class BookIndexOutboxServiceImpl implements BookIndexOutboxService {
+	private final BookIndexOutboxRepository bookIndexOutboxRepository;
+	private final BookRepository bookRepository;
+	private final BookRedisRepository bookRedisRepository;
+	private final int batchSize;
+	private final Duration retryDelay;
+	private final Duration maxRetryDelay;
+	private final Duration retention;
+
+	private final Counter publishedCounter;
+	private final Counter failedCounter;
+
+	public BookIndexOutboxServiceImpl(BookIndexOutboxRepository bookIndexOutboxRepository,
+		BookRepository bookRepository, BookRedisRepository bookRedisRepository, MeterRegistry meterRegistry,
+		@Value("${book.index.outbox.batch-size:500}") int batchSize,
+		@Value("${book.index.outbox.retry-delay:1s}") Duration retryDelay,
+		@Value("${book.index.outbox.max-retry-delay:5m}") Duration maxRetryDelay,
+		@Value("${book.index.outbox.retention:1d}") Duration retention) {
+		this.bookIndexOutboxRepository = bookIndexOutboxRepository;
+		this.bookRepository = bookRepository;
+		this.bookRedisRepository = bookRedisRepository;
+		this.batchSize = batchSize;
+		this.retryDelay = retryDelay;
+		this.maxRetryDelay = maxRetryDelay;
+		this.retention = retention;
+		this.publishedCounter = Counter.builder("bookstore.book.index.outbox.published")
+			.description("검색 색인으로 보낸 outbox 변경 수")
+			.register(meterRegistry);
+		this.failedCounter = Counter.builder("bookstore.book.index.outbox.failed")
+			.description("검색 색인으로 보내지 못한 outbox 변경 수")
+			.register(meterRegistry);
+		Gauge.builder("bookstore.book.index.outbox.pending", bookIndexOutboxRepository,
+				BookIndexOutboxRepository::countByPublishedAtIsNull)
+			.description("아직 검색 색인으로 보내지 않은 outbox 변경 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Transactional
+	public void append(long bookId, BookIndexOperation operation) {
+		bookIndexOutboxRepository.save(new BookIndexOutbox(bookId, operation));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 작업 종류와 상관없이 보낼 때의 도서 상태를 보냅니다. 도서가 남아 있으면 색인하고, 없으면 지웁니다.
+	 */
+	@Override
+	@Transactional
+	@Scheduled(fixedDelayString = "${book.index.outbox.relay-delay:1000}")
+	public int relay() {
+		ZonedDateTime now = ZonedDateTime.now();
+		List<BookIndexOutbox> pending = bookIndexOutboxRepository
+			.findByPublishedAtIsNullAndNextAttemptAtLessThanEqualOrderByIdAsc(now, Limit.of(batchSize));
+		if (pending.isEmpty()) {
+			return 0;
+		}
+
+		Map<Long, List<BookIndexOutbox>> rowsByBookId = new LinkedHashMap<>();
+		for (BookIndexOutbox row : pending) {
+			rowsByBookId.computeIfAbsent(row.getBookId(), id -> new ArrayList<>()).add(row);
+		}
+
+		Map<Long, BookDocument> documents = new LinkedHashMap<>();
+		try {
+			for (BookDocument document : bookRepository.readBookDocuments(rowsByBookId.keySet())) {
+				documents.put(document.getId(), document);
+			}
+		} catch (RuntimeException e) {
+			log.warn("검색 문서 조회 실패, 다음 주기에 다시 보냅니다. : {} 건", pending.size(), e);
+			pending.forEach(row -> fail(row, e, now));
+			return 0;
+		}
+
+		int published = 0;
+		for (Map.Entry<Long, List<BookIndexOutbox>> entry : rowsByBookId.entrySet()) {
+			List<BookIndexOutbox> rows = entry.getValue();
+			try {
+				BookDocument document = documents.get(entry.getKey());
+				if (document == null) {
+					bookRedisRepository.deleteBook(entry.getKey());
+				} else {
+					bookRedisRepository.updateBook(document);
+				}
+				rows.forEach(row -> row.published(now));
+				publishedCounter.increment(rows.size());
+				published += rows.size();
+			} catch (RuntimeException e) {
+				log.warn("검색 색인 변경 전송 실패, 다시 보냅니다. : bookId {}", entry.getKey(), e);
+				rows.forEach(row -> fail(row, e, now));
+			}
+		}
+		return published;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Transactional
+	@Scheduled(fixedDelayString = "${book.index.outbox.purge-delay:3600000}")
+	public void purge() {
+		int deleted = bookIndexOutboxRepository.deletePublishedBefore(ZonedDateTime.now().minus(retention));
+		if (deleted > 0) {
+			log.info("보낸 outbox 변경 삭제 : {} 건", deleted);
+		}
+	}
+
+	/**
+	 * 실패를 기록하고, 실패한 횟수만큼 두 배씩 늘어난 뒤(최대 maxRetryDelay)에 다시 보냅니다.
+	 */
+	private void fail(BookIndexOutbox row, RuntimeException e, ZonedDateTime now) {
+		int shift = Math.min(row.getAttempts(), 20);
+		Duration delay = retryDelay.multipliedBy(1L << shift);
+		if (delay.compareTo(maxRetryDelay) > 0) {
+			delay = maxRetryDelay;
+		}
+		row.failed(e.toString(), now.plus(delay));
+		failedCounter.increment();
+	}
+}
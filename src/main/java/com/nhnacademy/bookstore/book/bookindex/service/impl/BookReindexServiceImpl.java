@@ -0,0 +1,306 @@
+package com.nhnacademy.bookstore.book.bookindex.service.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.elasticsearch.NoSuchIndexException;
+import org.springframework.data.elasticsearch.ResourceNotFoundException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.DeleteQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.StringQuery;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+
+import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.book.bookindex.dto.response.BookReindexStatusResponse;
+import com.nhnacademy.bookstore.book.bookindex.enums.BookReindexState;
+import com.nhnacademy.bookstore.book.bookindex.exception.BookReindexRunningException;
+import com.nhnacademy.bookstore.book.bookindex.repository.BookIndexOutboxRepository;
+import com.nhnacademy.bookstore.book.bookindex.service.BookReindexService;
+import com.nhnacademy.bookstore.entity.bookindexoutbox.BookIndexOutbox;
+import com.nhnacademy.bookstore.global.elastic.book.bulk.BookBulkSerializer;
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 도서 검색 재색인 서비스 구현체입니다.
+ * <ol>
+ *     <li>3runner_book_v{시각} 색인을 book-document-settings.json 설정과 BookDocument 매핑으로 만듭니다.</li>
+ *     <li>도서 아이디 순서로 chunk-size 개씩 읽어 bulk 로 넣습니다. 한 번에 한 묶음만 들고 있어 도서 수와 상관없이 메모리가 일정합니다.</li>
+ *     <li>시작한 뒤로 outbox 에 기록된 도서를 다시 읽어 넣습니다. (catch up)</li>
+ *     <li>별칭에서 이전 색인을 빼고 새 색인을 넣는 작업을 요청 하나로 보내 검색이 끊기지 않게 옮깁니다.</li>
+ *     <li>옮기기 직전까지 이전 색인으로 간 변경을 한 번 더 catch up 합니다.</li>
+ * </ol>
+ * 아직 커밋되지 않은 변경을 놓치지 않도록 catch up 은 catch-up-margin 만큼 앞에서부터 읽습니다. (같은 도서를 두 번 넣어도 결과는 같습니다.)
+ * 이전 색인은 되돌릴 수 있도록 지우지 않습니다.
+ *
+ * @author 한민기
+ */
+@Slf4j
+@Service
+public class BookReindexServiceImpl implements BookReindexService {
+	private static final String INDEX_PREFIX = "3runner_book_v";
+	private static final DateTimeFormatter INDEX_VERSION = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+	private final ElasticsearchOperations elasticsearchOperations;
+	private final BookRepository bookRepository;
+	private final BookIndexOutboxRepository bookIndexOutboxRepository;
+	private final BookBulkSerializer bookBulkSerializer;
+	private final Resource settings;
+	private final int chunkSize;
+	private final Duration catchUpMargin;
+	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+	private final AtomicReference<Progress> current = new AtomicReference<>();
+
+	public BookReindexServiceImpl(ElasticsearchOperations elasticsearchOperations, BookRepository bookRepository,
+		BookIndexOutboxRepository bookIndexOutboxRepository, BookBulkSerializer bookBulkSerializer,
+		@Value("classpath:elastic/book-document-settings.json") Resource settings,
+		@Value("${book.index.reindex.chunk-size:500}") int chunkSize,
+		@Value("${book.index.reindex.catch-up-margin:1m}") Duration catchUpMargin) {
+		this.elasticsearchOperations = elasticsearchOperations;
+		this.bookRepository = bookRepository;
+		this.bookIndexOutboxRepository = bookIndexOutboxRepository;
+		this.bookBulkSerializer = bookBulkSerializer;
+		this.settings = settings;
+		this.chunkSize = chunkSize;
+		this.catchUpMargin = catchUpMargin;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public BookReindexStatusResponse startReindex() {
+		Progress previous = current.get();
+		if (Objects.nonNull(previous) && previous.state.isRunning()) {
+			throw new BookReindexRunningException(previous.index);
+		}
+		ZonedDateTime now = ZonedDateTime.now();
+		Progress progress = new Progress(INDEX_PREFIX + INDEX_VERSION.format(now), bookRepository.count(), now);
+		if (!current.compareAndSet(previous, progress)) {
+			throw new BookReindexRunningException(current.get().index);
+		}
+		executor.execute(() -> run(progress));
+		return progress.toResponse();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public BookReindexStatusResponse readStatus() {
+		Progress progress = current.get();
+		return Objects.isNull(progress) ? null : progress.toResponse();
+	}
+
+	/**
+	 * 재색인을 끝까지 진행합니다. 실패하면 별칭은 그대로 두고 FAILED 로 남깁니다.
+	 *
+	 * @param progress 진행 상황
+	 */
+	void run(Progress progress) {
+		IndexCoordinates target = IndexCoordinates.of(progress.index);
+		try {
+			log.info("도서 재색인 시작 : {}, {} 권", progress.index, progress.total);
+			createIndex(target);
+
+			long afterId = 0;
+			List<Long> bookIds;
+			while (!(bookIds = bookRepository.readBookIdsAfter(afterId, chunkSize)).isEmpty()) {
+				index(target, bookIds);
+				progress.indexed.addAndGet(bookIds.size());
+				afterId = bookIds.getLast();
+			}
+
+			progress.state = BookReindexState.CATCHING_UP;
+			ZonedDateTime swapFrom = ZonedDateTime.now().minus(catchUpMargin);
+			catchUp(target, progress.startedAt.minus(catchUpMargin), progress);
+
+			List<String> previousIndices = swapAlias(target);
+			progress.previousIndices = previousIndices;
+			progress.state = BookReindexState.SWAPPED;
+			catchUp(target, swapFrom, progress);
+
+			progress.finish(BookReindexState.COMPLETED, null);
+			log.info("도서 재색인 완료 : {} (이전 색인 {})", progress.index, previousIndices);
+		} catch (RuntimeException e) {
+			log.error("도서 재색인 실패 : {}", progress.index, e);
+			progress.finish(BookReindexState.FAILED, e.getMessage());
+		}
+	}
+
+	private void createIndex(IndexCoordinates target) {
+		IndexOperations indexOperations = elasticsearchOperations.indexOps(target);
+		indexOperations.create(Document.parse(readSettings()), indexOperations.createMapping(BookDocument.class));
+	}
+
+	private String readSettings() {
+		try {
+			return StreamUtils.copyToString(settings.getInputStream(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * since 이후에 outbox 에 기록된 도서를 다시 넣습니다. 없어진 도서는 새 색인에서 지웁니다.
+	 */
+	private void catchUp(IndexCoordinates target, ZonedDateTime since, Progress progress) {
+		long afterId = 0;
+		List<BookIndexOutbox> rows;
+		while (!(rows = bookIndexOutboxRepository.findByCreatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+			since, afterId, Limit.of(chunkSize))).isEmpty()) {
+			Set<Long> bookIds = new LinkedHashSet<>();
+			rows.forEach(row -> bookIds.add(row.getBookId()));
+			index(target, new ArrayList<>(bookIds));
+			progress.caughtUp.addAndGet(bookIds.size());
+			afterId = rows.getLast().getId();
+		}
+	}
+
+	/**
+	 * 도서를 다시 읽어 bulk 로 넣습니다.
+	 */
+	private void index(IndexCoordinates target, List<Long> bookIds) {
+		List<BookDocument> documents = bookRepository.readBookDocuments(bookIds);
+		if (!documents.isEmpty()) {
+			List<IndexQuery> queries = documents.stream()
+				.map(document -> new IndexQueryBuilder()
+					.withId(String.valueOf(document.getId()))
+					.withSource(bookBulkSerializer.document(document))
+					.build())
+				.toList();
+			elasticsearchOperations.bulkIndex(queries, target);
+		}
+
+		Set<Long> deleted = new HashSet<>(bookIds);
+		documents.forEach(document -> deleted.remove(document.getId()));
+		if (!deleted.isEmpty()) {
+			String values = deleted.stream().map(id -> "\"" + id + "\"").collect(Collectors.joining(","));
+			elasticsearchOperations.delete(
+				DeleteQuery.builder(new StringQuery("{\"ids\":{\"values\":[" + values + "]}}")).build(),
+				BookDocument.class, target);
+		}
+	}
+
+	/**
+	 * 별칭을 새 색인으로 옮깁니다. 더하고 빼는 작업을 요청 하나로 보내서 별칭이 비는 순간이 없습니다.
+	 *
+	 * @return 이전에 별칭이 가리키던 색인
+	 */
+	private List<String> swapAlias(IndexCoordinates target) {
+		String alias = BookBulkSerializer.INDEX_NAME;
+		IndexOperations indexOperations = elasticsearchOperations.indexOps(target);
+		List<String> previousIndices = readAliasIndices(indexOperations, alias);
+
+		AliasActions actions = new AliasActions(new AliasAction.Add(AliasActionParameters.builder()
+			.withIndices(target.getIndexName())
+			.withAliases(alias)
+			.build()));
+		if (!previousIndices.isEmpty()) {
+			actions.add(new AliasAction.Remove(AliasActionParameters.builder()
+				.withIndices(previousIndices.toArray(String[]::new))
+				.withAliases(alias)
+				.build()));
+		}
+		indexOperations.alias(actions);
+		return previousIndices;
+	}
+
+	/**
+	 * 별칭이 가리키는 색인을 읽습니다. 별칭이 아직 없을 때만 빈 목록을 돌려주고, 그 밖의 실패는 그대로 던져 재색인을 멈춥니다.
+	 */
+	private List<String> readAliasIndices(IndexOperations indexOperations, String alias) {
+		if (!elasticsearchOperations.indexOps(IndexCoordinates.of(alias)).exists()) {
+			log.info("도서 검색 별칭이 없어 새로 만듭니다. : {}", alias);
+			return List.of();
+		}
+		try {
+			return indexOperations.getAliases(alias).keySet().stream()
+				.filter(index -> !index.equals(indexOperations.getIndexCoordinates().getIndexName()))
+				.toList();
+		} catch (ResourceNotFoundException | NoSuchIndexException e) {
+			// 확인한 뒤에 별칭이 지워졌다.
+			log.warn("도서 검색 별칭이 없어 새로 만듭니다. : {}", alias, e);
+			return List.of();
+		}
+	}
+
+	/**
+	 * 종료할 때 진행 중인 재색인을 멈춥니다. 별칭을 옮기기 전이라면 이전 색인이 그대로 쓰입니다.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * 진행 중인 재색인 상태. 재색인 스레드가 쓰고 조회 요청이 읽습니다.
+	 */
+	static final class Progress {
+		private final String index;
+		private final long total;
+		private final ZonedDateTime startedAt;
+		private final AtomicLong indexed = new AtomicLong();
+		private final AtomicLong caughtUp = new AtomicLong();
+		private volatile BookReindexState state = BookReindexState.BUILDING;
+		private volatile List<String> previousIndices = List.of();
+		private volatile ZonedDateTime finishedAt;
+		private volatile String error;
+
+		Progress(String index, long total, ZonedDateTime startedAt) {
+			this.index = index;
+			this.total = total;
+			this.startedAt = startedAt;
+		}
+
+		private void finish(BookReindexState state, String error) {
+			this.error = error;
+			this.finishedAt = ZonedDateTime.now();
+			this.state = state;
+		}
+
+		BookReindexStatusResponse toResponse() {
+			return BookReindexStatusResponse.builder()
+				.index(index)
+				.state(state)
+				.total(total)
+				.indexed(indexed.get())
+				.caughtUp(caughtUp.get())
+				.previousIndices(previousIndices)
+				.startedAt(startedAt)
+				.finishedAt(finishedAt)
+				.error(error)
+				.build();
+		}
+	}
+}
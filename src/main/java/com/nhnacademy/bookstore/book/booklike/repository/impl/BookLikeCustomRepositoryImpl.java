@@ -2,6 +2,7 @@ package com.nhnacademy.bookstore.book.booklike.repository.impl;
 
 import com.nhnacademy.bookstore.book.book.dto.response.BookListResponse;
 import com.nhnacademy.bookstore.book.booklike.repository.BookLikeCustomRepository;
+import com.nhnacademy.bookstore.book.image.enums.ImageVariant;
 import com.nhnacademy.bookstore.entity.book.QBook;
 import com.nhnacademy.bookstore.entity.bookimage.QBookImage;
 import com.nhnacademy.bookstore.entity.bookimage.enums.BookImageType;
@@ -50,7 +51,7 @@ public class BookLikeCustomRepositoryImpl implements BookLikeCustomRepository {
                                 qBook.price,
                                 qBook.sellingPrice,
                                 qBook.author,
-                                qTotalImage.url))
+                                ImageVariant.THUMBNAIL.fileName(qTotalImage.url)))
                 .from(qBookLike)
                 .join(qBookLike.book, qBook)
                 .leftJoin(qBookImage)
@@ -45,4 +45,9 @@ public interface BookLikeService {
      * @return 좋아요 갯수
      */
     Long countLikeByBookId(Long bookId);
+
+    /**
+     * 도서의 좋아요 수를 book_like 기준으로 다시 맞추는 메서드입니다.
+     */
+    void reconcileLikeCount();
 }
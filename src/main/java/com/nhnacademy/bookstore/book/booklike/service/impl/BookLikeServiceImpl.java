@@ -6,6 +6,8 @@ import com.nhnacademy.bookstore.book.book.repository.BookRepository;
 import com.nhnacademy.bookstore.book.booklike.exception.BookLikeNotExistsException;
 import com.nhnacademy.bookstore.book.booklike.repository.BookLikeRepository;
 import com.nhnacademy.bookstore.book.booklike.service.BookLikeService;
+import com.nhnacademy.bookstore.book.ranking.enums.RankingType;
+import com.nhnacademy.bookstore.book.ranking.service.BookRankingService;
 import com.nhnacademy.bookstore.entity.book.Book;
 import com.nhnacademy.bookstore.entity.booklike.BookLike;
 import com.nhnacademy.bookstore.entity.member.Member;
@@ -15,9 +17,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
@@ -29,6 +33,7 @@ public class BookLikeServiceImpl implements BookLikeService {
     private final BookLikeRepository bookLikeRepository;
     private final MemberRepository memberRepository;
     private final BookRepository bookRepository;
+    private final BookRankingService bookRankingService;
 
     @Override
     public boolean isBookLikedByMember(Long bookId, Long memberId) {
@@ -56,13 +61,15 @@ public class BookLikeServiceImpl implements BookLikeService {
 
         boolean alreadyLiked = bookLikeRepository.existsByMemberAndBook(member, book);
         if (alreadyLiked) {
-            bookLikeRepository.deleteByBookIdAndMemberId(bookId, memberId);
+            unlike(bookId, memberId);
         } else {
             BookLike bookLike = new BookLike();
             bookLike.setMember(member);
             bookLike.setBook(book);
 
             bookLikeRepository.save(bookLike);
+            bookRepository.updateLikeCount(bookId, 1);
+            bookRankingService.increaseScore(RankingType.LIKE, Map.of(bookId, 1L));
         }
     }
 
@@ -71,7 +78,7 @@ public class BookLikeServiceImpl implements BookLikeService {
         if (!bookRepository.existsById(bookId)) {
             throw new BookDoesNotExistException("존재하지 않는 책입니다.");
         }
-        bookLikeRepository.deleteByBookIdAndMemberId(bookId, memberId);
+        unlike(bookId, memberId);
     }
 
     @Override
@@ -84,4 +91,28 @@ public class BookLikeServiceImpl implements BookLikeService {
         return bookLikeRepository.countLikeByBookId(bookId);
     }
 
+    /**
+     * 좋아요/취소 중 어긋난 좋아요 수를 매일 새벽에 다시 맞춥니다.
+     */
+    @Override
+    @Scheduled(cron = "${book.like.reconcile-cron:0 30 4 * * ?}")
+    public void reconcileLikeCount() {
+        int updated = bookRepository.reconcileLikeCount();
+        log.info("좋아요 수 보정 완료 : {} 건", updated);
+    }
+
+    /**
+     * 좋아요를 지우고, 실제로 지워진 만큼만 좋아요 수를 줄입니다.
+     *
+     * @param bookId   도서 아이디
+     * @param memberId 회원 아이디
+     */
+    private void unlike(Long bookId, Long memberId) {
+        long deleted = bookLikeRepository.deleteByBookIdAndMemberId(bookId, memberId);
+        if (deleted > 0) {
+            bookRepository.updateLikeCount(bookId, (int) -deleted);
+            bookRankingService.increaseScore(RankingType.LIKE, Map.of(bookId, -deleted));
+        }
+    }
+
 }
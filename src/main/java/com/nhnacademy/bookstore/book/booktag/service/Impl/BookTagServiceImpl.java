@@ -11,6 +11,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.nhnacademy.bookstore.book.book.exception.BookDoesNotExistException;
 import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.book.book.service.BookDetailCacheService;
 import com.nhnacademy.bookstore.book.booktag.dto.request.CreateBookTagListRequest;
 import com.nhnacademy.bookstore.book.booktag.dto.request.CreateBookTagRequest;
 import com.nhnacademy.bookstore.book.booktag.dto.request.ReadBookIdRequest;
@@ -45,6 +46,7 @@ public class BookTagServiceImpl implements BookTagService {
 	private final BookTagRepository bookTagRepository;
 	private final BookRepository bookRepository;
 	private final TagRepository tagRepository;
+	private final BookDetailCacheService bookDetailCacheService;
 
 	/**
 	 * 태그가 달린 책들을 불러오기위한 메소드
@@ -96,7 +98,9 @@ public class BookTagServiceImpl implements BookTagService {
 		}
 		BookTag bookTag = new BookTag(bookRepository.findById(bookTagRequest.bookId()).orElse(null),
 			tagRepository.findById(bookTagRequest.tagId()).orElse(null));
-		return bookTagRepository.save(bookTag).getId();
+		Long bookTagId = bookTagRepository.save(bookTag).getId();
+		bookDetailCacheService.evict(bookTagRequest.bookId());
+		return bookTagId;
 
 	}
 
@@ -124,6 +128,7 @@ public class BookTagServiceImpl implements BookTagService {
 
 			bookTagRepository.save(bookTag);
 		}
+		bookDetailCacheService.evict(createBookTagRequestList.bookId());
 	}
 
 	/**
@@ -148,6 +153,7 @@ public class BookTagServiceImpl implements BookTagService {
 		}
 
 		bookRepository.save(book);
+		bookDetailCacheService.evict(book.getId());
 	}
 
 }
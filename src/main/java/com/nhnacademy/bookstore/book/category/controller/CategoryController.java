@@ -5,8 +5,11 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -24,7 +27,6 @@ import com.nhnacademy.bookstore.book.book.service.BookService;
 import com.nhnacademy.bookstore.book.category.dto.request.CreateCategoryRequest;
 import com.nhnacademy.bookstore.book.category.dto.request.UpdateCategoryRequest;
 import com.nhnacademy.bookstore.book.category.dto.response.CategoryForCouponResponse;
-import com.nhnacademy.bookstore.book.category.dto.response.CategoryParentWithChildrenResponse;
 import com.nhnacademy.bookstore.book.category.dto.response.CategoryResponse;
 import com.nhnacademy.bookstore.book.category.exception.CreateCategoryRequestException;
 import com.nhnacademy.bookstore.book.category.exception.UpdateCategoryRequestException;
@@ -102,12 +104,14 @@ public class CategoryController {
 	/**
 	 * 모든 카테고리 조회
 	 *
-	 * @return 모든 카테고리 list
+	 * @return 모든 카테고리 list 를 담은 api 응답 JSON
 	 */
 	@GetMapping
-	public ApiResponse<List<CategoryParentWithChildrenResponse>> readAllCategories() {
-		log.info("Read all categories");
-		return ApiResponse.success(categoryService.getCategories());
+	public ResponseEntity<byte[]> readAllCategories() {
+		// 카테고리 트리를 만들 때 한 번 직렬화해둔 응답을 그대로 내려준다.
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_JSON)
+			.body(categoryService.getCategoriesJson());
 	}
 
 	/**
@@ -149,15 +153,17 @@ public class CategoryController {
 	 * @param size    사이즈
 	 * @param sort    정렬 기준
 	 * @param categoryId    카테고리 id
+	 * @param total   전체 개수 포함 여부 (false 면 전체 개수 없이 다음 페이지 존재 여부만 내려줍니다.)
 	 * @return 카테고리 도서 리스트
 	 * @author 한민기
 	 */
 	@GetMapping("/books")
-	public ApiResponse<Page<BookListResponse>> readCategoryAllBooks(
+	public ApiResponse<Slice<BookListResponse>> readCategoryAllBooks(
 		@RequestParam(defaultValue = "0") int page,
 		@RequestParam(defaultValue = "12") int size,
 		@RequestParam(defaultValue = "publishedDate,desc") String sort,
-		@RequestParam Long categoryId) {
+		@RequestParam Long categoryId,
+		@RequestParam(defaultValue = "true") boolean total) {
 
 		String[] sortParams = sort.split(",");
 		String property = sortParams[0];
@@ -167,6 +173,9 @@ public class CategoryController {
 		Sort sortOrder = Sort.by(new Sort.Order(directionEnum, property));
 		Pageable pageable = PageRequest.of(page, size, sortOrder);
 
+		if (!total) {
+			return ApiResponse.success(bookService.readCategoryAllBookSlice(pageable, categoryId));
+		}
 		Page<BookListResponse> bookList = bookService.readCategoryAllBooks(pageable, categoryId);
 		return ApiResponse.success(bookList);
 
@@ -1,6 +1,10 @@
 package com.nhnacademy.bookstore.book.category.repository.impl;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import org.springframework.stereotype.Repository;
 
@@ -8,6 +12,7 @@ import com.nhnacademy.bookstore.book.category.dto.response.CategoryParentWithChi
 import com.nhnacademy.bookstore.book.category.dto.response.CategoryResponse;
 import com.nhnacademy.bookstore.book.category.repository.CategoryCustomRepository;
 import com.nhnacademy.bookstore.entity.category.QCategory;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
@@ -74,56 +79,64 @@ public class CategoryCustomRepositoryImpl implements CategoryCustomRepository {
 
 	/**
 	 * 상위 카테고리와 해당 하위 카테고리 목록 조회
+	 * 카테고리 전체를 한 번에 읽어서 메모리에서 트리를 만듭니다.
 	 *
 	 * @return 상위(하위) 카테고리 list
 	 */
 	@Override
 	public List<CategoryParentWithChildrenResponse> findParentWithChildrenCategories() {
-		QCategory parent = QCategory.category;
-
-		// 최상위 부모 카테고리 조회
-		List<CategoryParentWithChildrenResponse> parentList = jpaQueryFactory
-			.select(Projections.constructor(CategoryParentWithChildrenResponse.class,
-				parent.id,
-				parent.name))
-			.from(parent)
-			.where(parent.parent.isNull())
-			.orderBy(parent.name.asc())
-			.fetch();
-
-		// 재귀적으로 자식 카테고리 조회
-		parentList.forEach(p -> {
-			List<CategoryParentWithChildrenResponse> childrenList = findChildrenCategoriesByParentId(p.getId());
-			p.setChildrenList(childrenList);
-		});
-
-		return parentList;
+		return buildTree(null);
 	}
 
 	/**
 	 * 상위 카테고리 아이디로 하위 카테고리 조회
+	 * 카테고리 수가 많지 않으므로 노드마다 조회하지 않고 전체를 한 번에 읽어서 해당 부분만 돌려줍니다.
 	 *
 	 * @param id 상위 카테고리 아이디
 	 * @return 하위 카테고리 list
 	 */
+	@Override
 	public List<CategoryParentWithChildrenResponse> findChildrenCategoriesByParentId(Long id) {
-		QCategory child = new QCategory("child");
-
-		List<CategoryParentWithChildrenResponse> childList = jpaQueryFactory
-			.select(Projections.constructor(CategoryParentWithChildrenResponse.class,
-				child.id,
-				child.name))
-			.from(child)
-			.where(child.parent.id.eq(id))
-			.orderBy(child.name.asc())
-			.fetch();
+		return buildTree(id);
+	}
 
-		childList.forEach(c -> {
-			List<CategoryParentWithChildrenResponse> grandChildList = findChildrenCategoriesByParentId(c.getId());
-			c.setChildrenList(grandChildList);
-		});
+	/**
+	 * 전체 카테고리를 이름 순서로 읽어서 트리를 만듭니다. 이름 순서로 읽었으므로 각 자식 목록도 이름 순서입니다.
+	 *
+	 * @param parentId 자식 목록을 돌려줄 상위 카테고리 아이디 (null 이면 최상위 카테고리 목록)
+	 * @return 카테고리 list
+	 */
+	private List<CategoryParentWithChildrenResponse> buildTree(Long parentId) {
+		QCategory parent = new QCategory("parent");
 
-		return childList;
-	}
+		List<Tuple> rows = jpaQueryFactory
+			.select(qCategory.id, qCategory.name, parent.id)
+			.from(qCategory)
+			.leftJoin(qCategory.parent, parent)
+			.orderBy(qCategory.name.asc(), qCategory.id.asc())
+			.fetch();
 
+		Map<Long, CategoryParentWithChildrenResponse> nodes = new HashMap<>();
+		for (Tuple row : rows) {
+			Long id = row.get(qCategory.id);
+			nodes.put(id, new CategoryParentWithChildrenResponse(id, row.get(qCategory.name), new ArrayList<>()));
+		}
+
+		List<CategoryParentWithChildrenResponse> roots = new ArrayList<>();
+		for (Tuple row : rows) {
+			CategoryParentWithChildrenResponse node = nodes.get(row.get(qCategory.id));
+			Long rowParentId = row.get(parent.id);
+			if (Objects.isNull(rowParentId)) {
+				roots.add(node);
+			} else {
+				nodes.get(rowParentId).getChildrenList().add(node);
+			}
+		}
+
+		if (Objects.isNull(parentId)) {
+			return roots;
+		}
+		CategoryParentWithChildrenResponse found = nodes.get(parentId);
+		return Objects.isNull(found) ? new ArrayList<>() : found.getChildrenList();
+	}
 }
@@ -51,6 +51,13 @@ public interface CategoryService {
 	 */
 	List<CategoryParentWithChildrenResponse> getCategories();
 
+	/**
+	 * 카테고리 전체 조회 응답 JSON. 카테고리 메뉴에서 사용합니다.
+	 *
+	 * @return ApiResponse 로 감싼 카테고리 트리 JSON
+	 */
+	byte[] getCategoriesJson();
+
 	/**
 	 * 최상위 카테고리 조회
 	 *
@@ -0,0 +1,38 @@
+package com.nhnacademy.bookstore.book.category.service;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.nhnacademy.bookstore.book.category.dto.response.CategoryParentWithChildrenResponse;
+
+/**
+ * 카테고리 트리 캐시 서비스입니다.
+ * 카테고리 메뉴는 모든 화면에서 읽지만 카테고리는 거의 바뀌지 않으므로, 만든 트리와 응답 JSON 을 그대로 저장해둡니다.
+ *
+ * @author 한민기
+ */
+public interface CategoryTreeCacheService {
+
+	/**
+	 * 캐시된 카테고리 트리를 반환하고, 없으면 loader 로 만들어서 저장합니다.
+	 * 돌려주는 트리는 여러 요청이 함께 보므로 바꿀 수 없습니다.
+	 *
+	 * @param loader 캐시에 없을 때 카테고리 트리를 만드는 함수
+	 * @return 최상위 카테고리 list
+	 */
+	List<CategoryParentWithChildrenResponse> readCategories(Supplier<List<CategoryParentWithChildrenResponse>> loader);
+
+	/**
+	 * 카테고리 트리를 ApiResponse 로 감싼 JSON 을 반환합니다. 트리를 만들 때 한 번만 직렬화합니다.
+	 * 돌려주는 배열은 여러 요청이 함께 보므로 바꾸면 안 됩니다.
+	 *
+	 * @param loader 캐시에 없을 때 카테고리 트리를 만드는 함수
+	 * @return 응답 JSON
+	 */
+	byte[] readCategoriesJson(Supplier<List<CategoryParentWithChildrenResponse>> loader);
+
+	/**
+	 * 카테고리 트리 캐시를 지웁니다. 트랜잭션 안이라면 커밋 후에 한 번 더 지웁니다.
+	 */
+	void evict();
+}
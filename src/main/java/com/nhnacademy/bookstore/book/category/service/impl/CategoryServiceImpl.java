@@ -1,13 +1,13 @@
 package com.nhnacademy.bookstore.book.category.service.impl;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.nhnacademy.bookstore.book.book.service.BookDetailCacheService;
 import com.nhnacademy.bookstore.book.category.dto.request.CreateCategoryRequest;
 import com.nhnacademy.bookstore.book.category.dto.request.UpdateCategoryRequest;
 import com.nhnacademy.bookstore.book.category.dto.response.CategoryForCouponResponse;
@@ -17,6 +17,7 @@ import com.nhnacademy.bookstore.book.category.exception.CategoryNotFoundExceptio
 import com.nhnacademy.bookstore.book.category.exception.DuplicateCategoryNameException;
 import com.nhnacademy.bookstore.book.category.repository.CategoryRepository;
 import com.nhnacademy.bookstore.book.category.service.CategoryService;
+import com.nhnacademy.bookstore.book.category.service.CategoryTreeCacheService;
 import com.nhnacademy.bookstore.entity.category.Category;
 
 import lombok.RequiredArgsConstructor;
@@ -29,6 +30,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CategoryServiceImpl implements CategoryService {
 	private final CategoryRepository categoryRepository;
+	private final BookDetailCacheService bookDetailCacheService;
+	private final CategoryTreeCacheService categoryTreeCacheService;
 
 	@Override
 	public void createCategory(CreateCategoryRequest dto) {
@@ -48,6 +51,7 @@ public class CategoryServiceImpl implements CategoryService {
 		category.setParent(parent);
 
 		categoryRepository.save(category);
+		categoryTreeCacheService.evict();
 	}
 
 	@Override
@@ -68,6 +72,8 @@ public class CategoryServiceImpl implements CategoryService {
 
 		category.setName(dto.getName());
 		category.setParent(parent);
+		bookDetailCacheService.evictAll();
+		categoryTreeCacheService.evict();
 	}
 
 	@Override
@@ -76,6 +82,8 @@ public class CategoryServiceImpl implements CategoryService {
 			.orElseThrow(() -> new CategoryNotFoundException("카테고리를 찾을 수 없습니다."));
 
 		categoryRepository.delete(category);
+		bookDetailCacheService.evictAll();
+		categoryTreeCacheService.evict();
 	}
 
 	@Override
@@ -86,9 +94,19 @@ public class CategoryServiceImpl implements CategoryService {
 		return new CategoryResponse(category.getId(), category.getName());
 	}
 
+	/**
+	 * 캐시에서 읽을 때는 DB 커넥션을 잡지 않도록 트랜잭션을 시작하지 않습니다.
+	 */
+	@Override
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public List<CategoryParentWithChildrenResponse> getCategories() {
+		return categoryTreeCacheService.readCategories(categoryRepository::findParentWithChildrenCategories);
+	}
 
-		return categoryChildrenMade(categoryRepository.findAll());
+	@Override
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public byte[] getCategoriesJson() {
+		return categoryTreeCacheService.readCategoriesJson(categoryRepository::findParentWithChildrenCategories);
 	}
 
 	@Override
@@ -105,8 +123,9 @@ public class CategoryServiceImpl implements CategoryService {
 	}
 
 	@Override
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public List<CategoryParentWithChildrenResponse> getCategoriesWithChildren() {
-		return categoryRepository.findParentWithChildrenCategories();
+		return categoryTreeCacheService.readCategories(categoryRepository::findParentWithChildrenCategories);
 	}
 
 	@Override
@@ -118,36 +137,4 @@ public class CategoryServiceImpl implements CategoryService {
 		}
 		return categoryResponseList;
 	}
-
-	/**
-	 * @author 한민기
-	 *
-	 * @param categoryList 카테고리 리스트
-	 * @return 카테고리를 부모와 자녀를 묶어서 내보내기
-	 */
-	private List<CategoryParentWithChildrenResponse> categoryChildrenMade(
-		List<Category> categoryList) {
-
-		Map<Long, CategoryParentWithChildrenResponse> categoryMap = new HashMap<>();
-		List<CategoryParentWithChildrenResponse> rootList = new ArrayList<>();
-
-		for (Category category : categoryList) {
-			categoryMap.put(category.getId(), CategoryParentWithChildrenResponse.builder()
-				.id(category.getId())
-				.name(category.getName())
-				.childrenList(new ArrayList<>())
-				.build());
-		}
-
-		for (Category category : categoryList) {
-			CategoryParentWithChildrenResponse date = categoryMap.get(category.getId());
-			if (category.getParent() == null) {
-				rootList.add(date);
-			} else {
-				CategoryParentWithChildrenResponse parent = categoryMap.get(category.getParent().getId());
-				parent.getChildrenList().add(date);
-			}
-		}
-		return rootList;
-	}
 }
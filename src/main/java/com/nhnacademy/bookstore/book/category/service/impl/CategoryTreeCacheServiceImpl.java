@@ -0,0 +1,183 @@
+package com.nhnacademy.bookstore.book.category.service.impl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.bookstore.book.category.dto.response.CategoryParentWithChildrenResponse;
+import com.nhnacademy.bookstore.book.category.service.CategoryTreeCacheService;
+import com.nhnacademy.bookstore.util.ApiResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 카테고리 트리 캐시 구현체입니다.
+ * 트리와 JSON 을 바꾸지 않는 스냅샷 하나로 묶어 volatile 필드에 두므로 읽을 때는 잠그지 않습니다.
+ * 수정이 있으면 버전을 올리고 스냅샷을 버리며, 만드는 중에 버전이 바뀐 스냅샷은 저장하지 않습니다.
+ * 다른 인스턴스의 수정을 놓치지 않도록 ttl 이 지나면 다시 만듭니다.
+ *
+ * @author 한민기
+ */
+@Service
+public class CategoryTreeCacheServiceImpl implements CategoryTreeCacheService {
+	private static final String CACHE_NAME = "categoryTree";
+
+	private final ObjectMapper objectMapper;
+	private final long ttlNanos;
+
+	/**
+	 * 지우기가 일어날 때마다 올라가는 값.
+	 */
+	private final AtomicLong version = new AtomicLong();
+
+	private final Counter hitCounter;
+	private final Counter missCounter;
+
+	/**
+	 * 만들어지기 전이나 지운 뒤에는 null.
+	 */
+	private volatile CategoryTree tree;
+
+	public CategoryTreeCacheServiceImpl(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+		@Value("${category.tree-cache.ttl:10m}") Duration ttl) {
+		this.objectMapper = objectMapper;
+		this.ttlNanos = ttl.toNanos();
+		this.hitCounter = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit")
+			.register(meterRegistry);
+		this.missCounter = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss")
+			.register(meterRegistry);
+		Gauge.builder("cache.version", version, AtomicLong::get).tag("cache", CACHE_NAME)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<CategoryParentWithChildrenResponse> readCategories(
+		Supplier<List<CategoryParentWithChildrenResponse>> loader) {
+		return read(loader).categories();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public byte[] readCategoriesJson(Supplier<List<CategoryParentWithChildrenResponse>> loader) {
+		return read(loader).json();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void evict() {
+		clear();
+		afterCommit(this::clear);
+	}
+
+	private CategoryTree read(Supplier<List<CategoryParentWithChildrenResponse>> loader) {
+		CategoryTree current = tree;
+		if (isFresh(current)) {
+			hitCounter.increment();
+			return current;
+		}
+		return load(loader);
+	}
+
+	/**
+	 * 트리를 새로 만듭니다. 캐시가 비었을 때 몰린 요청이 모두 DB 를 읽지 않도록 한 번에 하나만 만듭니다.
+	 *
+	 * @param loader 카테고리 트리를 만드는 함수
+	 * @return 새로 만든 스냅샷 (그 사이 다른 요청이 만들었다면 그 스냅샷)
+	 */
+	private synchronized CategoryTree load(Supplier<List<CategoryParentWithChildrenResponse>> loader) {
+		CategoryTree current = tree;
+		if (isFresh(current)) {
+			hitCounter.increment();
+			return current;
+		}
+		missCounter.increment();
+
+		long loadVersion = version.get();
+		List<CategoryParentWithChildrenResponse> categories = freeze(loader.get());
+		CategoryTree loaded = new CategoryTree(loadVersion, categories, render(categories),
+			System.nanoTime() + ttlNanos);
+		if (loadVersion == version.get()) {
+			tree = loaded;
+		}
+		return loaded;
+	}
+
+	private boolean isFresh(CategoryTree current) {
+		return Objects.nonNull(current) && current.version() == version.get()
+			&& current.expiresAt() - System.nanoTime() > 0;
+	}
+
+	private void clear() {
+		version.incrementAndGet();
+		tree = null;
+	}
+
+	private byte[] render(List<CategoryParentWithChildrenResponse> categories) {
+		try {
+			return objectMapper.writeValueAsBytes(ApiResponse.success(categories));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("카테고리 트리 직렬화 실패", e);
+		}
+	}
+
+	/**
+	 * 바꿀 수 없는 목록으로 트리를 복사합니다. 응답 객체는 setter 가 있으므로 loader 가 준 객체는 그대로 쓰지 않습니다.
+	 *
+	 * @param categories 카테고리 list
+	 * @return 복사한 카테고리 list
+	 */
+	private static List<CategoryParentWithChildrenResponse> freeze(List<CategoryParentWithChildrenResponse> categories) {
+		if (Objects.isNull(categories)) {
+			return List.of();
+		}
+		return categories.stream()
+			.map(category -> CategoryParentWithChildrenResponse.builder()
+				.id(category.getId())
+				.name(category.getName())
+				.childrenList(freeze(category.getChildrenList()))
+				.build())
+			.toList();
+	}
+
+	/**
+	 * 트랜잭션 안이라면 커밋된 뒤에도 실행합니다. 커밋 전에 다른 요청이 이전 트리를 다시 채워넣는 경우를 막습니다.
+	 *
+	 * @param task 실행할 작업
+	 */
+	private void afterCommit(Runnable task) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+
+	/**
+	 * 한 버전의 카테고리 트리와 그 응답 JSON.
+	 */
+	private record CategoryTree(long version, List<CategoryParentWithChildrenResponse> categories, byte[] json,
+		long expiresAt) {
+	}
+}
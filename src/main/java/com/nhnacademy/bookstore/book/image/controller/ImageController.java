@@ -1,32 +1,68 @@
 package com.nhnacademy.bookstore.book.image.controller;
 
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.nhnacademy.bookstore.book.image.dto.CachedImage;
+import com.nhnacademy.bookstore.book.image.enums.ImageVariant;
 import com.nhnacademy.bookstore.book.image.exception.NotFindImageException;
+import com.nhnacademy.bookstore.book.image.imageService.ImageDiskCacheService;
 import com.nhnacademy.bookstore.book.image.imageService.ImageService;
+import com.nhnacademy.bookstore.book.image.imageService.ImageVariantService;
 import com.nhnacademy.bookstore.util.ApiResponse;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import java.util.List;
 import java.util.Objects;
-import java.util.UUID;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * @author 한민기
  *
  */
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/bookstore/images")
 public class ImageController {
 
     private final ImageService imageService;
+    private final ImageDiskCacheService imageDiskCacheService;
+    private final ImageVariantService imageVariantService;
+
+    /**
+     * 저장된 이미지는 파일 이름이 매번 새로 만들어져 내용이 바뀌지 않으므로 길게 캐시합니다.
+     */
+    @Value("${image.cache.max-age:7d}")
+    private Duration cacheMaxAge;
 
     /**
      * front (toast ui)-> this -> nhn cloud (object storage)
@@ -44,26 +80,231 @@ public class ImageController {
     /**
      * front (fileName) -> this -> nhn cloud (object storage) -> this -> front (image)
      * front 에서 요청한 이미지를 서버에서 받아서 보내기
+     * 디스크 캐시에 있으면 object storage 를 거치지 않고 파일에서 바로 응답으로 보냅니다.
+     * 캐시에 없으면 받아서 캐시에 저장하고, 캐시할 수 없는 크기면 object storage 에서 받는 대로 흘려 보냅니다.
+     * 작은 크기 이미지(ImageVariant)가 아직 없으면 원본으로 응답하고, 그 때 작은 크기 이미지를 만들어 둡니다.
+     * 만들어질 때까지는 object storage 에 다시 물어보지 않고 원본을 디스크 캐시에서 바로 보냅니다.
+     * ETag/Last-Modified 가 같으면 304 로, Range 요청이면 요청한 범위만 206 으로 응답합니다.
      * @param fileName 보여줄 파일의 이름
      * @param type 파일을 보여줄 위치 -> ex) book, review
-     * @return 서버에서 가져온 파일
+     * @param webRequest 조건부 요청 확인용 요청
+     * @param response 이미지를 쓸 응답
      */
     @GetMapping("/{type}/download")
-    public ResponseEntity<byte[]> downloadFile(@RequestParam("fileName") String fileName, @PathVariable String type)  {
-        byte[] content;
+    public void downloadFile(@RequestParam("fileName") String fileName, @PathVariable String type,
+                             ServletWebRequest webRequest, HttpServletResponse response) {
+        String key = type + "/" + fileName;
+        Optional<CachedImage> cached = imageDiskCacheService.read(key);
+        String sourceKey = key;
+        ObjectMetadata metadata = null;
+        if (cached.isPresent()) {
+            metadata = toMetadata(cached.get());
+        } else {
+            Optional<String> originalFileName = ImageVariant.originalFileName(fileName);
+            if (originalFileName.isPresent() && imageVariantService.isMissing(type, fileName)) {
+                sourceKey = type + "/" + originalFileName.get();
+            } else {
+                try {
+                    metadata = imageService.readImageMetadata(key);
+                } catch (NotFindImageException e) {
+                    // 작은 크기 이미지가 아직 만들어지지 않았으면 원본으로 응답하고, 지금 만들어 둔다.
+                    sourceKey = type + "/" + originalFileName.orElseThrow(() -> e);
+                    imageVariantService.backfill(type, fileName);
+                }
+            }
+            if (!sourceKey.equals(key)) {
+                cached = imageDiskCacheService.read(sourceKey);
+                metadata = cached.isPresent() ? toMetadata(cached.get()) : imageService.readImageMetadata(sourceKey);
+            }
+        }
+        String objectKey = sourceKey;
+        String eTag = "\"" + metadata.getETag() + "\"";
+        long lastModified = Objects.isNull(metadata.getLastModified()) ? -1 : metadata.getLastModified().getTime();
+        long length = metadata.getContentLength();
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.maxAge(cacheMaxAge).cachePublic().getHeaderValue());
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName).build().toString());
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+
+        HttpRange range = requestedRange(webRequest, eTag, lastModified);
+        long start = 0;
+        long end = length - 1;
+        Supplier<S3Object> reader = () -> imageService.readImage(objectKey);
+        if (Objects.isNull(range)) {
+            response.setContentLengthLong(length);
+        } else {
+            start = range.getRangeStart(length);
+            end = range.getRangeEnd(length);
+            if (start >= length || start > end) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+
+            long rangeStart = start;
+            long rangeEnd = end;
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            response.setContentLengthLong(end - start + 1);
+            reader = () -> imageService.readImage(objectKey, rangeStart, rangeEnd);
+        }
+
+        if (HttpMethod.HEAD.matches(webRequest.getRequest().getMethod())) {
+            return;
+        }
+        if (cached.isEmpty()) {
+            cached = imageDiskCacheService.store(objectKey, metadata, () -> imageService.readImage(objectKey));
+        }
+        if (cached.isPresent() && writeCachedImage(response, objectKey, cached.get(), start, end)) {
+            return;
+        }
+        writeImage(response, reader);
+    }
+
+    /**
+     * 응답할 범위를 구합니다. Range 가 없거나, 여러 범위이거나, If-Range 가 현재 이미지와 다르면 전체를 응답합니다.
+     *
+     * @return 응답할 범위 (전체면 null)
+     */
+    private HttpRange requestedRange(ServletWebRequest webRequest, String eTag, long lastModified) {
+        String rangeHeader = webRequest.getHeader(HttpHeaders.RANGE);
+        if (Objects.isNull(rangeHeader)) {
+            return null;
+        }
+
+        String ifRange = webRequest.getHeader(HttpHeaders.IF_RANGE);
+        if (Objects.nonNull(ifRange) && !ifRange.equals(eTag) && !sameDate(ifRange, lastModified)) {
+            return null;
+        }
+
         try {
-            S3Object s3Object = imageService.readImage(type + "/" + fileName);
-            content = s3Object.getObjectContent().readAllBytes();
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.getFirst() : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private boolean sameDate(String httpDate, long lastModified) {
+        try {
+            long seconds = ZonedDateTime.parse(httpDate, DateTimeFormatter.RFC_1123_DATE_TIME).toEpochSecond();
+            return lastModified >= 0 && seconds == lastModified / 1000;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private ObjectMetadata toMetadata(CachedImage cachedImage) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setHeader(Headers.ETAG, cachedImage.eTag());
+        metadata.setContentLength(cachedImage.contentLength());
+        if (cachedImage.lastModified() >= 0) {
+            metadata.setLastModified(new Date(cachedImage.lastModified()));
+        }
+        return metadata;
+    }
+
+    /**
+     * 캐시된 파일의 start ~ end 범위를 FileChannel.transferTo 로 응답에 복사합니다.
+     * 파일을 읽지 못하면 404 로, 응답에 쓰지 못하면(클라이언트가 끊은 경우 등) 그대로 끝냅니다.
+     *
+     * @return 캐시 파일이 지워져 보내지 못했으면 false
+     */
+    private boolean writeCachedImage(HttpServletResponse response, String key, CachedImage cachedImage,
+                                     long start, long end) {
+        try (FileChannel channel = FileChannel.open(cachedImage.path(), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(new ResponseOutputStream(response));
+            long position = start;
+            while (position <= end) {
+                long transferred = channel.transferTo(position, end - position + 1, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+            return true;
+        } catch (NoSuchFileException e) {
+            imageDiskCacheService.evict(key, cachedImage);
+            return false;
+        } catch (ResponseWriteException e) {
+            log.debug("이미지 응답 중단 : key={}", key, e);
+            return true;
         } catch (IOException e) {
-            throw new NotFindImageException();
+            throw notFound(response);
         }
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-        headers.setContentDispositionFormData("attachment", fileName);
+    /**
+     * object storage 의 내용을 응답으로 복사합니다.
+     * object storage 에서 읽지 못하면 404 로, 응답에 쓰지 못하면(클라이언트가 끊은 경우 등) 그대로 끝냅니다.
+     */
+    private void writeImage(HttpServletResponse response, Supplier<S3Object> reader) {
+        S3Object s3Object = reader.get();
+        S3ObjectInputStream objectContent = s3Object.getObjectContent();
+        try (InputStream inputStream = objectContent) {
+            inputStream.transferTo(new ResponseOutputStream(response));
+        } catch (ResponseWriteException e) {
+            // 끝까지 읽지 않은 연결을 풀에 돌려주지 않고 끊는다.
+            objectContent.abort();
+            log.debug("이미지 응답 중단 : key={}", s3Object.getKey(), e);
+        } catch (IOException e) {
+            objectContent.abort();
+            throw notFound(response);
+        }
+    }
 
+    /**
+     * 아직 보내지 않은 응답이면 앞에서 정한 헤더를 지웁니다.
+     * octet-stream 으로 정한 Content-Type 이 남아 있으면 에러 응답을 JSON 으로 쓰지 못합니다.
+     */
+    private NotFindImageException notFound(HttpServletResponse response) {
+        if (!response.isCommitted()) {
+            response.reset();
+        }
+        return new NotFindImageException();
+    }
 
-        return new ResponseEntity<>(content, headers, HttpStatus.OK);
+    /**
+     * 응답에 쓰다가 난 IOException 을 원본을 읽다가 난 것과 구분하기 위한 예외.
+     */
+    private static final class ResponseWriteException extends IOException {
+        private ResponseWriteException(IOException cause) {
+            super(cause);
+        }
     }
 
+    /**
+     * 응답 스트림에 쓸 때 난 IOException 을 ResponseWriteException 으로 바꿔 던지는 스트림.
+     */
+    private static final class ResponseOutputStream extends OutputStream {
+        private final HttpServletResponse response;
+
+        private ResponseOutputStream(HttpServletResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            try {
+                response.getOutputStream().write(b);
+            } catch (IOException e) {
+                throw new ResponseWriteException(e);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            try {
+                response.getOutputStream().write(b, off, len);
+            } catch (IOException e) {
+                throw new ResponseWriteException(e);
+            }
+        }
+    }
 }
@@ -0,0 +1,15 @@
+package com.nhnacademy.bookstore.book.image.dto;
+
+import java.nio.file.Path;
+
+/**
+ * 디스크 캐시에 저장된 이미지.
+ *
+ * @param path          저장된 파일 위치
+ * @param eTag          object storage 의 ETag (따옴표 없이)
+ * @param lastModified  object storage 의 마지막 수정 시각 (epoch millis, 모르면 -1)
+ * @param contentLength 파일 크기
+ * @author 한민기
+ */
+public record CachedImage(Path path, String eTag, long lastModified, long contentLength) {
+}
@@ -0,0 +1,78 @@
+package com.nhnacademy.bookstore.book.image.enums;
+
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.StringExpression;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 업로드할 때 원본 옆에 같이 만들어두는 작은 크기의 이미지.
+ * 원본이 uuid.png 면 uuid_thumbnail.png, uuid_detail.png 로 저장합니다.
+ * 저장되는 파일 이름은 uuid 라서 첫 번째 '.' 부터가 확장자입니다.
+ *
+ * @author 한민기
+ */
+public enum ImageVariant {
+    THUMBNAIL("thumbnail", 200),
+    DETAIL("detail", 600);
+
+    private static final String SEPARATOR = "_";
+
+    private final String suffix;
+    private final int maxWidth;
+
+    ImageVariant(String suffix, int maxWidth) {
+        this.suffix = suffix;
+        this.maxWidth = maxWidth;
+    }
+
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    /**
+     * 원본 파일 이름으로 이 크기의 파일 이름을 만듭니다.
+     *
+     * @param fileName 원본 파일 이름
+     * @return 이 크기의 파일 이름
+     */
+    public String fileName(String fileName) {
+        int dot = fileName.indexOf('.');
+        if (dot < 0) {
+            return fileName + SEPARATOR + suffix;
+        }
+        return fileName.substring(0, dot) + SEPARATOR + suffix + fileName.substring(dot);
+    }
+
+    /**
+     * fileName(String) 과 같은 이름을 쿼리에서 만듭니다. 목록 조회에서 원본 대신 작은 이미지를 돌려줄 때 사용합니다.
+     *
+     * @param fileName 원본 파일 이름 컬럼
+     * @return 이 크기의 파일 이름 (원본이 null 이면 null)
+     */
+    public StringExpression fileName(StringExpression fileName) {
+        return new CaseBuilder()
+                .when(fileName.contains("."))
+                .then(fileName.substring(0, fileName.indexOf("."))
+                        .concat(SEPARATOR + suffix)
+                        .concat(fileName.substring(fileName.indexOf("."))))
+                .otherwise(fileName.concat(SEPARATOR + suffix));
+    }
+
+    /**
+     * 작은 크기의 파일 이름이면 원본 파일 이름을 반환합니다.
+     *
+     * @param fileName 파일 이름
+     * @return 원본 파일 이름 (작은 크기의 파일 이름이 아니면 empty)
+     */
+    public static Optional<String> originalFileName(String fileName) {
+        int dot = fileName.indexOf('.');
+        String name = dot < 0 ? fileName : fileName.substring(0, dot);
+        String extension = dot < 0 ? "" : fileName.substring(dot);
+        return Arrays.stream(values())
+                .map(variant -> SEPARATOR + variant.suffix)
+                .filter(name::endsWith)
+                .findFirst()
+                .map(variantSuffix -> name.substring(0, name.length() - variantSuffix.length()) + extension);
+    }
+}
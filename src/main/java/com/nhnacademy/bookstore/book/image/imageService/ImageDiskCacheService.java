@@ -0,0 +1,43 @@
+package com.nhnacademy.bookstore.book.image.imageService;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.nhnacademy.bookstore.book.image.dto.CachedImage;
+
+/**
+ * object storage 앞에 두는 이미지 디스크 캐시입니다.
+ * 목록 페이지마다 쓰이는 표지 이미지를 매번 object storage 에서 받지 않도록 로컬 디스크에 저장해둡니다.
+ *
+ * @author 한민기
+ */
+public interface ImageDiskCacheService {
+
+    /**
+     * 캐시된 이미지를 반환합니다. object storage 는 호출하지 않습니다.
+     *
+     * @param key 파일 위치 + 파일 이름
+     * @return 캐시된 이미지 (없으면 empty)
+     */
+    Optional<CachedImage> read(String key);
+
+    /**
+     * object storage 에서 이미지를 받아 캐시에 저장합니다. 한 파일 최대 크기보다 크면 저장하지 않습니다.
+     *
+     * @param key      파일 위치 + 파일 이름
+     * @param metadata 이미지 메타데이터
+     * @param loader   이미지를 받아오는 함수
+     * @return 캐시된 이미지 (저장하지 않았으면 empty)
+     */
+    Optional<CachedImage> store(String key, ObjectMetadata metadata, Supplier<S3Object> loader);
+
+    /**
+     * 캐시된 이미지를 지웁니다. 그 사이 같은 key 로 새로 저장된 이미지는 지우지 않습니다.
+     *
+     * @param key         파일 위치 + 파일 이름
+     * @param cachedImage 읽지 못한 캐시 이미지
+     */
+    void evict(String key, CachedImage cachedImage);
+}
@@ -1,9 +1,38 @@
 package com.nhnacademy.bookstore.book.image.imageService;
 
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface ImageService {
     String createImage(MultipartFile file, String storagePlace);
+
+    /**
+     * 외부 이미지 주소에서 받은 이미지를 메모리에 모으지 않고 바로 object storage 로 올립니다.
+     *
+     * @param imageUrl     가져올 이미지 주소
+     * @param storagePlace 저장할 파일의 위치/타입 -> book, review, test
+     * @return 저장된 파일 이름
+     */
+    String createImage(String imageUrl, String storagePlace);
+
     S3Object readImage(String fileName);
+
+    /**
+     * 이미지 내용을 받지 않고 ETag, 길이 같은 메타데이터만 조회합니다.
+     *
+     * @param fileName 조회할 파일 위치 + 파일 이름
+     * @return 이미지 메타데이터
+     */
+    ObjectMetadata readImageMetadata(String fileName);
+
+    /**
+     * 이미지의 일부(start ~ end, 양 끝 포함)만 조회합니다.
+     *
+     * @param fileName 조회할 파일 위치 + 파일 이름
+     * @param start    시작 byte
+     * @param end      마지막 byte
+     * @return 조회한 범위의 S3Object
+     */
+    S3Object readImage(String fileName, long start, long end);
 }
@@ -0,0 +1,37 @@
+package com.nhnacademy.bookstore.book.image.imageService;
+
+/**
+ * 업로드된 원본 이미지로 작은 크기의 이미지(ImageVariant)를 만드는 서비스입니다.
+ *
+ * @author 한민기
+ */
+public interface ImageVariantService {
+
+    /**
+     * 원본 이미지로 작은 크기의 이미지들을 백그라운드에서 만들어 원본 옆에 저장합니다.
+     * 만들기 전이거나 실패한 경우 다운로드는 원본으로 응답합니다.
+     *
+     * @param storagePlace 파일의 위치/타입 -> book, review
+     * @param fileName     원본 파일 이름
+     */
+    void createVariants(String storagePlace, String fileName);
+
+    /**
+     * 작은 크기 이미지가 없어서 원본으로 대신 응답할 때 부릅니다.
+     * 없다는 것을 잠시 기억해두고, 원본으로 작은 크기 이미지들을 백그라운드에서 만듭니다.
+     *
+     * @param storagePlace    파일의 위치/타입 -> book, review
+     * @param variantFileName 없던 작은 크기 이미지의 파일 이름
+     */
+    void backfill(String storagePlace, String variantFileName);
+
+    /**
+     * 최근에 없다고 확인한 작은 크기 이미지인지 확인합니다. 그 사이 만들어졌으면 false 입니다.
+     * true 면 object storage 에 다시 물어보지 않고 원본으로 응답합니다.
+     *
+     * @param storagePlace    파일의 위치/타입 -> book, review
+     * @param variantFileName 작은 크기 이미지의 파일 이름
+     * @return 없는 것으로 기억하고 있으면 true
+     */
+    boolean isMissing(String storagePlace, String variantFileName);
+}
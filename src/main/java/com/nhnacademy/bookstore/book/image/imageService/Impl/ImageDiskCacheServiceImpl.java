@@ -0,0 +1,272 @@
+package com.nhnacademy.bookstore.book.image.imageService.Impl;
+
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.nhnacademy.bookstore.book.image.dto.CachedImage;
+import com.nhnacademy.bookstore.book.image.imageService.ImageDiskCacheService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 이미지 디스크 캐시 구현체입니다.
+ * 최근에 읽은 순서(LRU)로 전체 크기가 maxSize 를 넘지 않게 지웁니다.
+ * 목록은 메모리에만 들고 있으므로 띄울 때 이전에 남은 캐시 파일은 지우고 시작합니다.
+ * 디렉토리를 다른 용도와 같이 쓰더라도 캐시 파일 이름 규칙({key UUID}-{숫자}.image)에 맞는 파일만 지웁니다.
+ * 저장된 이미지는 파일 이름이 업로드마다 새로 만들어져 내용이 바뀌지 않으므로 만료 시간은 두지 않습니다.
+ *
+ * @author 한민기
+ */
+@Slf4j
+@Service
+public class ImageDiskCacheServiceImpl implements ImageDiskCacheService {
+    private static final String CACHE_NAME = "imageDisk";
+    private static final String FILE_SUFFIX = ".image";
+
+    /**
+     * download 에서 만드는 캐시 파일 이름. Files.createTempFile 이 접두사와 접미사 사이에 숫자를 넣습니다.
+     */
+    private static final Pattern CACHE_FILE_NAME = Pattern.compile(
+            "\\p{XDigit}{8}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{12}-\\d+"
+                    + Pattern.quote(FILE_SUFFIX));
+
+    private final Path directory;
+    private final long maxSize;
+    private final long maxEntrySize;
+    private final boolean enabled;
+
+    /**
+     * key 별 캐시된 이미지. totalSize 와 같이 이 객체로 동기화합니다.
+     */
+    private final Map<String, CachedImage> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalSize;
+
+    /**
+     * 지금 object storage 에서 받고 있는 이미지.
+     */
+    private final Map<String, CompletableFuture<Optional<CachedImage>>> loading = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+    private final Counter coalescedCounter;
+
+    public ImageDiskCacheServiceImpl(MeterRegistry meterRegistry,
+            @Value("${image.disk-cache.directory:${java.io.tmpdir}/bookstore-image-cache}") String directory,
+            @Value("${image.disk-cache.max-size:1GB}") DataSize maxSize,
+            @Value("${image.disk-cache.max-entry-size:10MB}") DataSize maxEntrySize) {
+        this.directory = Path.of(directory);
+        this.maxSize = maxSize.toBytes();
+        this.maxEntrySize = Math.min(maxEntrySize.toBytes(), this.maxSize);
+        this.enabled = prepareDirectory();
+
+        this.hitCounter = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("cache.evictions").tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("bookstore.image.disk-cache.coalesced")
+                .description("먼저 시작한 저장을 기다려 object storage 에서 받지 않은 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", this, ImageDiskCacheServiceImpl::size).tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        Gauge.builder("bookstore.image.disk-cache.bytes", this, ImageDiskCacheServiceImpl::totalSize)
+                .description("디스크 캐시에 저장된 이미지 크기의 합")
+                .register(meterRegistry);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<CachedImage> read(String key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        CachedImage cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+        if (Objects.isNull(cached)) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        hitCounter.increment();
+        return Optional.of(cached);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 같은 이미지를 동시에 놓친 요청은 먼저 시작한 요청이 받아 저장할 때까지 기다렸다가 그 결과를 같이 씁니다.
+     * 파일은 저장할 때마다 새 이름으로 만들어서, 다른 요청이 읽고 있는 파일을 덮어쓰지 않습니다.
+     */
+    @Override
+    public Optional<CachedImage> store(String key, ObjectMetadata metadata, Supplier<S3Object> loader) {
+        if (!enabled || metadata.getContentLength() > maxEntrySize) {
+            return Optional.empty();
+        }
+
+        CompletableFuture<Optional<CachedImage>> future = new CompletableFuture<>();
+        CompletableFuture<Optional<CachedImage>> running = loading.putIfAbsent(key, future);
+        if (Objects.nonNull(running)) {
+            coalescedCounter.increment();
+            return join(running);
+        }
+
+        try {
+            // 기다리는 동안 다른 요청이 이미 저장했으면 다시 받지 않는다.
+            Optional<CachedImage> stored;
+            synchronized (entries) {
+                stored = Optional.ofNullable(entries.get(key));
+            }
+            if (stored.isEmpty()) {
+                stored = download(key, metadata, loader);
+            }
+            future.complete(stored);
+            return stored;
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void evict(String key, CachedImage cachedImage) {
+        synchronized (entries) {
+            if (entries.remove(key, cachedImage)) {
+                totalSize -= cachedImage.contentLength();
+                delete(cachedImage.path());
+            }
+        }
+    }
+
+    private Optional<CachedImage> download(String key, ObjectMetadata metadata, Supplier<S3Object> loader) {
+        Path file = null;
+        try {
+            file = Files.createTempFile(directory, UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)) + "-",
+                    FILE_SUFFIX);
+            try (S3Object s3Object = loader.get(); InputStream inputStream = s3Object.getObjectContent()) {
+                Files.copy(inputStream, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            long lastModified = Objects.isNull(metadata.getLastModified()) ? -1
+                    : metadata.getLastModified().getTime();
+            CachedImage cached = new CachedImage(file, metadata.getETag(), lastModified, Files.size(file));
+            put(key, cached);
+            return Optional.of(cached);
+        } catch (IOException e) {
+            log.warn("이미지 캐시 저장 실패 : {}", key, e);
+            delete(file);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 먼저 시작한 저장을 기다립니다. 그 요청이 실패했으면 캐시 없이 응답하도록 empty 를 돌려줍니다.
+     */
+    private Optional<CachedImage> join(CompletableFuture<Optional<CachedImage>> running) {
+        try {
+            return running.join();
+        } catch (CompletionException | CancellationException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 캐시에 넣고, 전체 크기가 넘으면 오래 안 읽은 이미지부터 지웁니다.
+     */
+    private void put(String key, CachedImage cached) {
+        synchronized (entries) {
+            CachedImage previous = entries.put(key, cached);
+            totalSize += cached.contentLength();
+            if (Objects.nonNull(previous)) {
+                totalSize -= previous.contentLength();
+                delete(previous.path());
+            }
+
+            Iterator<Map.Entry<String, CachedImage>> iterator = entries.entrySet().iterator();
+            while (totalSize > maxSize && iterator.hasNext()) {
+                Map.Entry<String, CachedImage> eldest = iterator.next();
+                if (eldest.getKey().equals(key)) {
+                    continue;
+                }
+                iterator.remove();
+                totalSize -= eldest.getValue().contentLength();
+                delete(eldest.getValue().path());
+                evictionCounter.increment();
+            }
+        }
+    }
+
+    private boolean prepareDirectory() {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                files.filter(this::isCacheFile).forEach(this::delete);
+            }
+            return true;
+        } catch (IOException e) {
+            log.warn("이미지 디스크 캐시를 사용할 수 없습니다. : {}", directory, e);
+            return false;
+        }
+    }
+
+    private boolean isCacheFile(Path file) {
+        return CACHE_FILE_NAME.matcher(file.getFileName().toString()).matches()
+                && Files.isRegularFile(file, LinkOption.NOFOLLOW_LINKS);
+    }
+
+    private void delete(Path file) {
+        if (Objects.isNull(file)) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("이미지 캐시 파일 삭제 실패 : {}", file, e);
+        }
+    }
+
+    private int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private long totalSize() {
+        synchronized (entries) {
+            return totalSize;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.fasterxml.uuid.impl.TimeBasedGenerator;
 import com.nhnacademy.bookstore.book.image.exception.FailUploadImageException;
 import com.nhnacademy.bookstore.book.image.exception.NotFindImageException;
 import com.nhnacademy.bookstore.book.image.imageService.ImageService;
+import com.nhnacademy.bookstore.book.image.imageService.ImageVariantService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -14,8 +15,14 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URLConnection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
-import java.util.UUID;
 
 /**
  * @author 한민기
@@ -27,12 +34,26 @@ import java.util.UUID;
 public class ImageServiceImpl implements ImageService {
 
     private final AmazonS3 amazonS3;
+    private final ImageVariantService imageVariantService;
+
+    /**
+     * 길이를 모르는 이미지를 나눠 올릴 때 한 파트의 크기. (S3 multipart 의 최소 크기)
+     */
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+    private static final String DEFAULT_FILE_NAME = "image.jpg";
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
 
+    @Value("${image.download.connect-timeout:3s}")
+    private Duration connectTimeout;
+
+    @Value("${image.download.read-timeout:10s}")
+    private Duration readTimeout;
+
     /**
      *  this -> object storage (bucket)
+     *  올린 뒤에 목록, 상세용 작은 크기 이미지를 백그라운드에서 만듭니다.
      * @param image     저장할 파일
      * @param storagePlace 저장할 파일의 위치/타입 -> book, review, test
      */
@@ -42,26 +63,46 @@ public class ImageServiceImpl implements ImageService {
 
         String fileName = fileNameMade(orgFilename);
 
-        try {
-            // MultipartFile을 바이트 배열로 변환
-            byte[] bytes = image.getBytes();
-            ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(bytes);
-
-            // 메타데이터 설정 (필요한 경우)
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setContentLength(bytes.length);
-
-            // S3에 파일 업로드
-            amazonS3.putObject(new PutObjectRequest(bucketName,storagePlace + "/" + fileName, byteArrayInputStream, metadata)
-                    .withCannedAcl(CannedAccessControlList.PublicRead));
-
+        try (InputStream inputStream = image.getInputStream()) {
+            upload(storagePlace + "/" + fileName, inputStream, image.getSize(), image.getContentType());
         } catch (IOException e) {
             throw new FailUploadImageException();
         }
 
+        imageVariantService.createVariants(storagePlace, fileName);
         return fileName;
     }
 
+    /**
+     * {@inheritDoc}
+     * 응답에 Content-Length 가 있으면 그대로 흘려 보내고, 없으면 5MB 씩 나눠서 multipart 로 올립니다.
+     * 느린 서버 때문에 가져오는 스레드가 묶이지 않도록 connect, read timeout 을 둡니다.
+     */
+    @Override
+    public String createImage(String imageUrl, String storagePlace) {
+        try {
+            String fileName = fileNameMade(urlFileName(imageUrl));
+            URLConnection connection = URI.create(imageUrl).toURL().openConnection();
+            connection.setConnectTimeout((int) connectTimeout.toMillis());
+            connection.setReadTimeout((int) readTimeout.toMillis());
+
+            if (connection instanceof HttpURLConnection httpConnection
+                    && httpConnection.getResponseCode() / 100 != 2) {
+                httpConnection.disconnect();
+                throw new FailUploadImageException();
+            }
+
+            try (InputStream inputStream = connection.getInputStream()) {
+                upload(storagePlace + "/" + fileName, inputStream, connection.getContentLengthLong(),
+                        connection.getContentType());
+            }
+            imageVariantService.createVariants(storagePlace, fileName);
+            return fileName;
+        } catch (IOException | IllegalArgumentException e) {
+            throw new FailUploadImageException();
+        }
+    }
+
     /**
      *  파일 이름으로 파일 조회
      * @param fileName -> 조회할 파일 위치 + 파일 이름
@@ -77,6 +118,110 @@ public class ImageServiceImpl implements ImageService {
 
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ObjectMetadata readImageMetadata(String fileName) {
+        try {
+            return amazonS3.getObjectMetadata(bucketName, fileName);
+        } catch (AmazonS3Exception e) {
+            throw new NotFindImageException();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public S3Object readImage(String fileName, long start, long end) {
+        try {
+            return amazonS3.getObject(new GetObjectRequest(bucketName, fileName).withRange(start, end));
+        } catch (AmazonS3Exception e) {
+            throw new NotFindImageException();
+        }
+    }
+
+
+    /**
+     * 스트림을 object storage 에 올립니다. 길이를 알면 한 번에, 모르면 나눠서 올립니다.
+     *
+     * @param key           저장할 위치 + 파일 이름
+     * @param inputStream   올릴 내용
+     * @param contentLength 길이 (모르면 음수)
+     * @param contentType   content type (모르면 null)
+     */
+    private void upload(String key, InputStream inputStream, long contentLength, String contentType)
+            throws IOException {
+        if (contentLength < 0) {
+            uploadInParts(key, inputStream, contentType);
+            return;
+        }
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(contentLength);
+        if (Objects.nonNull(contentType)) {
+            metadata.setContentType(contentType);
+        }
+
+        amazonS3.putObject(new PutObjectRequest(bucketName, key, inputStream, metadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead));
+    }
+
+    /**
+     * 길이를 모르는 스트림을 PART_SIZE 씩 읽어서 multipart 로 올립니다. 메모리에는 한 파트만 들고 있습니다.
+     * 첫 파트에서 끝나는 작은 파일은 multipart 없이 한 번에 올립니다.
+     */
+    private void uploadInParts(String key, InputStream inputStream, String contentType) throws IOException {
+        byte[] buffer = new byte[PART_SIZE];
+        int read = inputStream.readNBytes(buffer, 0, PART_SIZE);
+        if (read < PART_SIZE) {
+            upload(key, new ByteArrayInputStream(buffer, 0, read), read, contentType);
+            return;
+        }
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        if (Objects.nonNull(contentType)) {
+            metadata.setContentType(contentType);
+        }
+        String uploadId = amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, key, metadata)
+                .withCannedACL(CannedAccessControlList.PublicRead)).getUploadId();
+
+        try {
+            List<PartETag> partETags = new ArrayList<>();
+            int partNumber = 1;
+            while (read > 0) {
+                UploadPartResult result = amazonS3.uploadPart(new UploadPartRequest()
+                        .withBucketName(bucketName)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber++)
+                        .withInputStream(new ByteArrayInputStream(buffer, 0, read))
+                        .withPartSize(read));
+                partETags.add(result.getPartETag());
+                read = inputStream.readNBytes(buffer, 0, PART_SIZE);
+            }
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, key, uploadId, partETags));
+        } catch (IOException | RuntimeException e) {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, key, uploadId));
+            throw e;
+        }
+    }
+
+    /**
+     * 이미지 주소의 마지막 경로를 파일 이름으로 사용합니다. 확장자가 없으면 jpg 로 저장합니다.
+     *
+     * @param imageUrl 이미지 주소
+     * @return 원래 파일 이름
+     */
+    private String urlFileName(String imageUrl) {
+        String path = URI.create(imageUrl).getPath();
+        if (Objects.isNull(path)) {
+            return DEFAULT_FILE_NAME;
+        }
+        String name = path.substring(path.lastIndexOf('/') + 1);
+        return name.contains(".") ? name : DEFAULT_FILE_NAME;
+    }
 
     /**
      *  UUID 를 사용해서 파일 이름을 선정
@@ -0,0 +1,235 @@
+package com.nhnacademy.bookstore.book.image.imageService.Impl;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.nhnacademy.bookstore.book.image.enums.ImageVariant;
+import com.nhnacademy.bookstore.book.image.imageService.ImageVariantService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작은 크기 이미지 생성 구현체입니다.
+ * 원본을 object storage 에서 다시 받아 한 번만 디코딩하고, 크기별로 줄여서 올립니다.
+ * 디코딩은 메모리와 CPU 를 많이 쓰므로 고정된 수의 스레드에서만 실행하고, 대기열이 가득 차면 새 작업은 버립니다.
+ * 버린 이미지는 다운로드할 때 원본으로 응답하면서 다시 만들어집니다. (backfill)
+ *
+ * @author 한민기
+ */
+@Slf4j
+@Service
+public class ImageVariantServiceImpl implements ImageVariantService {
+    /**
+     * 없다고 기억해 둘 작은 크기 이미지 수의 상한. 넘으면 만료된 것부터 지우고, 그래도 넘으면 기억하지 않습니다.
+     */
+    private static final int MAX_MISSING = 10_000;
+
+    private final AmazonS3 amazonS3;
+    private final String bucketName;
+    private final long maxSourceSize;
+    private final long missingTtlNanos;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * 없다고 확인한 작은 크기 이미지 key 별로, 다시 확인할 시각(System.nanoTime).
+     */
+    private final Map<String, Long> missing = new ConcurrentHashMap<>();
+
+    /**
+     * 대기 중이거나 만들고 있는 원본 key. 같은 원본을 여러 번 만들지 않게 합니다.
+     */
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    public ImageVariantServiceImpl(AmazonS3 amazonS3,
+            @Value("${cloud.aws.s3.bucket}") String bucketName,
+            @Value("${image.variant.threads:2}") int threads,
+            @Value("${image.variant.queue-capacity:100}") int queueCapacity,
+            @Value("${image.variant.max-source-size:20MB}") DataSize maxSourceSize,
+            @Value("${image.variant.missing-ttl:5m}") Duration missingTtl) {
+        this.amazonS3 = amazonS3;
+        this.bucketName = bucketName;
+        this.maxSourceSize = maxSourceSize.toBytes();
+        this.missingTtlNanos = missingTtl.toNanos();
+        int poolSize = Math.max(threads, 1);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                Thread.ofPlatform().name("image-variant-", 0).daemon().factory());
+    }
+
+    /**
+     * {@inheritDoc}
+     * 같은 원본을 이미 만들고 있으면 다시 넣지 않습니다.
+     */
+    @Override
+    public void createVariants(String storagePlace, String fileName) {
+        String key = storagePlace + "/" + fileName;
+        if (!pending.add(key)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    createVariantsNow(storagePlace, fileName);
+                } finally {
+                    pending.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(key);
+            log.warn("이미지 변환 대기열이 가득 차 작업을 버립니다. (대기 {} 건) : {}", executor.getQueue().size(), key);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void backfill(String storagePlace, String variantFileName) {
+        Optional<String> originalFileName = ImageVariant.originalFileName(variantFileName);
+        if (originalFileName.isEmpty()) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (missing.size() >= MAX_MISSING) {
+            missing.values().removeIf(until -> until - now <= 0);
+        }
+        if (missing.size() < MAX_MISSING) {
+            missing.put(storagePlace + "/" + variantFileName, now + missingTtlNanos);
+        }
+        createVariants(storagePlace, originalFileName.get());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isMissing(String storagePlace, String variantFileName) {
+        String key = storagePlace + "/" + variantFileName;
+        Long until = missing.get(key);
+        if (Objects.isNull(until)) {
+            return false;
+        }
+        if (until - System.nanoTime() > 0) {
+            return true;
+        }
+        missing.remove(key, until);
+        return false;
+    }
+
+    /**
+     * 원본을 받아 크기별 이미지를 만들어 올립니다. 실패해도 원본으로 응답할 수 있으므로 로그만 남깁니다.
+     * 다 올리면 없다고 기억해 둔 작은 크기 이미지를 지워서 바로 작은 크기 이미지로 응답하게 합니다.
+     */
+    void createVariantsNow(String storagePlace, String fileName) {
+        String formatName = formatName(fileName);
+        try {
+            BufferedImage original = readOriginal(storagePlace + "/" + fileName);
+            if (Objects.isNull(original)) {
+                log.info("작은 크기 이미지를 만들 수 없는 이미지입니다. : {}/{}", storagePlace, fileName);
+                return;
+            }
+
+            for (ImageVariant variant : ImageVariant.values()) {
+                byte[] resized = resize(original, variant.getMaxWidth(), formatName);
+                if (Objects.isNull(resized)) {
+                    log.info("작은 크기 이미지를 저장할 수 없는 형식입니다. : {}", fileName);
+                    return;
+                }
+                upload(storagePlace + "/" + variant.fileName(fileName), resized, formatName);
+            }
+            for (ImageVariant variant : ImageVariant.values()) {
+                missing.remove(storagePlace + "/" + variant.fileName(fileName));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("작은 크기 이미지 생성 실패 : {}/{}", storagePlace, fileName, e);
+        }
+    }
+
+    private BufferedImage readOriginal(String key) throws IOException {
+        ObjectMetadata metadata = amazonS3.getObjectMetadata(bucketName, key);
+        if (metadata.getContentLength() > maxSourceSize) {
+            return null;
+        }
+        try (S3Object s3Object = amazonS3.getObject(bucketName, key);
+             InputStream inputStream = s3Object.getObjectContent()) {
+            return ImageIO.read(inputStream);
+        }
+    }
+
+    /**
+     * 가로가 maxWidth 를 넘지 않게 비율을 유지해서 줄입니다. 원본이 더 작으면 크기는 그대로 둡니다.
+     *
+     * @return 인코딩된 이미지 (쓸 수 없는 형식이면 null)
+     */
+    private byte[] resize(BufferedImage original, int maxWidth, String formatName) throws IOException {
+        int width = Math.min(original.getWidth(), maxWidth);
+        int height = Math.max(1, (int) ((long) original.getHeight() * width / original.getWidth()));
+        // jpg 는 알파 채널을 쓸 수 없다.
+        int type = "jpg".equals(formatName) ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+
+        BufferedImage resized = new BufferedImage(width, height, type);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(original, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        if (!ImageIO.write(resized, formatName, outputStream)) {
+            return null;
+        }
+        return outputStream.toByteArray();
+    }
+
+    private void upload(String key, byte[] content, String formatName) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length);
+        metadata.setContentType("image/" + ("jpg".equals(formatName) ? "jpeg" : formatName));
+        amazonS3.putObject(new PutObjectRequest(bucketName, key, new ByteArrayInputStream(content), metadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead));
+    }
+
+    private String formatName(String fileName) {
+        String extension = fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        return "jpeg".equals(extension) ? "jpg" : extension;
+    }
+
+    /**
+     * 종료할 때 진행 중인 변환은 잠시 기다리고, 남은 작업은 버립니다. (원본으로 응답할 수 있습니다.)
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
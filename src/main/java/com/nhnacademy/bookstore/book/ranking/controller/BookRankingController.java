@@ -0,0 +1,47 @@
+package com.nhnacademy.bookstore.book.ranking.controller;
+
+import java.util.List;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.nhnacademy.bookstore.book.ranking.dto.response.BookRankingResponse;
+import com.nhnacademy.bookstore.book.ranking.enums.RankingPeriod;
+import com.nhnacademy.bookstore.book.ranking.enums.RankingType;
+import com.nhnacademy.bookstore.book.ranking.service.BookRankingService;
+import com.nhnacademy.bookstore.util.ApiResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 도서 랭킹 컨트롤러입니다.
+ *
+ * @author 한민기
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/bookstore/books/rankings")
+public class BookRankingController {
+	private final BookRankingService bookRankingService;
+
+	/**
+	 * 도서 랭킹을 조회합니다.
+	 *
+	 * @param type       랭킹 종류 (bestseller, view, like)
+	 * @param period     집계 기간 (all, week)
+	 * @param categoryId 카테고리 아이디 (없으면 전체)
+	 * @param size       개수 (최대 100)
+	 * @return 도서 랭킹
+	 */
+	@GetMapping
+	public ApiResponse<List<BookRankingResponse>> readRanking(
+		@RequestParam(defaultValue = "bestseller") String type,
+		@RequestParam(defaultValue = "all") String period,
+		@RequestParam(required = false) Long categoryId,
+		@RequestParam(defaultValue = "10") int size) {
+		return ApiResponse.success(
+			bookRankingService.readRanking(RankingType.from(type), RankingPeriod.from(period), categoryId, size));
+	}
+}
@@ -0,0 +1,13 @@
+package com.nhnacademy.bookstore.book.ranking.dto.response;
+
+/**
+ * 도서가 속한 카테고리와 그 상위 카테고리 아이디.
+ *
+ * @param bookId        도서 아이디
+ * @param categoryId    카테고리 아이디
+ * @param parentId      상위 카테고리 아이디 (없으면 null)
+ * @param grandParentId 상위의 상위 카테고리 아이디 (없으면 null)
+ * @author 한민기
+ */
+public record BookCategoryIdResponse(long bookId, long categoryId, Long parentId, Long grandParentId) {
+}
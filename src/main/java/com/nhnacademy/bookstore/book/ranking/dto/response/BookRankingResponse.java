@@ -0,0 +1,17 @@
+package com.nhnacademy.bookstore.book.ranking.dto.response;
+
+import com.nhnacademy.bookstore.book.book.dto.response.BookListResponse;
+
+import lombok.Builder;
+
+/**
+ * 도서 랭킹 응답.
+ *
+ * @param rank  순위 (1부터)
+ * @param score 판매량, 조회수, 좋아요 수 중 랭킹 종류에 맞는 점수
+ * @param book  도서 정보
+ * @author 한민기
+ */
+@Builder
+public record BookRankingResponse(int rank, long score, BookListResponse book) {
+}
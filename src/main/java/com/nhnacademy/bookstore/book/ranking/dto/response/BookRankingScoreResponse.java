@@ -0,0 +1,11 @@
+package com.nhnacademy.bookstore.book.ranking.dto.response;
+
+/**
+ * DB 에서 다시 계산한 도서별 랭킹 점수.
+ *
+ * @param bookId 도서 아이디
+ * @param score  점수
+ * @author 한민기
+ */
+public record BookRankingScoreResponse(long bookId, long score) {
+}
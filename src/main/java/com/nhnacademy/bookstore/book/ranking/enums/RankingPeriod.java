@@ -0,0 +1,34 @@
+package com.nhnacademy.bookstore.book.ranking.enums;
+
+import java.util.Arrays;
+
+import com.nhnacademy.bookstore.book.ranking.exception.InvalidRankingException;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 도서 랭킹 집계 기간. days 가 0 이면 전체 기간입니다.
+ *
+ * @author 한민기
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RankingPeriod {
+	ALL(0), WEEK(7);
+
+	private final int days;
+
+	/**
+	 * 요청 파라미터(all, week)를 집계 기간으로 바꿉니다.
+	 *
+	 * @param value 요청 파라미터
+	 * @return 집계 기간
+	 */
+	public static RankingPeriod from(String value) {
+		return Arrays.stream(values())
+			.filter(period -> period.name().equalsIgnoreCase(value))
+			.findFirst()
+			.orElseThrow(() -> new InvalidRankingException("지원하지 않는 랭킹 기간입니다. : " + value));
+	}
+}
@@ -0,0 +1,36 @@
+package com.nhnacademy.bookstore.book.ranking.enums;
+
+import java.util.Arrays;
+
+import com.nhnacademy.bookstore.book.ranking.exception.InvalidRankingException;
+
+/**
+ * 도서 랭킹 종류.
+ *
+ * @author 한민기
+ */
+public enum RankingType {
+	BESTSELLER, VIEW, LIKE;
+
+	/**
+	 * 요청 파라미터(bestseller, view, like)를 랭킹 종류로 바꿉니다.
+	 *
+	 * @param value 요청 파라미터
+	 * @return 랭킹 종류
+	 */
+	public static RankingType from(String value) {
+		return Arrays.stream(values())
+			.filter(type -> type.name().equalsIgnoreCase(value))
+			.findFirst()
+			.orElseThrow(() -> new InvalidRankingException("지원하지 않는 랭킹 종류입니다. : " + value));
+	}
+
+	/**
+	 * redis key 에 들어가는 이름.
+	 *
+	 * @return 소문자 이름
+	 */
+	public String key() {
+		return name().toLowerCase();
+	}
+}
@@ -0,0 +1,12 @@
+package com.nhnacademy.bookstore.book.ranking.exception;
+
+/**
+ * 랭킹 종류나 기간이 잘못되었을 때 발생하는 Exception.
+ *
+ * @author 한민기
+ */
+public class InvalidRankingException extends RuntimeException {
+	public InvalidRankingException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,66 @@
+package com.nhnacademy.bookstore.book.ranking.repository;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.nhnacademy.bookstore.book.ranking.enums.RankingPeriod;
+import com.nhnacademy.bookstore.book.ranking.enums.RankingType;
+
+/**
+ * 도서 랭킹을 redis sorted set 에 저장하는 레포지토리입니다.
+ * 전체 기간 랭킹과 일별 랭킹을 따로 두고, 최근 7일 랭킹은 일별 랭킹을 합쳐서 만듭니다.
+ *
+ * @author 한민기
+ */
+public interface BookRankingRedisRepository {
+
+	/**
+	 * 전체 기간, 해당 날짜 랭킹에 도서별 점수를 더합니다. 카테고리가 있으면 카테고리별 랭킹에도 더합니다.
+	 *
+	 * @param type        랭킹 종류
+	 * @param day         점수를 더할 날짜 (null 이면 전체 기간 랭킹에만 더합니다.)
+	 * @param scores      도서 아이디별 더할 점수
+	 * @param categoryIds 도서 아이디별 카테고리(상위 카테고리 포함) 아이디
+	 */
+	void increaseScores(RankingType type, LocalDate day, Map<Long, Long> scores, Map<Long, Set<Long>> categoryIds);
+
+	/**
+	 * 점수가 높은 순서로 도서 아이디와 점수를 반환합니다.
+	 *
+	 * @param type       랭킹 종류
+	 * @param period     집계 기간
+	 * @param categoryId 카테고리 아이디 (전체면 null)
+	 * @param today      기준 날짜
+	 * @param size       개수
+	 * @return 점수 순서대로 정렬된 도서 아이디별 점수
+	 */
+	LinkedHashMap<Long, Long> readTopScores(RankingType type, RankingPeriod period, Long categoryId, LocalDate today,
+		int size);
+
+	/**
+	 * 전체 기간 랭킹을 주어진 점수로 통째로 바꿉니다.
+	 *
+	 * @param type       랭킹 종류
+	 * @param categoryId 카테고리 아이디 (전체면 null)
+	 * @param scores     도서 아이디별 점수
+	 */
+	void replaceScores(RankingType type, Long categoryId, Map<Long, Long> scores);
+
+	/**
+	 * 주어진 카테고리를 뺀 나머지 카테고리의 전체 기간 랭킹을 지웁니다.
+	 *
+	 * @param type        랭킹 종류
+	 * @param categoryIds 남겨둘 카테고리 아이디
+	 */
+	void deleteCategoryScoresExcept(RankingType type, Set<Long> categoryIds);
+
+	/**
+	 * 전체 기간 랭킹이 만들어져 있는지 확인합니다.
+	 *
+	 * @param type 랭킹 종류
+	 * @return 존재 여부
+	 */
+	boolean exists(RankingType type);
+}
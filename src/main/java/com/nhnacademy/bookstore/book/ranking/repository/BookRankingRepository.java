@@ -0,0 +1,32 @@
+package com.nhnacademy.bookstore.book.ranking.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.nhnacademy.bookstore.book.ranking.dto.response.BookCategoryIdResponse;
+import com.nhnacademy.bookstore.book.ranking.dto.response.BookRankingScoreResponse;
+import com.nhnacademy.bookstore.book.ranking.enums.RankingType;
+
+/**
+ * 랭킹 계산에 필요한 값을 DB 에서 읽는 레포지토리입니다.
+ *
+ * @author 한민기
+ */
+public interface BookRankingRepository {
+
+	/**
+	 * 도서들이 속한 카테고리와 상위 카테고리를 불러옵니다.
+	 *
+	 * @param bookIds 도서 아이디 리스트
+	 * @return 도서-카테고리 리스트
+	 */
+	List<BookCategoryIdResponse> readCategoryIds(Collection<Long> bookIds);
+
+	/**
+	 * 전체 기간의 도서별 점수를 DB 에서 다시 계산합니다. 점수가 0 인 도서는 빠집니다.
+	 *
+	 * @param type 랭킹 종류
+	 * @return 도서별 점수
+	 */
+	List<BookRankingScoreResponse> readScores(RankingType type);
+}
@@ -0,0 +1,202 @@
+package com.nhnacademy.bookstore.book.ranking.repository.impl;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+
+import com.nhnacademy.bookstore.book.ranking.enums.RankingPeriod;
+import com.nhnacademy.bookstore.book.ranking.enums.RankingType;
+import com.nhnacademy.bookstore.book.ranking.repository.BookRankingRedisRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 도서 랭킹 redis 레포지토리 구현체입니다.
+ * key 는 ranking:{종류}:all, ranking:{종류}:day:{yyyyMMdd} 이고 카테고리별 랭킹은 뒤에 :category:{아이디} 가 붙습니다.
+ *
+ * @author 한민기
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookRankingRedisRepositoryImpl implements BookRankingRedisRepository {
+	private final RedisTemplate<String, Object> redisTemplate;
+	private static final String KEY_PREFIX = "ranking:";
+	private static final String CATEGORY_INFIX = ":category:";
+	private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+	private static final long SCAN_COUNT = 500;
+
+	/**
+	 * 일별 랭킹은 최근 7일 랭킹을 만드는 데만 쓰므로 하루 여유를 두고 지웁니다.
+	 */
+	private static final Duration DAY_TTL = Duration.ofDays(RankingPeriod.WEEK.getDays() + 1L);
+
+	/**
+	 * 합쳐둔 최근 7일 랭킹을 다시 쓰는 시간.
+	 */
+	private static final Duration WEEK_TTL = Duration.ofMinutes(1);
+
+	/**
+	 * {@inheritDoc}
+	 * 한 번의 pipeline 으로 보내서 도서, 카테고리 수와 상관없이 왕복은 한 번입니다.
+	 */
+	@Override
+	public void increaseScores(RankingType type, LocalDate day, Map<Long, Long> scores,
+		Map<Long, Set<Long>> categoryIds) {
+		redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) {
+				RedisOperations<String, Object> redisOperations = (RedisOperations<String, Object>)operations;
+				ZSetOperations<String, Object> zSet = redisOperations.opsForZSet();
+				Set<String> dayKeys = new HashSet<>();
+
+				scores.forEach((bookId, score) -> {
+					List<Long> scopes = new ArrayList<>();
+					scopes.add(null);
+					scopes.addAll(categoryIds.getOrDefault(bookId, Set.of()));
+
+					for (Long categoryId : scopes) {
+						zSet.incrementScore(allKey(type, categoryId), bookId, score);
+						if (Objects.nonNull(day)) {
+							String dayKey = dayKey(type, day, categoryId);
+							zSet.incrementScore(dayKey, bookId, score);
+							dayKeys.add(dayKey);
+						}
+					}
+				});
+				dayKeys.forEach(dayKey -> redisOperations.expire(dayKey, DAY_TTL));
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 점수가 0 이하인 도서(취소된 좋아요 등)는 빠집니다.
+	 */
+	@Override
+	public LinkedHashMap<Long, Long> readTopScores(RankingType type, RankingPeriod period, Long categoryId,
+		LocalDate today, int size) {
+		String key = period == RankingPeriod.WEEK ? weekKey(type, today, categoryId) : allKey(type, categoryId);
+		Set<ZSetOperations.TypedTuple<Object>> tuples = redisTemplate.opsForZSet()
+			.reverseRangeWithScores(key, 0, size - 1L);
+
+		LinkedHashMap<Long, Long> scores = new LinkedHashMap<>();
+		if (Objects.isNull(tuples)) {
+			return scores;
+		}
+		for (ZSetOperations.TypedTuple<Object> tuple : tuples) {
+			long score = Objects.isNull(tuple.getScore()) ? 0 : tuple.getScore().longValue();
+			if (score > 0 && tuple.getValue() instanceof Number bookId) {
+				scores.put(bookId.longValue(), score);
+			}
+		}
+		return scores;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 임시 key 에 다 채운 뒤 rename 해서 조회하는 쪽에서 반쯤 만들어진 랭킹을 보지 않게 합니다.
+	 */
+	@Override
+	public void replaceScores(RankingType type, Long categoryId, Map<Long, Long> scores) {
+		String key = allKey(type, categoryId);
+		if (scores.isEmpty()) {
+			redisTemplate.delete(key);
+			return;
+		}
+
+		String rebuildKey = key + ":rebuild";
+		Set<ZSetOperations.TypedTuple<Object>> tuples = scores.entrySet().stream()
+			.map(entry -> new DefaultTypedTuple<Object>(entry.getKey(), entry.getValue().doubleValue()))
+			.collect(Collectors.toSet());
+
+		redisTemplate.delete(rebuildKey);
+		redisTemplate.opsForZSet().add(rebuildKey, tuples);
+		redisTemplate.rename(rebuildKey, key);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * keys 대신 scan 으로 찾아서 key 가 많아도 redis 를 오래 막지 않습니다. 다시 만드는 중인 임시 key 는 건드리지 않습니다.
+	 */
+	@Override
+	public void deleteCategoryScoresExcept(RankingType type, Set<Long> categoryIds) {
+		String categoryPrefix = allKey(type, null) + CATEGORY_INFIX;
+		ScanOptions options = ScanOptions.scanOptions().match(categoryPrefix + "*").count(SCAN_COUNT).build();
+
+		List<String> staleKeys = new ArrayList<>();
+		try (Cursor<String> cursor = redisTemplate.scan(options)) {
+			cursor.forEachRemaining(key -> {
+				String categoryId = key.substring(categoryPrefix.length());
+				if (categoryId.chars().allMatch(Character::isDigit)
+					&& !categoryIds.contains(Long.parseLong(categoryId))) {
+					staleKeys.add(key);
+				}
+			});
+		}
+		if (!staleKeys.isEmpty()) {
+			redisTemplate.delete(staleKeys);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean exists(RankingType type) {
+		return Boolean.TRUE.equals(redisTemplate.hasKey(allKey(type, null)));
+	}
+
+	/**
+	 * 최근 7일의 일별 랭킹을 합친 key 를 반환합니다. 합친 결과는 잠깐 저장해두고 다시 씁니다.
+	 *
+	 * @param type       랭킹 종류
+	 * @param today      기준 날짜
+	 * @param categoryId 카테고리 아이디
+	 * @return 최근 7일 랭킹 key
+	 */
+	private String weekKey(RankingType type, LocalDate today, Long categoryId) {
+		String weekKey = KEY_PREFIX + type.key() + ":week:" + today.format(DAY_FORMAT) + categorySuffix(categoryId);
+		if (Boolean.TRUE.equals(redisTemplate.hasKey(weekKey))) {
+			return weekKey;
+		}
+
+		List<String> otherDayKeys = new ArrayList<>();
+		for (int i = 1; i < RankingPeriod.WEEK.getDays(); i++) {
+			otherDayKeys.add(dayKey(type, today.minusDays(i), categoryId));
+		}
+		redisTemplate.opsForZSet().unionAndStore(dayKey(type, today, categoryId), otherDayKeys, weekKey);
+		redisTemplate.expire(weekKey, WEEK_TTL);
+		return weekKey;
+	}
+
+	private static String allKey(RankingType type, Long categoryId) {
+		return KEY_PREFIX + type.key() + ":all" + categorySuffix(categoryId);
+	}
+
+	private static String dayKey(RankingType type, LocalDate day, Long categoryId) {
+		return KEY_PREFIX + type.key() + ":day:" + day.format(DAY_FORMAT) + categorySuffix(categoryId);
+	}
+
+	private static String categorySuffix(Long categoryId) {
+		return Objects.isNull(categoryId) ? "" : CATEGORY_INFIX + categoryId;
+	}
+}
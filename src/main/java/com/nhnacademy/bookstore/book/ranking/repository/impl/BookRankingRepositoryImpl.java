@@ -0,0 +1,94 @@
+package com.nhnacademy.bookstore.book.ranking.repository.impl;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+
+import com.nhnacademy.bookstore.book.ranking.dto.response.BookCategoryIdResponse;
+import com.nhnacademy.bookstore.book.ranking.dto.response.BookRankingScoreResponse;
+import com.nhnacademy.bookstore.book.ranking.enums.RankingType;
+import com.nhnacademy.bookstore.book.ranking.repository.BookRankingRepository;
+import com.nhnacademy.bookstore.entity.book.QBook;
+import com.nhnacademy.bookstore.entity.bookcategory.QBookCategory;
+import com.nhnacademy.bookstore.entity.category.QCategory;
+import com.nhnacademy.bookstore.entity.purchasebook.QPurchaseBook;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 랭킹 레포지토리 구현체입니다.
+ *
+ * @author 한민기
+ */
+@Repository
+public class BookRankingRepositoryImpl implements BookRankingRepository {
+	private final JPAQueryFactory jpaQueryFactory;
+	private static final QBook qBook = QBook.book;
+	private static final QBookCategory qBookCategory = QBookCategory.bookCategory;
+	private static final QCategory qCategory = QCategory.category;
+	private static final QPurchaseBook qPurchaseBook = QPurchaseBook.purchaseBook;
+
+	public BookRankingRepositoryImpl(EntityManager entityManager) {
+		this.jpaQueryFactory = new JPAQueryFactory(entityManager);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<BookCategoryIdResponse> readCategoryIds(Collection<Long> bookIds) {
+		if (bookIds.isEmpty()) {
+			return List.of();
+		}
+		QCategory parentCategory = new QCategory("parent");
+		QCategory grandParentCategory = new QCategory("grandParent");
+
+		return jpaQueryFactory.select(
+				Projections.constructor(BookCategoryIdResponse.class,
+					qBookCategory.book.id,
+					qCategory.id,
+					parentCategory.id,
+					grandParentCategory.id))
+			.from(qBookCategory)
+			.join(qBookCategory.category, qCategory)
+			.leftJoin(qCategory.parent, parentCategory)
+			.leftJoin(parentCategory.parent, grandParentCategory)
+			.where(qBookCategory.book.id.in(bookIds))
+			.fetch();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 판매량은 주문 도서 수량의 합, 조회수와 좋아요 수는 도서에 저장된 값을 사용합니다.
+	 */
+	@Override
+	public List<BookRankingScoreResponse> readScores(RankingType type) {
+		return switch (type) {
+			case BESTSELLER -> jpaQueryFactory.select(
+					Projections.constructor(BookRankingScoreResponse.class,
+						qPurchaseBook.book.id,
+						qPurchaseBook.quantity.sum().longValue()))
+				.from(qPurchaseBook)
+				.groupBy(qPurchaseBook.book.id)
+				.having(qPurchaseBook.quantity.sum().gt(0))
+				.fetch();
+			case VIEW -> jpaQueryFactory.select(
+					Projections.constructor(BookRankingScoreResponse.class,
+						qBook.id,
+						qBook.viewCount.longValue()))
+				.from(qBook)
+				.where(qBook.viewCount.gt(0))
+				.fetch();
+			case LIKE -> jpaQueryFactory.select(
+					Projections.constructor(BookRankingScoreResponse.class,
+						qBook.id,
+						qBook.likeCount.longValue()))
+				.from(qBook)
+				.where(qBook.likeCount.gt(0))
+				.fetch();
+		};
+	}
+}
@@ -0,0 +1,53 @@
+package com.nhnacademy.bookstore.book.ranking.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import com.nhnacademy.bookstore.book.ranking.dto.response.BookRankingResponse;
+import com.nhnacademy.bookstore.book.ranking.enums.RankingPeriod;
+import com.nhnacademy.bookstore.book.ranking.enums.RankingType;
+
+/**
+ * 베스트셀러, 많이 본 도서, 좋아요 많은 도서 랭킹 서비스입니다.
+ * 주문, 환불, 조회수 반영, 좋아요가 일어날 때마다 점수를 더해두기 때문에 조회할 때 집계 쿼리를 돌리지 않습니다.
+ *
+ * @author 한민기
+ */
+public interface BookRankingService {
+
+	/**
+	 * 도서별 점수를 더합니다. 도서가 속한 카테고리 랭킹에도 같이 더합니다.
+	 * 트랜잭션 안이라면 커밋된 뒤에 반영합니다.
+	 *
+	 * @param type   랭킹 종류
+	 * @param scores 도서 아이디별 더할 점수 (음수면 뺍니다.)
+	 */
+	void increaseScore(RankingType type, Map<Long, Long> scores);
+
+	/**
+	 * 도서별 점수를 주어진 날짜의 점수로 더합니다. 환불처럼 지난 주문을 되돌릴 때 주문한 날의 점수에서 빼는 데 사용합니다.
+	 * 최근 7일 랭킹에 들어가지 않는 날짜면 전체 기간 랭킹에만 반영합니다.
+	 *
+	 * @param type   랭킹 종류
+	 * @param scores 도서 아이디별 더할 점수 (음수면 뺍니다.)
+	 * @param day    점수가 생긴 날짜
+	 */
+	void increaseScore(RankingType type, Map<Long, Long> scores, LocalDate day);
+
+	/**
+	 * 랭킹을 조회합니다.
+	 *
+	 * @param type       랭킹 종류
+	 * @param period     집계 기간
+	 * @param categoryId 카테고리 아이디 (전체면 null)
+	 * @param size       개수
+	 * @return 순위 순서대로 정렬된 도서 랭킹
+	 */
+	List<BookRankingResponse> readRanking(RankingType type, RankingPeriod period, Long categoryId, int size);
+
+	/**
+	 * 전체 기간 랭킹을 DB 기준으로 다시 만듭니다. 반영 중 유실된 점수를 맞추는 데 사용합니다.
+	 */
+	void rebuildRanking();
+}
@@ -0,0 +1,205 @@
+package com.nhnacademy.bookstore.book.ranking.service.impl;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.nhnacademy.bookstore.book.book.dto.response.BookListResponse;
+import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.book.ranking.dto.response.BookCategoryIdResponse;
+import com.nhnacademy.bookstore.book.ranking.dto.response.BookRankingResponse;
+import com.nhnacademy.bookstore.book.ranking.dto.response.BookRankingScoreResponse;
+import com.nhnacademy.bookstore.book.ranking.enums.RankingPeriod;
+import com.nhnacademy.bookstore.book.ranking.enums.RankingType;
+import com.nhnacademy.bookstore.book.ranking.repository.BookRankingRedisRepository;
+import com.nhnacademy.bookstore.book.ranking.repository.BookRankingRepository;
+import com.nhnacademy.bookstore.book.ranking.service.BookRankingService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 도서 랭킹 서비스 구현체입니다.
+ * 점수는 redis sorted set 에 쌓고, 조회할 때는 상위 N 개 도서 아이디로 도서 정보를 한 번에 불러옵니다.
+ * redis 반영에 실패해도 주문, 좋아요는 그대로 진행되고, 어긋난 점수는 매일 새벽 DB 기준으로 다시 맞춥니다.
+ *
+ * @author 한민기
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookRankingServiceImpl implements BookRankingService {
+	private static final int MAX_SIZE = 100;
+	private static final int CATEGORY_CHUNK_SIZE = 1000;
+
+	private final BookRankingRedisRepository bookRankingRedisRepository;
+	private final BookRankingRepository bookRankingRepository;
+	private final BookRepository bookRepository;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void increaseScore(RankingType type, Map<Long, Long> scores) {
+		increaseScore(type, scores, LocalDate.now());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void increaseScore(RankingType type, Map<Long, Long> scores, LocalDate day) {
+		Map<Long, Long> changed = scores.entrySet().stream()
+			.filter(entry -> entry.getValue() != 0)
+			.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+		if (changed.isEmpty()) {
+			return;
+		}
+
+		Map<Long, Set<Long>> categoryIds = readCategoryIds(changed.keySet());
+		LocalDate weekStart = LocalDate.now().minusDays(RankingPeriod.WEEK.getDays() - 1L);
+		LocalDate scoreDay = day.isBefore(weekStart) ? null : day;
+		runAfterCommit(() -> {
+			try {
+				bookRankingRedisRepository.increaseScores(type, scoreDay, changed, categoryIds);
+			} catch (RuntimeException e) {
+				log.warn("랭킹 점수 반영 실패 : type={}, {} 건", type, changed.size(), e);
+			}
+		});
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 삭제된 도서는 순위에서 빠집니다.
+	 */
+	@Override
+	public List<BookRankingResponse> readRanking(RankingType type, RankingPeriod period, Long categoryId, int size) {
+		int limit = Math.clamp(size, 1, MAX_SIZE);
+		LinkedHashMap<Long, Long> scores = bookRankingRedisRepository.readTopScores(type, period, categoryId,
+			LocalDate.now(), limit);
+		if (scores.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Long, BookListResponse> books = bookRepository.readBookListByIds(scores.keySet()).stream()
+			.collect(Collectors.toMap(BookListResponse::id, Function.identity()));
+
+		List<BookRankingResponse> rankings = new ArrayList<>();
+		scores.forEach((bookId, score) -> {
+			BookListResponse book = books.get(bookId);
+			if (Objects.nonNull(book)) {
+				rankings.add(BookRankingResponse.builder()
+					.rank(rankings.size() + 1)
+					.score(score)
+					.book(book)
+					.build());
+			}
+		});
+		return rankings;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 일별 랭킹은 조회수의 날짜를 알 수 없어 다시 만들지 않고, 일주일이 지나면 자연히 맞춰집니다.
+	 */
+	@Override
+	@Scheduled(cron = "${book.ranking.rebuild-cron:0 0 5 * * ?}")
+	public void rebuildRanking() {
+		for (RankingType type : RankingType.values()) {
+			rebuildRanking(type);
+		}
+	}
+
+	/**
+	 * 처음 띄울 때 redis 에 랭킹이 없으면 DB 기준으로 만들어둡니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildIfEmpty() {
+		for (RankingType type : RankingType.values()) {
+			try {
+				if (!bookRankingRedisRepository.exists(type)) {
+					rebuildRanking(type);
+				}
+			} catch (RuntimeException e) {
+				log.warn("랭킹 초기화 실패 : type={}", type, e);
+			}
+		}
+	}
+
+	private void rebuildRanking(RankingType type) {
+		Map<Long, Long> scores = bookRankingRepository.readScores(type).stream()
+			.collect(Collectors.toMap(BookRankingScoreResponse::bookId, BookRankingScoreResponse::score));
+
+		Map<Long, Map<Long, Long>> categoryScores = new HashMap<>();
+		readCategoryIds(scores.keySet()).forEach((bookId, categoryIds) ->
+			categoryIds.forEach(categoryId ->
+				categoryScores.computeIfAbsent(categoryId, id -> new HashMap<>()).put(bookId, scores.get(bookId))));
+
+		bookRankingRedisRepository.replaceScores(type, null, scores);
+		categoryScores.forEach((categoryId, bookScores) ->
+			bookRankingRedisRepository.replaceScores(type, categoryId, bookScores));
+		// 점수가 남은 도서가 하나도 없는 카테고리는 위에서 덮어쓰지 않으므로 따로 지운다.
+		bookRankingRedisRepository.deleteCategoryScoresExcept(type, categoryScores.keySet());
+		log.info("랭킹 재계산 완료 : type={}, 도서 {} 건, 카테고리 {} 건", type, scores.size(), categoryScores.size());
+	}
+
+	/**
+	 * 도서별로 속한 카테고리와 상위 카테고리 아이디를 모읍니다.
+	 * 같은 도서가 하위, 상위 카테고리에 같이 속해 있어도 한 번만 더해지도록 Set 으로 모읍니다.
+	 *
+	 * @param bookIds 도서 아이디 리스트
+	 * @return 도서 아이디별 카테고리 아이디
+	 */
+	private Map<Long, Set<Long>> readCategoryIds(Collection<Long> bookIds) {
+		Map<Long, Set<Long>> categoryIds = new HashMap<>();
+		List<Long> ids = new ArrayList<>(bookIds);
+		for (int from = 0; from < ids.size(); from += CATEGORY_CHUNK_SIZE) {
+			List<Long> chunk = ids.subList(from, Math.min(from + CATEGORY_CHUNK_SIZE, ids.size()));
+			for (BookCategoryIdResponse response : bookRankingRepository.readCategoryIds(chunk)) {
+				Set<Long> bookCategoryIds = categoryIds.computeIfAbsent(response.bookId(), id -> new HashSet<>());
+				bookCategoryIds.add(response.categoryId());
+				if (Objects.nonNull(response.parentId())) {
+					bookCategoryIds.add(response.parentId());
+				}
+				if (Objects.nonNull(response.grandParentId())) {
+					bookCategoryIds.add(response.grandParentId());
+				}
+			}
+		}
+		return categoryIds;
+	}
+
+	/**
+	 * 트랜잭션 안이라면 커밋된 뒤에, 아니라면 바로 실행합니다. 롤백된 주문, 좋아요가 랭킹에 들어가지 않게 합니다.
+	 *
+	 * @param task 실행할 작업
+	 */
+	private void runAfterCommit(Runnable task) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+}
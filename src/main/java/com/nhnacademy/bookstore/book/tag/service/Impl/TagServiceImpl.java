@@ -9,6 +9,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.nhnacademy.bookstore.book.book.service.BookDetailCacheService;
 import com.nhnacademy.bookstore.book.tag.dto.request.CreateTagRequest;
 import com.nhnacademy.bookstore.book.tag.dto.request.DeleteTagRequest;
 import com.nhnacademy.bookstore.book.tag.dto.request.UpdateTagRequest;
@@ -29,6 +30,8 @@ import com.nhnacademy.bookstore.entity.tag.Tag;
 public class TagServiceImpl implements TagService {
 	@Autowired
 	private TagRepository tagRepository;
+	@Autowired
+	private BookDetailCacheService bookDetailCacheService;
 
 	@Override
 	public List<TagResponse> getAllTags() {
@@ -72,6 +75,7 @@ public class TagServiceImpl implements TagService {
 			throw new NotExistsTagException("해당 태그가 없습니다.");
 		}
 		tagRepository.deleteById(tag.tagId());
+		bookDetailCacheService.evictAll();
 	}
 
 	/**
@@ -87,6 +91,7 @@ public class TagServiceImpl implements TagService {
 		}
 		tagEntity.setName(tag.tagName());
 		tagRepository.save(tagEntity);
+		bookDetailCacheService.evictAll();
 		return tagEntity.getId();
 	}
 
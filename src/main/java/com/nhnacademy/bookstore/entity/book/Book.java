@@ -34,7 +34,8 @@ import lombok.Setter;
 @Table(name = "book", indexes = {
 	@Index(name = "idx_published_date", columnList = "published_date"),
 	@Index(name = "idx_price", columnList = "price"),
-	@Index(name = "idx_view_count", columnList = "view_count")
+	@Index(name = "idx_view_count", columnList = "view_count"),
+	@Index(name = "idx_like_count", columnList = "like_count")
 })
 public class Book {
 
@@ -70,6 +71,14 @@ public class Book {
 	@Column(columnDefinition = "int default 0")
 	private int viewCount;
 
+	/**
+	 * 좋아요 수. book_like 를 매번 세지 않도록 좋아요/취소 시 함께 갱신합니다.
+	 */
+	@NotNull
+	@Min(0)
+	@Column(columnDefinition = "int default 0")
+	private int likeCount;
+
 	@NotNull
 	private boolean packing;
 
@@ -0,0 +1,91 @@
+package com.nhnacademy.bookstore.entity.bookindexoutbox;
+
+import java.time.ZonedDateTime;
+
+import com.nhnacademy.bookstore.entity.bookindexoutbox.enums.BookIndexOperation;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색 색인에 보낼 도서 변경. 도서 변경과 같은 트랜잭션에서 저장되어 커밋된 변경만 relay 가 보냅니다.
+ * publishedAt 이 null 이면 아직 보내지 않은 변경입니다.
+ *
+ * @author 한민기
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "book_index_outbox", indexes = {
+	@Index(name = "idx_book_index_outbox_pending", columnList = "published_at, next_attempt_at")
+})
+public class BookIndexOutbox {
+	private static final int MAX_ERROR_LENGTH = 255;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private long id;
+
+	private long bookId;
+
+	@NotNull
+	@Enumerated(EnumType.STRING)
+	private BookIndexOperation operation;
+
+	@NotNull
+	private ZonedDateTime createdAt;
+
+	@NotNull
+	private ZonedDateTime nextAttemptAt;
+
+	private ZonedDateTime publishedAt;
+
+	private int attempts;
+
+	private String lastError;
+
+	public BookIndexOutbox(long bookId, BookIndexOperation operation) {
+		this.bookId = bookId;
+		this.operation = operation;
+	}
+
+	@PrePersist
+	protected void onCreate() {
+		this.createdAt = ZonedDateTime.now();
+		this.nextAttemptAt = this.createdAt;
+	}
+
+	/**
+	 * 보낸 것으로 표시합니다.
+	 *
+	 * @param publishedAt 보낸 시각
+	 */
+	public void published(ZonedDateTime publishedAt) {
+		this.publishedAt = publishedAt;
+		this.attempts++;
+		this.lastError = null;
+	}
+
+	/**
+	 * 보내기 실패를 기록하고 다음에 다시 보낼 시각을 정합니다.
+	 *
+	 * @param error         실패 이유
+	 * @param nextAttemptAt 다시 보낼 시각
+	 */
+	public void failed(String error, ZonedDateTime nextAttemptAt) {
+		this.attempts++;
+		this.nextAttemptAt = nextAttemptAt;
+		this.lastError = error == null || error.length() <= MAX_ERROR_LENGTH ? error
+			: error.substring(0, MAX_ERROR_LENGTH);
+	}
+}
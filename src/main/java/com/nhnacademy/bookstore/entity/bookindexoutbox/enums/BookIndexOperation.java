@@ -0,0 +1,5 @@
+package com.nhnacademy.bookstore.entity.bookindexoutbox.enums;
+
+public enum BookIndexOperation {
+	INDEX, DELETE
+}
@@ -0,0 +1,185 @@
+package com.nhnacademy.bookstore.global.elastic.book.bulk;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
+
+/**
+ * 도서 검색 문서를 elastic search bulk 요청 본문으로 씁니다.
+ * Jackson JsonGenerator 로 바로 써서 문자열 이스케이프를 Jackson 에 맡기고, 중간 객체 트리를 만들지 않습니다.
+ * 생성기 내부 버퍼는 Jackson 의 BufferRecycler 가, 문자열로 만들 때 쓰는 출력 버퍼는 스레드별로 재사용합니다.
+ *
+ * @author 한민기
+ */
+@Component
+public class BookBulkSerializer {
+	public static final String INDEX_NAME = "3runner_book_alias";
+
+	/**
+	 * 스레드별로 재사용하는 출력 버퍼가 이보다 커지면 버립니다. (큰 문서 하나 때문에 메모리를 계속 잡지 않도록)
+	 */
+	private static final int MAX_REUSED_BUFFER = 64 * 1024;
+
+	private final JsonFactory jsonFactory = JsonFactory.builder()
+		.disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+		.build();
+
+	private final ThreadLocal<ByteArrayOutputStream> buffers =
+		ThreadLocal.withInitial(() -> new ByteArrayOutputStream(1024));
+
+	/**
+	 * 문서 전체를 넣는 index 요청 두 줄을 문자열로 반환합니다. (마지막 줄바꿈 없음)
+	 *
+	 * @param document 검색 문서
+	 * @return bulk 요청 본문
+	 */
+	public String index(BookDocument document) {
+		ByteArrayOutputStream buffer = buffer();
+		try {
+			writeIndex(INDEX_NAME, document, buffer);
+			return buffer.toString(StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			release(buffer);
+		}
+	}
+
+	/**
+	 * delete 요청 한 줄을 문자열로 반환합니다. (마지막 줄바꿈 포함)
+	 *
+	 * @param bookId 도서 아이디
+	 * @return bulk 요청 본문
+	 */
+	public String delete(long bookId) {
+		ByteArrayOutputStream buffer = buffer();
+		try {
+			writeDelete(INDEX_NAME, bookId, buffer);
+			return buffer.toString(StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			release(buffer);
+		}
+	}
+
+	/**
+	 * index 요청 두 줄을 out 에 씁니다. 여러 문서를 이어 쓸 때는 사이에 줄바꿈을 넣어야 합니다.
+	 *
+	 * @param index    색인 이름
+	 * @param document 검색 문서
+	 * @param out      쓸 곳
+	 */
+	public void writeIndex(String index, BookDocument document, OutputStream out) throws IOException {
+		try (JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+			writeAction(generator, "index", index, document.getId());
+			generator.writeRaw('\n');
+			writeDocument(generator, document);
+		}
+	}
+
+	/**
+	 * 문서 부분만 json 문자열로 반환합니다.
+	 *
+	 * @param document 검색 문서
+	 * @return 문서 json
+	 */
+	public String document(BookDocument document) {
+		ByteArrayOutputStream buffer = buffer();
+		try {
+			try (JsonGenerator generator = jsonFactory.createGenerator(buffer, JsonEncoding.UTF8)) {
+				writeDocument(generator, document);
+			}
+			return buffer.toString(StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			release(buffer);
+		}
+	}
+
+	private void writeDocument(JsonGenerator generator, BookDocument document) throws IOException {
+		generator.writeStartObject();
+		generator.writeNumberField("id", document.getId());
+		generator.writeStringField("title", document.getTitle());
+		generator.writeStringField("author", document.getAuthor());
+		generator.writeStringField("thumbnail", document.getThumbnail());
+		generator.writeStringField("publisher", document.getPublisher());
+		generator.writeNumberField("price", document.getPrice());
+		generator.writeNumberField("sellingPrice", document.getSellingPrice());
+		writeStrings(generator, "tagList", document.getTagList());
+		writeStrings(generator, "categoryList", document.getCategoryList());
+		generator.writeEndObject();
+	}
+
+	/**
+	 * delete 요청 한 줄을 out 에 씁니다.
+	 *
+	 * @param index  색인 이름
+	 * @param bookId 도서 아이디
+	 * @param out    쓸 곳
+	 */
+	public void writeDelete(String index, long bookId, OutputStream out) throws IOException {
+		try (JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+			writeAction(generator, "delete", index, bookId);
+			generator.writeRaw('\n');
+		}
+	}
+
+	/**
+	 * bulk 요청 본문에서 문서 부분을 꺼냅니다. delete 요청이라 문서가 없으면 null 입니다.
+	 *
+	 * @param body index 또는 delete 요청 본문
+	 * @return 문서 json
+	 */
+	public static String source(String body) {
+		int newline = body.indexOf('\n');
+		if (newline < 0 || body.substring(newline + 1).isBlank()) {
+			return null;
+		}
+		return body.substring(newline + 1).strip();
+	}
+
+	private void writeAction(JsonGenerator generator, String action, String index, long bookId) throws IOException {
+		generator.writeStartObject();
+		generator.writeObjectFieldStart(action);
+		generator.writeStringField("_index", index);
+		generator.writeStringField("_id", String.valueOf(bookId));
+		generator.writeEndObject();
+		generator.writeEndObject();
+	}
+
+	private void writeStrings(JsonGenerator generator, String fieldName, List<String> values) throws IOException {
+		generator.writeArrayFieldStart(fieldName);
+		if (Objects.nonNull(values)) {
+			for (String value : values) {
+				generator.writeString(value);
+			}
+		}
+		generator.writeEndArray();
+	}
+
+	private ByteArrayOutputStream buffer() {
+		ByteArrayOutputStream buffer = buffers.get();
+		buffer.reset();
+		return buffer;
+	}
+
+	private void release(ByteArrayOutputStream buffer) {
+		if (buffer.size() > MAX_REUSED_BUFFER) {
+			buffers.remove();
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package com.nhnacademy.bookstore.global.elastic.book.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import com.nhnacademy.bookstore.book.book.exception.InvalidBookCursorException;
+
+/**
+ * 검색 결과 search_after 페이지네이션에 사용하는 커서입니다.
+ * 검색에 쓰는 point in time 아이디와 마지막으로 내려준 도서의 정렬 값(점수, 아이디)을 opaque 토큰(after)으로 주고 받습니다.
+ *
+ * @author 한민기
+ * @param pitId point in time 아이디
+ * @param score 마지막 도서의 점수
+ * @param id    마지막 도서 아이디
+ */
+public record BookSearchCursor(String pitId, double score, String id) {
+	private static final String DELIMITER = ",";
+
+	/**
+	 * point in time 아이디와 마지막 검색 결과의 정렬 값으로 커서를 생성합니다.
+	 *
+	 * @param pitId      point in time 아이디
+	 * @param sortValues 마지막 검색 결과의 정렬 값 (점수, 아이디 순서)
+	 * @return 커서
+	 */
+	public static BookSearchCursor of(String pitId, List<Object> sortValues) {
+		return new BookSearchCursor(pitId, Double.parseDouble(String.valueOf(sortValues.get(0))),
+			String.valueOf(sortValues.get(1)));
+	}
+
+	/**
+	 * 다음 검색의 search_after 값.
+	 *
+	 * @return 점수, 아이디
+	 */
+	public List<Object> searchAfter() {
+		return List.of(score, id);
+	}
+
+	/**
+	 * 커서를 url 에 그대로 실을 수 있는 토큰으로 변환합니다.
+	 *
+	 * @return base64url 토큰
+	 */
+	public String encode() {
+		String raw = pitId + DELIMITER + score + DELIMITER + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 토큰을 커서로 변환합니다.
+	 *
+	 * @param token base64url 토큰
+	 * @return 커서
+	 * @throws InvalidBookCursorException 토큰 형식이 잘못된 경우
+	 */
+	public static BookSearchCursor decode(String token) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			String[] parts = raw.split(DELIMITER, 3);
+			if (parts.length != 3 || parts[0].isEmpty() || parts[2].isEmpty()) {
+				throw new InvalidBookCursorException("잘못된 커서입니다.");
+			}
+			return new BookSearchCursor(parts[0], Double.parseDouble(parts[1]), parts[2]);
+		} catch (IllegalArgumentException e) {
+			throw new InvalidBookCursorException("잘못된 커서입니다.");
+		}
+	}
+}
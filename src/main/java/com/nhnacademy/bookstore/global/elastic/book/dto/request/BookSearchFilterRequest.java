@@ -0,0 +1,33 @@
+package com.nhnacademy.bookstore.global.elastic.book.dto.request;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 도서 검색 필터. 값이 없는 조건은 걸지 않고, 같은 조건 안의 값은 하나만 맞아도 됩니다.
+ *
+ * @param categories 카테고리 이름
+ * @param tags       태그 이름
+ * @param publishers 출판사
+ * @param minPrice   판매가 하한 (이상)
+ * @param maxPrice   판매가 상한 (미만)
+ * @author 한민기
+ */
+public record BookSearchFilterRequest(List<String> categories, List<String> tags, List<String> publishers,
+	Integer minPrice, Integer maxPrice) {
+	public BookSearchFilterRequest {
+		categories = Objects.isNull(categories) ? List.of() : List.copyOf(categories);
+		tags = Objects.isNull(tags) ? List.of() : List.copyOf(tags);
+		publishers = Objects.isNull(publishers) ? List.of() : List.copyOf(publishers);
+	}
+
+	/**
+	 * 걸린 조건이 하나도 없는지.
+	 *
+	 * @return 조건이 없으면 true
+	 */
+	public boolean isEmpty() {
+		return categories.isEmpty() && tags.isEmpty() && publishers.isEmpty()
+			&& Objects.isNull(minPrice) && Objects.isNull(maxPrice);
+	}
+}
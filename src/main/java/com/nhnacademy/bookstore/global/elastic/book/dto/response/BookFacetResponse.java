@@ -0,0 +1,11 @@
+package com.nhnacademy.bookstore.global.elastic.book.dto.response;
+
+/**
+ * 검색 결과 안에서 한 값(카테고리, 태그, 출판사)을 가진 도서 수.
+ *
+ * @param value 값
+ * @param count 도서 수
+ * @author 한민기
+ */
+public record BookFacetResponse(String value, long count) {
+}
@@ -0,0 +1,25 @@
+package com.nhnacademy.bookstore.global.elastic.book.dto.response;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
+
+import lombok.Builder;
+
+/**
+ * 검색 결과와 그 결과 안의 필드별 도서 수.
+ *
+ * @param books      검색 결과
+ * @param categories 카테고리별 도서 수
+ * @param tags       태그별 도서 수
+ * @param publishers 출판사별 도서 수
+ * @param prices     판매가 구간별 도서 수
+ * @author 한민기
+ */
+@Builder(toBuilder = true)
+public record BookFacetSearchResponse(Page<BookDocument> books, List<BookFacetResponse> categories,
+	List<BookFacetResponse> tags, List<BookFacetResponse> publishers,
+	List<BookPriceFacetResponse> prices) {
+}
@@ -0,0 +1,12 @@
+package com.nhnacademy.bookstore.global.elastic.book.dto.response;
+
+/**
+ * 검색 결과 안에서 판매가 구간에 든 도서 수.
+ *
+ * @param from  구간 하한 (이상)
+ * @param to    구간 상한 (미만)
+ * @param count 도서 수
+ * @author 한민기
+ */
+public record BookPriceFacetResponse(int from, int to, long count) {
+}
@@ -0,0 +1,21 @@
+package com.nhnacademy.bookstore.global.elastic.book.dto.response;
+
+import java.util.List;
+
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
+
+import lombok.Builder;
+
+/**
+ * 커서 기반 검색 결과 dto
+ *
+ * @param content    검색으로 찾은 도서
+ * @param nextCursor 다음 페이지를 조회할 after 토큰 (마지막 페이지면 null)
+ * @param hasNext    다음 페이지 존재 여부
+ * @author 한민기
+ */
+@Builder(toBuilder = true)
+public record BookSearchCursorResponse(
+	List<BookDocument> content, String nextCursor, boolean hasNext
+) {
+}
@@ -0,0 +1,17 @@
+package com.nhnacademy.bookstore.global.elastic.book.dto.response;
+
+import com.nhnacademy.bookstore.global.elastic.book.enums.BookSuggestType;
+
+import lombok.Builder;
+
+/**
+ * 자동완성 항목.
+ *
+ * @param text   보여줄 문자열 (도서 제목 또는 작가)
+ * @param type   제목인지 작가인지
+ * @param bookId 이 항목을 가진 도서 중 조회수가 가장 많은 도서 아이디
+ * @author 한민기
+ */
+@Builder
+public record BookSuggestResponse(String text, BookSuggestType type, long bookId) {
+}
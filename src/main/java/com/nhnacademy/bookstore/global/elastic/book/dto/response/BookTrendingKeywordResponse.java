@@ -0,0 +1,11 @@
+package com.nhnacademy.bookstore.global.elastic.book.dto.response;
+
+/**
+ * 많이 검색된 키워드.
+ *
+ * @param keyword 검색 키워드
+ * @param count   검색된 수 (추정치라 실제보다 조금 많을 수 있음)
+ * @author 한민기
+ */
+public record BookTrendingKeywordResponse(String keyword, long count) {
+}
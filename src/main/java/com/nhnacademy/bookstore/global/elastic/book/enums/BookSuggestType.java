@@ -0,0 +1,11 @@
+package com.nhnacademy.bookstore.global.elastic.book.enums;
+
+/**
+ * 자동완성 항목이 어느 필드에서 나왔는지.
+ *
+ * @author 한민기
+ */
+public enum BookSuggestType {
+	TITLE,
+	AUTHOR
+}
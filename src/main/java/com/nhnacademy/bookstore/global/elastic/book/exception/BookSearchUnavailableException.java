@@ -0,0 +1,12 @@
+package com.nhnacademy.bookstore.global.elastic.book.exception;
+
+/**
+ * elastic search 로 검색할 수 없을 때 (회로가 열려 있을 때) 발생하는 Exception.
+ *
+ * @author 한민기
+ */
+public class BookSearchUnavailableException extends RuntimeException {
+	public BookSearchUnavailableException(String message) {
+		super(message);
+	}
+}
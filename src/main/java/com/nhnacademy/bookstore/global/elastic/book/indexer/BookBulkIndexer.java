@@ -0,0 +1,341 @@
+package com.nhnacademy.bookstore.global.elastic.book.indexer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.DeleteQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.StringQuery;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.nhnacademy.bookstore.book.book.dto.response.BookIndexChangeResponse;
+import com.nhnacademy.bookstore.book.book.repository.BookRedisRepository;
+import com.nhnacademy.bookstore.global.elastic.book.bulk.BookBulkSerializer;
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * redis 의 도서 변경 목록을 직접 elastic search 에 반영하는 색인기입니다.
+ * book.index.indexer.enabled=true 일 때만 뜨며, 켜면 batch server 의 색인 작업은 꺼야 합니다. (같이 돌아도 결과는 같습니다.)
+ * <p>
+ * 변경을 개수(batch-actions)와 크기(batch-size)로 잘라 bulk 요청으로 보내고, 동시에 보내는 요청은 max-in-flight 개로 제한합니다.
+ * 한 번에 읽은 변경이 모두 끝나야 다음 변경을 읽으므로 elastic search 가 느려지면 읽는 속도도 같이 느려집니다.
+ * 일부 문서만 실패하면 그 문서만 다시 보내고, 끝내 실패한 변경은 redis 에 남겨 다음 주기에 다시 보냅니다.
+ *
+ * @author 한민기
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "book.index.indexer.enabled", havingValue = "true")
+public class BookBulkIndexer {
+	private final BookRedisRepository bookRedisRepository;
+	private final ElasticsearchOperations elasticsearchOperations;
+	private final IndexCoordinates index;
+	private final int batchActions;
+	private final long batchBytes;
+	private final int maxInFlight;
+	private final int maxRetries;
+	private final Duration retryDelay;
+	private final ExecutorService executor;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicLong pending = new AtomicLong();
+	/**
+	 * 남은 변경 중 가장 먼저 바뀐 시각. 지금과의 차이가 색인 지연이고, 남은 변경이 없으면 0 입니다.
+	 */
+	private final AtomicLong oldestChangeAt = new AtomicLong();
+
+	private final Counter indexedCounter;
+	private final Counter failedCounter;
+	private final Counter retryCounter;
+	private final Timer bulkTimer;
+	private final DistributionSummary bulkBytes;
+
+	public BookBulkIndexer(BookRedisRepository bookRedisRepository, ElasticsearchOperations elasticsearchOperations,
+		MeterRegistry meterRegistry,
+		@Value("${book.index.indexer.index:" + BookBulkSerializer.INDEX_NAME + "}") String index,
+		@Value("${book.index.indexer.batch-actions:500}") int batchActions,
+		@Value("${book.index.indexer.batch-size:5MB}") DataSize batchSize,
+		@Value("${book.index.indexer.max-in-flight:2}") int maxInFlight,
+		@Value("${book.index.indexer.max-retries:3}") int maxRetries,
+		@Value("${book.index.indexer.retry-delay:200ms}") Duration retryDelay) {
+		this.bookRedisRepository = bookRedisRepository;
+		this.elasticsearchOperations = elasticsearchOperations;
+		this.index = IndexCoordinates.of(index);
+		this.batchActions = batchActions;
+		this.batchBytes = batchSize.toBytes();
+		this.maxInFlight = maxInFlight;
+		this.maxRetries = maxRetries;
+		this.retryDelay = retryDelay;
+		this.executor = Executors.newFixedThreadPool(maxInFlight);
+
+		this.indexedCounter = Counter.builder("bookstore.book.index.indexed").tag("result", "success")
+			.description("elastic search 에 반영한 도서 변경 수")
+			.register(meterRegistry);
+		this.failedCounter = Counter.builder("bookstore.book.index.indexed").tag("result", "failure")
+			.description("재시도 후에도 반영하지 못해 다음 주기로 넘긴 도서 변경 수")
+			.register(meterRegistry);
+		this.retryCounter = Counter.builder("bookstore.book.index.retries")
+			.description("일부 실패로 다시 보낸 도서 변경 수")
+			.register(meterRegistry);
+		this.bulkTimer = Timer.builder("bookstore.book.index.bulk")
+			.description("bulk 요청 시간")
+			.register(meterRegistry);
+		this.bulkBytes = DistributionSummary.builder("bookstore.book.index.bulk.size")
+			.baseUnit("bytes")
+			.description("bulk 요청 크기")
+			.register(meterRegistry);
+		Gauge.builder("bookstore.book.index.pending", pending, AtomicLong::get)
+			.description("아직 반영하지 않은 도서 변경 수")
+			.register(meterRegistry);
+		Gauge.builder("bookstore.book.index.lag", this, BookBulkIndexer::lagSeconds)
+			.baseUnit("seconds")
+			.description("아직 반영하지 않은 변경 중 가장 오래된 것이 기다린 시간")
+			.register(meterRegistry);
+		Gauge.builder("bookstore.book.index.in-flight", inFlight, AtomicInteger::get)
+			.description("응답을 기다리는 bulk 요청 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 남은 변경을 모두 반영합니다. 한 번에 batch-actions * max-in-flight 개씩 읽어 bulk 요청 여러 개로 나눠 보냅니다.
+	 */
+	@Scheduled(fixedDelayString = "${book.index.indexer.delay:1000}")
+	public void drain() {
+		int limit = batchActions * maxInFlight;
+		try {
+			while (true) {
+				List<BookIndexChangeResponse> changes = bookRedisRepository.readChanges(limit);
+				if (changes.isEmpty()) {
+					break;
+				}
+
+				List<Future<List<BookIndexChangeResponse>>> futures = new ArrayList<>();
+				for (List<BookIndexChangeResponse> batch : split(changes)) {
+					futures.add(executor.submit(() -> send(batch)));
+				}
+				List<BookIndexChangeResponse> indexed = new ArrayList<>(changes.size());
+				for (Future<List<BookIndexChangeResponse>> future : futures) {
+					indexed.addAll(join(future));
+				}
+				bookRedisRepository.removeChanges(indexed);
+
+				// 실패가 남았으면 같은 변경을 바로 다시 읽게 되므로 다음 주기로 넘긴다.
+				if (indexed.size() < changes.size() || changes.size() < limit) {
+					break;
+				}
+			}
+		} catch (RuntimeException e) {
+			log.warn("도서 색인 실패, 다음 주기에 다시 시도합니다.", e);
+		} finally {
+			refreshPending();
+		}
+	}
+
+	/**
+	 * 변경을 bulk 요청 하나에 담을 만큼씩 자릅니다.
+	 *
+	 * @param changes 변경 내용
+	 * @return bulk 요청 단위로 나눈 변경 내용
+	 */
+	List<List<BookIndexChangeResponse>> split(List<BookIndexChangeResponse> changes) {
+		List<List<BookIndexChangeResponse>> batches = new ArrayList<>();
+		List<BookIndexChangeResponse> batch = new ArrayList<>();
+		long bytes = 0;
+		for (BookIndexChangeResponse change : changes) {
+			long size = utf8Length(change.body());
+			if (!batch.isEmpty() && (batch.size() >= batchActions || bytes + size > batchBytes)) {
+				batches.add(batch);
+				batch = new ArrayList<>();
+				bytes = 0;
+			}
+			batch.add(change);
+			bytes += size;
+		}
+		if (!batch.isEmpty()) {
+			batches.add(batch);
+		}
+		return batches;
+	}
+
+	/**
+	 * 한 묶음을 보내고, 실패한 문서만 골라 max-retries 번까지 다시 보냅니다.
+	 *
+	 * @param batch 변경 내용
+	 * @return 반영한 변경 내용
+	 */
+	List<BookIndexChangeResponse> send(List<BookIndexChangeResponse> batch) {
+		List<BookIndexChangeResponse> indexed = new ArrayList<>(batch.size());
+		List<BookIndexChangeResponse> remaining = batch;
+		for (int attempt = 0; ; attempt++) {
+			Set<String> failedIds = bulk(remaining);
+			List<BookIndexChangeResponse> failed = new ArrayList<>();
+			for (BookIndexChangeResponse change : remaining) {
+				if (failedIds.contains(String.valueOf(change.bookId()))) {
+					failed.add(change);
+				} else {
+					indexed.add(change);
+				}
+			}
+			remaining = failed;
+			if (remaining.isEmpty() || attempt >= maxRetries || !sleep(retryDelay.multipliedBy(1L << attempt))) {
+				break;
+			}
+			retryCounter.increment(remaining.size());
+		}
+		indexedCounter.increment(indexed.size());
+		if (!remaining.isEmpty()) {
+			failedCounter.increment(remaining.size());
+			log.warn("도서 색인 재시도 실패, 다음 주기에 다시 보냅니다. : {}",
+				remaining.stream().map(BookIndexChangeResponse::bookId).toList());
+		}
+		return indexed;
+	}
+
+	/**
+	 * index 는 bulk 요청 하나로, delete 는 아이디 목록으로 지우는 요청 하나로 보냅니다.
+	 *
+	 * @param changes 변경 내용
+	 * @return 실패한 도서 아이디
+	 */
+	private Set<String> bulk(List<BookIndexChangeResponse> changes) {
+		List<IndexQuery> queries = new ArrayList<>();
+		List<String> deletedIds = new ArrayList<>();
+		long bytes = 0;
+		for (BookIndexChangeResponse change : changes) {
+			String id = String.valueOf(change.bookId());
+			String source = BookBulkSerializer.source(change.body());
+			if (Objects.isNull(source)) {
+				deletedIds.add(id);
+			} else {
+				queries.add(new IndexQueryBuilder().withId(id).withSource(source).build());
+			}
+			bytes += utf8Length(change.body());
+		}
+
+		Set<String> failedIds = new HashSet<>();
+		inFlight.incrementAndGet();
+		Timer.Sample sample = Timer.start();
+		try {
+			if (!queries.isEmpty()) {
+				try {
+					elasticsearchOperations.bulkIndex(queries, index);
+				} catch (BulkFailureException e) {
+					failedIds.addAll(e.getFailedDocuments().keySet());
+				} catch (RuntimeException e) {
+					log.warn("도서 bulk 색인 요청 실패 : {} 건", queries.size(), e);
+					queries.forEach(query -> failedIds.add(query.getId()));
+				}
+			}
+			if (!deletedIds.isEmpty()) {
+				try {
+					elasticsearchOperations.delete(idsQuery(deletedIds), BookDocument.class, index);
+				} catch (RuntimeException e) {
+					log.warn("도서 색인 삭제 요청 실패 : {} 건", deletedIds.size(), e);
+					failedIds.addAll(deletedIds);
+				}
+			}
+		} finally {
+			sample.stop(bulkTimer);
+			inFlight.decrementAndGet();
+			bulkBytes.record(bytes);
+		}
+		return failedIds;
+	}
+
+	private static DeleteQuery idsQuery(List<String> ids) {
+		String values = ids.stream().map(id -> "\"" + id + "\"").collect(Collectors.joining(","));
+		return DeleteQuery.builder(new StringQuery("{\"ids\":{\"values\":[" + values + "]}}")).build();
+	}
+
+	private List<BookIndexChangeResponse> join(Future<List<BookIndexChangeResponse>> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return List.of();
+		} catch (ExecutionException e) {
+			log.warn("도서 색인 작업 실패", e.getCause());
+			return List.of();
+		}
+	}
+
+	private boolean sleep(Duration delay) {
+		try {
+			Thread.sleep(delay);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private void refreshPending() {
+		try {
+			pending.set(bookRedisRepository.countChanges());
+			oldestChangeAt.set(bookRedisRepository.readOldestChangeTime().orElse(0L));
+		} catch (RuntimeException e) {
+			log.warn("남은 도서 변경 수 조회 실패", e);
+		}
+	}
+
+	private double lagSeconds() {
+		long changedAt = oldestChangeAt.get();
+		if (changedAt == 0) {
+			return 0;
+		}
+		return Math.max(0, System.currentTimeMillis() - changedAt) / 1000.0;
+	}
+
+	private static long utf8Length(String value) {
+		long length = 0;
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c < 0x80) {
+				length++;
+			} else if (c < 0x800) {
+				length += 2;
+			} else if (Character.isHighSurrogate(c)) {
+				length += 4;
+				i++;
+			} else {
+				length += 3;
+			}
+		}
+		return length;
+	}
+
+	/**
+	 * 종료할 때 보내는 중인 요청은 끝내고 멈춥니다.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+}
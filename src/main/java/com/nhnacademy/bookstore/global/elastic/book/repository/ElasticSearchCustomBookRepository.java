@@ -1,12 +1,34 @@
 package com.nhnacademy.bookstore.global.elastic.book.repository;
 
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.elasticsearch.core.SearchHits;
 
-import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
+import com.nhnacademy.bookstore.global.elastic.book.dto.request.BookSearchCursor;
+import com.nhnacademy.bookstore.global.elastic.book.dto.request.BookSearchFilterRequest;
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookFacetSearchResponse;
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookSearchCursorResponse;
 
 public interface ElasticSearchCustomBookRepository {
-	// List<BookDocument> searchBooks(String keyword);
 
-	SearchHits<BookDocument> searchProductsByProductName(String keyword, Pageable pageable);
+	/**
+	 * 도서를 점수 순서로 검색해 커서 다음의 size 개를 반환합니다.
+	 * from 대신 point in time 과 search_after 로 이어서 읽으므로 뒤쪽 페이지도 비용이 같고 max_result_window 에 걸리지 않습니다.
+	 * 첫 페이지에서 point in time 을 열고, 마지막 페이지를 읽으면 닫습니다.
+	 *
+	 * @param keyword 검색 키워드
+	 * @param after   이전 페이지의 커서 (첫 페이지면 null)
+	 * @param size    페이지 사이즈
+	 * @return 검색 결과와 다음 커서
+	 */
+	BookSearchCursorResponse searchByCursor(String keyword, BookSearchCursor after, int size);
+
+	/**
+	 * 도서를 검색하면서 같은 요청에서 카테고리, 태그, 출판사, 판매가 구간별 도서 수를 같이 셉니다.
+	 * 필터는 점수에 영향을 주지 않는 filter 절로 걸어서 elastic search 의 필터 캐시를 탑니다.
+	 *
+	 * @param keyword  검색 키워드
+	 * @param filter   검색 필터
+	 * @param pageable 페이지
+	 * @return 검색 결과와 필드별 도서 수
+	 */
+	BookFacetSearchResponse searchWithFacets(String keyword, BookSearchFilterRequest filter, Pageable pageable);
 }
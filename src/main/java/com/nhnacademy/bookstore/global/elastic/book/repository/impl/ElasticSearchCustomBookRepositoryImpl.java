@@ -1,42 +1,307 @@
 package com.nhnacademy.bookstore.global.elastic.book.repository.impl;
 
-import org.elasticsearch.index.query.BoolQueryBuilder;
-import org.elasticsearch.index.query.QueryBuilder;
-import org.elasticsearch.index.query.QueryBuilders;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.ResourceNotFoundException;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregation;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
-import org.springframework.data.elasticsearch.core.query.Query;
-import org.springframework.data.elasticsearch.core.query.SearchTemplateQuery;
-import org.springframework.data.elasticsearch.core.query.SearchTemplateQueryBuilder;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Query.PointInTime;
 import org.springframework.stereotype.Repository;
 
+import com.nhnacademy.bookstore.book.book.exception.InvalidBookCursorException;
+import com.nhnacademy.bookstore.global.elastic.book.dto.request.BookSearchCursor;
+import com.nhnacademy.bookstore.global.elastic.book.dto.request.BookSearchFilterRequest;
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookFacetResponse;
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookFacetSearchResponse;
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookPriceFacetResponse;
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookSearchCursorResponse;
 import com.nhnacademy.bookstore.global.elastic.book.repository.ElasticSearchCustomBookRepository;
 import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
 
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.json.JsonData;
+import co.elastic.clients.util.ObjectBuilder;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Repository
 @RequiredArgsConstructor
 public class ElasticSearchCustomBookRepositoryImpl implements ElasticSearchCustomBookRepository {
+	/**
+	 * findByCustomQuery 와 같은 검색 필드와 가중치.
+	 */
+	private static final List<String> SEARCH_FIELDS = List.of("title^70", "titleNgram^70", "author^50",
+		"publisher^50", "categoryList^50", "tagList^60");
+	private static final String MINIMUM_SHOULD_MATCH = "70%";
+
+	private static final IndexCoordinates BOOK_INDEX = IndexCoordinates.of("3runner_book_alias");
+	private static final Duration PIT_KEEP_ALIVE = Duration.ofMinutes(1);
+
+	private static final String ID_FIELD = "id";
+	private static final String CATEGORY_FIELD = "categoryList";
+	private static final String TAG_FIELD = "tagList.keyword";
+	private static final String PUBLISHER_FIELD = "publisher.keyword";
+	private static final String PRICE_FIELD = "sellingPrice";
+
+	private static final String CATEGORY_FACET = "categories";
+	private static final String TAG_FACET = "tags";
+	private static final String PUBLISHER_FACET = "publishers";
+	private static final String PRICE_FACET = "prices";
+	private static final int FACET_SIZE = 10;
+	private static final int PRICE_INTERVAL = 10000;
+
+	/**
+	 * 별칭을 옮긴 뒤 새 색인의 매핑을 따라가도록 가격 매핑 확인 결과는 이 시간 동안만 씁니다.
+	 */
+	private static final Duration PRICE_MAPPING_TTL = Duration.ofMinutes(1);
+	private static final Set<String> NUMERIC_TYPES = Set.of("byte", "short", "integer", "long", "unsigned_long",
+		"half_float", "float", "double", "scaled_float");
 
 	private final ElasticsearchOperations elasticsearchOperations;
 
+	/**
+	 * 마지막으로 확인한 가격 매핑. 확인하기 전에는 null.
+	 */
+	private volatile PriceMapping priceMapping;
+
+	/**
+	 * {@inheritDoc}
+	 * 점수가 같은 도서는 아이디 순서로 정렬해서 페이지 경계에서 빠지거나 겹치지 않게 합니다.
+	 * 커서의 point in time 이 keep alive 가 지나 지워졌으면 elastic search 가 404 로 답하므로 잘못된 커서로 돌려줍니다.
+	 */
 	@Override
-	public SearchHits<BookDocument> searchProductsByProductName(String keyword, Pageable pageable) {
-		// JSON 쿼리 작성
-		BoolQueryBuilder boolQuery = QueryBuilders.boolQuery()
-			.should(QueryBuilders.matchQuery("title", keyword).boost(2))
-			.should(QueryBuilders.matchQuery("author", keyword).boost(3))
-			.should(QueryBuilders.matchQuery("publisher", keyword).boost(1))
-			.should(QueryBuilders.matchQuery("categoryList", keyword).boost(199));
-
-		QueryBuilder query = QueryBuilders.boolQuery();
-		SearchTemplateQueryBuilder searchTemplateQueryBuilder = new SearchTemplateQueryBuilder();
-		Query query1 = new SearchTemplateQuery(searchTemplateQueryBuilder);
-		// 검색 수행
-		SearchHits<BookDocument> searchHits = elasticsearchOperations.search(query1, BookDocument.class);
-		return searchHits;
+	public BookSearchCursorResponse searchByCursor(String keyword, BookSearchCursor after, int size) {
+		boolean first = Objects.isNull(after);
+		String pitId = first ? elasticsearchOperations.openPointInTime(BOOK_INDEX, PIT_KEEP_ALIVE, false)
+			: after.pitId();
+
+		NativeQueryBuilder builder = NativeQuery.builder()
+			.withQuery(q -> keywordQuery(q, keyword))
+			.withSort(sort -> sort.score(score -> score.order(SortOrder.Desc)))
+			.withSort(sort -> sort.field(field -> field.field(ID_FIELD).order(SortOrder.Asc)))
+			.withPointInTime(new PointInTime(pitId, PIT_KEEP_ALIVE))
+			.withPageable(PageRequest.of(0, size + 1))
+			.withTrackTotalHits(false);
+		if (!first) {
+			builder.withSearchAfter(after.searchAfter());
+		}
+
+		SearchHits<BookDocument> hits;
+		try {
+			hits = elasticsearchOperations.search(builder.build(), BookDocument.class);
+		} catch (ResourceNotFoundException e) {
+			if (first) {
+				closePointInTime(pitId);
+				throw e;
+			}
+			throw new InvalidBookCursorException("만료된 커서입니다. 처음부터 다시 검색해주세요.");
+		} catch (RuntimeException e) {
+			if (first) {
+				closePointInTime(pitId);
+			}
+			throw e;
+		}
+		// elastic search 가 point in time 아이디를 바꿔서 줄 수 있으므로 다음 커서에는 받은 아이디를 넣는다.
+		String nextPitId = Objects.requireNonNullElse(hits.getPointInTimeId(), pitId);
+
+		List<SearchHit<BookDocument>> rows = hits.getSearchHits();
+		boolean hasNext = rows.size() > size;
+		List<SearchHit<BookDocument>> page = hasNext ? rows.subList(0, size) : rows;
+
+		String nextCursor = null;
+		if (hasNext) {
+			nextCursor = BookSearchCursor.of(nextPitId, page.getLast().getSortValues()).encode();
+		} else {
+			closePointInTime(nextPitId);
+		}
+
+		return BookSearchCursorResponse.builder()
+			.content(page.stream().map(SearchHit::getContent).toList())
+			.nextCursor(nextCursor)
+			.hasNext(hasNext)
+			.build();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 필드별 도서 수는 필터까지 건 결과 안에서 셉니다.
+	 * <p>
+	 * 재색인 전의 색인은 sellingPrice 가 keyword 라서 histogram 이 400 으로 실패하므로, 숫자 타입이 아니면 가격 구간은 비워서 돌려줍니다.
+	 * 가격 범위 필터도 그 색인에서는 문자열로 비교되므로 재색인을 마친 뒤에 가격 필터를 열어야 합니다.
+	 */
+	@Override
+	public BookFacetSearchResponse searchWithFacets(String keyword, BookSearchFilterRequest filter,
+		Pageable pageable) {
+		NativeQueryBuilder builder = NativeQuery.builder()
+			.withQuery(q -> q.bool(bool -> {
+				bool.must(must -> keywordQuery(must, keyword));
+				termsFilter(bool, CATEGORY_FIELD, filter.categories());
+				termsFilter(bool, TAG_FIELD, filter.tags());
+				termsFilter(bool, PUBLISHER_FIELD, filter.publishers());
+				priceFilter(bool, filter.minPrice(), filter.maxPrice());
+				return bool;
+			}))
+			.withAggregation(CATEGORY_FACET, termsFacet(CATEGORY_FIELD))
+			.withAggregation(TAG_FACET, termsFacet(TAG_FIELD))
+			.withAggregation(PUBLISHER_FACET, termsFacet(PUBLISHER_FIELD))
+			.withPageable(pageable);
+		if (isPriceNumeric()) {
+			builder.withAggregation(PRICE_FACET, Aggregation.of(a -> a.histogram(histogram -> histogram.field(PRICE_FIELD)
+				.interval((double)PRICE_INTERVAL)
+				.minDocCount(1))));
+		}
+
+		SearchHits<BookDocument> hits = elasticsearchOperations.search(builder.build(), BookDocument.class);
+		Page<BookDocument> books = new PageImpl<>(hits.getSearchHits().stream().map(SearchHit::getContent).toList(),
+			pageable, hits.getTotalHits());
+		ElasticsearchAggregations aggregations = (ElasticsearchAggregations)hits.getAggregations();
+
+		return BookFacetSearchResponse.builder()
+			.books(books)
+			.categories(termsBuckets(aggregations, CATEGORY_FACET))
+			.tags(termsBuckets(aggregations, TAG_FACET))
+			.publishers(termsBuckets(aggregations, PUBLISHER_FACET))
+			.prices(priceBuckets(aggregations))
+			.build();
+	}
+
+	/**
+	 * 별칭이 가리키는 색인에서 sellingPrice 가 숫자 타입인지. 매핑을 읽지 못하면 이번 검색만 가격 구간을 뺍니다.
+	 *
+	 * @return 숫자 타입이면 true
+	 */
+	private boolean isPriceNumeric() {
+		PriceMapping current = priceMapping;
+		long now = System.nanoTime();
+		if (Objects.nonNull(current) && now - current.expiresAt() < 0) {
+			return current.numeric();
+		}
+		String type;
+		try {
+			type = priceType(elasticsearchOperations.indexOps(BOOK_INDEX).getMapping());
+		} catch (RuntimeException e) {
+			log.warn("도서 검색 색인 매핑 조회 실패, 가격 구간은 빼고 검색합니다.", e);
+			return false;
+		}
+		boolean numeric = Objects.nonNull(type) && NUMERIC_TYPES.contains(type);
+		if (!numeric) {
+			log.warn("도서 검색 색인의 {} 가 숫자 타입이 아니어서 ({}) 가격 구간은 빼고 검색합니다. 재색인이 필요합니다.", PRICE_FIELD,
+				type);
+		}
+		priceMapping = new PriceMapping(numeric, now + PRICE_MAPPING_TTL.toNanos());
+		return numeric;
+	}
+
+	private static String priceType(Map<String, Object> mapping) {
+		if (mapping.get("properties") instanceof Map<?, ?> properties
+			&& properties.get(PRICE_FIELD) instanceof Map<?, ?> field
+			&& field.get("type") instanceof String type) {
+			return type;
+		}
+		return null;
+	}
+
+	private static ObjectBuilder<Query> keywordQuery(Query.Builder query, String keyword) {
+		return query.multiMatch(match -> match.query(keyword)
+			.fields(SEARCH_FIELDS)
+			.minimumShouldMatch(MINIMUM_SHOULD_MATCH));
+	}
+
+	/**
+	 * point in time 을 닫습니다. 닫지 못해도 keep alive 가 지나면 elastic search 가 지우므로 검색은 실패시키지 않습니다.
+	 *
+	 * @param pitId point in time 아이디
+	 */
+	private void closePointInTime(String pitId) {
+		try {
+			elasticsearchOperations.closePointInTime(pitId);
+		} catch (RuntimeException e) {
+			log.warn("point in time 닫기 실패", e);
+		}
+	}
+
+	private static void termsFilter(BoolQuery.Builder bool, String field, List<String> values) {
+		if (values.isEmpty()) {
+			return;
+		}
+		List<FieldValue> fieldValues = values.stream().map(FieldValue::of).toList();
+		bool.filter(f -> f.terms(terms -> terms.field(field).terms(value -> value.value(fieldValues))));
+	}
+
+	private static void priceFilter(BoolQuery.Builder bool, Integer minPrice, Integer maxPrice) {
+		if (Objects.isNull(minPrice) && Objects.isNull(maxPrice)) {
+			return;
+		}
+		bool.filter(f -> f.range(range -> {
+			range.field(PRICE_FIELD);
+			if (Objects.nonNull(minPrice)) {
+				range.gte(JsonData.of(minPrice));
+			}
+			if (Objects.nonNull(maxPrice)) {
+				range.lt(JsonData.of(maxPrice));
+			}
+			return range;
+		}));
+	}
+
+	private static Aggregation termsFacet(String field) {
+		return Aggregation.of(a -> a.terms(terms -> terms.field(field).size(FACET_SIZE)));
+	}
+
+	private static Aggregate aggregate(ElasticsearchAggregations aggregations, String name) {
+		if (Objects.isNull(aggregations)) {
+			return null;
+		}
+		ElasticsearchAggregation aggregation = aggregations.get(name);
+		return Objects.isNull(aggregation) ? null : aggregation.aggregation().getAggregate();
+	}
+
+	private static List<BookFacetResponse> termsBuckets(ElasticsearchAggregations aggregations, String name) {
+		Aggregate aggregate = aggregate(aggregations, name);
+		if (Objects.isNull(aggregate) || !aggregate.isSterms()) {
+			return List.of();
+		}
+		return aggregate.sterms().buckets().array().stream()
+			.map(bucket -> new BookFacetResponse(bucket.key().stringValue(), bucket.docCount()))
+			.toList();
+	}
+
+	private static List<BookPriceFacetResponse> priceBuckets(ElasticsearchAggregations aggregations) {
+		Aggregate aggregate = aggregate(aggregations, PRICE_FACET);
+		if (Objects.isNull(aggregate) || !aggregate.isHistogram()) {
+			return List.of();
+		}
+		return aggregate.histogram().buckets().array().stream()
+			.map(bucket -> {
+				int from = (int)bucket.key();
+				return new BookPriceFacetResponse(from, from + PRICE_INTERVAL, bucket.docCount());
+			})
+			.toList();
+	}
+
+	/**
+	 * 가격 매핑 확인 결과와 그 결과를 쓸 수 있는 System.nanoTime 시각.
+	 */
+	private record PriceMapping(boolean numeric, long expiresAt) {
+	}
 }
@@ -0,0 +1,41 @@
+package com.nhnacademy.bookstore.global.elastic.book.service;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
+
+/**
+ * elastic search 를 쓸 수 없을 때 사용하는 서버 안의 도서 검색 색인입니다.
+ * 시작할 때 DB 에서 만들고, 검색 색인 outbox 에 기록된 변경을 따라 갱신합니다.
+ *
+ * @author 한민기
+ */
+public interface BookLocalSearchService {
+
+	/**
+	 * 색인이 만들어져 검색할 수 있는지.
+	 *
+	 * @return 검색할 수 있으면 true
+	 */
+	boolean isReady();
+
+	/**
+	 * 도서를 검색합니다.
+	 *
+	 * @param keyword  검색 키워드
+	 * @param pageable 페이지
+	 * @return 검색 결과
+	 */
+	Page<BookDocument> search(String keyword, Pageable pageable);
+
+	/**
+	 * DB 의 전체 도서로 색인을 새로 만듭니다.
+	 */
+	void rebuild();
+
+	/**
+	 * 마지막으로 반영한 뒤에 outbox 에 기록된 도서를 다시 읽어 반영합니다.
+	 */
+	void applyChanges();
+}
@@ -0,0 +1,43 @@
+package com.nhnacademy.bookstore.global.elastic.book.service;
+
+import java.util.function.BiFunction;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
+
+/**
+ * 도서 검색 결과 캐시 서비스입니다.
+ * 검색은 인기 키워드 몇 개에 몰리므로 같은 키워드, 페이지의 결과를 잠깐 저장해두고 elastic search 요청을 줄입니다.
+ *
+ * @author 한민기
+ */
+public interface BookSearchCacheService {
+
+	/**
+	 * 캐시된 검색 결과를 반환하고, 없으면 loader 로 검색해서 저장합니다.
+	 * 같은 검색이 동시에 들어오면 loader 는 한 번만 호출하고 결과를 나눠 씁니다.
+	 *
+	 * @param keyword  검색 키워드
+	 * @param pageable 페이지
+	 * @param loader   정리한 키워드와 페이지로 검색하는 함수
+	 * @return 검색 결과
+	 */
+	Page<BookDocument> search(String keyword, Pageable pageable,
+		BiFunction<String, Pageable, Page<BookDocument>> loader);
+
+	/**
+	 * 캐시에 있는지와 상관없이 loader 로 다시 검색해서 저장하고 ttl 을 새로 셉니다.
+	 *
+	 * @param keyword  검색 키워드
+	 * @param pageable 페이지
+	 * @param loader   정리한 키워드와 페이지로 검색하는 함수
+	 */
+	void reload(String keyword, Pageable pageable, BiFunction<String, Pageable, Page<BookDocument>> loader);
+
+	/**
+	 * 검색 색인 변경 순번이 바뀌었으면 캐시를 비웁니다.
+	 */
+	void refresh();
+}
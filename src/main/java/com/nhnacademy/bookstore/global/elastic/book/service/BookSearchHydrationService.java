@@ -0,0 +1,32 @@
+package com.nhnacademy.bookstore.global.elastic.book.service;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
+
+/**
+ * 검색 결과를 DB 의 현재 가격, 재고, 썸네일로 채우는 서비스입니다.
+ * 색인에는 색인할 때의 가격만 있고 재고는 없으므로, 내려주기 전에 페이지마다 한 번의 쿼리로 덮어씁니다.
+ *
+ * @author 한민기
+ */
+public interface BookSearchHydrationService {
+
+	/**
+	 * 검색 결과 페이지를 현재 값으로 채운 새 페이지를 반환합니다. DB 에서 지워진 도서는 빠집니다.
+	 *
+	 * @param page 검색 결과
+	 * @return 현재 값으로 채운 검색 결과
+	 */
+	Page<BookDocument> hydrate(Page<BookDocument> page);
+
+	/**
+	 * 검색 결과를 현재 값으로 채운 새 리스트를 반환합니다. DB 에서 지워진 도서는 빠집니다.
+	 *
+	 * @param documents 검색 결과
+	 * @return 현재 값으로 채운 검색 결과
+	 */
+	List<BookDocument> hydrate(List<BookDocument> documents);
+}
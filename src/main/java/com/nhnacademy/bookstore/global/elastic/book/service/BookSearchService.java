@@ -0,0 +1,59 @@
+package com.nhnacademy.bookstore.global.elastic.book.service;
+
+import java.util.Collection;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.nhnacademy.bookstore.global.elastic.book.dto.request.BookSearchFilterRequest;
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookFacetSearchResponse;
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookSearchCursorResponse;
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
+
+/**
+ * 도서 검색 서비스입니다.
+ * elastic search 로 검색하고, elastic search 가 죽었거나 느리면 서버 안의 색인으로 대신 검색합니다.
+ *
+ * @author 한민기
+ */
+public interface BookSearchService {
+
+	/**
+	 * 도서를 검색합니다.
+	 *
+	 * @param keyword  검색 키워드
+	 * @param pageable 페이지
+	 * @return 검색 결과
+	 */
+	Page<BookDocument> search(String keyword, Pageable pageable);
+
+	/**
+	 * 키워드들의 첫 페이지를 다시 검색해서 검색 결과 캐시에 넣어둡니다. 이미 캐시에 있어도 다시 검색해서 ttl 을 새로 셉니다.
+	 * elastic search 를 쓸 수 없으면 남은 키워드는 건너뜁니다.
+	 *
+	 * @param keywords 검색 키워드
+	 */
+	void warm(Collection<String> keywords);
+
+	/**
+	 * 페이지 번호 대신 이전 응답의 nextCursor 로 이어지는 검색 결과를 반환합니다.
+	 * elastic search 의 point in time 으로 이어서 읽으므로 서버 안의 색인으로 대신 검색하지 않습니다.
+	 *
+	 * @param keyword 검색 키워드
+	 * @param after   이전 응답의 nextCursor (첫 페이지면 null)
+	 * @param size    페이지 사이즈
+	 * @return 검색 결과와 다음 커서
+	 */
+	BookSearchCursorResponse searchByCursor(String keyword, String after, int size);
+
+	/**
+	 * 필터를 걸어 도서를 검색하고 결과 안의 카테고리, 태그, 출판사, 판매가 구간별 도서 수를 같이 반환합니다.
+	 * 서버 안의 색인으로 대신 검색할 때는 필터가 없을 때만 결과를 주고, 도서 수는 비워서 줍니다.
+	 *
+	 * @param keyword  검색 키워드
+	 * @param filter   검색 필터
+	 * @param pageable 페이지
+	 * @return 검색 결과와 필드별 도서 수
+	 */
+	BookFacetSearchResponse searchWithFacets(String keyword, BookSearchFilterRequest filter, Pageable pageable);
+}
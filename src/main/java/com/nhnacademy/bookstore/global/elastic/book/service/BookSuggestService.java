@@ -0,0 +1,34 @@
+package com.nhnacademy.bookstore.global.elastic.book.service;
+
+import java.util.List;
+
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookSuggestResponse;
+
+/**
+ * 검색창 자동완성 서비스입니다.
+ * 도서 제목과 작가의 앞부분으로 찾는 색인을 서버 안에 두고, 검색 색인 outbox 에 기록된 변경을 따라 갱신합니다.
+ *
+ * @author 한민기
+ */
+public interface BookSuggestService {
+
+	/**
+	 * 입력한 문자열로 시작하는 제목, 작가를 조회수가 많은 순서로 반환합니다.
+	 * 제목, 작가 중간의 단어로 시작해도 찾습니다.
+	 *
+	 * @param keyword 입력한 문자열
+	 * @param size    최대 개수
+	 * @return 자동완성 항목
+	 */
+	List<BookSuggestResponse> suggest(String keyword, int size);
+
+	/**
+	 * DB 의 전체 도서로 색인을 새로 만듭니다. 조회수 순위도 이때 새로 반영됩니다.
+	 */
+	void rebuild();
+
+	/**
+	 * 마지막으로 반영한 뒤에 outbox 에 기록된 도서를 다시 읽어 반영합니다.
+	 */
+	void applyChanges();
+}
@@ -0,0 +1,39 @@
+package com.nhnacademy.bookstore.global.elastic.book.service;
+
+import java.util.List;
+
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookTrendingKeywordResponse;
+
+/**
+ * 인기 검색어 서비스입니다.
+ * 검색 키워드를 시간 구간마다 정해진 개수 안에서 세고, 직전 구간에 많이 검색된 키워드를 보여줍니다.
+ *
+ * @author 한민기
+ */
+public interface BookTrendingKeywordService {
+
+	/**
+	 * 검색 키워드를 한 번 셉니다.
+	 *
+	 * @param keyword 검색 키워드
+	 */
+	void record(String keyword);
+
+	/**
+	 * 직전 구간에 많이 검색된 키워드를 반환합니다. 아직 끝난 구간이 없으면 지금 구간에서 셉니다.
+	 *
+	 * @param size 최대 개수
+	 * @return 인기 검색어
+	 */
+	List<BookTrendingKeywordResponse> readTrending(int size);
+
+	/**
+	 * 지금 구간을 끝내고 새 구간을 시작합니다.
+	 */
+	void rotate();
+
+	/**
+	 * 인기 검색어의 첫 페이지 검색 결과를 검색 결과 캐시에 미리 넣어둡니다.
+	 */
+	void warm();
+}
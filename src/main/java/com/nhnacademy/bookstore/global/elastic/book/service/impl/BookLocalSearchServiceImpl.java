@@ -0,0 +1,290 @@
+package com.nhnacademy.bookstore.global.elastic.book.service.impl;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.book.bookindex.repository.BookIndexOutboxRepository;
+import com.nhnacademy.bookstore.global.elastic.book.service.BookLocalSearchService;
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서버 안의 도서 검색 색인 구현체입니다.
+ * 제목, 작가, 출판사, 태그, 카테고리를 titleNgram 의 ngram_tokenizer 처럼 글자와 숫자만 이어진 부분에서 두 글자씩 잘라 역색인을 만듭니다.
+ * 점수는 elastic search 검색 쿼리의 필드 가중치를 그대로 쓰고, 키워드 조각의 70% 이상이 맞는 도서만 돌려줍니다. (minimum_should_match)
+ * <p>
+ * 마지막으로 반영한 outbox 아이디 뒤의 변경을 주기적으로 읽어 반영하므로 어느 인스턴스에서 바꾼 도서든 따라갑니다.
+ * 아이디 순서와 커밋 순서가 달라 놓친 변경은 매일 다시 만들 때 맞춰집니다.
+ *
+ * @author 한민기
+ */
+@Slf4j
+@Service
+public class BookLocalSearchServiceImpl implements BookLocalSearchService {
+	private static final int TITLE_WEIGHT = 70;
+	private static final int TAG_WEIGHT = 60;
+	private static final int FIELD_WEIGHT = 50;
+	private static final double MINIMUM_SHOULD_MATCH = 0.7;
+
+	private final BookRepository bookRepository;
+	private final BookOutboxFollower outboxFollower;
+
+	/**
+	 * 만들어지기 전에는 null.
+	 */
+	private volatile LocalIndex index;
+
+	public BookLocalSearchServiceImpl(BookRepository bookRepository,
+		BookIndexOutboxRepository bookIndexOutboxRepository, MeterRegistry meterRegistry,
+		@Value("${book.search-fallback.chunk-size:500}") int chunkSize) {
+		this.bookRepository = bookRepository;
+		this.outboxFollower = new BookOutboxFollower(bookRepository, bookIndexOutboxRepository, chunkSize);
+		Gauge.builder("bookstore.book.search.local.size", this, BookLocalSearchServiceImpl::size)
+			.description("서버 안의 검색 색인에 들어 있는 도서 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isReady() {
+		return Objects.nonNull(index);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Page<BookDocument> search(String keyword, Pageable pageable) {
+		LocalIndex current = index;
+		if (Objects.isNull(current)) {
+			return Page.empty(pageable);
+		}
+		return current.search(tokenize(keyword), pageable);
+	}
+
+	/**
+	 * 처음 띄울 때 색인을 만듭니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildOnStartup() {
+		try {
+			rebuild();
+		} catch (RuntimeException e) {
+			log.warn("서버 안의 검색 색인 생성 실패", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 새 색인을 다 만든 뒤에 바꿔 끼우므로 만드는 동안에도 이전 색인으로 검색할 수 있습니다.
+	 */
+	@Override
+	@Scheduled(cron = "${book.search-fallback.rebuild-cron:0 40 4 * * ?}")
+	public synchronized void rebuild() {
+		LocalIndex built = new LocalIndex();
+		index = outboxFollower.rebuild(bookIds -> bookRepository.readBookDocuments(bookIds).forEach(built::put),
+			() -> built);
+		log.info("서버 안의 검색 색인 생성 : {} 권", built.size());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Scheduled(fixedDelayString = "${book.search-fallback.poll-delay:5000}")
+	public synchronized void applyChanges() {
+		LocalIndex current = index;
+		if (Objects.isNull(current)) {
+			return;
+		}
+		try {
+			outboxFollower.applyChanges(bookIds -> {
+				for (BookDocument document : bookRepository.readBookDocuments(bookIds)) {
+					current.put(document);
+					bookIds.remove(document.getId());
+				}
+				bookIds.forEach(current::remove);
+			});
+		} catch (RuntimeException e) {
+			log.warn("서버 안의 검색 색인 갱신 실패, 다음 주기에 다시 시도합니다.", e);
+		}
+	}
+
+	/**
+	 * 소문자로 바꾸고 글자와 숫자가 이어진 부분마다 두 글자씩 자릅니다. 한 글자뿐인 부분은 그 글자를 그대로 씁니다.
+	 *
+	 * @param text 문자열
+	 * @return 조각
+	 */
+	static Set<String> tokenize(String text) {
+		Set<String> tokens = new LinkedHashSet<>();
+		if (Objects.isNull(text)) {
+			return tokens;
+		}
+		int[] codePoints = text.toLowerCase(Locale.ROOT).codePoints().toArray();
+		int start = 0;
+		while (start < codePoints.length) {
+			if (!Character.isLetterOrDigit(codePoints[start])) {
+				start++;
+				continue;
+			}
+			int end = start;
+			while (end < codePoints.length && Character.isLetterOrDigit(codePoints[end])) {
+				end++;
+			}
+			if (end - start == 1) {
+				tokens.add(new String(codePoints, start, 1));
+			}
+			for (int i = start; i + 1 < end; i++) {
+				tokens.add(new String(codePoints, i, 2));
+			}
+			start = end;
+		}
+		return tokens;
+	}
+
+	private int size() {
+		LocalIndex current = index;
+		return Objects.isNull(current) ? 0 : current.size();
+	}
+
+	/**
+	 * 도서별 조각과 조각별 도서(역색인). 검색은 read lock, 갱신은 write lock 으로 막습니다.
+	 */
+	static final class LocalIndex {
+		private final ReadWriteLock lock = new ReentrantReadWriteLock();
+		private final Map<Long, BookDocument> documents = new HashMap<>();
+		private final Map<Long, Map<String, Integer>> termsByBook = new HashMap<>();
+		private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+
+		void put(BookDocument document) {
+			Map<String, Integer> terms = new HashMap<>();
+			addTerms(terms, List.of(nullToEmpty(document.getTitle())), TITLE_WEIGHT);
+			addTerms(terms, List.of(nullToEmpty(document.getAuthor())), FIELD_WEIGHT);
+			addTerms(terms, List.of(nullToEmpty(document.getPublisher())), FIELD_WEIGHT);
+			addTerms(terms, nullToEmpty(document.getTagList()), TAG_WEIGHT);
+			addTerms(terms, nullToEmpty(document.getCategoryList()), FIELD_WEIGHT);
+
+			Lock writeLock = lock.writeLock();
+			writeLock.lock();
+			try {
+				removeLocked(document.getId());
+				documents.put(document.getId(), document);
+				termsByBook.put(document.getId(), terms);
+				terms.forEach((term, weight) ->
+					postings.computeIfAbsent(term, t -> new HashMap<>()).put(document.getId(), weight));
+			} finally {
+				writeLock.unlock();
+			}
+		}
+
+		void remove(long bookId) {
+			Lock writeLock = lock.writeLock();
+			writeLock.lock();
+			try {
+				removeLocked(bookId);
+			} finally {
+				writeLock.unlock();
+			}
+		}
+
+		int size() {
+			Lock readLock = lock.readLock();
+			readLock.lock();
+			try {
+				return documents.size();
+			} finally {
+				readLock.unlock();
+			}
+		}
+
+		Page<BookDocument> search(Set<String> queryTerms, Pageable pageable) {
+			if (queryTerms.isEmpty()) {
+				return Page.empty(pageable);
+			}
+			int required = Math.max(1, (int)(queryTerms.size() * MINIMUM_SHOULD_MATCH));
+
+			Lock readLock = lock.readLock();
+			readLock.lock();
+			try {
+				// 도서별 [맞은 조각 수, 점수]
+				Map<Long, int[]> matches = new HashMap<>();
+				for (String term : queryTerms) {
+					postings.getOrDefault(term, Map.of()).forEach((bookId, weight) -> {
+						int[] match = matches.computeIfAbsent(bookId, id -> new int[2]);
+						match[0]++;
+						match[1] += weight;
+					});
+				}
+				List<Long> hits = matches.entrySet().stream()
+					.filter(entry -> entry.getValue()[0] >= required)
+					.sorted(Comparator.<Map.Entry<Long, int[]>>comparingInt(entry -> entry.getValue()[1]).reversed()
+						.thenComparing(Map.Entry::getKey, Comparator.reverseOrder()))
+					.map(Map.Entry::getKey)
+					.toList();
+				List<BookDocument> content = hits.stream()
+					.skip(pageable.getOffset())
+					.limit(pageable.getPageSize())
+					.map(documents::get)
+					.toList();
+				return new PageImpl<>(content, pageable, hits.size());
+			} finally {
+				readLock.unlock();
+			}
+		}
+
+		private void removeLocked(long bookId) {
+			documents.remove(bookId);
+			Map<String, Integer> terms = termsByBook.remove(bookId);
+			if (Objects.isNull(terms)) {
+				return;
+			}
+			for (String term : terms.keySet()) {
+				Map<Long, Integer> posting = postings.get(term);
+				posting.remove(bookId);
+				if (posting.isEmpty()) {
+					postings.remove(term);
+				}
+			}
+		}
+
+		private static void addTerms(Map<String, Integer> terms, Collection<String> values, int weight) {
+			Set<String> fieldTerms = new LinkedHashSet<>();
+			values.forEach(value -> fieldTerms.addAll(tokenize(value)));
+			fieldTerms.forEach(term -> terms.merge(term, weight, Integer::sum));
+		}
+
+		private static String nullToEmpty(String value) {
+			return Objects.isNull(value) ? "" : value;
+		}
+
+		private static List<String> nullToEmpty(List<String> values) {
+			return Objects.isNull(values) ? List.of() : values;
+		}
+	}
+}
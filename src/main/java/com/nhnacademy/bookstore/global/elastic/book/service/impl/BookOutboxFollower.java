@@ -0,0 +1,79 @@
+package com.nhnacademy.bookstore.global.elastic.book.service.impl;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.Limit;
+
+import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.book.bookindex.repository.BookIndexOutboxRepository;
+import com.nhnacademy.bookstore.entity.bookindexoutbox.BookIndexOutbox;
+
+/**
+ * 서버 안에 도서 색인을 들고 있는 서비스가 outbox 를 따라가게 하는 도우미.
+ * 전체를 다시 만들 때 읽기 시작한 시점의 마지막 outbox 아이디를 기억해 두고, 그 뒤의 변경을 chunk 씩 넘겨줍니다.
+ * <p>
+ * 마지막으로 반영한 outbox 아이디를 서비스마다 따로 들고 있어야 하므로 서비스마다 하나씩 만들어 씁니다.
+ *
+ * @author 한민기
+ */
+final class BookOutboxFollower {
+	private final BookRepository bookRepository;
+	private final BookIndexOutboxRepository bookIndexOutboxRepository;
+	private final int chunkSize;
+
+	/**
+	 * 마지막으로 반영한 outbox 아이디.
+	 */
+	private long lastOutboxId;
+
+	BookOutboxFollower(BookRepository bookRepository, BookIndexOutboxRepository bookIndexOutboxRepository,
+		int chunkSize) {
+		this.bookRepository = bookRepository;
+		this.bookIndexOutboxRepository = bookIndexOutboxRepository;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * 모든 도서 아이디를 chunk 씩 reader 에 넘긴 뒤 builder 가 만든 색인을 돌려줍니다.
+	 * builder 까지 성공해야 읽기 전의 마지막 outbox 아이디부터 따라가므로, 실패하면 이전 위치에서 계속합니다.
+	 *
+	 * @param reader  도서 아이디 chunk 를 읽어 담는 함수
+	 * @param builder 다 읽은 뒤 색인을 만드는 함수
+	 * @param <T>     색인 타입
+	 * @return 새 색인
+	 */
+	synchronized <T> T rebuild(Consumer<List<Long>> reader, Supplier<T> builder) {
+		// 읽기 전에 마지막 변경 아이디를 잡아두면, 읽는 중에 바뀐 도서는 applyChanges 가 다시 반영한다.
+		long outboxId = bookIndexOutboxRepository.findTopByOrderByIdDesc().map(BookIndexOutbox::getId).orElse(0L);
+		long afterId = 0;
+		List<Long> bookIds;
+		while (!(bookIds = bookRepository.readBookIdsAfter(afterId, chunkSize)).isEmpty()) {
+			reader.accept(bookIds);
+			afterId = bookIds.getLast();
+		}
+		T built = builder.get();
+		lastOutboxId = outboxId;
+		return built;
+	}
+
+	/**
+	 * 마지막으로 반영한 outbox 뒤의 변경을 chunk 씩 바뀐 도서 아이디로 넘깁니다. (지워진 도서 포함)
+	 * chunk 하나를 반영할 때마다 위치를 옮기므로 중간에 실패하면 그 chunk 부터 다시 시작합니다.
+	 *
+	 * @param applier 바뀐 도서를 반영하는 함수
+	 */
+	synchronized void applyChanges(Consumer<Set<Long>> applier) {
+		List<BookIndexOutbox> rows;
+		while (!(rows = bookIndexOutboxRepository.findByIdGreaterThanOrderByIdAsc(lastOutboxId,
+			Limit.of(chunkSize))).isEmpty()) {
+			Set<Long> bookIds = new LinkedHashSet<>();
+			rows.forEach(row -> bookIds.add(row.getBookId()));
+			applier.accept(bookIds);
+			lastOutboxId = rows.getLast().getId();
+		}
+	}
+}
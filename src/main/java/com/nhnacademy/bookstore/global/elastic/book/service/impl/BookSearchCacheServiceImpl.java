@@ -0,0 +1,229 @@
+package com.nhnacademy.bookstore.global.elastic.book.service.impl;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.nhnacademy.bookstore.book.book.repository.BookRedisRepository;
+import com.nhnacademy.bookstore.global.elastic.book.service.BookSearchCacheService;
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 도서 검색 결과 캐시 구현체입니다.
+ * 키워드는 유니코드 정규화(NFC)와 공백 정리를 한 뒤 페이지, 크기와 함께 키로 쓰고, 정리한 키워드로 검색합니다.
+ * 분석기에 lowercase 필터가 없어서 대소문자는 그대로 둡니다.
+ * <p>
+ * 검색 색인 변경 순번(bookDocument:sequence)을 주기적으로 읽어서 바뀌었으면 전부 비우고,
+ * 그 사이 색인 반영이 늦어 예전 결과가 저장되더라도 ttl 이 지나면 다시 검색합니다.
+ * 캐시에서 꺼내 쓰는 것으로는 ttl 이 늘어나지 않고, reload 로 다시 검색해서 저장할 때만 새로 셉니다.
+ *
+ * @author 한민기
+ */
+@Slf4j
+@Service
+public class BookSearchCacheServiceImpl implements BookSearchCacheService {
+	private static final String CACHE_NAME = "bookSearch";
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	private final BookRedisRepository bookRedisRepository;
+	private final long ttlNanos;
+	private final Map<SearchKey, CachedSearch> cache;
+	private final Map<SearchKey, CompletableFuture<Page<BookDocument>>> loading = new ConcurrentHashMap<>();
+
+	/**
+	 * 마지막으로 읽은 변경 순번. 이 값이 바뀌면 저장된 결과를 버립니다.
+	 */
+	private final AtomicLong sequence = new AtomicLong(-1);
+
+	private final Counter hitCounter;
+	private final Counter missCounter;
+	private final Counter coalescedCounter;
+	private final Counter evictionCounter;
+
+	public BookSearchCacheServiceImpl(BookRedisRepository bookRedisRepository, MeterRegistry meterRegistry,
+		@Value("${book.search-cache.max-size:1000}") int maxSize,
+		@Value("${book.search-cache.ttl:30s}") Duration ttl) {
+		this.bookRedisRepository = bookRedisRepository;
+		this.ttlNanos = ttl.toNanos();
+		this.hitCounter = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit")
+			.register(meterRegistry);
+		this.missCounter = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss")
+			.register(meterRegistry);
+		this.coalescedCounter = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "coalesced")
+			.register(meterRegistry);
+		this.evictionCounter = Counter.builder("cache.evictions").tag("cache", CACHE_NAME)
+			.register(meterRegistry);
+
+		Counter evictions = this.evictionCounter;
+		this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<SearchKey, CachedSearch> eldest) {
+				boolean full = size() > maxSize;
+				if (full) {
+					evictions.increment();
+				}
+				return full;
+			}
+		};
+		Gauge.builder("cache.size", this, BookSearchCacheServiceImpl::size).tag("cache", CACHE_NAME)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Page<BookDocument> search(String keyword, Pageable pageable,
+		BiFunction<String, Pageable, Page<BookDocument>> loader) {
+		String normalized = normalize(keyword);
+		SearchKey key = new SearchKey(normalized, pageable.getPageNumber(), pageable.getPageSize());
+		CachedSearch cached = get(key);
+		if (Objects.nonNull(cached)) {
+			hitCounter.increment();
+			return cached.page();
+		}
+
+		CompletableFuture<Page<BookDocument>> future = new CompletableFuture<>();
+		CompletableFuture<Page<BookDocument>> running = loading.putIfAbsent(key, future);
+		if (Objects.nonNull(running)) {
+			coalescedCounter.increment();
+			return join(running);
+		}
+		missCounter.increment();
+		return load(key, future, loader);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 이미 같은 검색을 하고 있으면 그 검색이 새 결과를 저장하므로 기다리기만 합니다.
+	 */
+	@Override
+	public void reload(String keyword, Pageable pageable, BiFunction<String, Pageable, Page<BookDocument>> loader) {
+		SearchKey key = new SearchKey(normalize(keyword), pageable.getPageNumber(), pageable.getPageSize());
+		CompletableFuture<Page<BookDocument>> future = new CompletableFuture<>();
+		CompletableFuture<Page<BookDocument>> running = loading.putIfAbsent(key, future);
+		if (Objects.nonNull(running)) {
+			join(running);
+			return;
+		}
+		load(key, future, loader);
+	}
+
+	/**
+	 * loader 로 검색해서 새 ttl 로 저장하고, 기다리는 요청에 결과를 넘깁니다.
+	 *
+	 * @param key    검색 키
+	 * @param future loading 에 넣어둔 이 검색의 결과
+	 * @param loader 검색 함수
+	 * @return 검색 결과
+	 */
+	private Page<BookDocument> load(SearchKey key, CompletableFuture<Page<BookDocument>> future,
+		BiFunction<String, Pageable, Page<BookDocument>> loader) {
+		long version = sequence.get();
+		try {
+			Page<BookDocument> page = loader.apply(key.keyword(), PageRequest.of(key.page(), key.size()));
+			synchronized (cache) {
+				if (version == sequence.get()) {
+					cache.put(key, new CachedSearch(page, System.nanoTime() + ttlNanos));
+				}
+			}
+			future.complete(page);
+			return page;
+		} catch (Throwable e) {
+			// Error 도 기다리는 요청에 넘겨야 그 요청들이 영원히 막히지 않는다.
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			loading.remove(key, future);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Scheduled(fixedDelayString = "${book.search-cache.refresh-delay:1000}")
+	public void refresh() {
+		long current;
+		try {
+			current = bookRedisRepository.readSequence();
+		} catch (RuntimeException e) {
+			log.warn("검색 색인 변경 순번 조회 실패, ttl 로만 만료합니다.", e);
+			return;
+		}
+		synchronized (cache) {
+			if (sequence.getAndSet(current) != current && !cache.isEmpty()) {
+				evictionCounter.increment(cache.size());
+				cache.clear();
+			}
+		}
+	}
+
+	/**
+	 * NFC 로 정규화하고 앞뒤 공백을 지우고 연속된 공백을 하나로 줄입니다.
+	 *
+	 * @param keyword 검색 키워드
+	 * @return 정리한 키워드
+	 */
+	static String normalize(String keyword) {
+		String normalized = Normalizer.normalize(keyword, Normalizer.Form.NFC).strip();
+		return WHITESPACE.matcher(normalized).replaceAll(" ");
+	}
+
+	private CachedSearch get(SearchKey key) {
+		synchronized (cache) {
+			CachedSearch cached = cache.get(key);
+			if (Objects.nonNull(cached) && cached.expiresAt() - System.nanoTime() < 0) {
+				cache.remove(key);
+				return null;
+			}
+			return cached;
+		}
+	}
+
+	private Page<BookDocument> join(CompletableFuture<Page<BookDocument>> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private int size() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	private record SearchKey(String keyword, int page, int size) {
+	}
+
+	private record CachedSearch(Page<BookDocument> page, long expiresAt) {
+	}
+}
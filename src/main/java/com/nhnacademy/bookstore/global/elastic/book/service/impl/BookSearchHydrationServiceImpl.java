@@ -0,0 +1,78 @@
+package com.nhnacademy.bookstore.global.elastic.book.service.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Service;
+
+import com.nhnacademy.bookstore.book.book.dto.response.BookStockResponse;
+import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.global.elastic.book.service.BookSearchHydrationService;
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색 결과 현재 값 채우기 구현체입니다.
+ * 검색 결과 캐시가 들고 있는 문서를 바꾸지 않도록 항상 복사해서 채웁니다.
+ * DB 를 읽지 못하면 색인의 값 그대로 내려주고, 재고는 비워둡니다.
+ *
+ * @author 한민기
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookSearchHydrationServiceImpl implements BookSearchHydrationService {
+	private final BookRepository bookRepository;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Page<BookDocument> hydrate(Page<BookDocument> page) {
+		List<BookDocument> content = hydrate(page.getContent());
+		long removed = (long)page.getNumberOfElements() - content.size();
+		return new PageImpl<>(content, page.getPageable(), Math.max(0, page.getTotalElements() - removed));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<BookDocument> hydrate(List<BookDocument> documents) {
+		if (documents.isEmpty()) {
+			return documents;
+		}
+		Map<Long, BookStockResponse> stocks = new HashMap<>();
+		try {
+			bookRepository.readBookStocks(documents.stream().map(BookDocument::getId).toList())
+				.forEach(stock -> stocks.put(stock.id(), stock));
+		} catch (RuntimeException e) {
+			log.warn("검색 결과 가격, 재고 조회 실패, 색인의 값으로 내려줍니다.", e);
+			return documents;
+		}
+
+		List<BookDocument> hydrated = new ArrayList<>(documents.size());
+		for (BookDocument document : documents) {
+			BookStockResponse stock = stocks.get(document.getId());
+			if (Objects.nonNull(stock)) {
+				hydrated.add(copy(document, stock));
+			}
+		}
+		return hydrated;
+	}
+
+	private static BookDocument copy(BookDocument document, BookStockResponse stock) {
+		BookDocument copied = new BookDocument(document.getId(), document.getTitle(), document.getAuthor(),
+			Objects.requireNonNullElse(stock.thumbnail(), document.getThumbnail()), document.getPublisher(),
+			document.getTagList(), document.getCategoryList(), stock.price(), stock.sellingPrice());
+		copied.setQuantity(stock.quantity());
+		return copied;
+	}
+}
@@ -0,0 +1,210 @@
+package com.nhnacademy.bookstore.global.elastic.book.service.impl;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import com.nhnacademy.bookstore.global.elastic.book.dto.request.BookSearchCursor;
+import com.nhnacademy.bookstore.global.elastic.book.dto.request.BookSearchFilterRequest;
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookFacetSearchResponse;
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookSearchCursorResponse;
+import com.nhnacademy.bookstore.global.elastic.book.exception.BookSearchUnavailableException;
+import com.nhnacademy.bookstore.global.elastic.book.repository.ElasticSearchBookRepository;
+import com.nhnacademy.bookstore.global.elastic.book.repository.ElasticSearchCustomBookRepository;
+import com.nhnacademy.bookstore.global.elastic.book.service.BookLocalSearchService;
+import com.nhnacademy.bookstore.global.elastic.book.service.BookSearchCacheService;
+import com.nhnacademy.bookstore.global.elastic.book.service.BookSearchHydrationService;
+import com.nhnacademy.bookstore.global.elastic.book.service.BookSearchService;
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 도서 검색 서비스 구현체입니다.
+ * 검색 결과 캐시를 먼저 보고, 없으면 회로 차단기를 거쳐 elastic search 로 검색합니다.
+ * elastic search 가 실패하거나 회로가 열려 있으면 서버 안의 색인으로 검색하고, 그 결과는 캐시하지 않습니다.
+ * 어느 쪽으로 찾았든 내려주기 전에 가격, 재고, 썸네일을 DB 의 현재 값으로 채웁니다.
+ * <p>
+ * 회로 차단기에는 elastic search 에 닿지 못했거나 5xx 로 답한 요청만 실패로 셉니다.
+ * 잘못된 쿼리나 매핑 때문에 4xx 로 거절된 요청은 elastic search 가 답을 한 것이므로 회로를 열지 않고 그대로 던집니다.
+ *
+ * @author 한민기
+ */
+@Slf4j
+@Service
+public class BookSearchServiceImpl implements BookSearchService {
+	/**
+	 * 검색 화면의 기본 페이지 크기. 캐시를 미리 채울 때 이 크기의 첫 페이지를 넣습니다.
+	 */
+	private static final int WARM_PAGE_SIZE = 12;
+
+	private final ElasticSearchBookRepository elasticSearchBookRepository;
+	private final ElasticSearchCustomBookRepository elasticSearchCustomBookRepository;
+	private final BookSearchCacheService bookSearchCacheService;
+	private final BookLocalSearchService bookLocalSearchService;
+	private final BookSearchHydrationService bookSearchHydrationService;
+	private final SearchCircuitBreaker circuitBreaker;
+	private final Counter fallbackCounter;
+
+	public BookSearchServiceImpl(ElasticSearchBookRepository elasticSearchBookRepository,
+		ElasticSearchCustomBookRepository elasticSearchCustomBookRepository,
+		BookSearchCacheService bookSearchCacheService, BookLocalSearchService bookLocalSearchService,
+		BookSearchHydrationService bookSearchHydrationService, MeterRegistry meterRegistry,
+		@Value("${book.search-fallback.failure-threshold:5}") int failureThreshold,
+		@Value("${book.search-fallback.slow-call:2s}") Duration slowCall,
+		@Value("${book.search-fallback.open-duration:30s}") Duration openDuration) {
+		this.elasticSearchBookRepository = elasticSearchBookRepository;
+		this.elasticSearchCustomBookRepository = elasticSearchCustomBookRepository;
+		this.bookSearchCacheService = bookSearchCacheService;
+		this.bookLocalSearchService = bookLocalSearchService;
+		this.bookSearchHydrationService = bookSearchHydrationService;
+		this.circuitBreaker = new SearchCircuitBreaker(failureThreshold, slowCall.toNanos(), openDuration.toNanos(),
+			System::nanoTime);
+		this.fallbackCounter = Counter.builder("bookstore.book.search.fallback")
+			.description("서버 안의 색인으로 대신 검색한 수")
+			.register(meterRegistry);
+		Gauge.builder("bookstore.book.search.circuit", circuitBreaker, breaker -> breaker.state().ordinal())
+			.description("elastic search 회로 상태 (0 닫힘, 1 반열림, 2 열림)")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Page<BookDocument> search(String keyword, Pageable pageable) {
+		Page<BookDocument> page;
+		try {
+			page = bookSearchCacheService.search(keyword, pageable, this::searchElastic);
+		} catch (RuntimeException e) {
+			if (!bookLocalSearchService.isReady()) {
+				throw e;
+			}
+			fallback(keyword, e);
+			page = bookLocalSearchService.search(keyword, pageable);
+		}
+		return bookSearchHydrationService.hydrate(page);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void warm(Collection<String> keywords) {
+		for (String keyword : keywords) {
+			try {
+				bookSearchCacheService.reload(keyword, PageRequest.of(0, WARM_PAGE_SIZE), this::searchElastic);
+			} catch (RuntimeException e) {
+				if (!(e instanceof BookSearchUnavailableException)) {
+					log.warn("검색 결과 캐시 미리 채우기 실패 : {}", keyword, e);
+				}
+				return;
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public BookSearchCursorResponse searchByCursor(String keyword, String after, int size) {
+		BookSearchCursor cursor = null;
+		if (Objects.nonNull(after) && !after.isBlank()) {
+			cursor = BookSearchCursor.decode(after);
+		}
+		BookSearchCursor finalCursor = cursor;
+		BookSearchCursorResponse response = guarded(() ->
+			elasticSearchCustomBookRepository.searchByCursor(keyword, finalCursor, size));
+		return response.toBuilder().content(bookSearchHydrationService.hydrate(response.content())).build();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 필터와 도서 수 조합이 많아 검색 결과 캐시는 쓰지 않습니다.
+	 */
+	@Override
+	public BookFacetSearchResponse searchWithFacets(String keyword, BookSearchFilterRequest filter,
+		Pageable pageable) {
+		BookFacetSearchResponse response;
+		try {
+			response = guarded(() -> elasticSearchCustomBookRepository.searchWithFacets(keyword, filter, pageable));
+		} catch (RuntimeException e) {
+			// 서버 안의 색인은 필터를 모르므로 필터를 건 검색은 대신하지 않는다.
+			if (!filter.isEmpty() || !bookLocalSearchService.isReady()) {
+				throw e;
+			}
+			fallback(keyword, e);
+			response = BookFacetSearchResponse.builder()
+				.books(bookLocalSearchService.search(keyword, pageable))
+				.categories(List.of())
+				.tags(List.of())
+				.publishers(List.of())
+				.prices(List.of())
+				.build();
+		}
+		return response.toBuilder().books(bookSearchHydrationService.hydrate(response.books())).build();
+	}
+
+	private Page<BookDocument> searchElastic(String keyword, Pageable pageable) {
+		return guarded(() -> elasticSearchBookRepository.findByCustomQuery(keyword, pageable));
+	}
+
+	private <T> T guarded(Supplier<T> search) {
+		if (!circuitBreaker.tryAcquire()) {
+			throw new BookSearchUnavailableException("elastic search 회로가 열려 있습니다.");
+		}
+		long start = System.nanoTime();
+		try {
+			T result = search.get();
+			circuitBreaker.onSuccess(System.nanoTime() - start);
+			return result;
+		} catch (RuntimeException e) {
+			if (isUnavailable(e)) {
+				circuitBreaker.onFailure();
+			} else {
+				circuitBreaker.onSuccess(System.nanoTime() - start);
+			}
+			throw e;
+		} catch (Error e) {
+			// 반열림 상태의 시험 요청이 끝나지 않은 채로 남지 않게 한다.
+			circuitBreaker.onFailure();
+			throw e;
+		}
+	}
+
+	/**
+	 * elastic search 에 닿지 못했거나 (연결, 시간 초과) 5xx 로 답했는지.
+	 *
+	 * @param e 검색 중에 난 예외
+	 * @return 회로 차단기에 실패로 셀 예외면 true
+	 */
+	static boolean isUnavailable(RuntimeException e) {
+		if (e instanceof UncategorizedElasticsearchException uncategorized) {
+			Integer status = uncategorized.getStatusCode();
+			return Objects.isNull(status) || status >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+		}
+		return e instanceof DataAccessResourceFailureException || e instanceof TransientDataAccessException;
+	}
+
+	private void fallback(String keyword, RuntimeException e) {
+		if (!(e instanceof BookSearchUnavailableException)) {
+			log.warn("elastic search 검색 실패, 서버 안의 색인으로 검색합니다. : {}", keyword, e);
+		}
+		fallbackCounter.increment();
+	}
+}
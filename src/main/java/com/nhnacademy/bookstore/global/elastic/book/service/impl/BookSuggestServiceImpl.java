@@ -0,0 +1,350 @@
+package com.nhnacademy.bookstore.global.elastic.book.service.impl;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.nhnacademy.bookstore.book.book.dto.response.BookSuggestSourceResponse;
+import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.book.bookindex.repository.BookIndexOutboxRepository;
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookSuggestResponse;
+import com.nhnacademy.bookstore.global.elastic.book.enums.BookSuggestType;
+import com.nhnacademy.bookstore.global.elastic.book.service.BookSuggestService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색창 자동완성 서비스 구현체입니다.
+ * 제목, 작가를 정규화한 문자열과 그 안의 단어 시작 위치부터 자른 문자열을 정렬된 배열 하나에 넣어두고,
+ * 이진 탐색으로 입력한 문자열로 시작하는 구간을 찾아 조회수가 많은 순서로 돌려줍니다.
+ * <p>
+ * 색인은 바꾸지 않는 객체로 두고 변경이 있을 때 새로 만들어 바꿔 끼우므로 조회할 때는 잠그지 않습니다.
+ * 한 주기에 쌓인 변경은 모두 읽은 뒤 기존 배열과 한 번만 병합하고, 조회수 순위는 주기적으로 전체를 다시 만들 때 반영합니다.
+ * <p>
+ * 한두 글자만 입력하면 구간이 색인 대부분이 될 수 있어서, 배열 위에 구간별로 순위가 가장 높은 키를 담은 트리를 두고
+ * 구간 크기와 상관없이 돌려줄 개수만큼만 꺼냅니다.
+ *
+ * @author 한민기
+ */
+@Slf4j
+@Service
+public class BookSuggestServiceImpl implements BookSuggestService {
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	/**
+	 * 제목, 작가 하나에서 단어 시작 위치로 추가로 만드는 키 수. 긴 제목 때문에 색인이 커지지 않게 막습니다.
+	 */
+	private static final int MAX_WORD_STARTS = 5;
+
+	private final BookRepository bookRepository;
+	private final BookOutboxFollower outboxFollower;
+	private final int maxSize;
+
+	/**
+	 * 만들어지기 전에는 null.
+	 */
+	private volatile PrefixIndex index;
+
+	public BookSuggestServiceImpl(BookRepository bookRepository, BookIndexOutboxRepository bookIndexOutboxRepository,
+		MeterRegistry meterRegistry,
+		@Value("${book.suggest.chunk-size:500}") int chunkSize,
+		@Value("${book.suggest.max-size:20}") int maxSize) {
+		this.bookRepository = bookRepository;
+		this.outboxFollower = new BookOutboxFollower(bookRepository, bookIndexOutboxRepository, chunkSize);
+		this.maxSize = maxSize;
+		Gauge.builder("bookstore.book.suggest.size", this, BookSuggestServiceImpl::size)
+			.description("자동완성 색인에 들어 있는 키 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<BookSuggestResponse> suggest(String keyword, int size) {
+		PrefixIndex current = index;
+		String prefix = normalize(keyword);
+		if (Objects.isNull(current) || prefix.isEmpty() || size <= 0) {
+			return List.of();
+		}
+		return current.suggest(prefix, Math.min(size, maxSize));
+	}
+
+	/**
+	 * 처음 띄울 때 색인을 만듭니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildOnStartup() {
+		try {
+			rebuild();
+		} catch (RuntimeException e) {
+			log.warn("자동완성 색인 생성 실패", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Scheduled(cron = "${book.suggest.rebuild-cron:0 10 * * * ?}")
+	public synchronized void rebuild() {
+		List<BookSuggestSourceResponse> sources = new ArrayList<>();
+		PrefixIndex built = outboxFollower.rebuild(
+			bookIds -> sources.addAll(bookRepository.readBookSuggestSources(bookIds)),
+			() -> PrefixIndex.empty(maxSize).withChanges(Set.of(), sources));
+		index = built;
+		log.info("자동완성 색인 생성 : 도서 {} 권, 키 {} 개", sources.size(), built.size());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Scheduled(fixedDelayString = "${book.suggest.poll-delay:5000}")
+	public synchronized void applyChanges() {
+		if (Objects.isNull(index)) {
+			return;
+		}
+		// chunk 마다 색인을 새로 만들지 않고 모아서 한 번에 병합한다. 같은 도서는 나중에 읽은 것을 쓴다.
+		Set<Long> changed = new HashSet<>();
+		Map<Long, BookSuggestSourceResponse> sources = new HashMap<>();
+		try {
+			outboxFollower.applyChanges(bookIds -> {
+				bookRepository.readBookSuggestSources(bookIds).forEach(source -> sources.put(source.id(), source));
+				changed.addAll(bookIds);
+			});
+		} catch (RuntimeException e) {
+			log.warn("자동완성 색인 갱신 실패, 다음 주기에 다시 시도합니다.", e);
+		}
+		// 실패해도 위치를 옮긴 chunk 까지는 반영해야 다음 주기에 빠지지 않는다. 지워진 도서는 읽히지 않으므로 기존 키만 빠진다.
+		if (!changed.isEmpty()) {
+			index = index.withChanges(changed, sources.values());
+		}
+	}
+
+	/**
+	 * NFC 로 합치고, 소문자로 바꾸고, 공백을 하나로 줄입니다.
+	 *
+	 * @param text 문자열
+	 * @return 정규화한 문자열
+	 */
+	static String normalize(String text) {
+		if (Objects.isNull(text)) {
+			return "";
+		}
+		String composed = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+		return WHITESPACE.matcher(composed).replaceAll(" ").strip();
+	}
+
+	private int size() {
+		PrefixIndex current = index;
+		return Objects.isNull(current) ? 0 : current.size();
+	}
+
+	/**
+	 * 자동완성 항목. weight 는 도서 조회수입니다.
+	 */
+	record Suggestion(long bookId, BookSuggestType type, String text, int weight) {
+	}
+
+	/**
+	 * 정규화한 키와 그 키로 찾을 항목.
+	 */
+	record PrefixKey(String key, Suggestion suggestion) {
+	}
+
+	/**
+	 * 키 순서로 정렬된 배열과 그 위의 순위 구간 트리. 바꾸지 않고, 변경이 있으면 새 객체를 만듭니다.
+	 */
+	static final class PrefixIndex {
+		private static final Comparator<PrefixKey> KEY_ORDER = Comparator.comparing(PrefixKey::key);
+		private static final Comparator<Suggestion> RANK_ORDER = Comparator.comparingInt(Suggestion::weight)
+			.reversed()
+			.thenComparing(Suggestion::text);
+
+		private final PrefixKey[] keys;
+		private final int topSize;
+
+		/**
+		 * 구간마다 순위가 가장 높은 키의 위치를 담은 트리. 잎은 tree[keys.length + i] 입니다.
+		 */
+		private final int[] tree;
+
+		private PrefixIndex(PrefixKey[] keys, int topSize) {
+			this.keys = keys;
+			this.topSize = topSize;
+			this.tree = buildTree(keys);
+		}
+
+		/**
+		 * @param topSize 한 번에 돌려줄 수 있는 최대 항목 수
+		 * @return 빈 색인
+		 */
+		static PrefixIndex empty(int topSize) {
+			return new PrefixIndex(new PrefixKey[0], topSize);
+		}
+
+		int size() {
+			return keys.length;
+		}
+
+		/**
+		 * 바뀐 도서의 키를 빼고 새로 읽은 도서의 키를 병합한 색인을 만듭니다. 기존 배열은 이미 정렬되어 있으므로 한 번 훑어서 합칩니다.
+		 *
+		 * @param changedBookIds 바뀐 도서 아이디 (지워진 도서 포함)
+		 * @param sources        바뀐 도서 중 남아 있는 도서
+		 * @return 새 색인
+		 */
+		PrefixIndex withChanges(Collection<Long> changedBookIds, Collection<BookSuggestSourceResponse> sources) {
+			Set<Long> changed = new HashSet<>(changedBookIds);
+			List<PrefixKey> added = new ArrayList<>();
+			sources.forEach(source -> {
+				changed.add(source.id());
+				addKeys(added, source.id(), BookSuggestType.TITLE, source.title(), source.viewCount());
+				addKeys(added, source.id(), BookSuggestType.AUTHOR, source.author(), source.viewCount());
+			});
+			added.sort(KEY_ORDER);
+
+			List<PrefixKey> merged = new ArrayList<>(keys.length + added.size());
+			int i = 0;
+			int j = 0;
+			while (i < keys.length || j < added.size()) {
+				if (i < keys.length && changed.contains(keys[i].suggestion().bookId())) {
+					i++;
+				} else if (j >= added.size()
+					|| (i < keys.length && KEY_ORDER.compare(keys[i], added.get(j)) <= 0)) {
+					merged.add(keys[i++]);
+				} else {
+					merged.add(added.get(j++));
+				}
+			}
+			return new PrefixIndex(merged.toArray(PrefixKey[]::new), topSize);
+		}
+
+		/**
+		 * 접두어 구간에서 순위가 높은 키를 차례로 꺼냅니다.
+		 * 꺼낸 키의 양옆 구간을 각각 트리로 다시 찾아 힙에 넣으므로 구간이 아무리 커도 꺼낸 수만큼만 봅니다.
+		 */
+		List<BookSuggestResponse> suggest(String prefix, int size) {
+			int limit = Math.min(size, topSize);
+			int from = search(key -> key.compareTo(prefix) < 0);
+			int to = search(key -> key.compareTo(prefix) < 0 || key.startsWith(prefix));
+			PriorityQueue<int[]> ranges = new PriorityQueue<>(
+				(left, right) -> RANK_ORDER.compare(keys[left[2]].suggestion(), keys[right[2]].suggestion()));
+			if (from < to) {
+				ranges.add(new int[] {from, to, best(from, to)});
+			}
+
+			// 같은 제목, 작가가 여러 도서에 있으면 조회수가 가장 많은 도서 하나만 남긴다. 순위 순서로 꺼내므로 처음 것이 남는다.
+			Set<String> seen = new HashSet<>();
+			List<BookSuggestResponse> result = new ArrayList<>(limit);
+			while (result.size() < limit && !ranges.isEmpty()) {
+				int[] range = ranges.poll();
+				Suggestion suggestion = keys[range[2]].suggestion();
+				if (seen.add(suggestion.type() + suggestion.text())) {
+					result.add(BookSuggestResponse.builder()
+						.text(suggestion.text())
+						.type(suggestion.type())
+						.bookId(suggestion.bookId())
+						.build());
+				}
+				if (range[0] < range[2]) {
+					ranges.add(new int[] {range[0], range[2], best(range[0], range[2])});
+				}
+				if (range[2] + 1 < range[1]) {
+					ranges.add(new int[] {range[2] + 1, range[1], best(range[2] + 1, range[1])});
+				}
+			}
+			return result;
+		}
+
+		private static int[] buildTree(PrefixKey[] keys) {
+			int n = keys.length;
+			int[] tree = new int[n * 2];
+			for (int i = 0; i < n; i++) {
+				tree[n + i] = i;
+			}
+			for (int i = n - 1; i > 0; i--) {
+				tree[i] = higher(keys, tree[i * 2], tree[i * 2 + 1]);
+			}
+			return tree;
+		}
+
+		/**
+		 * [from, to) 구간에서 순위가 가장 높은 키의 위치.
+		 */
+		private int best(int from, int to) {
+			int n = keys.length;
+			int best = from;
+			for (int low = from + n, high = to + n; low < high; low >>= 1, high >>= 1) {
+				if ((low & 1) == 1) {
+					best = higher(keys, best, tree[low++]);
+				}
+				if ((high & 1) == 1) {
+					best = higher(keys, best, tree[--high]);
+				}
+			}
+			return best;
+		}
+
+		private static int higher(PrefixKey[] keys, int left, int right) {
+			return RANK_ORDER.compare(keys[left].suggestion(), keys[right].suggestion()) <= 0 ? left : right;
+		}
+
+		/**
+		 * 앞에서부터 조건을 만족하다가 처음으로 만족하지 않는 위치. 정렬된 배열이라 조건을 만족하는 키는 앞쪽에 모여 있습니다.
+		 */
+		private int search(Predicate<String> before) {
+			int low = 0;
+			int high = keys.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (before.test(keys[mid].key())) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+
+		private static void addKeys(List<PrefixKey> keys, long bookId, BookSuggestType type, String value,
+			int weight) {
+			String normalized = normalize(value);
+			if (normalized.isEmpty()) {
+				return;
+			}
+			Suggestion suggestion = new Suggestion(bookId, type, WHITESPACE.matcher(value).replaceAll(" ").strip(),
+				weight);
+			keys.add(new PrefixKey(normalized, suggestion));
+
+			int added = 0;
+			for (int i = normalized.indexOf(' '); i >= 0 && added < MAX_WORD_STARTS;
+				i = normalized.indexOf(' ', i + 1)) {
+				if (i + 1 < normalized.length() && Character.isLetterOrDigit(normalized.codePointAt(i + 1))) {
+					keys.add(new PrefixKey(normalized.substring(i + 1), suggestion));
+					added++;
+				}
+			}
+		}
+	}
+}
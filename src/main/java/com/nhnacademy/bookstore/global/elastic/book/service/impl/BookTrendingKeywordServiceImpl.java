@@ -0,0 +1,128 @@
+package com.nhnacademy.bookstore.global.elastic.book.service.impl;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookTrendingKeywordResponse;
+import com.nhnacademy.bookstore.global.elastic.book.service.BookSearchService;
+import com.nhnacademy.bookstore.global.elastic.book.service.BookTrendingKeywordService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 인기 검색어 서비스 구현체입니다.
+ * 구간마다 Space-Saving 요약 하나로 capacity 개까지만 세므로 검색어가 아무리 다양해도 메모리가 일정합니다.
+ * 키워드는 검색 결과 캐시와 같은 방식으로 정리해서, 캐시를 미리 채울 때 같은 키로 들어가게 합니다.
+ * <p>
+ * 인스턴스마다 따로 세므로, 요청이 고르게 나뉜다면 한 인스턴스의 순위가 전체 순위와 비슷합니다.
+ *
+ * @author 한민기
+ */
+@Service
+public class BookTrendingKeywordServiceImpl implements BookTrendingKeywordService {
+	/**
+	 * 이보다 긴 키워드는 세지 않습니다. 붙여넣은 긴 문장 때문에 요약이 커지지 않게 막습니다.
+	 */
+	private static final int MAX_KEYWORD_LENGTH = 50;
+
+	private final BookSearchService bookSearchService;
+	private final int capacity;
+	private final int warmSize;
+
+	/**
+	 * 지금 구간. this 로 동기화합니다.
+	 */
+	private SpaceSaving current;
+
+	/**
+	 * 직전 구간의 인기 검색어.
+	 */
+	private volatile List<BookTrendingKeywordResponse> trending = List.of();
+
+	public BookTrendingKeywordServiceImpl(BookSearchService bookSearchService, MeterRegistry meterRegistry,
+		@Value("${book.search-trend.capacity:200}") int capacity,
+		@Value("${book.search-trend.warm-size:10}") int warmSize) {
+		this.bookSearchService = bookSearchService;
+		this.capacity = capacity;
+		this.warmSize = warmSize;
+		this.current = new SpaceSaving(capacity);
+		Gauge.builder("bookstore.book.search.trend.size", this, BookTrendingKeywordServiceImpl::size)
+			.description("지금 구간에서 세고 있는 검색어 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void record(String keyword) {
+		if (Objects.isNull(keyword)) {
+			return;
+		}
+		String normalized = BookSearchCacheServiceImpl.normalize(keyword);
+		if (normalized.isEmpty() || normalized.length() > MAX_KEYWORD_LENGTH) {
+			return;
+		}
+		synchronized (this) {
+			current.offer(normalized);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<BookTrendingKeywordResponse> readTrending(int size) {
+		List<BookTrendingKeywordResponse> completed = trending;
+		if (!completed.isEmpty()) {
+			return completed.stream().limit(Math.max(0, size)).toList();
+		}
+		synchronized (this) {
+			return toResponses(current, Math.max(0, size));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Scheduled(fixedDelayString = "${book.search-trend.window:600000}",
+		initialDelayString = "${book.search-trend.window:600000}")
+	public void rotate() {
+		SpaceSaving completed;
+		synchronized (this) {
+			completed = current;
+			current = new SpaceSaving(capacity);
+		}
+		trending = toResponses(completed, capacity);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * 돌 때마다 인기 검색어를 다시 검색해서 ttl 을 새로 세므로, warm-delay 가 검색 결과 캐시의 ttl 보다 짧으면
+	 * 인기 검색어는 만료로 빠지지 않습니다. 검색 색인이 바뀌어 캐시를 비우면 다음에 돌 때까지는 빠져 있습니다.
+	 */
+	@Override
+	@Scheduled(fixedDelayString = "${book.search-trend.warm-delay:20000}")
+	public void warm() {
+		List<String> keywords = readTrending(warmSize).stream().map(BookTrendingKeywordResponse::keyword).toList();
+		if (!keywords.isEmpty()) {
+			bookSearchService.warm(keywords);
+		}
+	}
+
+	private static List<BookTrendingKeywordResponse> toResponses(SpaceSaving summary, int size) {
+		return summary.top(size).stream()
+			.map(item -> new BookTrendingKeywordResponse(item.value(), item.count()))
+			.toList();
+	}
+
+	private synchronized int size() {
+		return current.size();
+	}
+}
@@ -0,0 +1,86 @@
+package com.nhnacademy.bookstore.global.elastic.book.service.impl;
+
+import java.util.function.LongSupplier;
+
+/**
+ * elastic search 검색용 회로 차단기.
+ * 연속으로 failureThreshold 번 실패하거나 느리면 열리고, openDuration 동안은 요청을 보내지 않습니다.
+ * 그 뒤 요청 하나만 시험 삼아 보내서 성공하면 닫고, 실패하면 다시 엽니다.
+ *
+ * @author 한민기
+ */
+final class SearchCircuitBreaker {
+	enum State {
+		CLOSED, HALF_OPEN, OPEN
+	}
+
+	private final int failureThreshold;
+	private final long slowCallNanos;
+	private final long openNanos;
+	private final LongSupplier nanoClock;
+
+	private State state = State.CLOSED;
+	private int failures;
+	private long openedAt;
+	private boolean probing;
+
+	SearchCircuitBreaker(int failureThreshold, long slowCallNanos, long openNanos, LongSupplier nanoClock) {
+		this.failureThreshold = failureThreshold;
+		this.slowCallNanos = slowCallNanos;
+		this.openNanos = openNanos;
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * 요청을 보내도 되는지. 반열림 상태에서는 시험 요청 하나만 허락합니다.
+	 *
+	 * @return 보내도 되면 true
+	 */
+	synchronized boolean tryAcquire() {
+		if (state == State.OPEN) {
+			if (nanoClock.getAsLong() - openedAt < openNanos) {
+				return false;
+			}
+			state = State.HALF_OPEN;
+			probing = false;
+		}
+		if (state == State.HALF_OPEN) {
+			if (probing) {
+				return false;
+			}
+			probing = true;
+		}
+		return true;
+	}
+
+	/**
+	 * 요청이 끝났음을 알립니다. slowCall 보다 오래 걸렸으면 실패로 셉니다.
+	 *
+	 * @param elapsedNanos 걸린 시간
+	 */
+	synchronized void onSuccess(long elapsedNanos) {
+		if (elapsedNanos >= slowCallNanos) {
+			onFailure();
+			return;
+		}
+		state = State.CLOSED;
+		failures = 0;
+		probing = false;
+	}
+
+	/**
+	 * 요청이 실패했음을 알립니다.
+	 */
+	synchronized void onFailure() {
+		probing = false;
+		if (state == State.HALF_OPEN || ++failures >= failureThreshold) {
+			state = State.OPEN;
+			openedAt = nanoClock.getAsLong();
+			failures = 0;
+		}
+	}
+
+	synchronized State state() {
+		return state;
+	}
+}
@@ -0,0 +1,84 @@
+package com.nhnacademy.bookstore.global.elastic.book.service.impl;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 자주 나온 항목을 capacity 개만 세는 Space-Saving 요약.
+ * 꽉 찬 상태에서 새 항목이 들어오면 가장 적게 센 항목을 내보내고 그 수에 1 을 더해 이어 셉니다.
+ * 그래서 센 수는 실제보다 많을 수 있지만 (많아야 error 만큼), 전체의 1/capacity 보다 자주 나온 항목은 빠지지 않습니다.
+ * <p>
+ * 가장 적게 센 항목은 내보낼 때마다 훑어서 찾습니다. capacity 가 수백 개 정도일 때를 생각한 구현이고, 동기화는 호출하는 쪽에서 합니다.
+ *
+ * @author 한민기
+ */
+final class SpaceSaving {
+	private static final Comparator<Item> TOP_ORDER = Comparator.comparingLong(Item::count).reversed()
+		.thenComparing(Item::value);
+
+	private final int capacity;
+	private final Map<String, long[]> counters;
+
+	SpaceSaving(int capacity) {
+		this.capacity = capacity;
+		this.counters = new HashMap<>(capacity * 2);
+	}
+
+	/**
+	 * 항목을 한 번 셉니다.
+	 *
+	 * @param value 항목
+	 */
+	void offer(String value) {
+		// [센 수, 내보낸 항목에게서 물려받은 수(오차)]
+		long[] counter = counters.get(value);
+		if (Objects.nonNull(counter)) {
+			counter[0]++;
+			return;
+		}
+		if (counters.size() < capacity) {
+			counters.put(value, new long[] {1, 0});
+			return;
+		}
+		Map.Entry<String, long[]> min = null;
+		for (Map.Entry<String, long[]> entry : counters.entrySet()) {
+			if (Objects.isNull(min) || entry.getValue()[0] < min.getValue()[0]) {
+				min = entry;
+			}
+		}
+		long minCount = min.getValue()[0];
+		counters.remove(min.getKey());
+		counters.put(value, new long[] {minCount + 1, minCount});
+	}
+
+	/**
+	 * 많이 센 순서로 size 개까지 반환합니다.
+	 *
+	 * @param size 최대 개수
+	 * @return 항목과 센 수
+	 */
+	List<Item> top(int size) {
+		return counters.entrySet().stream()
+			.map(entry -> new Item(entry.getKey(), entry.getValue()[0], entry.getValue()[1]))
+			.sorted(TOP_ORDER)
+			.limit(size)
+			.toList();
+	}
+
+	int size() {
+		return counters.size();
+	}
+
+	/**
+	 * 센 항목.
+	 *
+	 * @param value 항목
+	 * @param count 센 수 (실제보다 많을 수 있음)
+	 * @param error count 중 다른 항목에게서 물려받은 수
+	 */
+	record Item(String value, long count, long error) {
+	}
+}
@@ -1,8 +1,12 @@
 package com.nhnacademy.bookstore.global.elastic.controller;
 
+import java.util.List;
+import java.util.Objects;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -10,7 +14,14 @@ import org.springframework.web.bind.annotation.RestController;
 import com.nhnacademy.bookstore.book.book.service.BookService;
 import com.nhnacademy.bookstore.book.bookcategory.service.BookCategoryService;
 import com.nhnacademy.bookstore.book.booktag.service.BookTagService;
-import com.nhnacademy.bookstore.global.elastic.book.repository.ElasticSearchBookRepository;
+import com.nhnacademy.bookstore.global.elastic.book.dto.request.BookSearchFilterRequest;
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookFacetSearchResponse;
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookSearchCursorResponse;
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookSuggestResponse;
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookTrendingKeywordResponse;
+import com.nhnacademy.bookstore.global.elastic.book.service.BookSearchService;
+import com.nhnacademy.bookstore.global.elastic.book.service.BookSuggestService;
+import com.nhnacademy.bookstore.global.elastic.book.service.BookTrendingKeywordService;
 import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
 import com.nhnacademy.bookstore.util.ApiResponse;
 
@@ -22,10 +33,17 @@ import lombok.extern.slf4j.Slf4j;
 @RequestMapping("/bookstore/books/search")
 @RequiredArgsConstructor
 public class ElasticController {
-	private final ElasticSearchBookRepository elasticSearchBookRepository;
+	/**
+	 * 커서 검색 한 번에 내려주는 최대 도서 수.
+	 */
+	private static final int MAX_CURSOR_SIZE = 100;
+
 	private final BookService bookService;
 	private final BookCategoryService bookCategoryService;
 	private final BookTagService bookTagService;
+	private final BookSearchService bookSearchService;
+	private final BookSuggestService bookSuggestService;
+	private final BookTrendingKeywordService bookTrendingKeywordService;
 
 	/**
 	 * 검색 결과 보내주기
@@ -38,10 +56,72 @@ public class ElasticController {
 	public ApiResponse<Page<BookDocument>> searchKeyWord(@RequestParam(defaultValue = "0") int page,
 		@RequestParam(defaultValue = "12") int size,
 		@RequestParam("keyword") String keyword) {
-
-		Page<BookDocument> pageBookDocument = elasticSearchBookRepository.findByCustomQuery(keyword,
-			PageRequest.of(page, size));
+		if (page == 0) {
+			bookTrendingKeywordService.record(keyword);
+		}
+		Page<BookDocument> pageBookDocument = bookSearchService.search(keyword, PageRequest.of(page, size));
 		return ApiResponse.success(pageBookDocument);
 	}
 
+	/**
+	 * 커서 기반 검색 결과 보내주기
+	 * 페이지 번호 대신 이전 응답의 nextCursor 를 after 로 넘기면 이어지는 검색 결과를 보내줍니다.
+	 * @param keyword 검색 키워드
+	 * @param after   이전 응답의 nextCursor (첫 페이지면 생략)
+	 * @param size    페이지 사이즈 (1 ~ 100)
+	 * @return 검색으로 찾은 책들과 다음 커서
+	 */
+	@GetMapping("/cursor")
+	public ApiResponse<BookSearchCursorResponse> searchByCursor(@RequestParam("keyword") String keyword,
+		@RequestParam(required = false) String after,
+		@RequestParam(defaultValue = "12") int size) {
+		if (Objects.isNull(after) || after.isBlank()) {
+			bookTrendingKeywordService.record(keyword);
+		}
+		return ApiResponse.success(
+			bookSearchService.searchByCursor(keyword, after, Math.clamp(size, 1, MAX_CURSOR_SIZE)));
+	}
+
+	/**
+	 * 필터를 건 검색 결과와 결과 안의 카테고리, 태그, 출판사, 판매가 구간별 도서 수 보내주기
+	 * @param page    페이지
+	 * @param size    페이지 사이즈
+	 * @param keyword 검색 키워드
+	 * @param filter  카테고리, 태그, 출판사, 판매가 필터
+	 * @return 검색으로 찾은 책들과 필드별 도서 수
+	 */
+	@GetMapping("/facets")
+	public ApiResponse<BookFacetSearchResponse> searchWithFacets(@RequestParam(defaultValue = "0") int page,
+		@RequestParam(defaultValue = "12") int size,
+		@RequestParam("keyword") String keyword,
+		@ModelAttribute BookSearchFilterRequest filter) {
+		if (page == 0) {
+			bookTrendingKeywordService.record(keyword);
+		}
+		return ApiResponse.success(bookSearchService.searchWithFacets(keyword, filter, PageRequest.of(page, size)));
+	}
+
+	/**
+	 * 검색창 자동완성
+	 * @param keyword 입력한 문자열
+	 * @param size    최대 개수
+	 * @return 입력한 문자열로 시작하는 제목, 작가
+	 */
+	@GetMapping("/suggest")
+	public ApiResponse<List<BookSuggestResponse>> suggest(@RequestParam("keyword") String keyword,
+		@RequestParam(defaultValue = "10") int size) {
+		return ApiResponse.success(bookSuggestService.suggest(keyword, size));
+	}
+
+	/**
+	 * 인기 검색어 보내주기
+	 * 검색어는 첫 페이지를 검색할 때만 셉니다.
+	 * @param size 최대 개수
+	 * @return 직전 구간에 많이 검색된 키워드
+	 */
+	@GetMapping("/trending")
+	public ApiResponse<List<BookTrendingKeywordResponse>> readTrending(@RequestParam(defaultValue = "10") int size) {
+		return ApiResponse.success(bookTrendingKeywordService.readTrending(size));
+	}
+
 }
\ No newline at end of file
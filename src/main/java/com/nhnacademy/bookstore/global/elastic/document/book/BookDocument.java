@@ -2,9 +2,12 @@ package com.nhnacademy.bookstore.global.elastic.document.book;
 
 import java.util.List;
 
+import org.springframework.data.annotation.Transient;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
 
 import jakarta.persistence.Id;
 import lombok.AllArgsConstructor;
@@ -34,16 +37,21 @@ public class BookDocument {
 	@Field(type = FieldType.Keyword)
 	private String thumbnail;
 
-	@Field(type = FieldType.Text, copyTo = {"keywordList", "keywordText"}, analyzer = "whitespace_analyzer")
+	@MultiField(
+		mainField = @Field(type = FieldType.Text, copyTo = {"keywordList", "keywordText"},
+			analyzer = "whitespace_analyzer"),
+		otherFields = @InnerField(suffix = "keyword", type = FieldType.Keyword))
 	private String publisher;
 
-	@Field(type = FieldType.Keyword)
+	@Field(type = FieldType.Integer)
 	int price;
 
-	@Field(type = FieldType.Keyword)
+	@Field(type = FieldType.Integer)
 	int sellingPrice;
 
-	@Field(type = FieldType.Text, copyTo = {"keywordList", "keywordText"}, analyzer = "nori_analyzer")
+	@MultiField(
+		mainField = @Field(type = FieldType.Text, copyTo = {"keywordList", "keywordText"}, analyzer = "nori_analyzer"),
+		otherFields = @InnerField(suffix = "keyword", type = FieldType.Keyword))
 	private List<String> tagList;
 
 	@Field(type = FieldType.Keyword, copyTo = {"keywordList", "keywordText"})
@@ -55,6 +63,12 @@ public class BookDocument {
 	@Field(type = FieldType.Text)
 	private List<String> keywordList;
 
+	/**
+	 * 재고. 색인에 넣지 않고, 검색 결과를 내려주기 전에 DB 의 현재 값으로 채웁니다.
+	 */
+	@Transient
+	private Integer quantity;
+
 	public BookDocument(long id, String title, String author, String thumbnail, String publisher,
 		List<String> tagList, List<String> categoryList, int price, int sellingPrice) {
 		this.id = id;
@@ -13,12 +13,17 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import com.nhnacademy.bookstore.book.book.exception.ApiBookBulkJobNotFoundException;
 import com.nhnacademy.bookstore.book.book.exception.BookDoesNotExistException;
+import com.nhnacademy.bookstore.book.book.exception.CreateApiBookBulkRequestFormException;
 import com.nhnacademy.bookstore.book.book.exception.CreateBookRequestFormException;
+import com.nhnacademy.bookstore.book.book.exception.InvalidBookCursorException;
 import com.nhnacademy.bookstore.book.book.exception.UpdateBookRequestFormException;
+import com.nhnacademy.bookstore.book.bookindex.exception.BookReindexRunningException;
 import com.nhnacademy.bookstore.book.category.exception.CreateCategoryRequestException;
 import com.nhnacademy.bookstore.book.category.exception.UpdateCategoryRequestException;
 import com.nhnacademy.bookstore.book.image.exception.NotFindImageException;
+import com.nhnacademy.bookstore.book.ranking.exception.InvalidRankingException;
 import com.nhnacademy.bookstore.book.tag.exception.AlreadyHaveTagException;
 import com.nhnacademy.bookstore.member.address.exception.AddressFullException;
 import com.nhnacademy.bookstore.member.address.exception.AddressNotExistsException;
@@ -91,7 +96,11 @@ public class WebControllerAdvice {
 		AlreadyHaveTagException.class,
 		CreateRefundRequestFormException.class,
 		CreateCategoryRequestException.class,
-		UpdateCategoryRequestException.class
+		UpdateCategoryRequestException.class,
+		InvalidBookCursorException.class,
+		InvalidRankingException.class,
+		CreateApiBookBulkRequestFormException.class,
+		BookReindexRunningException.class
 
 	})
 	@ResponseStatus(HttpStatus.BAD_REQUEST)
@@ -119,6 +128,7 @@ public class WebControllerAdvice {
 		PurchaseDoesNotExistException.class,
 		NotFindImageException.class,
 		BookDoesNotExistException.class,
+		ApiBookBulkJobNotFoundException.class,
 		NotExistsRefund.class,
 		NotExistsRefundRecord.class
 	})
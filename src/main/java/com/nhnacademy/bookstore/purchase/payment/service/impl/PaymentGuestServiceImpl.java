@@ -2,6 +2,9 @@ package com.nhnacademy.bookstore.purchase.payment.service.impl;
 
 import com.nhnacademy.bookstore.book.book.exception.BookDoesNotExistException;
 import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.book.book.service.BookDetailCacheService;
+import com.nhnacademy.bookstore.book.ranking.enums.RankingType;
+import com.nhnacademy.bookstore.book.ranking.service.BookRankingService;
 import com.nhnacademy.bookstore.entity.book.Book;
 import com.nhnacademy.bookstore.entity.payment.Payment;
 import com.nhnacademy.bookstore.entity.payment.enums.PaymentStatus;
@@ -20,7 +23,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @Transactional
@@ -32,6 +37,8 @@ public class PaymentGuestServiceImpl implements PaymentGuestService {
     private final PaymentRepository paymentRepository;
     private final PurchaseRepository purchaseRepository;
     private final BookRepository bookRepository;
+    private final BookDetailCacheService bookDetailCacheService;
+    private final BookRankingService bookRankingService;
 
     /**
      * {@inheritDoc}
@@ -65,6 +72,7 @@ public class PaymentGuestServiceImpl implements PaymentGuestService {
 
         List<ReadBookCartGuestResponse> bookCartGuestResponseList = bookCartGuestService.readAllBookCart(createPaymentGuestRequest.cartId());
 
+        Map<Long, Long> purchasedQuantities = new HashMap<>();
         for (ReadBookCartGuestResponse bookCartGuestResponse : bookCartGuestResponseList) {
             purchaseBookService.createPurchaseBook(
                     CreatePurchaseBookRequest.builder()
@@ -85,7 +93,10 @@ public class PaymentGuestServiceImpl implements PaymentGuestService {
             }
 
             bookRepository.save(book);
+            bookDetailCacheService.evict(book.getId());
+            purchasedQuantities.merge(book.getId(), (long) bookCartGuestResponse.quantity(), Long::sum);
         }
+        bookRankingService.increaseScore(RankingType.BESTSELLER, purchasedQuantities);
 
         bookCartGuestService.deleteAllBookCart(createPaymentGuestRequest.cartId());
 
@@ -2,6 +2,9 @@ package com.nhnacademy.bookstore.purchase.payment.service.impl;
 
 import com.nhnacademy.bookstore.book.book.exception.BookDoesNotExistException;
 import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.book.book.service.BookDetailCacheService;
+import com.nhnacademy.bookstore.book.ranking.enums.RankingType;
+import com.nhnacademy.bookstore.book.ranking.service.BookRankingService;
 import com.nhnacademy.bookstore.entity.book.Book;
 import com.nhnacademy.bookstore.entity.payment.Payment;
 import com.nhnacademy.bookstore.entity.payment.enums.PaymentStatus;
@@ -27,7 +30,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @RequiredArgsConstructor
 @Transactional
@@ -42,6 +47,8 @@ public class PaymentMemberServiceImpl implements PaymentMemberService {
     private final PaymentRepository paymentRepository;
     private final PurchaseRepository purchaseRepository;
     private final BookRepository bookRepository;
+    private final BookDetailCacheService bookDetailCacheService;
+    private final BookRankingService bookRankingService;
     private final PointPolicyRepository pointPolicyRepository;
 
     /**
@@ -79,6 +86,7 @@ public class PaymentMemberServiceImpl implements PaymentMemberService {
 
         List<ReadAllBookCartMemberResponse> bookCartMemberResponseList = bookCartMemberService.readAllCartMember(ReadAllBookCartMemberRequest.builder().userId(createPaymentMemberRequest.memberId()).build());
 
+        Map<Long, Long> purchasedQuantities = new HashMap<>();
         for (ReadAllBookCartMemberResponse bookCartMemberResponse : bookCartMemberResponseList) {
             purchaseBookService.createPurchaseBook(
                     CreatePurchaseBookRequest.builder()
@@ -99,7 +107,10 @@ public class PaymentMemberServiceImpl implements PaymentMemberService {
             }
 
             bookRepository.save(book);
+            bookDetailCacheService.evict(book.getId());
+            purchasedQuantities.merge(book.getId(), (long) bookCartMemberResponse.quantity(), Long::sum);
         }
+        bookRankingService.increaseScore(RankingType.BESTSELLER, purchasedQuantities);
 
 
         pointRecordService.save(
@@ -1,7 +1,9 @@
 package com.nhnacademy.bookstore.purchase.refund.service.impl;
 
 import java.time.ZonedDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -9,6 +11,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.book.book.service.BookDetailCacheService;
+import com.nhnacademy.bookstore.book.ranking.enums.RankingType;
+import com.nhnacademy.bookstore.book.ranking.service.BookRankingService;
 import com.nhnacademy.bookstore.entity.book.Book;
 import com.nhnacademy.bookstore.entity.coupon.Coupon;
 import com.nhnacademy.bookstore.entity.coupon.enums.CouponStatus;
@@ -58,6 +63,8 @@ public class RefundServiceImpl implements RefundService {
 	private final RefundRecordRepository refundRecordRepository;
 	private final RefundRecordRedisRepository refundRecordRedisRepository;
 	private final BookRepository bookRepository;
+	private final BookDetailCacheService bookDetailCacheService;
+	private final BookRankingService bookRankingService;
 	private final CouponRepository couponRepository;
 
 	/**
@@ -132,6 +139,7 @@ public class RefundServiceImpl implements RefundService {
 		}
 
 		Member member = purchase.getMember();
+		Map<Long, Long> refundedQuantities = new HashMap<>();
 
 		for (RefundRecord refundRecord : refundRecordList) {
 			PurchaseBook purchaseBook = refundRecord.getPurchaseBook();
@@ -140,8 +148,12 @@ public class RefundServiceImpl implements RefundService {
 			Book book = purchaseBook.getBook();
 			book.setQuantity(book.getQuantity() + refundRecord.getQuantity());
 			bookRepository.save(book);
+			bookDetailCacheService.evict(book.getId());
+			refundedQuantities.merge(book.getId(), -1L * refundRecord.getQuantity(), Long::sum);
 			purchaseBookRepository.save(purchaseBook);
 		}
+		bookRankingService.increaseScore(RankingType.BESTSELLER, refundedQuantities,
+			purchase.getCreatedAt().toLocalDate());
 
 		member.setPoint(member.getPoint() + refund.getPrice());
 		memberRepository.save(member);
@@ -234,6 +246,7 @@ public class RefundServiceImpl implements RefundService {
 		refund.setRefundStatus(RefundStatus.SUCCESS);
 
 		refundRepository.save(refund);
+		Map<Long, Long> refundedQuantities = new HashMap<>();
 
 		for (ReadRefundRecordResponse readRefundRecordResponse : responses) {
 			PurchaseBook purchaseBook = purchaseBookRepository.findById(readRefundRecordResponse.id()).orElseThrow(
@@ -253,9 +266,13 @@ public class RefundServiceImpl implements RefundService {
 			Book book = purchaseBook.getBook();
 			book.setQuantity(book.getQuantity() + readRefundRecordResponse.quantity());
 			bookRepository.save(book);
+			bookDetailCacheService.evict(book.getId());
+			refundedQuantities.merge(book.getId(), -1L * readRefundRecordResponse.quantity(), Long::sum);
 			purchaseBookRepository.save(purchaseBook);
 
 		}
+		bookRankingService.increaseScore(RankingType.BESTSELLER, refundedQuantities,
+			purchase.getCreatedAt().toLocalDate());
 
 		if (count == purchase.getPurchaseBookList().size()) { // 모두 환불 완료
 			purchase.setStatus(PurchaseStatus.REFUNDED_COMPLETED);
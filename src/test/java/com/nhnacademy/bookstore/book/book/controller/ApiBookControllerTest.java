@@ -1,19 +1,26 @@
 package com.nhnacademy.bookstore.book.book.controller;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import com.nhnacademy.bookstore.book.book.dto.response.ApiBookBulkJobResponse;
+import com.nhnacademy.bookstore.book.book.dto.response.ApiBookImportResponse;
+import com.nhnacademy.bookstore.book.book.service.ApiBookBulkService;
 import com.nhnacademy.bookstore.book.book.service.ApiBookService;
 
 @ExtendWith(MockitoExtension.class)
@@ -21,6 +28,8 @@ class ApiBookControllerTest {
 
 	@Mock
 	private ApiBookService apiBookService;
+	@Mock
+	private ApiBookBulkService apiBookBulkService;
 
 	@InjectMocks
 	private ApiBookController apiBookController;
@@ -43,4 +52,45 @@ class ApiBookControllerTest {
 
 		verify(apiBookService).save(anyString());
 	}
+
+	@Test
+	void testBulkBooks() throws Exception {
+		when(apiBookBulkService.startImport(List.of("1234567890123", "1234567890124"))).thenReturn(
+			ApiBookBulkJobResponse.of("job", 2, List.of()));
+
+		mockMvc.perform(post("/bookstore/api/books/bulk")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"isbnList\":[\"1234567890123\",\"1234567890124\"]}"))
+			.andExpect(status().isAccepted())
+			.andExpect(jsonPath("$.body.data.jobId").value("job"))
+			.andExpect(jsonPath("$.body.data.status").value("RUNNING"))
+			.andExpect(jsonPath("$.body.data.total").value(2));
+	}
+
+	@Test
+	void testBulkBooksStatus() throws Exception {
+		when(apiBookBulkService.readImport("job")).thenReturn(
+			ApiBookBulkJobResponse.of("job", 2, List.of(
+				ApiBookImportResponse.builder().isbn("1234567890123").status(ApiBookImportResponse.Status.CREATED)
+					.build(),
+				ApiBookImportResponse.builder().isbn("1234567890124").status(ApiBookImportResponse.Status.FAILED)
+					.message("error").build())));
+
+		mockMvc.perform(get("/bookstore/api/books/bulk/job"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.body.data.status").value("COMPLETED"))
+			.andExpect(jsonPath("$.body.data.created").value(1))
+			.andExpect(jsonPath("$.body.data.failed").value(1))
+			.andExpect(jsonPath("$.body.data.results[1].status").value("FAILED"));
+	}
+
+	@Test
+	void testBulkBooksEmpty() {
+		assertThrows(Exception.class, () ->
+			mockMvc.perform(post("/bookstore/api/books/bulk")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"isbnList\":[]}")));
+
+		verifyNoInteractions(apiBookBulkService);
+	}
 }
@@ -29,6 +29,7 @@ import org.springframework.restdocs.payload.JsonFieldType;
 
 import com.nhnacademy.bookstore.BaseDocumentTest;
 import com.nhnacademy.bookstore.book.book.dto.request.CreateBookRequest;
+import com.nhnacademy.bookstore.book.book.dto.response.BookCursorResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.BookForCouponResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.BookListResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.BookManagementResponse;
@@ -512,4 +513,20 @@ class BookControllerTest extends BaseDocumentTest {
 		verify(bookService, times(1)).readAllAdminBooks(pageable);
 	}
 
+	@DisplayName("도서 커서 조회 사이즈 보정")
+	@Test
+	void readAllBooksByCursorSizeTest() throws Exception {
+		given(bookService.readBooksByCursor(any(Sort.Order.class), any(), anyInt(), any()))
+			.willReturn(BookCursorResponse.builder().content(List.of()).hasNext(false).build());
+
+		this.mockMvc.perform(RestDocumentationRequestBuilders.get("/bookstore/books/cursor")
+				.param("size", "0"))
+			.andExpect(status().isOk());
+		this.mockMvc.perform(RestDocumentationRequestBuilders.get("/bookstore/books/cursor")
+				.param("size", "1000"))
+			.andExpect(status().isOk());
+
+		verify(bookService).readBooksByCursor(any(Sort.Order.class), isNull(), eq(1), isNull());
+		verify(bookService).readBooksByCursor(any(Sort.Order.class), isNull(), eq(100), isNull());
+	}
 }
@@ -0,0 +1,41 @@
+package com.nhnacademy.bookstore.book.book.dto.request;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import com.nhnacademy.bookstore.book.book.exception.InvalidBookCursorException;
+
+class BookCursorTest {
+
+	@Test
+	void encodeDecodeTest() {
+		Sort.Order order = new Sort.Order(Sort.Direction.ASC, "title");
+		BookCursor cursor = BookCursor.of(order, 10L, "a,b,c");
+
+		BookCursor decoded = BookCursor.decode(cursor.encode());
+
+		assertThat(decoded).isEqualTo(cursor);
+		assertThat(decoded.matches(order)).isTrue();
+		assertThat(decoded.matches(new Sort.Order(Sort.Direction.DESC, "title"))).isFalse();
+	}
+
+	@Test
+	void encodeDecodeNullValueTest() {
+		BookCursor cursor = BookCursor.of(new Sort.Order(Sort.Direction.DESC, "publishedDate"), 3L, null);
+
+		BookCursor decoded = BookCursor.decode(cursor.encode());
+
+		assertThat(decoded.value()).isNull();
+		assertThat(decoded.id()).isEqualTo(3L);
+	}
+
+	@Test
+	void decodeExceptionTest() {
+		assertThatThrownBy(() -> BookCursor.decode("!!!"))
+			.isInstanceOf(InvalidBookCursorException.class);
+		assertThatThrownBy(() -> BookCursor.decode("dGl0bGU"))
+			.isInstanceOf(InvalidBookCursorException.class);
+	}
+}
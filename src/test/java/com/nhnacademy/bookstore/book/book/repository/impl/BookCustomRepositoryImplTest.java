@@ -1,22 +1,28 @@
 package com.nhnacademy.bookstore.book.book.repository.impl;
 
-import static org.assertj.core.api.AssertionsForClassTypes.*;
+import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
+import com.nhnacademy.bookstore.book.book.dto.request.BookCursor;
+import com.nhnacademy.bookstore.book.book.dto.response.BookCursorResponse;
+import com.nhnacademy.bookstore.book.book.dto.response.BookDetailResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.BookListResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.BookManagementResponse;
+import com.nhnacademy.bookstore.book.book.dto.response.BookStockResponse;
+import com.nhnacademy.bookstore.book.book.dto.response.BookSuggestSourceResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.ReadBookResponse;
 import com.nhnacademy.bookstore.book.book.repository.BookRepository;
 import com.nhnacademy.bookstore.book.bookcategory.repository.BookCategoryRepository;
@@ -29,6 +35,7 @@ import com.nhnacademy.bookstore.entity.bookimage.BookImage;
 import com.nhnacademy.bookstore.entity.bookimage.enums.BookImageType;
 import com.nhnacademy.bookstore.entity.category.Category;
 import com.nhnacademy.bookstore.entity.totalimage.TotalImage;
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
 import com.nhnacademy.bookstore.purchase.purchasebook.exception.NotExistsBook;
 
 import lombok.extern.slf4j.Slf4j;
@@ -92,7 +99,7 @@ class BookCustomRepositoryImplTest {
 
 	@Test
 	void readBookList() {
-		Page<BookListResponse> content = bookCustomRepository.readBookList(PageRequest.of(0, 10));
+		Slice<BookListResponse> content = bookCustomRepository.readBookList(PageRequest.of(0, 10));
 
 		assertThat(content).isNotNull();
 
@@ -112,9 +119,74 @@ class BookCustomRepositoryImplTest {
 		assertThrows(NotExistsBook.class, () -> bookCustomRepository.readDetailBook(searchId + 123));
 	}
 
+	@Test
+	void readBookDetailTest() {
+		BookDetailResponse bookDetail = bookCustomRepository.readBookDetail(book1.getId());
+
+		assertThat(bookDetail.book().title()).isEqualTo("Test Title");
+		assertThat(bookDetail.book().imagePath()).isEqualTo("test.png");
+		assertThat(bookDetail.categoryList().size()).isEqualTo(1);
+		assertThat(bookDetail.categoryList().getFirst().id()).isEqualTo(category1.getId());
+		assertThat(bookDetail.tagList().isEmpty()).isTrue();
+	}
+
+	@Test
+	void readBookDetailException() {
+		long searchId = book1.getId();
+		assertThrows(NotExistsBook.class, () -> bookCustomRepository.readBookDetail(searchId + 123));
+	}
+
+	@Test
+	void readBookListByIdsTest() {
+		List<BookListResponse> books = bookCustomRepository.readBookListByIds(
+			List.of(book1.getId() + 123, book1.getId()));
+
+		assertThat(books).extracting(BookListResponse::id).containsExactly(book1.getId());
+	}
+
+	@Test
+	void readBookDocumentsTest() {
+		List<BookDocument> documents = bookCustomRepository.readBookDocuments(
+			List.of(book1.getId() + 123, book1.getId()));
+
+		assertThat(documents.size()).isEqualTo(1);
+		BookDocument document = documents.getFirst();
+		assertThat(document.getId()).isEqualTo(book1.getId());
+		assertThat(document.getTitle()).isEqualTo("Test Title");
+		assertThat(document.getThumbnail()).isEqualTo("test_thumbnail.png");
+		assertThat(document.getCategoryList()).isEqualTo(List.of("Test Category1"));
+		assertThat(document.getTagList()).isEqualTo(List.of());
+		assertThat(document.getSellingPrice()).isEqualTo(900);
+	}
+
+	@Test
+	void readBookIdsAfterTest() {
+		assertThat(bookCustomRepository.readBookIdsAfter(0, 10)).contains(book1.getId());
+		assertThat(bookCustomRepository.readBookIdsAfter(book1.getId(), 10)).doesNotContain(book1.getId());
+	}
+
+	@Test
+	void readBookSuggestSourcesTest() {
+		List<BookSuggestSourceResponse> sources = bookCustomRepository.readBookSuggestSources(List.of(book1.getId()));
+
+		assertThat(sources).hasSize(1);
+		assertThat(sources.getFirst().title()).isEqualTo("Test Title");
+		assertThat(bookCustomRepository.readBookSuggestSources(List.of())).isEmpty();
+	}
+
+	@Test
+	void readBookStocksTest() {
+		List<BookStockResponse> stocks = bookCustomRepository.readBookStocks(List.of(book1.getId()));
+
+		assertThat(stocks).hasSize(1);
+		assertThat(stocks.getFirst().id()).isEqualTo(book1.getId());
+		assertThat(stocks.getFirst().quantity()).isEqualTo(book1.getQuantity());
+		assertThat(bookCustomRepository.readBookStocks(List.of())).isEmpty();
+	}
+
 	@Test
 	void readAdminBookListTest() {
-		Page<BookManagementResponse> bookManagementResponsePage = bookCustomRepository.readAdminBookList(
+		Slice<BookManagementResponse> bookManagementResponsePage = bookCustomRepository.readAdminBookList(
 			PageRequest.of(0, 10));
 		assertThat(bookManagementResponsePage).isNotNull();
 		BookManagementResponse bookManagementResponse = bookManagementResponsePage.getContent().getFirst();
@@ -131,7 +203,7 @@ class BookCustomRepositoryImplTest {
 		Sort sortOrder = Sort.by(new Sort.Order(directionEnum, property));
 		Pageable pageable = PageRequest.of(1, 10, sortOrder);
 
-		Page<BookListResponse> bookListResponsePage = bookCustomRepository.readCategoryAllBookList(pageable,
+		Slice<BookListResponse> bookListResponsePage = bookCustomRepository.readCategoryAllBookList(pageable,
 			category1.getId());
 		assertThat(bookListResponsePage).isNotNull();
 		assertThat(bookListResponsePage.getContent()).isNotNull();
@@ -147,7 +219,7 @@ class BookCustomRepositoryImplTest {
 		Sort sortOrder = Sort.by(new Sort.Order(directionEnum, property));
 		Pageable pageable = PageRequest.of(1, 10, sortOrder);
 
-		Page<BookListResponse> bookListResponsePage = bookCustomRepository.readCategoryAllBookList(pageable,
+		Slice<BookListResponse> bookListResponsePage = bookCustomRepository.readCategoryAllBookList(pageable,
 			category1.getId());
 		assertThat(bookListResponsePage).isNotNull();
 		assertThat(bookListResponsePage.getContent()).isNotNull();
@@ -167,4 +239,33 @@ class BookCustomRepositoryImplTest {
 			category1.getId()));
 
 	}
-}
\ No newline at end of file
+
+	@Test
+	void readBookListByCursorTest() {
+		Book book2 = new Book("Test Title2", "Test Description", ZonedDateTime.now(), 2000, 10, 1800, 0, true,
+			"Test Author", "223456789", "Test Publisher", null, null, null);
+		bookRepository.save(book2);
+		Sort.Order order = new Sort.Order(Sort.Direction.DESC, "price");
+
+		BookCursorResponse first = bookCustomRepository.readBookListByCursor(order, null, 1, null);
+		assertThat(first.content()).hasSize(1);
+		assertThat(first.content().getFirst().id()).isEqualTo(book2.getId());
+		assertThat(first.hasNext()).isTrue();
+
+		BookCursorResponse second = bookCustomRepository.readBookListByCursor(order,
+			BookCursor.decode(first.nextCursor()), 1, null);
+		assertThat(second.content()).hasSize(1);
+		assertThat(second.content().getFirst().id()).isEqualTo(book1.getId());
+		assertThat(second.hasNext()).isFalse();
+		assertThat(second.nextCursor()).isNull();
+	}
+
+	@Test
+	void readCategoryBookListByCursorTest() {
+		BookCursorResponse response = bookCustomRepository.readBookListByCursor(
+			new Sort.Order(Sort.Direction.DESC, "likes"), null, 10, category1.getId());
+
+		assertThat(response.content()).hasSize(1);
+		assertThat(response.hasNext()).isFalse();
+	}
+}
@@ -1,92 +1,172 @@
 package com.nhnacademy.bookstore.book.book.repository.impl;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
-import java.util.LinkedList;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.data.redis.core.HashOperations;
+import org.mockito.Spy;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisHashCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.nhnacademy.bookstore.book.book.dto.response.BookIndexChangeResponse;
+import com.nhnacademy.bookstore.global.elastic.book.bulk.BookBulkSerializer;
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
 
-import com.nhnacademy.bookstore.entity.book.Book;
-import com.nhnacademy.bookstore.entity.bookcategory.BookCategory;
-import com.nhnacademy.bookstore.entity.bookimage.BookImage;
-import com.nhnacademy.bookstore.entity.bookimage.enums.BookImageType;
-import com.nhnacademy.bookstore.entity.booktag.BookTag;
-import com.nhnacademy.bookstore.entity.category.Category;
-import com.nhnacademy.bookstore.entity.tag.Tag;
-import com.nhnacademy.bookstore.entity.totalimage.TotalImage;
 
 public class BookRedisRepositoryImplTest {
 
 	@Mock
 	private RedisTemplate<String, Object> redisTemplate;
 
-	@Mock
-	private HashOperations<String, Object, Object> hashOperations;
+	@Spy
+	private BookBulkSerializer bookBulkSerializer = new BookBulkSerializer();
+
 	@InjectMocks
 	private BookRedisRepositoryImpl bookRedisRepository;
 
-	private Book book;
+	private final GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer();
+	private static final List<String> WRITE_KEYS = List.of("bookDocument", "bookDocument:order",
+		"bookDocument:sequence", "bookDocument:changedAt");
+
+	private BookDocument document;
 
 	@BeforeEach
 	public void setUp() {
 		MockitoAnnotations.openMocks(this);
 
-		// Mocking RedisTemplate to return HashOperations
-		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
-
-		// Mocking a Book entity
-		book = new Book();
-		book.setId(1L);
-		book.setTitle("Test Title");
-		book.setAuthor("Test Author");
-		book.setPublisher("Test Publisher");
-		book.setPrice(1000);
-		book.setSellingPrice(900);
-		book.setBookImageList(new LinkedList<>());
-		book.setBookTagList(new LinkedList<>());
-		book.setBookCategoryList(new LinkedList<>());
-
-		// Mocking associated entities
-		BookImage bookImage = new BookImage(BookImageType.MAIN, book, new TotalImage("test.png"));
-		book.getBookImageList().add(bookImage);
-
-		Tag tag = new Tag();
-		tag.setName("Test Tag");
-		BookTag bookTag = new BookTag(book, tag);
-		book.getBookTagList().add(bookTag);
-
-		Category category = new Category();
-		category.setName("Test Category");
-		BookCategory bookCategory = new BookCategory();
-		bookCategory.setCategory(category);
-		book.getBookCategoryList().add(bookCategory);
+		doReturn(serializer).when(redisTemplate).getHashValueSerializer();
+
+		document = new BookDocument(1L, "Test Title", "Test Author", "test_thumbnail.png", "Test Publisher",
+			List.of("Test Tag"), List.of("Test Category"), 1000, 900);
+	}
+
+	private String verifyWrittenBody(long bookId) {
+		ArgumentCaptor<byte[]> body = ArgumentCaptor.forClass(byte[].class);
+		verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), ArgumentMatchers.<RedisSerializer<?>>any(),
+			ArgumentMatchers.<RedisSerializer<Long>>any(),
+			eq(WRITE_KEYS), argThat(id -> Arrays.equals((byte[])id, String.valueOf(bookId).getBytes())), body.capture(),
+			any());
+		return (String)serializer.deserialize(body.getValue());
 	}
 
 	@Test
 	public void testCreateBook() {
-		bookRedisRepository.createBook(book);
+		bookRedisRepository.createBook(document);
 
-		verify(redisTemplate.opsForHash()).put(eq("bookDocument"), any(String.class), any(String.class));
+		assertThat(verifyWrittenBody(1L)).startsWith("{\"index\":{\"_index\":\"3runner_book_alias\",\"_id\":\"1\"}}\n");
 	}
 
 	@Test
 	public void testUpdateBook() {
-		bookRedisRepository.updateBook(book);
+		bookRedisRepository.updateBook(document);
 
-		verify(redisTemplate.opsForHash()).put(eq("bookDocument"), any(), any());
+		assertThat(verifyWrittenBody(1L)).startsWith("{\"index\"").contains("\"title\":\"Test Title\"");
 	}
 
 	@Test
 	public void testDeleteBook() {
-		bookRedisRepository.deleteBook(book.getId());
+		bookRedisRepository.deleteBook(document.getId());
+
+		assertThat(verifyWrittenBody(1L)).startsWith("{\"delete\"");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testReadChanges() {
+		RedisConnection connection = mock(RedisConnection.class);
+		RedisZSetCommands zSetCommands = mock(RedisZSetCommands.class);
+		RedisHashCommands hashCommands = mock(RedisHashCommands.class);
+		when(connection.zSetCommands()).thenReturn(zSetCommands);
+		when(connection.hashCommands()).thenReturn(hashCommands);
+		when(redisTemplate.execute(any(RedisCallback.class)))
+			.thenAnswer(invocation -> ((RedisCallback<?>)invocation.getArgument(0)).doInRedis(connection));
+
+		Set<Tuple> orders = new LinkedHashSet<>();
+		orders.add(new DefaultTuple("2".getBytes(), 3.0));
+		orders.add(new DefaultTuple("1".getBytes(), 5.0));
+		when(zSetCommands.zRangeWithScores("bookDocument:order".getBytes(StandardCharsets.UTF_8), 0, 9))
+			.thenReturn(orders);
+		when(hashCommands.hMGet(any(byte[].class), any(byte[][].class)))
+			.thenReturn(Arrays.asList(serializer.serialize("delete 2"), serializer.serialize("index 1")));
+
+		List<BookIndexChangeResponse> changes = bookRedisRepository.readChanges(10);
+
+		assertThat(changes).containsExactly(
+			new BookIndexChangeResponse(2L, 3L, "delete 2"),
+			new BookIndexChangeResponse(1L, 5L, "index 1"));
+	}
 
-		verify(redisTemplate.opsForHash()).put(eq("bookDocument"), any(String.class), any(String.class));
+	@Test
+	public void testRemoveChanges() {
+		when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), ArgumentMatchers.<RedisSerializer<?>>any(),
+			ArgumentMatchers.<RedisSerializer<Long>>any(),
+			anyList(), any(), any(), any(), any())).thenReturn(2L);
+
+		long removed = bookRedisRepository.removeChanges(List.of(
+			new BookIndexChangeResponse(2L, 3L, "delete 2"),
+			new BookIndexChangeResponse(1L, 5L, "index 1")));
+
+		assertThat(removed).isEqualTo(2L);
+		verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), ArgumentMatchers.<RedisSerializer<?>>any(),
+			ArgumentMatchers.<RedisSerializer<Long>>any(),
+			eq(List.of("bookDocument", "bookDocument:order", "bookDocument:changedAt")), eq("2"), eq("3"), eq("1"), eq("5"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testCountChanges() {
+		ZSetOperations<String, Object> zSetOperations = mock(ZSetOperations.class);
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		when(zSetOperations.zCard("bookDocument:order")).thenReturn(3L);
+
+		assertThat(bookRedisRepository.countChanges()).isEqualTo(3L);
+	}
+
+	@Test
+	public void testReadOldestChangeTime() {
+		when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), ArgumentMatchers.<RedisSerializer<?>>any(),
+			ArgumentMatchers.<RedisSerializer<Long>>any(),
+			eq(List.of("bookDocument:order", "bookDocument:changedAt")))).thenReturn(1000L, -1L);
+
+		assertThat(bookRedisRepository.readOldestChangeTime()).hasValue(1000L);
+		assertThat(bookRedisRepository.readOldestChangeTime()).isEmpty();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testReadSequence() {
+		RedisConnection connection = mock(RedisConnection.class);
+		RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+		when(connection.stringCommands()).thenReturn(stringCommands);
+		when(redisTemplate.execute(any(RedisCallback.class)))
+			.thenAnswer(invocation -> ((RedisCallback<?>)invocation.getArgument(0)).doInRedis(connection));
+		when(stringCommands.get("bookDocument:sequence".getBytes(StandardCharsets.UTF_8)))
+			.thenReturn("42".getBytes(StandardCharsets.UTF_8), (byte[])null);
+
+		assertThat(bookRedisRepository.readSequence()).isEqualTo(42L);
+		assertThat(bookRedisRepository.readSequence()).isZero();
 	}
 }
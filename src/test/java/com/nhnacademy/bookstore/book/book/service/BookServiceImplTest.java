@@ -10,6 +10,7 @@ import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.LongFunction;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,26 +23,29 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import com.nhnacademy.bookstore.book.book.dto.request.CreateBookRequest;
+import com.nhnacademy.bookstore.book.book.dto.response.BookDetailResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.BookForCouponResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.BookListResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.BookManagementResponse;
 import com.nhnacademy.bookstore.book.book.dto.response.ReadBookResponse;
 import com.nhnacademy.bookstore.book.book.exception.BookDoesNotExistException;
-import com.nhnacademy.bookstore.book.book.repository.BookRedisRepository;
 import com.nhnacademy.bookstore.book.book.repository.BookRepository;
 import com.nhnacademy.bookstore.book.book.service.impl.BookServiceImpl;
 import com.nhnacademy.bookstore.book.bookcategory.dto.request.CreateBookCategoryRequest;
 import com.nhnacademy.bookstore.book.bookcategory.dto.request.UpdateBookCategoryRequest;
 import com.nhnacademy.bookstore.book.bookcategory.service.BookCategoryService;
 import com.nhnacademy.bookstore.book.bookimage.service.BookImageService;
+import com.nhnacademy.bookstore.book.bookindex.service.BookIndexOutboxService;
 import com.nhnacademy.bookstore.book.booktag.dto.request.CreateBookTagListRequest;
 import com.nhnacademy.bookstore.book.booktag.service.BookTagService;
 import com.nhnacademy.bookstore.entity.book.Book;
 import com.nhnacademy.bookstore.entity.bookcategory.BookCategory;
 import com.nhnacademy.bookstore.entity.bookimage.enums.BookImageType;
+import com.nhnacademy.bookstore.entity.bookindexoutbox.enums.BookIndexOperation;
 import com.nhnacademy.bookstore.entity.booktag.BookTag;
 import com.nhnacademy.bookstore.entity.category.Category;
 import com.nhnacademy.bookstore.entity.tag.Tag;
+import com.nhnacademy.bookstore.purchase.purchasebook.exception.NotExistsBook;
 
 @ExtendWith(MockitoExtension.class)
 class BookServiceImplTest {
@@ -57,7 +61,13 @@ class BookServiceImplTest {
 	@Mock
 	private BookImageService bookImageService;
 	@Mock
-	private BookRedisRepository bookRedisRepository;
+	private BookIndexOutboxService bookIndexOutboxService;
+	@Mock
+	private BookCountService bookCountService;
+	@Mock
+	private BookViewCountService bookViewCountService;
+	@Mock
+	private BookDetailCacheService bookDetailCacheService;
 
 	@Test
 	void testCreateBook() {
@@ -88,7 +98,6 @@ class BookServiceImplTest {
 		book.setBookTagList(null);
 
 		when(bookRepository.save(any(Book.class))).thenReturn(book);
-		when(bookRepository.findById(anyLong())).thenReturn(Optional.of(book));
 		bookService.createBook(request);
 
 		assertThat(request.imageList().size()).hasSameClassAs(2);
@@ -98,7 +107,7 @@ class BookServiceImplTest {
 		verify(bookCategoryService, times(1)).createBookCategory(any(CreateBookCategoryRequest.class));
 		verify(bookTagService, times(1)).createBookTag(any(CreateBookTagListRequest.class));
 		verify(bookImageService, times(2)).createBookImage(anyList(), anyLong(), any(BookImageType.class));
-		verify(bookRedisRepository, times(1)).createBook(any(Book.class));
+		verify(bookIndexOutboxService, times(1)).append(anyLong(), eq(BookIndexOperation.INDEX));
 	}
 
 	@Test
@@ -120,18 +129,25 @@ class BookServiceImplTest {
 
 			.build();
 
-		when(bookRepository.readDetailBook(anyLong())).thenReturn(readBookResponse);
+		when(bookRepository.readBookDetail(anyLong())).thenReturn(BookDetailResponse.builder()
+			.book(readBookResponse)
+			.categoryList(List.of())
+			.tagList(List.of())
+			.build());
+		loadThroughCache();
 
 		UserReadBookResponse foundBook = bookService.readBookById(1L);
 
 		assertEquals(readBookResponse.id(), foundBook.id());
+		verify(bookViewCountService, times(1)).increaseView(1L);
 	}
 
 	@Test
 	void testReadBookById_NotFound() {
-		when(bookRepository.readDetailBook(anyLong())).thenReturn(null);
+		when(bookRepository.readBookDetail(anyLong())).thenThrow(new NotExistsBook());
+		loadThroughCache();
 
-		assertThrows(BookDoesNotExistException.class, () -> bookService.readBookById(1L));
+		assertThrows(NotExistsBook.class, () -> bookService.readBookById(1L));
 
 	}
 
@@ -209,7 +225,7 @@ class BookServiceImplTest {
 		verify(bookCategoryService, times(1)).updateBookCategory(anyLong(), any(UpdateBookCategoryRequest.class));
 		verify(bookTagService, times(1)).updateBookTag(any(CreateBookTagListRequest.class));
 		verify(bookImageService, times(1)).updateBookImage(any(), anyList(), anyLong());
-		verify(bookRedisRepository, times(1)).updateBook(any(Book.class));
+		verify(bookIndexOutboxService, times(1)).append(1L, BookIndexOperation.INDEX);
 	}
 
 	@Test
@@ -237,7 +253,7 @@ class BookServiceImplTest {
 	void deleteBookTest() {
 		bookService.deleteBook(1L);
 		verify(bookRepository, times(1)).deleteById(anyLong());
-		verify(bookRedisRepository, times(1)).deleteBook(anyLong());
+		verify(bookIndexOutboxService, times(1)).append(1L, BookIndexOperation.DELETE);
 	}
 
 	@Test
@@ -289,4 +305,11 @@ class BookServiceImplTest {
 			() -> bookService.updateBook(11111L, any(CreateBookRequest.class)));
 
 	}
-}
\ No newline at end of file
+
+	private void loadThroughCache() {
+		when(bookDetailCacheService.readBook(anyLong(), any())).thenAnswer(invocation -> {
+			LongFunction<UserReadBookResponse> loader = invocation.getArgument(1);
+			return loader.apply(invocation.<Long>getArgument(0));
+		});
+	}
+}
@@ -0,0 +1,134 @@
+package com.nhnacademy.bookstore.book.book.service.impl;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.nhnacademy.bookstore.book.book.dto.response.ApiBookBulkJobResponse;
+import com.nhnacademy.bookstore.book.book.dto.response.ApiBookImportResponse;
+import com.nhnacademy.bookstore.book.book.exception.ApiBookBulkJobNotFoundException;
+import com.nhnacademy.bookstore.book.book.exception.ApiBookResponseException;
+import com.nhnacademy.bookstore.book.book.repository.ApiBookBulkJobRedisRepository;
+import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.book.book.service.ApiBookService;
+
+@ExtendWith(MockitoExtension.class)
+class ApiBookBulkServiceImplTest {
+	@Mock
+	private ApiBookService apiBookService;
+	@Mock
+	private BookRepository bookRepository;
+	@Mock
+	private ApiBookBulkJobRedisRepository apiBookBulkJobRedisRepository;
+
+	private ApiBookBulkServiceImpl apiBookBulkService;
+
+	@BeforeEach
+	void setUp() {
+		apiBookBulkService = new ApiBookBulkServiceImpl(apiBookService, bookRepository,
+			apiBookBulkJobRedisRepository, 2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		apiBookBulkService.shutdown();
+	}
+
+	@Test
+	void startImportTest() {
+		when(bookRepository.existsByIsbn(anyString())).thenReturn(false);
+		when(bookRepository.existsByIsbn("2")).thenReturn(true);
+		// 가상 스레드에서 여러 ISBN 으로 호출되므로 인자별로 스텁하지 않고 한 번에 정한다.
+		doAnswer(invocation -> {
+			if ("3".equals(invocation.getArgument(0))) {
+				throw new ApiBookResponseException();
+			}
+			return null;
+		}).when(apiBookService).save(anyString());
+
+		ApiBookBulkJobResponse response = apiBookBulkService.startImport(List.of("1", "2", "3", " 1 "));
+
+		assertThat(response.status()).isEqualTo(ApiBookBulkJobResponse.Status.RUNNING);
+		assertThat(response.total()).isEqualTo(3);
+		verify(apiBookBulkJobRedisRepository).create(response.jobId(), List.of("1", "2", "3"));
+		verify(apiBookBulkJobRedisRepository, timeout(1000)).saveResult(response.jobId(),
+			ApiBookImportResponse.builder().isbn("1").status(ApiBookImportResponse.Status.CREATED).build());
+		verify(apiBookBulkJobRedisRepository, timeout(1000)).saveResult(response.jobId(),
+			ApiBookImportResponse.builder().isbn("2").status(ApiBookImportResponse.Status.ALREADY_EXISTS).build());
+		verify(apiBookBulkJobRedisRepository, timeout(1000)).saveResult(eq(response.jobId()),
+			argThat(result -> result.isbn().equals("3") && result.status() == ApiBookImportResponse.Status.FAILED
+				&& !result.message().isBlank()));
+		verify(apiBookService, times(1)).save("1");
+		verify(apiBookService, never()).save("2");
+	}
+
+	@Test
+	void startImportConcurrencyLimitTest() {
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(2);
+		when(bookRepository.existsByIsbn(anyString())).thenReturn(false);
+		doAnswer(invocation -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			started.countDown();
+			started.await(1, TimeUnit.SECONDS);
+			running.decrementAndGet();
+			return null;
+		}).when(apiBookService).save(anyString());
+
+		ApiBookBulkJobResponse response = apiBookBulkService.startImport(List.of("1", "2", "3", "4", "5", "6"));
+
+		verify(apiBookBulkJobRedisRepository, timeout(2000).times(6)).saveResult(eq(response.jobId()), any());
+		assertThat(maxRunning.get()).isEqualTo(2);
+	}
+
+	@Test
+	void readImportTest() {
+		ApiBookImportResponse first = ApiBookImportResponse.builder().isbn("1")
+			.status(ApiBookImportResponse.Status.CREATED).build();
+		ApiBookImportResponse third = ApiBookImportResponse.builder().isbn("3")
+			.status(ApiBookImportResponse.Status.FAILED).message("error").build();
+		when(apiBookBulkJobRedisRepository.readIsbns("job")).thenReturn(List.of("1", "2", "3"));
+		when(apiBookBulkJobRedisRepository.readResults("job")).thenReturn(Map.of("3", third, "1", first));
+
+		ApiBookBulkJobResponse response = apiBookBulkService.readImport("job");
+
+		assertThat(response.status()).isEqualTo(ApiBookBulkJobResponse.Status.RUNNING);
+		assertThat(response.created()).isEqualTo(1);
+		assertThat(response.failed()).isEqualTo(1);
+		assertThat(response.results()).containsExactly(first, third);
+	}
+
+	@Test
+	void readImportCompletedTest() {
+		ApiBookImportResponse first = ApiBookImportResponse.builder().isbn("1")
+			.status(ApiBookImportResponse.Status.ALREADY_EXISTS).build();
+		when(apiBookBulkJobRedisRepository.readIsbns("job")).thenReturn(List.of("1"));
+		when(apiBookBulkJobRedisRepository.readResults("job")).thenReturn(Map.of("1", first));
+
+		ApiBookBulkJobResponse response = apiBookBulkService.readImport("job");
+
+		assertThat(response.status()).isEqualTo(ApiBookBulkJobResponse.Status.COMPLETED);
+		assertThat(response.alreadyExists()).isEqualTo(1);
+	}
+
+	@Test
+	void readImportNotFoundTest() {
+		when(apiBookBulkJobRedisRepository.readIsbns("job")).thenReturn(List.of());
+
+		assertThatThrownBy(() -> apiBookBulkService.readImport("job"))
+			.isInstanceOf(ApiBookBulkJobNotFoundException.class);
+	}
+}
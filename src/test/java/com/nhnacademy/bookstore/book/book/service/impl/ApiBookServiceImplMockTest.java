@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.jsoup.Jsoup;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,22 +19,24 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.nhnacademy.bookstore.book.book.dto.response.AladinItem;
 import com.nhnacademy.bookstore.book.book.dto.response.ApiCreateBookResponse;
 import com.nhnacademy.bookstore.book.book.exception.ApiBookResponseException;
 import com.nhnacademy.bookstore.book.book.repository.ApiBookRepository;
-import com.nhnacademy.bookstore.book.book.repository.BookRedisRepository;
 import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.book.book.service.BookCountService;
 import com.nhnacademy.bookstore.book.bookcategory.repository.BookCategoryRepository;
+import com.nhnacademy.bookstore.book.bookindex.service.BookIndexOutboxService;
 import com.nhnacademy.bookstore.book.category.exception.CategoryNotFoundException;
 import com.nhnacademy.bookstore.book.category.repository.CategoryRepository;
-import com.nhnacademy.bookstore.book.image.exception.MultipartFileException;
 import com.nhnacademy.bookstore.book.image.imageService.ImageService;
 import com.nhnacademy.bookstore.entity.book.Book;
 import com.nhnacademy.bookstore.entity.bookcategory.BookCategory;
 import com.nhnacademy.bookstore.entity.category.Category;
+import com.nhnacademy.bookstore.entity.bookindexoutbox.enums.BookIndexOperation;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -51,7 +54,11 @@ class ApiBookServiceImplMockTest {
 	@Mock
 	private ImageService imageService;
 	@Mock
-	private BookRedisRepository redisRepository;
+	private BookIndexOutboxService bookIndexOutboxService;
+	@Mock
+	private BookCountService bookCountService;
+	@Mock
+	private TransactionTemplate transactionTemplate;
 
 	@InjectMocks
 	private ApiBookServiceImpl apiBookServiceImpl;
@@ -59,6 +66,10 @@ class ApiBookServiceImplMockTest {
 	@BeforeEach
 	void setUp() {
 		MockitoAnnotations.openMocks(this);
+		doAnswer(invocation -> {
+			invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
 	}
 
 	@Test
@@ -136,19 +147,6 @@ class ApiBookServiceImplMockTest {
 		assertEquals(Arrays.asList("Category1", "Category2", "Category3"), result);
 	}
 
-	@Test
-	void downloadImageAsMultipartFile() {
-		MultipartFile file = apiBookServiceImpl.downloadImageAsMultipartFile(
-			"https://image.aladin.co.kr/product/34132/71/coversum/e712533508_1.jpg");
-		assertNotNull(file);
-	}
-
-	@Test
-	void downloadImageAsMultipartFileException() {
-		assertThrows(MultipartFileException.class, () -> apiBookServiceImpl.downloadImageAsMultipartFile(
-			"https://image.aladin.co.kr/product/34132/71/coversum234/e712533508_1.jpg"));
-	}
-
 	@Test
 	void saveTest() {
 		AladinItem item = AladinItem.builder()
@@ -205,7 +203,7 @@ class ApiBookServiceImplMockTest {
 
 		verify(bookCategoryRepository, times(3)).save(any(BookCategory.class));
 		verify(bookRepository, times(2)).save(any(Book.class));
-		verify(redisRepository, times(1)).createBook(any(Book.class));
+		verify(bookIndexOutboxService, times(1)).append(anyLong(), eq(BookIndexOperation.INDEX));
 	}
 
 	@Test
@@ -0,0 +1,73 @@
+package com.nhnacademy.bookstore.book.book.service.impl;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BookCountServiceImplTest {
+	@Mock
+	private BookRepository bookRepository;
+	@InjectMocks
+	private BookCountServiceImpl bookCountService;
+
+	@Test
+	void countBooksCachedTest() {
+		when(bookRepository.count()).thenReturn(10L);
+
+		assertThat(bookCountService.countBooks()).isEqualTo(10L);
+		assertThat(bookCountService.countBooks()).isEqualTo(10L);
+
+		verify(bookRepository, times(1)).count();
+	}
+
+	@Test
+	void increaseAndDecreaseBookTest() {
+		when(bookRepository.count()).thenReturn(10L);
+		when(bookRepository.countBookByCategoryId(1L)).thenReturn(3L);
+		bookCountService.countBooks();
+		bookCountService.countCategoryBooks(1L);
+
+		bookCountService.increaseBook(List.of(1L, 2L));
+		assertThat(bookCountService.countBooks()).isEqualTo(11L);
+		assertThat(bookCountService.countCategoryBooks(1L)).isEqualTo(4L);
+
+		bookCountService.decreaseBook(List.of(1L));
+		assertThat(bookCountService.countBooks()).isEqualTo(10L);
+		assertThat(bookCountService.countCategoryBooks(1L)).isEqualTo(3L);
+
+		verify(bookRepository, never()).countBookByCategoryId(2L);
+	}
+
+	@Test
+	void changeBookCategoryTest() {
+		when(bookRepository.countBookByCategoryId(1L)).thenReturn(3L);
+		when(bookRepository.countBookByCategoryId(2L)).thenReturn(5L);
+		bookCountService.countCategoryBooks(1L);
+		bookCountService.countCategoryBooks(2L);
+
+		bookCountService.changeBookCategory(List.of(1L), List.of(2L));
+
+		assertThat(bookCountService.countCategoryBooks(1L)).isEqualTo(2L);
+		assertThat(bookCountService.countCategoryBooks(2L)).isEqualTo(6L);
+	}
+
+	@Test
+	void refreshTest() {
+		when(bookRepository.count()).thenReturn(10L, 12L);
+		bookCountService.countBooks();
+
+		bookCountService.refresh();
+
+		assertThat(bookCountService.countBooks()).isEqualTo(12L);
+	}
+}
@@ -0,0 +1,91 @@
+package com.nhnacademy.bookstore.book.book.service.impl;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nhnacademy.bookstore.book.book.dto.response.UserReadBookResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BookDetailCacheServiceImplTest {
+	private MeterRegistry meterRegistry;
+	private BookDetailCacheServiceImpl bookDetailCacheService;
+	private AtomicInteger loadCount;
+	private LongFunction<UserReadBookResponse> loader;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		bookDetailCacheService = new BookDetailCacheServiceImpl(meterRegistry, 2, Duration.ofMinutes(10));
+		loadCount = new AtomicInteger();
+		loader = bookId -> {
+			loadCount.incrementAndGet();
+			return UserReadBookResponse.builder().id(bookId).title("title").viewCount(10).build();
+		};
+	}
+
+	@Test
+	void readBookCachedTest() {
+		UserReadBookResponse first = bookDetailCacheService.readBook(1L, loader);
+		UserReadBookResponse second = bookDetailCacheService.readBook(1L, loader);
+		UserReadBookResponse third = bookDetailCacheService.readBook(1L, loader);
+
+		assertThat(loadCount.get()).isEqualTo(1);
+		assertThat(first.viewCount()).isEqualTo(10);
+		assertThat(second.viewCount()).isEqualTo(11);
+		assertThat(third.viewCount()).isEqualTo(12);
+		assertThat(meterRegistry.get("cache.gets").tag("result", "hit").counter().count()).isEqualTo(2.0);
+		assertThat(meterRegistry.get("cache.gets").tag("result", "miss").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	void evictTest() {
+		bookDetailCacheService.readBook(1L, loader);
+		bookDetailCacheService.evict(1L);
+		bookDetailCacheService.readBook(1L, loader);
+
+		assertThat(loadCount.get()).isEqualTo(2);
+	}
+
+	@Test
+	void evictAllTest() {
+		bookDetailCacheService.readBook(1L, loader);
+		bookDetailCacheService.readBook(2L, loader);
+		bookDetailCacheService.evictAll();
+
+		assertThat(meterRegistry.get("cache.size").gauge().value()).isZero();
+	}
+
+	@Test
+	void maxSizeTest() {
+		bookDetailCacheService.readBook(1L, loader);
+		bookDetailCacheService.readBook(2L, loader);
+		bookDetailCacheService.readBook(1L, loader);
+		bookDetailCacheService.readBook(3L, loader);
+
+		// 가장 오래 읽지 않은 2번이 빠진다.
+		bookDetailCacheService.readBook(1L, loader);
+		bookDetailCacheService.readBook(2L, loader);
+
+		assertThat(loadCount.get()).isEqualTo(4);
+		assertThat(meterRegistry.get("cache.evictions").counter().count()).isEqualTo(2.0);
+	}
+
+	@Test
+	void evictWhileLoadingTest() {
+		bookDetailCacheService.readBook(1L, bookId -> {
+			bookDetailCacheService.evict(bookId);
+			return loader.apply(bookId);
+		});
+		bookDetailCacheService.readBook(1L, loader);
+
+		assertThat(loadCount.get()).isEqualTo(2);
+	}
+}
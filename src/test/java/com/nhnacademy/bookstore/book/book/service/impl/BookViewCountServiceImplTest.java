@@ -0,0 +1,79 @@
+package com.nhnacademy.bookstore.book.book.service.impl;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.book.ranking.enums.RankingType;
+import com.nhnacademy.bookstore.book.ranking.service.BookRankingService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class BookViewCountServiceImplTest {
+	@Mock
+	private BookRepository bookRepository;
+	@Mock
+	private BookRankingService bookRankingService;
+
+	private MeterRegistry meterRegistry;
+	private BookViewCountServiceImpl bookViewCountService;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		bookViewCountService = new BookViewCountServiceImpl(bookRepository, bookRankingService, meterRegistry);
+	}
+
+	@Test
+	void increaseViewTest() {
+		bookViewCountService.increaseView(1L);
+		bookViewCountService.increaseView(1L);
+		bookViewCountService.increaseView(2L);
+
+		assertThat(bookViewCountService.readPendingView(1L)).isEqualTo(2L);
+		assertThat(bookViewCountService.readPendingView(3L)).isZero();
+		assertThat(meterRegistry.get("bookstore.book.view.pending").gauge().value()).isEqualTo(3.0);
+	}
+
+	@Test
+	void flushGroupsByDeltaTest() {
+		bookViewCountService.increaseView(1L);
+		bookViewCountService.increaseView(2L);
+		bookViewCountService.increaseView(3L);
+		bookViewCountService.increaseView(3L);
+
+		bookViewCountService.flush();
+
+		verify(bookRepository, times(1)).increaseViewCount(argThat(ids -> ids.containsAll(List.of(1L, 2L))),
+			eq(1L));
+		verify(bookRepository, times(1)).increaseViewCount(List.of(3L), 2L);
+		verify(bookRankingService, times(1)).increaseScore(RankingType.VIEW, Map.of(1L, 1L, 2L, 1L, 3L, 2L));
+		assertThat(bookViewCountService.readPendingViews()).isZero();
+
+		bookViewCountService.flush();
+		verifyNoMoreInteractions(bookRepository);
+	}
+
+	@Test
+	void flushFailureKeepsViewsTest() {
+		when(bookRepository.increaseViewCount(anyCollection(), anyLong())).thenThrow(RuntimeException.class);
+		bookViewCountService.increaseView(1L);
+
+		bookViewCountService.flush();
+
+		assertThat(bookViewCountService.readPendingView(1L)).isEqualTo(1L);
+		verify(bookRankingService, times(1)).increaseScore(RankingType.VIEW, Map.of());
+	}
+}
@@ -0,0 +1,120 @@
+package com.nhnacademy.bookstore.book.bookindex.service.impl;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import com.nhnacademy.bookstore.book.book.repository.BookRedisRepository;
+import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.book.bookindex.repository.BookIndexOutboxRepository;
+import com.nhnacademy.bookstore.entity.bookindexoutbox.BookIndexOutbox;
+import com.nhnacademy.bookstore.entity.bookindexoutbox.enums.BookIndexOperation;
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class BookIndexOutboxServiceImplTest {
+	@Mock
+	private BookIndexOutboxRepository bookIndexOutboxRepository;
+	@Mock
+	private BookRepository bookRepository;
+	@Mock
+	private BookRedisRepository bookRedisRepository;
+
+	private SimpleMeterRegistry meterRegistry;
+	private BookIndexOutboxServiceImpl bookIndexOutboxService;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		bookIndexOutboxService = new BookIndexOutboxServiceImpl(bookIndexOutboxRepository, bookRepository,
+			bookRedisRepository, meterRegistry, 100, Duration.ofSeconds(1), Duration.ofSeconds(10),
+			Duration.ofDays(1));
+	}
+
+	private BookIndexOutbox row(long bookId, BookIndexOperation operation) {
+		BookIndexOutbox row = new BookIndexOutbox(bookId, operation);
+		row.failed(null, ZonedDateTime.now().minusSeconds(1));
+		return row;
+	}
+
+	@Test
+	void appendTest() {
+		bookIndexOutboxService.append(1L, BookIndexOperation.INDEX);
+
+		ArgumentCaptor<BookIndexOutbox> captor = ArgumentCaptor.forClass(BookIndexOutbox.class);
+		verify(bookIndexOutboxRepository).save(captor.capture());
+		assertThat(captor.getValue().getBookId()).isEqualTo(1L);
+		assertThat(captor.getValue().getOperation()).isEqualTo(BookIndexOperation.INDEX);
+	}
+
+	@Test
+	void relayCoalescesByBookTest() {
+		BookIndexOutbox first = row(1L, BookIndexOperation.INDEX);
+		BookIndexOutbox second = row(1L, BookIndexOperation.INDEX);
+		BookIndexOutbox deleted = row(2L, BookIndexOperation.DELETE);
+		BookDocument document = new BookDocument(1L, "title", "author", "a_thumbnail.png", "publisher",
+			List.of(), List.of(), 1000, 900);
+		when(bookIndexOutboxRepository.findByPublishedAtIsNullAndNextAttemptAtLessThanEqualOrderByIdAsc(
+			any(ZonedDateTime.class), any(Limit.class))).thenReturn(List.of(first, second, deleted));
+		when(bookRepository.readBookDocuments(anyCollection())).thenReturn(List.of(document));
+
+		int published = bookIndexOutboxService.relay();
+
+		assertThat(published).isEqualTo(3);
+		verify(bookRedisRepository, times(1)).updateBook(document);
+		verify(bookRedisRepository, times(1)).deleteBook(2L);
+		assertThat(first.getPublishedAt()).isNotNull();
+		assertThat(second.getPublishedAt()).isNotNull();
+		assertThat(deleted.getPublishedAt()).isNotNull();
+		assertThat(meterRegistry.counter("bookstore.book.index.outbox.published").count()).isEqualTo(3.0);
+	}
+
+	@Test
+	void relayFailureRetriesLaterTest() {
+		BookIndexOutbox pending = row(2L, BookIndexOperation.DELETE);
+		when(bookIndexOutboxRepository.findByPublishedAtIsNullAndNextAttemptAtLessThanEqualOrderByIdAsc(
+			any(ZonedDateTime.class), any(Limit.class))).thenReturn(List.of(pending));
+		when(bookRepository.readBookDocuments(anyCollection())).thenReturn(List.of());
+		doThrow(new IllegalStateException("redis down")).when(bookRedisRepository).deleteBook(2L);
+
+		ZonedDateTime before = ZonedDateTime.now();
+		int published = bookIndexOutboxService.relay();
+
+		assertThat(published).isZero();
+		assertThat(pending.getPublishedAt()).isNull();
+		assertThat(pending.getAttempts()).isEqualTo(2);
+		assertThat(pending.getLastError()).contains("redis down");
+		assertThat(pending.getNextAttemptAt()).isAfter(before.plusSeconds(1));
+		assertThat(pending.getNextAttemptAt()).isBeforeOrEqualTo(ZonedDateTime.now().plusSeconds(10));
+	}
+
+	@Test
+	void relayEmptyTest() {
+		when(bookIndexOutboxRepository.findByPublishedAtIsNullAndNextAttemptAtLessThanEqualOrderByIdAsc(
+			any(ZonedDateTime.class), any(Limit.class))).thenReturn(List.of());
+
+		assertThat(bookIndexOutboxService.relay()).isZero();
+		verifyNoInteractions(bookRepository, bookRedisRepository);
+	}
+
+	@Test
+	void purgeTest() {
+		bookIndexOutboxService.purge();
+
+		verify(bookIndexOutboxRepository).deletePublishedBefore(any(ZonedDateTime.class));
+	}
+}
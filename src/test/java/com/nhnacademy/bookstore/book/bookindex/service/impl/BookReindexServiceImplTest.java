@@ -0,0 +1,210 @@
+package com.nhnacademy.bookstore.book.bookindex.service.impl;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.DeleteQuery;
+import org.springframework.data.elasticsearch.core.query.StringQuery;
+
+import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.book.bookindex.dto.response.BookReindexStatusResponse;
+import com.nhnacademy.bookstore.book.bookindex.enums.BookReindexState;
+import com.nhnacademy.bookstore.book.bookindex.repository.BookIndexOutboxRepository;
+import com.nhnacademy.bookstore.entity.bookindexoutbox.BookIndexOutbox;
+import com.nhnacademy.bookstore.global.elastic.book.bulk.BookBulkSerializer;
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
+
+@ExtendWith(MockitoExtension.class)
+class BookReindexServiceImplTest {
+	private static final String INDEX = "3runner_book_v20260101000000";
+
+	@Mock
+	private ElasticsearchOperations elasticsearchOperations;
+	@Mock
+	private IndexOperations indexOperations;
+	@Mock
+	private IndexOperations aliasOperations;
+	@Mock
+	private BookRepository bookRepository;
+	@Mock
+	private BookIndexOutboxRepository bookIndexOutboxRepository;
+
+	private BookReindexServiceImpl bookReindexService;
+
+	@BeforeEach
+	void setUp() {
+		bookReindexService = new BookReindexServiceImpl(elasticsearchOperations, bookRepository,
+			bookIndexOutboxRepository, new BookBulkSerializer(),
+			new ByteArrayResource("{\"index\":{\"number_of_shards\":1}}".getBytes(StandardCharsets.UTF_8)),
+			2, Duration.ofMinutes(1));
+	}
+
+	@AfterEach
+	void tearDown() {
+		bookReindexService.shutdown();
+	}
+
+	private BookDocument document(long id) {
+		return new BookDocument(id, "title " + id, "author", "a_thumbnail.png", "publisher", List.of(), List.of(),
+			1000, 900);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void runTest() {
+		when(elasticsearchOperations.indexOps(IndexCoordinates.of(INDEX))).thenReturn(indexOperations);
+		when(indexOperations.createMapping(BookDocument.class)).thenReturn(Document.create());
+		when(indexOperations.getIndexCoordinates()).thenReturn(IndexCoordinates.of(INDEX));
+		when(elasticsearchOperations.indexOps(IndexCoordinates.of(BookBulkSerializer.INDEX_NAME)))
+			.thenReturn(aliasOperations);
+		when(aliasOperations.exists()).thenReturn(true);
+		when(indexOperations.getAliases(BookBulkSerializer.INDEX_NAME))
+			.thenReturn(Map.of("3runner_book_v1", Set.of()));
+
+		when(bookRepository.readBookIdsAfter(0, 2)).thenReturn(List.of(1L, 2L));
+		when(bookRepository.readBookIdsAfter(2, 2)).thenReturn(List.of(3L));
+		when(bookRepository.readBookIdsAfter(3, 2)).thenReturn(List.of());
+		when(bookRepository.readBookDocuments(List.of(1L, 2L))).thenReturn(List.of(document(1L), document(2L)));
+		when(bookRepository.readBookDocuments(List.of(3L))).thenReturn(List.of(document(3L)));
+
+		// 재색인 중에 2 번 도서가 지워졌다.
+		BookIndexOutbox changed = mock(BookIndexOutbox.class);
+		when(changed.getId()).thenReturn(10L);
+		when(changed.getBookId()).thenReturn(2L);
+		when(bookIndexOutboxRepository.findByCreatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+			any(ZonedDateTime.class), eq(0L), any(Limit.class))).thenReturn(List.of(changed));
+		when(bookIndexOutboxRepository.findByCreatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+			any(ZonedDateTime.class), eq(10L), any(Limit.class))).thenReturn(List.of());
+		when(bookRepository.readBookDocuments(List.of(2L))).thenReturn(List.of());
+
+		BookReindexServiceImpl.Progress progress = new BookReindexServiceImpl.Progress(INDEX, 3,
+			ZonedDateTime.now());
+		bookReindexService.run(progress);
+
+		verify(indexOperations).create(anyMap(), any(Document.class));
+		ArgumentCaptor<List<IndexQuery>> queries = ArgumentCaptor.forClass(List.class);
+		verify(elasticsearchOperations, times(2)).bulkIndex(queries.capture(), eq(IndexCoordinates.of(INDEX)));
+		assertThat(queries.getAllValues().getFirst()).extracting(IndexQuery::getId).containsExactly("1", "2");
+		assertThat(queries.getAllValues().getFirst().getFirst().getSource()).contains("\"title\":\"title 1\"");
+
+		ArgumentCaptor<DeleteQuery> deleteQuery = ArgumentCaptor.forClass(DeleteQuery.class);
+		verify(elasticsearchOperations, times(2)).delete(deleteQuery.capture(), eq(BookDocument.class),
+			eq(IndexCoordinates.of(INDEX)));
+		assertThat(((StringQuery)deleteQuery.getValue().getQuery()).getSource()).contains("\"2\"");
+
+		ArgumentCaptor<AliasActions> actions = ArgumentCaptor.forClass(AliasActions.class);
+		verify(indexOperations).alias(actions.capture());
+		assertThat(actions.getValue().getActions()).hasSize(2);
+		assertThat(actions.getValue().getActions().get(0)).isInstanceOf(AliasAction.Add.class);
+		assertThat(actions.getValue().getActions().get(1)).isInstanceOf(AliasAction.Remove.class);
+
+		BookReindexStatusResponse status = progress.toResponse();
+		assertThat(status.state()).isEqualTo(BookReindexState.COMPLETED);
+		assertThat(status.indexed()).isEqualTo(3);
+		assertThat(status.caughtUp()).isEqualTo(2);
+		assertThat(status.previousIndices()).containsExactly("3runner_book_v1");
+	}
+
+	@Test
+	void runWithoutAliasTest() {
+		when(elasticsearchOperations.indexOps(IndexCoordinates.of(INDEX))).thenReturn(indexOperations);
+		when(indexOperations.createMapping(BookDocument.class)).thenReturn(Document.create());
+		when(elasticsearchOperations.indexOps(IndexCoordinates.of(BookBulkSerializer.INDEX_NAME)))
+			.thenReturn(aliasOperations);
+		when(aliasOperations.exists()).thenReturn(false);
+		when(bookRepository.readBookIdsAfter(0, 2)).thenReturn(List.of());
+		when(bookIndexOutboxRepository.findByCreatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+			any(ZonedDateTime.class), eq(0L), any(Limit.class))).thenReturn(List.of());
+
+		BookReindexServiceImpl.Progress progress = new BookReindexServiceImpl.Progress(INDEX, 0,
+			ZonedDateTime.now());
+		bookReindexService.run(progress);
+
+		verify(indexOperations, never()).getAliases(any(String[].class));
+		ArgumentCaptor<AliasActions> actions = ArgumentCaptor.forClass(AliasActions.class);
+		verify(indexOperations).alias(actions.capture());
+		assertThat(actions.getValue().getActions()).singleElement().isInstanceOf(AliasAction.Add.class);
+		assertThat(progress.toResponse().state()).isEqualTo(BookReindexState.COMPLETED);
+	}
+
+	@Test
+	void runAliasReadFailureKeepsAliasTest() {
+		when(elasticsearchOperations.indexOps(IndexCoordinates.of(INDEX))).thenReturn(indexOperations);
+		when(indexOperations.createMapping(BookDocument.class)).thenReturn(Document.create());
+		when(elasticsearchOperations.indexOps(IndexCoordinates.of(BookBulkSerializer.INDEX_NAME)))
+			.thenReturn(aliasOperations);
+		when(aliasOperations.exists()).thenReturn(true);
+		when(indexOperations.getAliases(BookBulkSerializer.INDEX_NAME))
+			.thenThrow(new DataAccessResourceFailureException("elastic down"));
+		when(bookRepository.readBookIdsAfter(0, 2)).thenReturn(List.of());
+		when(bookIndexOutboxRepository.findByCreatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+			any(ZonedDateTime.class), eq(0L), any(Limit.class))).thenReturn(List.of());
+
+		BookReindexServiceImpl.Progress progress = new BookReindexServiceImpl.Progress(INDEX, 0,
+			ZonedDateTime.now());
+		bookReindexService.run(progress);
+
+		// 이전 색인을 모른 채 별칭을 더하면 별칭이 두 색인을 가리키게 되므로 옮기지 않는다.
+		verify(indexOperations, never()).alias(any(AliasActions.class));
+		BookReindexStatusResponse status = progress.toResponse();
+		assertThat(status.state()).isEqualTo(BookReindexState.FAILED);
+		assertThat(status.error()).isEqualTo("elastic down");
+	}
+
+	@Test
+	void runFailureKeepsAliasTest() {
+		when(elasticsearchOperations.indexOps(IndexCoordinates.of(INDEX))).thenReturn(indexOperations);
+		when(indexOperations.createMapping(BookDocument.class)).thenReturn(Document.create());
+		when(bookRepository.readBookIdsAfter(0, 2)).thenThrow(new IllegalStateException("db down"));
+
+		BookReindexServiceImpl.Progress progress = new BookReindexServiceImpl.Progress(INDEX, 3,
+			ZonedDateTime.now());
+		bookReindexService.run(progress);
+
+		verify(indexOperations, never()).alias(any(AliasActions.class));
+		BookReindexStatusResponse status = progress.toResponse();
+		assertThat(status.state()).isEqualTo(BookReindexState.FAILED);
+		assertThat(status.error()).isEqualTo("db down");
+	}
+
+	@Test
+	void readStatusBeforeStartTest() {
+		assertThat(bookReindexService.readStatus()).isNull();
+	}
+
+	@Test
+	void startReindexTest() {
+		when(bookRepository.count()).thenReturn(0L);
+
+		BookReindexStatusResponse status = bookReindexService.startReindex();
+
+		assertThat(status.index()).startsWith("3runner_book_v");
+		assertThat(status.total()).isZero();
+		assertThat(bookReindexService.readStatus().index()).isEqualTo(status.index());
+	}
+}
@@ -7,6 +7,7 @@ import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +25,8 @@ import com.nhnacademy.bookstore.book.book.exception.BookDoesNotExistException;
 import com.nhnacademy.bookstore.book.book.repository.BookRepository;
 import com.nhnacademy.bookstore.book.booklike.exception.BookLikeNotExistsException;
 import com.nhnacademy.bookstore.book.booklike.repository.BookLikeRepository;
+import com.nhnacademy.bookstore.book.ranking.enums.RankingType;
+import com.nhnacademy.bookstore.book.ranking.service.BookRankingService;
 import com.nhnacademy.bookstore.entity.book.Book;
 import com.nhnacademy.bookstore.entity.booklike.BookLike;
 import com.nhnacademy.bookstore.entity.member.Member;
@@ -38,6 +41,8 @@ class BookLikeServiceImplTest {
 	private MemberRepository memberRepository;
 	@Mock
 	private BookRepository bookRepository;
+	@Mock
+	private BookRankingService bookRankingService;
 
 	@InjectMocks
 	private BookLikeServiceImpl bookLikeService;
@@ -92,6 +97,8 @@ class BookLikeServiceImplTest {
 		bookLikeService.createBookLike(1L, 1L);
 
 		verify(bookLikeRepository, times(1)).save(any(BookLike.class));
+		verify(bookRepository, times(1)).updateLikeCount(1L, 1);
+		verify(bookRankingService, times(1)).increaseScore(RankingType.LIKE, Map.of(1L, 1L));
 	}
 
 	@Test
@@ -101,10 +108,13 @@ class BookLikeServiceImplTest {
 		when(memberRepository.findById(anyLong())).thenReturn(Optional.of(member));
 		when(bookRepository.findById(anyLong())).thenReturn(Optional.of(book));
 		when(bookLikeRepository.existsByMemberAndBook(member, book)).thenReturn(true);
+		when(bookLikeRepository.deleteByBookIdAndMemberId(1L, 1L)).thenReturn(1L);
 
 		bookLikeService.createBookLike(1L, 1L);
 
 		verify(bookLikeRepository, times(1)).deleteByBookIdAndMemberId(1L, 1L);
+		verify(bookRepository, times(1)).updateLikeCount(1L, -1);
+		verify(bookRankingService, times(1)).increaseScore(RankingType.LIKE, Map.of(1L, -1L));
 	}
 
 	@Test
@@ -132,6 +142,16 @@ class BookLikeServiceImplTest {
 		bookLikeService.deleteBookLike(1L, 1L);
 
 		verify(bookLikeRepository, times(1)).deleteByBookIdAndMemberId(1L, 1L);
+		verify(bookRepository, never()).updateLikeCount(anyLong(), anyInt());
+	}
+
+	@Test
+	void reconcileLikeCountTest() {
+		when(bookRepository.reconcileLikeCount()).thenReturn(3);
+
+		bookLikeService.reconcileLikeCount();
+
+		verify(bookRepository, times(1)).reconcileLikeCount();
 	}
 
 	@Test
@@ -21,6 +21,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import com.nhnacademy.bookstore.book.book.service.BookDetailCacheService;
 import com.nhnacademy.bookstore.book.book.exception.BookDoesNotExistException;
 import com.nhnacademy.bookstore.book.book.repository.BookRepository;
 import com.nhnacademy.bookstore.book.booktag.dto.request.CreateBookTagListRequest;
@@ -48,6 +49,8 @@ class BookTagServiceImplTest {
 
 	@Mock
 	private TagRepository tagRepository;
+	@Mock
+	private BookDetailCacheService bookDetailCacheService;
 
 	@InjectMocks
 	private BookTagServiceImpl bookTagService;
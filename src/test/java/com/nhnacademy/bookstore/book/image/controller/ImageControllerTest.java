@@ -1,5 +1,6 @@
 package com.nhnacademy.bookstore.book.image.controller;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -9,21 +10,37 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.nhnacademy.bookstore.book.image.dto.CachedImage;
 import com.nhnacademy.bookstore.book.image.exception.NotFindImageException;
+import com.nhnacademy.bookstore.book.image.imageService.ImageDiskCacheService;
 import com.nhnacademy.bookstore.book.image.imageService.ImageService;
+import com.nhnacademy.bookstore.book.image.imageService.ImageVariantService;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
 
 @WebMvcTest(ImageController.class)
 class ImageControllerTest {
@@ -31,9 +48,21 @@ class ImageControllerTest {
 	@MockBean
 	private ImageService imageService;
 
+	@MockBean
+	private ImageDiskCacheService imageDiskCacheService;
+
+	@MockBean
+	private ImageVariantService imageVariantService;
+
+	@TempDir
+	private Path tempDir;
+
 	@Autowired
 	private MockMvc mockMvc;
 
+	@Autowired
+	private ImageController imageController;
+
 	@Test
 	void uploadImage() throws Exception {
 		MockMultipartFile mockFile = new MockMultipartFile("image", "testImage.png", "image/png",
@@ -48,21 +77,93 @@ class ImageControllerTest {
 
 	}
 
+	private static final byte[] FILE_CONTENT = "test file content".getBytes();
+
+	private ObjectMetadata metadata() {
+		ObjectMetadata metadata = new ObjectMetadata();
+		metadata.setHeader("ETag", "abc");
+		metadata.setContentLength(FILE_CONTENT.length);
+		metadata.setLastModified(new Date(1_700_000_000_000L));
+		return metadata;
+	}
+
+	private S3Object s3Object(byte[] content) {
+		S3Object s3Object = new S3Object();
+		s3Object.setObjectContent(new S3ObjectInputStream(new ByteArrayInputStream(content), null));
+		return s3Object;
+	}
+
 	@Test
 	void downloadFile_shouldReturnFileContent() throws Exception {
 		String fileName = "testUUID.png";
 		String type = "book";
-		byte[] fileContent = "test file content".getBytes();
-		S3Object s3Object = new S3Object();
-		s3Object.setObjectContent(new S3ObjectInputStream(new ByteArrayInputStream(fileContent), null));
 
-		when(imageService.readImage(type + "/" + fileName)).thenReturn(s3Object);
+		when(imageService.readImageMetadata(type + "/" + fileName)).thenReturn(metadata());
+		when(imageService.readImage(type + "/" + fileName)).thenReturn(s3Object(FILE_CONTENT));
 
 		mockMvc.perform(get("/bookstore/images/book/download")
 				.param("fileName", fileName))
 			.andExpect(status().isOk())
 			.andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
-			.andExpect(content().bytes(fileContent));
+			.andExpect(header().string("ETag", "\"abc\""))
+			.andExpect(header().exists("Last-Modified"))
+			.andExpect(header().string("Cache-Control", "max-age=604800, public"))
+			.andExpect(header().string("Accept-Ranges", "bytes"))
+			.andExpect(header().longValue("Content-Length", FILE_CONTENT.length))
+			.andExpect(content().bytes(FILE_CONTENT));
+	}
+
+	@Test
+	void downloadFile_shouldReturnNotModified_whenETagMatches() throws Exception {
+		when(imageService.readImageMetadata("book/testUUID.png")).thenReturn(metadata());
+
+		mockMvc.perform(get("/bookstore/images/book/download")
+				.param("fileName", "testUUID.png")
+				.header("If-None-Match", "\"abc\""))
+			.andExpect(status().isNotModified())
+			.andExpect(content().bytes(new byte[0]));
+
+		verify(imageService, never()).readImage(anyString());
+	}
+
+	@Test
+	void downloadFile_shouldReturnPartialContent_whenRangeRequested() throws Exception {
+		when(imageService.readImageMetadata("book/testUUID.png")).thenReturn(metadata());
+		when(imageService.readImage("book/testUUID.png", 5L, 8L)).thenReturn(s3Object("file".getBytes()));
+
+		mockMvc.perform(get("/bookstore/images/book/download")
+				.param("fileName", "testUUID.png")
+				.header("Range", "bytes=5-8"))
+			.andExpect(status().isPartialContent())
+			.andExpect(header().string("Content-Range", "bytes 5-8/" + FILE_CONTENT.length))
+			.andExpect(header().longValue("Content-Length", 4))
+			.andExpect(content().bytes("file".getBytes()));
+	}
+
+	@Test
+	void downloadFile_shouldReturnWholeFile_whenIfRangeDoesNotMatch() throws Exception {
+		when(imageService.readImageMetadata("book/testUUID.png")).thenReturn(metadata());
+		when(imageService.readImage("book/testUUID.png")).thenReturn(s3Object(FILE_CONTENT));
+
+		mockMvc.perform(get("/bookstore/images/book/download")
+				.param("fileName", "testUUID.png")
+				.header("Range", "bytes=5-8")
+				.header("If-Range", "\"old\""))
+			.andExpect(status().isOk())
+			.andExpect(content().bytes(FILE_CONTENT));
+	}
+
+	@Test
+	void downloadFile_shouldReturnRangeNotSatisfiable() throws Exception {
+		when(imageService.readImageMetadata("book/testUUID.png")).thenReturn(metadata());
+
+		mockMvc.perform(get("/bookstore/images/book/download")
+				.param("fileName", "testUUID.png")
+				.header("Range", "bytes=100-"))
+			.andExpect(status().isRequestedRangeNotSatisfiable())
+			.andExpect(header().string("Content-Range", "bytes */" + FILE_CONTENT.length));
+
+		verify(imageService, never()).readImage(anyString(), anyLong(), anyLong());
 	}
 
 	@Test
@@ -70,7 +171,7 @@ class ImageControllerTest {
 		String fileName = "testUUID.png";
 		String type = "book";
 
-		when(imageService.readImage(type + "/" + fileName)).thenThrow(new NotFindImageException());
+		when(imageService.readImageMetadata(type + "/" + fileName)).thenThrow(new NotFindImageException());
 
 		mockMvc.perform(get("/bookstore/images/book/download")
 				.param("fileName", fileName))
@@ -86,8 +187,9 @@ class ImageControllerTest {
 		S3Object s3Object = Mockito.mock(S3Object.class);
 		InputStream mockInputStream = Mockito.mock(S3ObjectInputStream.class);
 		when(s3Object.getObjectContent()).thenReturn((S3ObjectInputStream)mockInputStream);
-		when(mockInputStream.readAllBytes()).thenThrow(new IOException());
+		when(mockInputStream.transferTo(any(OutputStream.class))).thenThrow(new IOException());
 
+		when(imageService.readImageMetadata(type + "/" + fileName)).thenReturn(metadata());
 		when(imageService.readImage(type + "/" + fileName)).thenReturn(s3Object);
 
 		mockMvc.perform(get("/bookstore/images/book/download")
@@ -95,4 +197,158 @@ class ImageControllerTest {
 			.andExpect(status().isNotFound())
 			.andDo(print());  // Print request and response
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 클라이언트가 받다가 끊은 것처럼 쓰기만 하면 실패하는 응답.
+	 */
+	private MockHttpServletResponse abortedResponse() {
+		return new MockHttpServletResponse() {
+			@Override
+			public ServletOutputStream getOutputStream() {
+				return new ServletOutputStream() {
+					@Override
+					public boolean isReady() {
+						return true;
+					}
+
+					@Override
+					public void setWriteListener(WriteListener writeListener) {
+					}
+
+					@Override
+					public void write(int b) throws IOException {
+						throw new IOException("Broken pipe");
+					}
+				};
+			}
+		};
+	}
+
+	@Test
+	void downloadFile_shouldStopQuietly_whenClientAbortsStorageResponse() throws Exception {
+		S3Object s3Object = Mockito.mock(S3Object.class);
+		S3ObjectInputStream mockInputStream = Mockito.mock(S3ObjectInputStream.class);
+		when(s3Object.getObjectContent()).thenReturn(mockInputStream);
+		when(mockInputStream.transferTo(any(OutputStream.class))).thenAnswer(invocation -> {
+			invocation.<OutputStream>getArgument(0).write(FILE_CONTENT);
+			return (long)FILE_CONTENT.length;
+		});
+		when(imageService.readImageMetadata("book/testUUID.png")).thenReturn(metadata());
+		when(imageService.readImage("book/testUUID.png")).thenReturn(s3Object);
+
+		MockHttpServletResponse response = abortedResponse();
+		imageController.downloadFile("testUUID.png", "book",
+			new ServletWebRequest(new MockHttpServletRequest("GET", "/bookstore/images/book/download"), response),
+			response);
+
+		assertThat(response.getStatus()).isEqualTo(200);
+		verify(mockInputStream).abort();
+	}
+
+	@Test
+	void downloadFile_shouldStopQuietly_whenClientAbortsCachedResponse() throws Exception {
+		CachedImage cachedImage = cachedImage();
+		when(imageDiskCacheService.read("book/testUUID.png")).thenReturn(Optional.of(cachedImage));
+
+		MockHttpServletResponse response = abortedResponse();
+		imageController.downloadFile("testUUID.png", "book",
+			new ServletWebRequest(new MockHttpServletRequest("GET", "/bookstore/images/book/download"), response),
+			response);
+
+		assertThat(response.getStatus()).isEqualTo(200);
+		verify(imageDiskCacheService, never()).evict(anyString(), any());
+		verify(imageService, never()).readImage(anyString());
+	}
+
+	private CachedImage cachedImage() throws IOException {
+		Path path = Files.write(tempDir.resolve("cached.image"), FILE_CONTENT);
+		return new CachedImage(path, "abc", 1_700_000_000_000L, FILE_CONTENT.length);
+	}
+
+	@Test
+	void downloadFile_shouldServeFromDiskCache() throws Exception {
+		when(imageDiskCacheService.read("book/testUUID.png")).thenReturn(Optional.of(cachedImage()));
+
+		mockMvc.perform(get("/bookstore/images/book/download")
+				.param("fileName", "testUUID.png"))
+			.andExpect(status().isOk())
+			.andExpect(header().string("ETag", "\"abc\""))
+			.andExpect(header().longValue("Content-Length", FILE_CONTENT.length))
+			.andExpect(content().bytes(FILE_CONTENT));
+
+		verify(imageService, never()).readImageMetadata(anyString());
+		verify(imageService, never()).readImage(anyString());
+	}
+
+	@Test
+	void downloadFile_shouldServeRangeFromDiskCache() throws Exception {
+		when(imageDiskCacheService.read("book/testUUID.png")).thenReturn(Optional.of(cachedImage()));
+
+		mockMvc.perform(get("/bookstore/images/book/download")
+				.param("fileName", "testUUID.png")
+				.header("Range", "bytes=5-8"))
+			.andExpect(status().isPartialContent())
+			.andExpect(header().string("Content-Range", "bytes 5-8/" + FILE_CONTENT.length))
+			.andExpect(content().bytes("file".getBytes()));
+	}
+
+	@Test
+	void downloadFile_shouldStoreInDiskCache_whenMissed() throws Exception {
+		when(imageService.readImageMetadata("book/testUUID.png")).thenReturn(metadata());
+		when(imageDiskCacheService.store(eq("book/testUUID.png"), any(), any())).thenReturn(Optional.of(cachedImage()));
+
+		mockMvc.perform(get("/bookstore/images/book/download")
+				.param("fileName", "testUUID.png"))
+			.andExpect(status().isOk())
+			.andExpect(content().bytes(FILE_CONTENT));
+
+		verify(imageService, never()).readImage(anyString());
+	}
+
+	@Test
+	void downloadFile_shouldFallBackToStorage_whenCachedFileDeleted() throws Exception {
+		CachedImage deleted = new CachedImage(tempDir.resolve("deleted.image"), "abc", 1_700_000_000_000L,
+			FILE_CONTENT.length);
+		when(imageDiskCacheService.read("book/testUUID.png")).thenReturn(Optional.of(deleted));
+		when(imageService.readImage("book/testUUID.png")).thenReturn(s3Object(FILE_CONTENT));
+
+		mockMvc.perform(get("/bookstore/images/book/download")
+				.param("fileName", "testUUID.png"))
+			.andExpect(status().isOk())
+			.andExpect(content().bytes(FILE_CONTENT));
+
+		verify(imageDiskCacheService).evict("book/testUUID.png", deleted);
+	}
+
+	@Test
+	void downloadFile_shouldFallBackToOriginal_whenVariantNotCreated() throws Exception {
+		when(imageService.readImageMetadata("book/testUUID_thumbnail.png")).thenThrow(new NotFindImageException());
+		when(imageService.readImageMetadata("book/testUUID.png")).thenReturn(metadata());
+		when(imageDiskCacheService.store(eq("book/testUUID.png"), any(), any())).thenReturn(Optional.of(cachedImage()));
+
+		mockMvc.perform(get("/bookstore/images/book/download")
+				.param("fileName", "testUUID_thumbnail.png"))
+			.andExpect(status().isOk())
+			.andExpect(header().string("Cache-Control", "max-age=604800, public"))
+			.andExpect(content().bytes(FILE_CONTENT));
+
+		verify(imageVariantService).backfill("book", "testUUID_thumbnail.png");
+		verify(imageService, never()).readImage(anyString());
+	}
+
+	@Test
+	void downloadFile_shouldServeCachedOriginal_whenVariantKnownMissing() throws Exception {
+		when(imageVariantService.isMissing("book", "testUUID_thumbnail.png")).thenReturn(true);
+		when(imageDiskCacheService.read("book/testUUID.png")).thenReturn(Optional.of(cachedImage()));
+
+		mockMvc.perform(get("/bookstore/images/book/download")
+				.param("fileName", "testUUID_thumbnail.png"))
+			.andExpect(status().isOk())
+			.andExpect(header().string("ETag", "\"abc\""))
+			.andExpect(content().bytes(FILE_CONTENT));
+
+		verify(imageService, never()).readImageMetadata(anyString());
+		verify(imageService, never()).readImage(anyString());
+		verify(imageVariantService, never()).backfill(anyString(), anyString());
+	}
+}
@@ -0,0 +1,21 @@
+package com.nhnacademy.bookstore.book.image.enums;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ImageVariantTest {
+
+    @Test
+    void fileNameTest() {
+        assertThat(ImageVariant.THUMBNAIL.fileName("abc.png")).isEqualTo("abc_thumbnail.png");
+        assertThat(ImageVariant.DETAIL.fileName("abc.jpg")).isEqualTo("abc_detail.jpg");
+    }
+
+    @Test
+    void originalFileNameTest() {
+        assertThat(ImageVariant.originalFileName("abc_thumbnail.png")).contains("abc.png");
+        assertThat(ImageVariant.originalFileName("abc_detail.jpg")).contains("abc.jpg");
+        assertThat(ImageVariant.originalFileName("abc.png")).isEmpty();
+    }
+}
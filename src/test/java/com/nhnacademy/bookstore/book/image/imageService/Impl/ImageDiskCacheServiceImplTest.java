@@ -0,0 +1,187 @@
+package com.nhnacademy.bookstore.book.image.imageService.Impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.nhnacademy.bookstore.book.image.dto.CachedImage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+class ImageDiskCacheServiceImplTest {
+    @TempDir
+    private Path tempDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ImageDiskCacheServiceImpl imageDiskCacheService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        imageDiskCacheService = new ImageDiskCacheServiceImpl(meterRegistry, tempDir.toString(),
+                DataSize.ofBytes(10), DataSize.ofBytes(6));
+    }
+
+    private ObjectMetadata metadata(int length) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setHeader("ETag", "abc");
+        metadata.setContentLength(length);
+        metadata.setLastModified(new Date(1_700_000_000_000L));
+        return metadata;
+    }
+
+    private Supplier<S3Object> loader(byte[] content) {
+        return () -> {
+            S3Object s3Object = new S3Object();
+            s3Object.setObjectContent(new S3ObjectInputStream(new ByteArrayInputStream(content), null));
+            return s3Object;
+        };
+    }
+
+    @Test
+    void storeAndReadTest() throws IOException {
+        assertThat(imageDiskCacheService.read("book/a.png")).isEmpty();
+
+        Optional<CachedImage> stored = imageDiskCacheService.store("book/a.png", metadata(5), loader("hello".getBytes()));
+
+        assertThat(stored).isPresent();
+        assertThat(Files.readAllBytes(stored.get().path())).isEqualTo("hello".getBytes());
+        assertThat(stored.get().eTag()).isEqualTo("abc");
+        assertThat(stored.get().lastModified()).isEqualTo(1_700_000_000_000L);
+        assertThat(imageDiskCacheService.read("book/a.png")).contains(stored.get());
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void evictLeastRecentlyUsedTest() {
+        CachedImage first = imageDiskCacheService.store("book/a.png", metadata(4), loader("aaaa".getBytes())).get();
+        imageDiskCacheService.store("book/b.png", metadata(4), loader("bbbb".getBytes()));
+        imageDiskCacheService.read("book/a.png");
+
+        imageDiskCacheService.store("book/c.png", metadata(4), loader("cccc".getBytes()));
+
+        assertThat(imageDiskCacheService.read("book/a.png")).isPresent();
+        assertThat(imageDiskCacheService.read("book/b.png")).isEmpty();
+        assertThat(imageDiskCacheService.read("book/c.png")).isPresent();
+        assertThat(Files.exists(first.path())).isTrue();
+        assertThat(meterRegistry.get("cache.evictions").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("bookstore.image.disk-cache.bytes").gauge().value()).isEqualTo(8);
+    }
+
+    @Test
+    void skipTooLargeImageTest() {
+        Optional<CachedImage> stored = imageDiskCacheService.store("book/a.png", metadata(7), loader("1234567".getBytes()));
+
+        assertThat(stored).isEmpty();
+        assertThat(imageDiskCacheService.read("book/a.png")).isEmpty();
+    }
+
+    @Test
+    void evictTest() {
+        CachedImage stored = imageDiskCacheService.store("book/a.png", metadata(5), loader("hello".getBytes())).get();
+
+        imageDiskCacheService.evict("book/a.png", stored);
+
+        assertThat(imageDiskCacheService.read("book/a.png")).isEmpty();
+        assertThat(Files.exists(stored.path())).isFalse();
+    }
+
+    @Test
+    void clearStaleFilesOnStartTest() throws IOException {
+        Path stale = imageDiskCacheService.store("book/a.png", metadata(3), loader("old".getBytes())).get().path();
+
+        new ImageDiskCacheServiceImpl(new SimpleMeterRegistry(), tempDir.toString(),
+                DataSize.ofBytes(10), DataSize.ofBytes(6));
+
+        assertThat(Files.exists(stale)).isFalse();
+    }
+
+    @Test
+    void keepOtherFilesOnStartTest() throws IOException {
+        Path other = Files.write(tempDir.resolve("other.image"), "keep".getBytes());
+        Path otherDirectory = Files.createDirectory(tempDir.resolve("9b2d5f4e-0c1a-3b7e-8f6d-2a4c6e8b0d1f-1.image"));
+
+        new ImageDiskCacheServiceImpl(new SimpleMeterRegistry(), tempDir.toString(),
+                DataSize.ofBytes(10), DataSize.ofBytes(6));
+
+        assertThat(Files.exists(other)).isTrue();
+        assertThat(Files.isDirectory(otherDirectory)).isTrue();
+    }
+
+    @Test
+    void evictKeepsNewerEntryTest() {
+        CachedImage stale = new CachedImage(tempDir.resolve("stale.image"), "abc", 1_700_000_000_000L, 5);
+        CachedImage stored = imageDiskCacheService.store("book/a.png", metadata(5), loader("hello".getBytes())).get();
+
+        // 읽지 못한 파일이 지금 캐시된 파일과 다르면 새로 저장된 이미지는 그대로 둔다.
+        imageDiskCacheService.evict("book/a.png", stale);
+
+        assertThat(imageDiskCacheService.read("book/a.png")).contains(stored);
+        assertThat(Files.exists(stored.path())).isTrue();
+    }
+
+    @Test
+    void storeCoalescedTest() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<S3Object> slowLoader = () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return loader("hello".getBytes()).get();
+        };
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<Optional<CachedImage>> first = executor.submit(
+                    () -> imageDiskCacheService.store("book/a.png", metadata(5), slowLoader));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Optional<CachedImage>> second = executor.submit(
+                    () -> imageDiskCacheService.store("book/a.png", metadata(5), slowLoader));
+            // 두 번째 요청이 먼저 시작한 저장을 기다리기 시작할 때까지 기다린다.
+            while (meterRegistry.get("bookstore.image.disk-cache.coalesced").counter().count() < 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(first.get(5, TimeUnit.SECONDS)).isPresent();
+        }
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void storeAlreadyCachedTest() {
+        CachedImage stored = imageDiskCacheService.store("book/a.png", metadata(5), loader("hello".getBytes())).get();
+        AtomicInteger loads = new AtomicInteger();
+
+        Optional<CachedImage> again = imageDiskCacheService.store("book/a.png", metadata(5), () -> {
+            loads.incrementAndGet();
+            return loader("hello".getBytes()).get();
+        });
+
+        assertThat(again).contains(stored);
+        assertThat(loads.get()).isZero();
+    }
+}
@@ -0,0 +1,161 @@
+package com.nhnacademy.bookstore.book.image.imageService.Impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.util.unit.DataSize;
+
+class ImageVariantServiceImplTest {
+    private AmazonS3 amazonS3;
+    private ImageVariantServiceImpl imageVariantService;
+
+    @BeforeEach
+    void setUp() {
+        amazonS3 = mock(AmazonS3.class);
+        imageVariantService = new ImageVariantServiceImpl(amazonS3, "bucket", 1, 1, DataSize.ofMegabytes(1),
+                Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        imageVariantService.shutdown();
+    }
+
+    private void givenImage(String key, byte[] content) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length);
+        S3Object s3Object = new S3Object();
+        s3Object.setObjectContent(new S3ObjectInputStream(new ByteArrayInputStream(content), null));
+        when(amazonS3.getObjectMetadata("bucket", key)).thenReturn(metadata);
+        when(amazonS3.getObject("bucket", key)).thenReturn(s3Object);
+    }
+
+    @Test
+    void createVariantsTest() throws IOException {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(1000, 500, BufferedImage.TYPE_INT_ARGB), "png", png);
+        givenImage("book/abc.png", png.toByteArray());
+
+        imageVariantService.createVariantsNow("book", "abc.png");
+
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(amazonS3, times(2)).putObject(captor.capture());
+        List<PutObjectRequest> requests = captor.getAllValues();
+        assertThat(requests).extracting(PutObjectRequest::getKey)
+                .containsExactly("book/abc_thumbnail.png", "book/abc_detail.png");
+        assertThat(requests.getFirst().getMetadata().getContentType()).isEqualTo("image/png");
+
+        BufferedImage thumbnail = ImageIO.read(requests.getFirst().getInputStream());
+        assertThat(thumbnail.getWidth()).isEqualTo(200);
+        assertThat(thumbnail.getHeight()).isEqualTo(100);
+    }
+
+    @Test
+    void backfillTest() throws Exception {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB), "png", png);
+        givenImage("book/abc.png", png.toByteArray());
+
+        imageVariantService.backfill("book", "abc_thumbnail.png");
+
+        // 다 만들면 없다고 기억해 둔 것을 잊는다.
+        verify(amazonS3, timeout(1000).times(2)).putObject(any(PutObjectRequest.class));
+        await(() -> !imageVariantService.isMissing("book", "abc_thumbnail.png"));
+    }
+
+    @Test
+    void backfill_shouldRememberMissingUntilCreated() {
+        givenImage("book/abc.png", "not an image".getBytes());
+
+        imageVariantService.backfill("book", "abc_thumbnail.png");
+
+        verify(amazonS3, timeout(1000)).getObject("bucket", "book/abc.png");
+        assertThat(imageVariantService.isMissing("book", "abc_thumbnail.png")).isTrue();
+        assertThat(imageVariantService.isMissing("book", "abc_detail.png")).isFalse();
+    }
+
+    @Test
+    void backfill_shouldIgnoreOriginalFileName() {
+        imageVariantService.backfill("book", "abc.png");
+
+        assertThat(imageVariantService.isMissing("book", "abc.png")).isFalse();
+        verifyNoInteractions(amazonS3);
+    }
+
+    @Test
+    void createVariants_shouldDropWhenQueueFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        when(amazonS3.getObjectMetadata("bucket", "book/a.png")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(1, TimeUnit.SECONDS);
+            throw new IllegalStateException("stop");
+        });
+
+        // 스레드 하나가 a 를 잡고 있고, 대기열 한 칸은 b 가 차지해서 c 는 버려진다.
+        imageVariantService.createVariants("book", "a.png");
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        imageVariantService.createVariants("book", "b.png");
+        imageVariantService.createVariants("book", "c.png");
+        release.countDown();
+
+        verify(amazonS3, timeout(1000)).getObjectMetadata("bucket", "book/b.png");
+        imageVariantService.shutdown();
+        verify(amazonS3, never()).getObjectMetadata("bucket", "book/c.png");
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    @Test
+    void createVariants_shouldSkipUnreadableImage() {
+        givenImage("book/abc.png", "not an image".getBytes());
+
+        imageVariantService.createVariantsNow("book", "abc.png");
+
+        verify(amazonS3, never()).putObject(any(PutObjectRequest.class));
+    }
+
+    @Test
+    void createVariants_shouldSkipTooLargeImage() {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(DataSize.ofMegabytes(2).toBytes());
+        when(amazonS3.getObjectMetadata("bucket", "book/abc.png")).thenReturn(metadata);
+
+        imageVariantService.createVariantsNow("book", "abc.png");
+
+        verify(amazonS3, never()).getObject("bucket", "book/abc.png");
+        verify(amazonS3, never()).putObject(any(PutObjectRequest.class));
+    }
+}
@@ -1,23 +1,47 @@
 package com.nhnacademy.bookstore.book.image.imageService.Impl;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
 import com.nhnacademy.bookstore.book.image.exception.FailUploadImageException;
+import com.nhnacademy.bookstore.book.image.imageService.ImageVariantService;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 public class MockImageServiceImplTest {
     @Mock
     private AmazonS3 amazonS3;
 
+    @Mock
+    private ImageVariantService imageVariantService;
+
     @Mock
     private MultipartFile multipartFile;
 
@@ -27,6 +51,9 @@ public class MockImageServiceImplTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(imageService, "bucketName", "bucket");
+        ReflectionTestUtils.setField(imageService, "connectTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(imageService, "readTimeout", Duration.ofSeconds(1));
     }
 
     @Test
@@ -37,11 +64,88 @@ public class MockImageServiceImplTest {
         when(multipartFile.getOriginalFilename()).thenReturn(originalFilename);
 
         // When
-        // Mock the behavior of multipartFile.getBytes() to throw IOException
-        doThrow(IOException.class).when(multipartFile).getBytes();
+        // Mock the behavior of multipartFile.getInputStream() to throw IOException
+        doThrow(IOException.class).when(multipartFile).getInputStream();
 
         // Then
         assertThrows(FailUploadImageException.class, () -> imageService.createImage(multipartFile, storagePlace));
     }
 
+    @Test
+    void createImage_shouldStreamWithContentLength() throws IOException {
+        when(multipartFile.getOriginalFilename()).thenReturn("testImage.png");
+        when(multipartFile.getInputStream()).thenReturn(new ByteArrayInputStream(new byte[10]));
+        when(multipartFile.getSize()).thenReturn(10L);
+        when(multipartFile.getContentType()).thenReturn("image/png");
+
+        String fileName = imageService.createImage(multipartFile, "test");
+
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(amazonS3).putObject(captor.capture());
+        assertThat(fileName).endsWith(".png");
+        assertThat(captor.getValue().getKey()).isEqualTo("test/" + fileName);
+        assertThat(captor.getValue().getMetadata().getContentLength()).isEqualTo(10L);
+        assertThat(captor.getValue().getMetadata().getContentType()).isEqualTo("image/png");
+        verify(imageVariantService).createVariants("test", fileName);
+    }
+
+    @Test
+    void createImage_shouldUploadInParts_whenLengthUnknown() throws IOException {
+        int partSize = 5 * 1024 * 1024;
+        when(multipartFile.getOriginalFilename()).thenReturn("testImage.png");
+        when(multipartFile.getInputStream()).thenReturn(new ByteArrayInputStream(new byte[partSize + 10]));
+        when(multipartFile.getSize()).thenReturn(-1L);
+        InitiateMultipartUploadResult initiateResult = new InitiateMultipartUploadResult();
+        initiateResult.setUploadId("upload");
+        when(amazonS3.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiateResult);
+        UploadPartResult partResult = mock(UploadPartResult.class);
+        when(partResult.getPartETag()).thenReturn(new PartETag(1, "etag"));
+        when(amazonS3.uploadPart(any(UploadPartRequest.class))).thenReturn(partResult);
+
+        imageService.createImage(multipartFile, "test");
+
+        ArgumentCaptor<UploadPartRequest> captor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(amazonS3, times(2)).uploadPart(captor.capture());
+        assertThat(captor.getAllValues()).extracting(UploadPartRequest::getPartSize)
+                .containsExactly((long) partSize, 10L);
+        verify(amazonS3).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        verify(amazonS3, never()).putObject(any(PutObjectRequest.class));
+    }
+
+    @Test
+    void createImage_shouldPutSmallImageOnce_whenLengthUnknown() throws IOException {
+        when(multipartFile.getOriginalFilename()).thenReturn("testImage.png");
+        when(multipartFile.getInputStream()).thenReturn(new ByteArrayInputStream(new byte[10]));
+        when(multipartFile.getSize()).thenReturn(-1L);
+
+        imageService.createImage(multipartFile, "test");
+
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(amazonS3).putObject(captor.capture());
+        assertThat(captor.getValue().getMetadata().getContentLength()).isEqualTo(10L);
+        verify(amazonS3, never()).initiateMultipartUpload(any(InitiateMultipartUploadRequest.class));
+    }
+
+    @Test
+    void createImageFromUrl(@TempDir Path tempDir) throws IOException {
+        Path image = Files.write(tempDir.resolve("cover.jpg"), new byte[20]);
+
+        String fileName = imageService.createImage(image.toUri().toString(), "book");
+
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(amazonS3).putObject(captor.capture());
+        assertThat(fileName).endsWith(".jpg");
+        assertThat(captor.getValue().getKey()).isEqualTo("book/" + fileName);
+        assertThat(captor.getValue().getMetadata().getContentLength()).isEqualTo(20L);
+        verify(imageVariantService).createVariants("book", fileName);
+    }
+
+    @Test
+    void createImageFromUrl_shouldThrowFailUploadImageException_whenNotFound(@TempDir Path tempDir) {
+        String imageUrl = tempDir.resolve("none.jpg").toUri().toString();
+
+        assertThrows(FailUploadImageException.class, () -> imageService.createImage(imageUrl, "book"));
+        verify(amazonS3, never()).putObject(any(PutObjectRequest.class));
+        verify(imageVariantService, never()).createVariants(any(), any());
+    }
 }
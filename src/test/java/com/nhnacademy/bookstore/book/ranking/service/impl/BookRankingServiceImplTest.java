@@ -0,0 +1,150 @@
+package com.nhnacademy.bookstore.book.ranking.service.impl;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.nhnacademy.bookstore.book.book.dto.response.BookListResponse;
+import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.book.ranking.dto.response.BookCategoryIdResponse;
+import com.nhnacademy.bookstore.book.ranking.dto.response.BookRankingResponse;
+import com.nhnacademy.bookstore.book.ranking.dto.response.BookRankingScoreResponse;
+import com.nhnacademy.bookstore.book.ranking.enums.RankingPeriod;
+import com.nhnacademy.bookstore.book.ranking.enums.RankingType;
+import com.nhnacademy.bookstore.book.ranking.exception.InvalidRankingException;
+import com.nhnacademy.bookstore.book.ranking.repository.BookRankingRedisRepository;
+import com.nhnacademy.bookstore.book.ranking.repository.BookRankingRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BookRankingServiceImplTest {
+	@Mock
+	private BookRankingRedisRepository bookRankingRedisRepository;
+	@Mock
+	private BookRankingRepository bookRankingRepository;
+	@Mock
+	private BookRepository bookRepository;
+	@InjectMocks
+	private BookRankingServiceImpl bookRankingService;
+
+	@Test
+	void increaseScoreWithParentCategoryTest() {
+		when(bookRankingRepository.readCategoryIds(anyCollection())).thenReturn(List.of(
+			new BookCategoryIdResponse(1L, 3L, 2L, 1L),
+			new BookCategoryIdResponse(1L, 2L, 1L, null)));
+
+		bookRankingService.increaseScore(RankingType.BESTSELLER, Map.of(1L, 2L, 2L, 0L));
+
+		verify(bookRankingRedisRepository, times(1)).increaseScores(eq(RankingType.BESTSELLER), any(),
+			eq(Map.of(1L, 2L)), eq(Map.of(1L, Set.of(1L, 2L, 3L))));
+	}
+
+	@Test
+	void increaseScoreOnPastDayTest() {
+		LocalDate lastWeek = LocalDate.now().minusDays(RankingPeriod.WEEK.getDays());
+		LocalDate yesterday = LocalDate.now().minusDays(1);
+
+		bookRankingService.increaseScore(RankingType.BESTSELLER, Map.of(1L, -2L), lastWeek);
+		bookRankingService.increaseScore(RankingType.BESTSELLER, Map.of(1L, -1L), yesterday);
+
+		verify(bookRankingRedisRepository).increaseScores(RankingType.BESTSELLER, null, Map.of(1L, -2L), Map.of());
+		verify(bookRankingRedisRepository).increaseScores(RankingType.BESTSELLER, yesterday, Map.of(1L, -1L),
+			Map.of());
+	}
+
+	@Test
+	void increaseScoreEmptyTest() {
+		bookRankingService.increaseScore(RankingType.VIEW, Map.of());
+
+		verifyNoInteractions(bookRankingRepository, bookRankingRedisRepository);
+	}
+
+	@Test
+	void increaseScoreRedisFailureTest() {
+		doThrow(RuntimeException.class).when(bookRankingRedisRepository)
+			.increaseScores(any(), any(), anyMap(), anyMap());
+
+		assertThatCode(() -> bookRankingService.increaseScore(RankingType.LIKE, Map.of(1L, 1L)))
+			.doesNotThrowAnyException();
+	}
+
+	@Test
+	void readRankingTest() {
+		LinkedHashMap<Long, Long> scores = new LinkedHashMap<>();
+		scores.put(3L, 30L);
+		scores.put(2L, 20L);
+		scores.put(1L, 10L);
+		when(bookRankingRedisRepository.readTopScores(eq(RankingType.VIEW), eq(RankingPeriod.WEEK), isNull(), any(),
+			eq(3))).thenReturn(scores);
+		when(bookRepository.readBookListByIds(scores.keySet())).thenReturn(List.of(
+			new BookListResponse(1L, "title1", 1000, 900, "author", "url"),
+			new BookListResponse(3L, "title3", 1000, 900, "author", "url")));
+
+		List<BookRankingResponse> rankings = bookRankingService.readRanking(RankingType.VIEW, RankingPeriod.WEEK,
+			null, 3);
+
+		assertThat(rankings).extracting(BookRankingResponse::rank).containsExactly(1, 2);
+		assertThat(rankings).extracting(ranking -> ranking.book().id()).containsExactly(3L, 1L);
+		assertThat(rankings).extracting(BookRankingResponse::score).containsExactly(30L, 10L);
+	}
+
+	@Test
+	void readRankingSizeLimitTest() {
+		when(bookRankingRedisRepository.readTopScores(any(), any(), any(), any(), anyInt()))
+			.thenReturn(new LinkedHashMap<>());
+
+		assertThat(bookRankingService.readRanking(RankingType.LIKE, RankingPeriod.ALL, 1L, 1000)).isEmpty();
+
+		verify(bookRankingRedisRepository).readTopScores(eq(RankingType.LIKE), eq(RankingPeriod.ALL), eq(1L), any(),
+			eq(100));
+		verifyNoInteractions(bookRepository);
+	}
+
+	@Test
+	void rebuildRankingTest() {
+		when(bookRankingRepository.readScores(any())).thenReturn(List.of());
+		when(bookRankingRepository.readScores(RankingType.LIKE)).thenReturn(List.of(
+			new BookRankingScoreResponse(1L, 5L),
+			new BookRankingScoreResponse(2L, 3L)));
+		when(bookRankingRepository.readCategoryIds(anyCollection())).thenReturn(List.of(
+			new BookCategoryIdResponse(1L, 2L, null, null),
+			new BookCategoryIdResponse(2L, 2L, null, null)));
+
+		bookRankingService.rebuildRanking();
+
+		verify(bookRankingRedisRepository).replaceScores(RankingType.LIKE, null, Map.of(1L, 5L, 2L, 3L));
+		verify(bookRankingRedisRepository).replaceScores(RankingType.LIKE, 2L, Map.of(1L, 5L, 2L, 3L));
+		verify(bookRankingRedisRepository).replaceScores(RankingType.VIEW, null, Map.of());
+		verify(bookRankingRedisRepository).deleteCategoryScoresExcept(RankingType.LIKE, Set.of(2L));
+		verify(bookRankingRedisRepository).deleteCategoryScoresExcept(RankingType.VIEW, Set.of());
+	}
+
+	@Test
+	void rebuildIfEmptyTest() {
+		when(bookRankingRedisRepository.exists(any())).thenReturn(true);
+		when(bookRankingRedisRepository.exists(RankingType.VIEW)).thenReturn(false);
+		when(bookRankingRepository.readScores(RankingType.VIEW)).thenReturn(List.of());
+
+		bookRankingService.rebuildIfEmpty();
+
+		verify(bookRankingRepository, times(1)).readScores(any());
+	}
+
+	@Test
+	void rankingTypeFromTest() {
+		assertThat(RankingType.from("bestseller")).isEqualTo(RankingType.BESTSELLER);
+		assertThat(RankingPeriod.from("WEEK")).isEqualTo(RankingPeriod.WEEK);
+		assertThatThrownBy(() -> RankingType.from("price")).isInstanceOf(InvalidRankingException.class);
+	}
+}
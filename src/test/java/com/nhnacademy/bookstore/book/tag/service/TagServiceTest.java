@@ -1,5 +1,6 @@
 package com.nhnacademy.bookstore.book.tag.service.Impl;
 
+import com.nhnacademy.bookstore.book.book.service.BookDetailCacheService;
 import com.nhnacademy.bookstore.book.tag.dto.request.CreateTagRequest;
 import com.nhnacademy.bookstore.book.tag.dto.request.DeleteTagRequest;
 import com.nhnacademy.bookstore.book.tag.dto.request.UpdateTagRequest;
@@ -31,6 +32,8 @@ class TagServiceTest {
 
     @Mock
     private TagRepository tagRepository;
+    @Mock
+    private BookDetailCacheService bookDetailCacheService;
 
     @InjectMocks
     private TagServiceImpl tagService;
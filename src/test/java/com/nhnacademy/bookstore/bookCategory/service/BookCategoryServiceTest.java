@@ -26,6 +26,7 @@ import org.springframework.data.domain.Pageable;
 import com.nhnacademy.bookstore.book.book.dto.response.BookListResponse;
 import com.nhnacademy.bookstore.book.book.exception.BookDoesNotExistException;
 import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.book.book.service.BookDetailCacheService;
 import com.nhnacademy.bookstore.book.bookcategory.dto.request.CreateBookCategoryRequest;
 import com.nhnacademy.bookstore.book.bookcategory.dto.request.UpdateBookCategoryRequest;
 import com.nhnacademy.bookstore.book.bookcategory.exception.BookCategoryAlreadyExistsException;
@@ -55,6 +56,9 @@ class BookCategoryServiceTest {
 	@Mock
 	private BookCategoryRepository bookCategoryRepository;
 
+	@Mock
+	private BookDetailCacheService bookDetailCacheService;
+
 	@InjectMocks
 	private BookCategoryServiceImpl bookCategoryService;
 
@@ -102,6 +106,7 @@ class BookCategoryServiceTest {
 		bookCategoryService.createBookCategory(dto);
 
 		verify(bookRepository, times(1)).save(book);
+		verify(bookDetailCacheService).evict(book.getId());
 		assertTrue(book.getBookCategoryList().stream()
 			.anyMatch(bc -> bc.getCategory().equals(category)));
 	}
@@ -145,6 +150,7 @@ class BookCategoryServiceTest {
 		verify(bookRepository, times(1)).findById(anyLong());
 		verify(categoryRepository, times(1)).findAllById(anyList());
 		verify(bookRepository, times(1)).save(any(Book.class));
+		verify(bookDetailCacheService).evict(book.getId());
 
 		log.info(book.getBookCategoryList().toString());
 		assertEquals(1, book.getBookCategoryList().size());
@@ -164,6 +170,7 @@ class BookCategoryServiceTest {
 		bookCategoryService.deletedBookCategory(1L);
 
 		verify(bookCategoryRepository, times(1)).deleteById(anyLong());
+		verify(bookDetailCacheService).evict(book.getId());
 	}
 
 	@Test
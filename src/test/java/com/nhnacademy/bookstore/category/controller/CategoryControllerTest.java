@@ -31,6 +31,7 @@ import com.nhnacademy.bookstore.book.category.dto.response.CategoryForCouponResp
 import com.nhnacademy.bookstore.book.category.dto.response.CategoryParentWithChildrenResponse;
 import com.nhnacademy.bookstore.book.category.dto.response.CategoryResponse;
 import com.nhnacademy.bookstore.book.category.service.CategoryService;
+import com.nhnacademy.bookstore.util.ApiResponse;
 
 @WebMvcTest(CategoryController.class)
 public class CategoryControllerTest extends BaseDocumentTest {
@@ -204,7 +205,8 @@ public class CategoryControllerTest extends BaseDocumentTest {
 	void readAllCategories() throws Exception {
 		List<CategoryParentWithChildrenResponse> categories = List.of(
 			new CategoryParentWithChildrenResponse(1L, "카테고리 1", new ArrayList<>()));
-		given(categoryService.getCategories()).willReturn(categories);
+		given(categoryService.getCategoriesJson()).willReturn(
+			objectMapper.writeValueAsBytes(ApiResponse.success(categories)));
 
 		mockMvc.perform(RestDocumentationRequestBuilders.get("/bookstore/categories")
 				.contentType(MediaType.APPLICATION_JSON)
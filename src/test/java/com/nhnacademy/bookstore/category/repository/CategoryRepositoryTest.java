@@ -186,4 +186,20 @@ public class CategoryRepositoryTest {
         Assertions.assertNotNull(childResponse2.getChildrenList());
         Assertions.assertTrue(childResponse2.getChildrenList().isEmpty());
     }
+
+    @DisplayName("하위 카테고리 조회 테스트")
+    @Test
+    void findChildrenCategoriesByParentIdTest() {
+        categoryRepository.saveAll(categoryList);
+        Category grandParentCategory = categoryList.get(0);
+
+        List<CategoryParentWithChildrenResponse> children =
+                categoryRepository.findChildrenCategoriesByParentId(grandParentCategory.getId());
+
+        Assertions.assertEquals(2, children.size());
+        Assertions.assertEquals("부모 카테고리1", children.get(0).getName());
+        Assertions.assertEquals("자식 카테고리1", children.get(0).getChildrenList().get(0).getName());
+        Assertions.assertEquals("부모 카테고리2", children.get(1).getName());
+        Assertions.assertTrue(categoryRepository.findChildrenCategoriesByParentId(-1L).isEmpty());
+    }
 }
@@ -6,10 +6,12 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.*;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +20,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.nhnacademy.bookstore.book.book.service.BookDetailCacheService;
 import com.nhnacademy.bookstore.book.category.dto.request.CreateCategoryRequest;
 import com.nhnacademy.bookstore.book.category.dto.request.UpdateCategoryRequest;
 import com.nhnacademy.bookstore.book.category.dto.response.CategoryForCouponResponse;
@@ -26,6 +29,7 @@ import com.nhnacademy.bookstore.book.category.dto.response.CategoryResponse;
 import com.nhnacademy.bookstore.book.category.exception.CategoryNotFoundException;
 import com.nhnacademy.bookstore.book.category.exception.DuplicateCategoryNameException;
 import com.nhnacademy.bookstore.book.category.repository.CategoryRepository;
+import com.nhnacademy.bookstore.book.category.service.CategoryTreeCacheService;
 import com.nhnacademy.bookstore.book.category.service.impl.CategoryServiceImpl;
 import com.nhnacademy.bookstore.entity.category.Category;
 
@@ -37,6 +41,10 @@ class CategoryServiceTest {
 
 	@Mock
 	private CategoryRepository categoryRepository;
+	@Mock
+	private BookDetailCacheService bookDetailCacheService;
+	@Mock
+	private CategoryTreeCacheService categoryTreeCacheService;
 
 	@InjectMocks
 	private CategoryServiceImpl categoryService;
@@ -54,6 +62,7 @@ class CategoryServiceTest {
 		when(categoryRepository.save(any(Category.class))).thenReturn(category);
 		categoryService.createCategory(dto);
 		verify(categoryRepository, times(1)).save(any(Category.class));
+		verify(categoryTreeCacheService).evict();
 	}
 
 	@Test
@@ -76,6 +85,8 @@ class CategoryServiceTest {
 		categoryService.deleteCategory(category.getId());
 
 		verify(categoryRepository, times(1)).delete(any(Category.class));
+		verify(bookDetailCacheService).evictAll();
+		verify(categoryTreeCacheService).evict();
 	}
 
 	@DisplayName("중복된 이름 카테고리 생성 테스트")
@@ -124,7 +135,8 @@ class CategoryServiceTest {
 		UpdateCategoryRequest dto = UpdateCategoryRequest.builder().name("test111").build();
 		when(categoryRepository.findById(id)).thenReturn(Optional.of(new Category("test111")));
 		categoryService.updateCategory(id, dto);
-
+		verify(bookDetailCacheService).evictAll();
+		verify(categoryTreeCacheService).evict();
 	}
 
 	@Test
@@ -252,37 +264,36 @@ class CategoryServiceTest {
 	}
 
 	@Test
+	@SuppressWarnings("unchecked")
 	void getCategoriesWithChildren() {
-		CategoryParentWithChildrenResponse categoryParentWithChildrenResponse = new CategoryParentWithChildrenResponse(
-			1L, "Category 1");
 		List<CategoryParentWithChildrenResponse> categoryParentWithChildrenResponseList = List.of(
-			categoryParentWithChildrenResponse);
+			new CategoryParentWithChildrenResponse(1L, "Category 1"));
 
+		when(categoryTreeCacheService.readCategories(any(Supplier.class))).thenAnswer(
+			invocation -> ((Supplier<List<CategoryParentWithChildrenResponse>>)invocation.getArgument(0)).get());
 		when(categoryRepository.findParentWithChildrenCategories()).thenReturn(categoryParentWithChildrenResponseList);
 		assertEquals(categoryParentWithChildrenResponseList, categoryService.getCategoriesWithChildren());
-
 	}
 
 	@Test
 	void getCategories() {
-		Category category1 = new Category("Category 1");
-		category1.setId(1L);
-		Category category2 = new Category("Category 2");
-		category2.setId(2L);
-		category2.setParent(category1);
-		Category category3 = new Category("Category 3");
-		category3.setId(3L);
-		category3.setParent(category2);
-
-		List<Category> categoryList = List.of(category1, category2, category3);
+		List<CategoryParentWithChildrenResponse> categoryList = List.of(
+			new CategoryParentWithChildrenResponse(1L, "Category 1", List.of()));
 
-		when(categoryRepository.findAll()).thenReturn(categoryList);
+		when(categoryTreeCacheService.readCategories(any())).thenReturn(categoryList);
 
 		List<CategoryParentWithChildrenResponse> categories = categoryService.getCategories();
 		assertNotNull(categories);
 		assertEquals(1, categories.size());
-		assertEquals(category1.getId(), categories.get(0).getId());
+		assertEquals(1L, categories.get(0).getId());
+	}
+
+	@Test
+	void getCategoriesJson() {
+		byte[] json = "{}".getBytes(StandardCharsets.UTF_8);
+		when(categoryTreeCacheService.readCategoriesJson(any())).thenReturn(json);
 
+		assertSame(json, categoryService.getCategoriesJson());
 	}
 
 	@Test
@@ -0,0 +1,111 @@
+package com.nhnacademy.bookstore.category.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.bookstore.book.category.dto.response.CategoryParentWithChildrenResponse;
+import com.nhnacademy.bookstore.book.category.service.impl.CategoryTreeCacheServiceImpl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CategoryTreeCacheServiceImplTest {
+	private MeterRegistry meterRegistry;
+	private CategoryTreeCacheServiceImpl categoryTreeCacheService;
+	private AtomicInteger loadCount;
+	private Supplier<List<CategoryParentWithChildrenResponse>> loader;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		categoryTreeCacheService = new CategoryTreeCacheServiceImpl(new ObjectMapper(), meterRegistry,
+			Duration.ofMinutes(10));
+		loadCount = new AtomicInteger();
+		loader = () -> {
+			loadCount.incrementAndGet();
+			CategoryParentWithChildrenResponse child = new CategoryParentWithChildrenResponse(2L, "소설",
+				new ArrayList<>());
+			return new ArrayList<>(List.of(
+				new CategoryParentWithChildrenResponse(1L, "국내도서", new ArrayList<>(List.of(child)))));
+		};
+	}
+
+	@Test
+	void readCategoriesCachedTest() {
+		List<CategoryParentWithChildrenResponse> first = categoryTreeCacheService.readCategories(loader);
+		List<CategoryParentWithChildrenResponse> second = categoryTreeCacheService.readCategories(loader);
+		categoryTreeCacheService.readCategoriesJson(loader);
+
+		assertThat(loadCount.get()).isEqualTo(1);
+		assertThat(second).isSameAs(first);
+		assertThat(first.getFirst().getName()).isEqualTo("국내도서");
+		assertThat(first.getFirst().getChildrenList()).extracting(CategoryParentWithChildrenResponse::getName)
+			.containsExactly("소설");
+		assertThat(meterRegistry.get("cache.gets").tag("result", "hit").counter().count()).isEqualTo(2.0);
+		assertThat(meterRegistry.get("cache.gets").tag("result", "miss").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	void readCategoriesImmutableTest() {
+		List<CategoryParentWithChildrenResponse> categories = categoryTreeCacheService.readCategories(loader);
+
+		assertThatThrownBy(() -> categories.add(new CategoryParentWithChildrenResponse(3L, "외국도서")))
+			.isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> categories.getFirst().getChildrenList().clear())
+			.isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	void readCategoriesJsonTest() {
+		String json = new String(categoryTreeCacheService.readCategoriesJson(loader), StandardCharsets.UTF_8);
+
+		assertThat(json).contains("\"successful\":true", "\"resultCode\":200",
+			"\"body\":{\"data\":[{\"id\":1,\"name\":\"국내도서\",\"childrenList\":"
+				+ "[{\"id\":2,\"name\":\"소설\",\"childrenList\":[]}]}]}");
+	}
+
+	@Test
+	void evictTest() {
+		categoryTreeCacheService.readCategories(loader);
+		categoryTreeCacheService.evict();
+		categoryTreeCacheService.readCategories(loader);
+
+		assertThat(loadCount.get()).isEqualTo(2);
+		assertThat(meterRegistry.get("cache.version").gauge().value()).isEqualTo(1.0);
+	}
+
+	@Test
+	void evictWhileLoadingTest() {
+		// 만드는 중에 지워진 트리는 돌려주기만 하고 저장하지 않는다.
+		Supplier<List<CategoryParentWithChildrenResponse>> evictingLoader = () -> {
+			List<CategoryParentWithChildrenResponse> categories = loader.get();
+			categoryTreeCacheService.evict();
+			return categories;
+		};
+		List<CategoryParentWithChildrenResponse> loaded = categoryTreeCacheService.readCategories(evictingLoader);
+		categoryTreeCacheService.readCategories(loader);
+
+		assertThat(loaded).hasSize(1);
+		assertThat(loadCount.get()).isEqualTo(2);
+	}
+
+	@Test
+	void ttlTest() {
+		categoryTreeCacheService = new CategoryTreeCacheServiceImpl(new ObjectMapper(), new SimpleMeterRegistry(),
+			Duration.ZERO);
+		categoryTreeCacheService.readCategories(loader);
+		categoryTreeCacheService.readCategories(loader);
+
+		assertThat(loadCount.get()).isEqualTo(2);
+	}
+}
@@ -0,0 +1,122 @@
+package com.nhnacademy.bookstore.global.elastic.book.bulk;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
+
+/**
+ * BookBulkSerializer 와 이전 StringBuilder 방식의 bulk 본문 생성 비교.
+ * 테스트 실행에는 포함되지 않고, test classpath 로 main 을 실행해서 측정합니다.
+ *
+ * @author 한민기
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookBulkSerializerBenchmark {
+	@Param({"1", "100"})
+	private int batchSize;
+
+	private final BookBulkSerializer bookBulkSerializer = new BookBulkSerializer();
+	private List<BookDocument> documents;
+
+	@Setup
+	public void setUp() {
+		documents = IntStream.range(0, batchSize)
+			.mapToObj(i -> new BookDocument(i, "도서 제목 " + i, "작가 " + i, i + "_thumbnail.png", "출판사",
+				List.of("태그1", "태그2", "태그3"), List.of("소설", "국내도서"), 15000, 13500))
+			.toList();
+	}
+
+	@Benchmark
+	public void stringBuilder(Blackhole blackhole) {
+		StringBuilder bulk = new StringBuilder();
+		for (BookDocument document : documents) {
+			bulk.append(" {\"index\": {\"_index\": \"3runner_book_alias\", \"_id\": \"")
+				.append(document.getId())
+				.append("\"}}\n")
+				.append(legacyBody(document))
+				.append('\n');
+		}
+		blackhole.consume(bulk.toString());
+	}
+
+	@Benchmark
+	public void jsonGeneratorString(Blackhole blackhole) {
+		StringBuilder bulk = new StringBuilder();
+		for (BookDocument document : documents) {
+			bulk.append(bookBulkSerializer.index(document)).append('\n');
+		}
+		blackhole.consume(bulk.toString());
+	}
+
+	@Benchmark
+	public void jsonGeneratorStream(Blackhole blackhole) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		for (BookDocument document : documents) {
+			bookBulkSerializer.writeIndex(BookBulkSerializer.INDEX_NAME, document, out);
+			out.write('\n');
+		}
+		blackhole.consume(out.toByteArray());
+	}
+
+	/**
+	 * 이전 BookRedisRepositoryImpl.bookToBody 와 같은 방식. (이스케이프 없음)
+	 */
+	private String legacyBody(BookDocument document) {
+		StringBuilder body = new StringBuilder();
+		body.append("{\"").append("id").append("\":\"").append(document.getId()).append("\",");
+		body.append("\"").append("title").append("\":\"").append(document.getTitle()).append("\",");
+		body.append("\"").append("author").append("\":\"").append(document.getAuthor()).append("\",");
+		body.append("\"").append("thumbnail").append("\":\"").append(document.getThumbnail()).append("\",");
+		body.append("\"").append("publisher").append("\":\"").append(document.getPublisher()).append("\",");
+		body.append("\"").append("price").append("\":\"").append(document.getPrice()).append("\",");
+		body.append("\"").append("sellingPrice").append("\":\"").append(document.getSellingPrice()).append("\",");
+
+		StringBuilder tags = new StringBuilder();
+		for (String tag : document.getTagList()) {
+			tags.append("\"").append(tag).append("\",");
+		}
+		if (!tags.isEmpty()) {
+			tags.deleteCharAt(tags.length() - 1);
+		}
+		StringBuilder categories = new StringBuilder();
+		for (String category : document.getCategoryList()) {
+			categories.append("\"").append(category).append("\",");
+		}
+		if (!categories.isEmpty()) {
+			categories.deleteCharAt(categories.length() - 1);
+		}
+
+		body.append("\"").append("tagList").append("\":[").append(tags).append("],");
+		body.append("\"").append("categoryList").append("\":[").append(categories).append("]}");
+		return body.toString();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(BookBulkSerializerBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,75 @@
+package com.nhnacademy.bookstore.global.elastic.book.bulk;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
+
+class BookBulkSerializerTest {
+	private final BookBulkSerializer bookBulkSerializer = new BookBulkSerializer();
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private BookDocument document() {
+		return new BookDocument(1L, "say \"hello\"\n", "작가\\", "a_thumbnail.png", "출판사",
+			List.of("태그"), List.of("소설", "국내"), 1000, 900);
+	}
+
+	@Test
+	void indexTest() throws IOException {
+		String[] lines = bookBulkSerializer.index(document()).split("\n");
+
+		assertThat(lines).hasSize(2);
+		JsonNode action = objectMapper.readTree(lines[0]).get("index");
+		assertThat(action.get("_index").asText()).isEqualTo("3runner_book_alias");
+		assertThat(action.get("_id").asText()).isEqualTo("1");
+
+		JsonNode source = objectMapper.readTree(lines[1]);
+		assertThat(source.get("title").asText()).isEqualTo("say \"hello\"\n");
+		assertThat(source.get("author").asText()).isEqualTo("작가\\");
+		assertThat(source.get("price").asInt()).isEqualTo(1000);
+		assertThat(source.get("categoryList").size()).isEqualTo(2);
+	}
+
+	@Test
+	void index_shouldWriteNullAndEmptyValues() throws IOException {
+		BookDocument document = new BookDocument(2L, "title", null, null, null, null, List.of(), 0, 0);
+
+		JsonNode source = objectMapper.readTree(bookBulkSerializer.index(document).split("\n")[1]);
+
+		assertThat(source.get("thumbnail").isNull()).isTrue();
+		assertThat(source.get("tagList").isEmpty()).isTrue();
+	}
+
+	@Test
+	void deleteTest() {
+		assertThat(bookBulkSerializer.delete(3L))
+			.isEqualTo("{\"delete\":{\"_index\":\"3runner_book_alias\",\"_id\":\"3\"}}\n");
+	}
+
+	@Test
+	void writeIndexTest() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		bookBulkSerializer.writeIndex("books_v2", document(), out);
+
+		String body = out.toString(StandardCharsets.UTF_8);
+		assertThat(body).startsWith("{\"index\":{\"_index\":\"books_v2\",\"_id\":\"1\"}}\n");
+		assertThat(bookBulkSerializer.index(document())).endsWith(body.substring(body.indexOf('\n')));
+	}
+
+	@Test
+	void sourceTest() throws IOException {
+		String source = BookBulkSerializer.source(bookBulkSerializer.index(document()));
+
+		assertThat(objectMapper.readTree(source).get("id").asLong()).isEqualTo(1L);
+		assertThat(BookBulkSerializer.source(bookBulkSerializer.delete(1L))).isNull();
+	}
+}
@@ -0,0 +1,34 @@
+package com.nhnacademy.bookstore.global.elastic.book.dto.request;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.nhnacademy.bookstore.book.book.exception.InvalidBookCursorException;
+
+class BookSearchCursorTest {
+
+	@Test
+	void encodeDecodeTest() {
+		BookSearchCursor cursor = BookSearchCursor.of("46ToAwMDaWR5BXV1aWQy==", List.of(12.5, "10"));
+
+		BookSearchCursor decoded = BookSearchCursor.decode(cursor.encode());
+
+		assertThat(decoded).isEqualTo(cursor);
+		assertThat(decoded.searchAfter()).containsExactly(12.5, "10");
+	}
+
+	@Test
+	void decodeExceptionTest() {
+		assertThatThrownBy(() -> BookSearchCursor.decode("!!!"))
+			.isInstanceOf(InvalidBookCursorException.class);
+		// "pit,abc,1" : 점수가 숫자가 아니다.
+		assertThatThrownBy(() -> BookSearchCursor.decode("cGl0LGFiYywx"))
+			.isInstanceOf(InvalidBookCursorException.class);
+		// "pit" : 정렬 값이 없다.
+		assertThatThrownBy(() -> BookSearchCursor.decode("cGl0"))
+			.isInstanceOf(InvalidBookCursorException.class);
+	}
+}
@@ -0,0 +1,94 @@
+package com.nhnacademy.bookstore.global.elastic.book.indexer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import com.nhnacademy.bookstore.book.book.dto.response.BookIndexChangeResponse;
+import com.nhnacademy.bookstore.book.book.repository.BookRedisRepository;
+import com.nhnacademy.bookstore.global.elastic.book.bulk.BookBulkSerializer;
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
+import com.nhnacademy.bookstore.global.elastic.support.ElasticsearchStubServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 실제 클라이언트로 bulk 요청을 보내 부분 실패 응답을 읽고 거절된 문서만 다시 보내는지 봅니다.
+ */
+class BookBulkIndexerHttpTest {
+	private static final String SUCCESS_ITEM = "{\"index\":{\"_index\":\"books\",\"_id\":\"%s\",\"_version\":1,"
+		+ "\"result\":\"created\",\"_shards\":{\"total\":1,\"successful\":1,\"failed\":0},"
+		+ "\"_seq_no\":0,\"_primary_term\":1,\"status\":201}}";
+	private static final String REJECTED_ITEM = "{\"index\":{\"_index\":\"books\",\"_id\":\"%s\",\"status\":429,"
+		+ "\"error\":{\"type\":\"es_rejected_execution_exception\",\"reason\":\"rejected\"}}}";
+
+	private final BookBulkSerializer bookBulkSerializer = new BookBulkSerializer();
+	private final BookRedisRepository bookRedisRepository = mock(BookRedisRepository.class);
+	private final List<String> bulkBodies = new CopyOnWriteArrayList<>();
+	private final AtomicInteger requests = new AtomicInteger();
+
+	private ElasticsearchStubServer server;
+	private BookBulkIndexer bookBulkIndexer;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = ElasticsearchStubServer.start(this::handle);
+		bookBulkIndexer = new BookBulkIndexer(bookRedisRepository, server.template(), new SimpleMeterRegistry(),
+			"books", 10, DataSize.ofMegabytes(1), 1, 2, Duration.ofMillis(1));
+	}
+
+	@AfterEach
+	void tearDown() {
+		bookBulkIndexer.shutdown();
+		server.close();
+	}
+
+	/**
+	 * 첫 bulk 요청에서는 두 번째 문서를 거절하고, 그 뒤로는 모두 받아줍니다.
+	 */
+	private ElasticsearchStubServer.Response handle(String method, String path, String body) {
+		if (!path.endsWith("_bulk")) {
+			return ElasticsearchStubServer.Response.ok("{}");
+		}
+		bulkBodies.add(body);
+		boolean first = requests.getAndIncrement() == 0;
+		List<String> ids = body.lines()
+			.filter(line -> line.startsWith("{\"index\""))
+			.map(line -> line.replaceAll(".*\"_id\":\"(\\d+)\".*", "$1"))
+			.toList();
+		StringBuilder items = new StringBuilder();
+		for (int i = 0; i < ids.size(); i++) {
+			boolean rejected = first && i == 1;
+			items.append(i == 0 ? "" : ",").append(String.format(rejected ? REJECTED_ITEM : SUCCESS_ITEM, ids.get(i)));
+		}
+		return ElasticsearchStubServer.Response.ok("{\"took\":1,\"errors\":" + first + ",\"items\":[" + items + "]}");
+	}
+
+	private BookIndexChangeResponse index(long bookId) {
+		BookDocument document = new BookDocument(bookId, "제목 " + bookId, "author", "a_thumbnail.png",
+			"publisher", List.of("태그"), List.of("소설"), 1000, 900);
+		return new BookIndexChangeResponse(bookId, bookId, bookBulkSerializer.index(document));
+	}
+
+	@Test
+	void retryRejectedDocumentTest() {
+		List<BookIndexChangeResponse> changes = List.of(index(1L), index(2L));
+
+		List<BookIndexChangeResponse> indexed = bookBulkIndexer.send(changes);
+
+		assertThat(indexed).containsExactlyInAnyOrderElementsOf(changes);
+		assertThat(bulkBodies).hasSize(2);
+		assertThat(bulkBodies.get(0)).contains("\"_id\":\"1\"", "\"_id\":\"2\"", "제목 1");
+		assertThat(bulkBodies.get(1)).contains("\"_id\":\"2\"").doesNotContain("\"_id\":\"1\"");
+	}
+}
@@ -0,0 +1,148 @@
+package com.nhnacademy.bookstore.global.elastic.book.indexer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.DeleteQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.StringQuery;
+import org.springframework.util.unit.DataSize;
+
+import com.nhnacademy.bookstore.book.book.dto.response.BookIndexChangeResponse;
+import com.nhnacademy.bookstore.book.book.repository.BookRedisRepository;
+import com.nhnacademy.bookstore.global.elastic.book.bulk.BookBulkSerializer;
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class BookBulkIndexerTest {
+	@Mock
+	private BookRedisRepository bookRedisRepository;
+	@Mock
+	private ElasticsearchOperations elasticsearchOperations;
+
+	private final BookBulkSerializer bookBulkSerializer = new BookBulkSerializer();
+	private SimpleMeterRegistry meterRegistry;
+	private BookBulkIndexer bookBulkIndexer;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		bookBulkIndexer = new BookBulkIndexer(bookRedisRepository, elasticsearchOperations, meterRegistry,
+			"books", 2, DataSize.ofKilobytes(1), 2, 2, Duration.ofMillis(1));
+	}
+
+	@AfterEach
+	void tearDown() {
+		bookBulkIndexer.shutdown();
+	}
+
+	private BookIndexChangeResponse index(long bookId, long sequence) {
+		BookDocument document = new BookDocument(bookId, "title " + bookId, "author", "a_thumbnail.png",
+			"publisher", List.of(), List.of(), 1000, 900);
+		return new BookIndexChangeResponse(bookId, sequence, bookBulkSerializer.index(document));
+	}
+
+	private BookIndexChangeResponse delete(long bookId, long sequence) {
+		return new BookIndexChangeResponse(bookId, sequence, bookBulkSerializer.delete(bookId));
+	}
+
+	@Test
+	void splitByCountAndBytesTest() {
+		BookIndexChangeResponse large = new BookIndexChangeResponse(9L, 9L, "가".repeat(400));
+
+		List<List<BookIndexChangeResponse>> batches = bookBulkIndexer.split(
+			List.of(index(1L, 1L), index(2L, 2L), index(3L, 3L), large, index(4L, 4L)));
+
+		assertThat(batches).extracting(List::size).containsExactly(2, 1, 1, 1);
+		assertThat(batches.get(2)).containsExactly(large);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void drainTest() {
+		List<BookIndexChangeResponse> changes = List.of(index(1L, 1L), delete(2L, 2L));
+		when(bookRedisRepository.readChanges(4)).thenReturn(changes);
+
+		bookBulkIndexer.drain();
+
+		ArgumentCaptor<List<IndexQuery>> queries = ArgumentCaptor.forClass(List.class);
+		verify(elasticsearchOperations).bulkIndex(queries.capture(), eq(IndexCoordinates.of("books")));
+		assertThat(queries.getValue()).extracting(IndexQuery::getId).containsExactly("1");
+		assertThat(queries.getValue().getFirst().getSource()).contains("\"title\":\"title 1\"");
+
+		ArgumentCaptor<DeleteQuery> deleteQuery = ArgumentCaptor.forClass(DeleteQuery.class);
+		verify(elasticsearchOperations).delete(deleteQuery.capture(), eq(BookDocument.class),
+			eq(IndexCoordinates.of("books")));
+		assertThat(((StringQuery)deleteQuery.getValue().getQuery()).getSource()).contains("\"2\"");
+
+		verify(bookRedisRepository).removeChanges(changes);
+		assertThat(meterRegistry.counter("bookstore.book.index.indexed", "result", "success").count())
+			.isEqualTo(2.0);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void retryPartialFailureTest() {
+		BulkFailureException failure = mock(BulkFailureException.class);
+		doReturn(Map.of("2", "rejected")).when(failure).getFailedDocuments();
+		when(elasticsearchOperations.bulkIndex(anyList(), any(IndexCoordinates.class)))
+			.thenThrow(failure)
+			.thenReturn(List.of());
+
+		List<BookIndexChangeResponse> indexed = bookBulkIndexer.send(List.of(index(1L, 1L), index(2L, 2L)));
+
+		assertThat(indexed).extracting(BookIndexChangeResponse::bookId).containsExactly(1L, 2L);
+		ArgumentCaptor<List<IndexQuery>> queries = ArgumentCaptor.forClass(List.class);
+		verify(elasticsearchOperations, times(2)).bulkIndex(queries.capture(), any(IndexCoordinates.class));
+		assertThat(queries.getAllValues().get(1)).extracting(IndexQuery::getId).containsExactly("2");
+		assertThat(meterRegistry.counter("bookstore.book.index.retries").count()).isEqualTo(1.0);
+	}
+
+	@Test
+	void keepFailedChangesTest() {
+		List<BookIndexChangeResponse> changes = List.of(index(1L, 1L));
+		when(bookRedisRepository.readChanges(4)).thenReturn(changes);
+		when(elasticsearchOperations.bulkIndex(anyList(), any(IndexCoordinates.class)))
+			.thenThrow(new IllegalStateException("unavailable"));
+		when(bookRedisRepository.countChanges()).thenReturn(1L);
+		when(bookRedisRepository.readOldestChangeTime())
+			.thenReturn(OptionalLong.of(System.currentTimeMillis() - 5000));
+
+		bookBulkIndexer.drain();
+
+		verify(elasticsearchOperations, times(3)).bulkIndex(anyList(), any(IndexCoordinates.class));
+		verify(bookRedisRepository).removeChanges(List.of());
+		assertThat(meterRegistry.counter("bookstore.book.index.indexed", "result", "failure").count())
+			.isEqualTo(1.0);
+		assertThat(meterRegistry.get("bookstore.book.index.pending").gauge().value()).isEqualTo(1.0);
+		assertThat(meterRegistry.get("bookstore.book.index.lag").gauge().value()).isBetween(5.0, 60.0);
+	}
+
+	@Test
+	void noLagWhenCaughtUpTest() {
+		when(bookRedisRepository.readChanges(4)).thenReturn(List.of());
+		when(bookRedisRepository.readOldestChangeTime()).thenReturn(OptionalLong.empty());
+
+		bookBulkIndexer.drain();
+
+		assertThat(meterRegistry.get("bookstore.book.index.lag").gauge().value()).isZero();
+	}
+}
@@ -0,0 +1,204 @@
+package com.nhnacademy.bookstore.global.elastic.book.repository.impl;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.ResourceNotFoundException;
+
+import com.nhnacademy.bookstore.book.book.exception.InvalidBookCursorException;
+import com.nhnacademy.bookstore.global.elastic.book.dto.request.BookSearchCursor;
+import com.nhnacademy.bookstore.global.elastic.book.dto.request.BookSearchFilterRequest;
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookFacetResponse;
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookFacetSearchResponse;
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookPriceFacetResponse;
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookSearchCursorResponse;
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
+import com.nhnacademy.bookstore.global.elastic.support.ElasticsearchStubServer;
+
+/**
+ * 실제 클라이언트로 검색 요청을 보내 facet, 가격 매핑, point in time 커서를 주고받는 방식을 봅니다.
+ */
+class ElasticSearchCustomBookRepositoryImplHttpTest {
+	private static final String FACET_RESPONSE = "{\"took\":1,\"timed_out\":false,"
+		+ "\"_shards\":{\"total\":1,\"successful\":1,\"skipped\":0,\"failed\":0},"
+		+ "\"hits\":{\"total\":{\"value\":1,\"relation\":\"eq\"},\"max_score\":1.0,\"hits\":["
+		+ "{\"_index\":\"3runner_book_v1\",\"_id\":\"1\",\"_score\":1.0,\"_source\":{\"id\":1,\"title\":\"해리 포터\","
+		+ "\"price\":15000,\"sellingPrice\":13500,\"categoryList\":[\"소설\"],\"tagList\":[\"마법\"]}}]},"
+		+ "\"aggregations\":{"
+		+ "\"sterms#categories\":{\"doc_count_error_upper_bound\":0,\"sum_other_doc_count\":0,"
+		+ "\"buckets\":[{\"key\":\"소설\",\"doc_count\":1}]},"
+		+ "\"sterms#tags\":{\"doc_count_error_upper_bound\":0,\"sum_other_doc_count\":0,"
+		+ "\"buckets\":[{\"key\":\"마법\",\"doc_count\":1}]},"
+		+ "\"sterms#publishers\":{\"doc_count_error_upper_bound\":0,\"sum_other_doc_count\":0,\"buckets\":[]},"
+		+ "\"histogram#prices\":{\"buckets\":[{\"key\":10000.0,\"doc_count\":1}]}}}";
+	private static final String CURSOR_RESPONSE = "{\"took\":1,\"timed_out\":false,\"pit_id\":\"pit-2\","
+		+ "\"_shards\":{\"total\":1,\"successful\":1,\"skipped\":0,\"failed\":0},"
+		+ "\"hits\":{\"max_score\":null,\"hits\":["
+		+ "{\"_index\":\"3runner_book_v1\",\"_id\":\"1\",\"_score\":2.5,\"_source\":{\"id\":1,\"title\":\"해리 포터\"},"
+		+ "\"sort\":[2.5,\"1\"]},"
+		+ "{\"_index\":\"3runner_book_v1\",\"_id\":\"2\",\"_score\":1.5,\"_source\":{\"id\":2,\"title\":\"해리 포터 2\"},"
+		+ "\"sort\":[1.5,\"2\"]}]}}";
+
+	private static final String PIT_MISSING_RESPONSE = "{\"error\":{\"root_cause\":[{\"type\":"
+		+ "\"search_context_missing_exception\",\"reason\":\"No search context found for id [1]\"}],"
+		+ "\"type\":\"search_phase_execution_exception\",\"reason\":\"all shards failed\",\"phase\":\"query\","
+		+ "\"grouped\":true,\"failed_shards\":[]},\"status\":404}";
+	private static final String MAPPING_RESPONSE = "{\"3runner_book_v1\":{\"mappings\":{\"properties\":{"
+		+ "\"title\":{\"type\":\"text\"},\"sellingPrice\":{\"type\":\"%s\"}}}}}";
+
+	private final List<String> requests = new CopyOnWriteArrayList<>();
+	private final List<String> searchBodies = new CopyOnWriteArrayList<>();
+	private volatile String searchResponse = FACET_RESPONSE;
+	private volatile String priceType = "integer";
+	private volatile int mappingStatus = 200;
+	private volatile int searchStatus = 200;
+
+	private ElasticsearchStubServer server;
+	private ElasticSearchCustomBookRepositoryImpl repository;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = ElasticsearchStubServer.start(this::handle);
+		repository = new ElasticSearchCustomBookRepositoryImpl(server.template());
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.close();
+	}
+
+	private ElasticsearchStubServer.Response handle(String method, String path, String body) {
+		requests.add(method + " " + path);
+		String response = searchResponse;
+		int status = 200;
+		if (path.endsWith("_pit")) {
+			response = "DELETE".equals(method) ? "{\"succeeded\":true,\"num_freed\":1}" : "{\"id\":\"pit-1\"}";
+		} else if (path.endsWith("_mapping")) {
+			// 별칭으로 물으면 elastic search 는 별칭이 가리키는 색인 이름으로 답한다.
+			response = MAPPING_RESPONSE.formatted(priceType);
+			status = mappingStatus;
+			if (status != 200) {
+				response = "{\"error\":{\"type\":\"cluster_block_exception\",\"reason\":\"blocked\"},\"status\":"
+					+ status + "}";
+			}
+		} else {
+			searchBodies.add(body);
+			status = searchStatus;
+		}
+		return new ElasticsearchStubServer.Response(status, response);
+	}
+
+	@Test
+	void searchWithFacetsTest() {
+		BookSearchFilterRequest filter = new BookSearchFilterRequest(List.of("소설"), List.of("마법"), null, 10000,
+			20000);
+
+		BookFacetSearchResponse response = repository.searchWithFacets("해리", filter, PageRequest.of(0, 12));
+
+		assertThat(response.books().getTotalElements()).isEqualTo(1);
+		assertThat(response.books().getContent().getFirst().getTitle()).isEqualTo("해리 포터");
+		assertThat(response.categories()).containsExactly(new BookFacetResponse("소설", 1));
+		assertThat(response.tags()).containsExactly(new BookFacetResponse("마법", 1));
+		assertThat(response.publishers()).isEmpty();
+		assertThat(response.prices()).containsExactly(new BookPriceFacetResponse(10000, 20000, 1));
+
+		// 필터는 점수를 매기지 않는 filter 절로 보낸다.
+		assertThat(searchBodies).hasSize(1);
+		assertThat(searchBodies.getFirst())
+			.contains("\"filter\":[", "\"categoryList\":[\"소설\"]", "\"tagList.keyword\":[\"마법\"]")
+			.contains("\"gte\":10000", "\"lt\":20000")
+			.contains("\"histogram\":{\"field\":\"sellingPrice\"");
+
+		// 가격 매핑은 한 번 읽으면 한동안 다시 읽지 않는다.
+		repository.searchWithFacets("해리", filter, PageRequest.of(0, 12));
+		assertThat(requests).containsExactly("GET /3runner_book_alias/_mapping", "POST /3runner_book_alias/_search",
+			"POST /3runner_book_alias/_search");
+	}
+
+	@Test
+	void searchWithFacetsKeywordPriceTest() {
+		// 재색인 전의 색인은 sellingPrice 가 keyword 라서 histogram 을 보내면 400 으로 실패한다.
+		priceType = "keyword";
+		BookSearchFilterRequest filter = new BookSearchFilterRequest(null, null, null, null, null);
+
+		BookFacetSearchResponse response = repository.searchWithFacets("해리", filter, PageRequest.of(0, 12));
+
+		assertThat(response.categories()).containsExactly(new BookFacetResponse("소설", 1));
+		assertThat(searchBodies.getFirst()).contains("\"categories\":{\"terms\"")
+			.doesNotContain("histogram");
+	}
+
+	@Test
+	void searchWithFacetsMappingFailureTest() {
+		mappingStatus = 503;
+		BookSearchFilterRequest filter = new BookSearchFilterRequest(null, null, null, null, null);
+
+		BookFacetSearchResponse response = repository.searchWithFacets("해리", filter, PageRequest.of(0, 12));
+		repository.searchWithFacets("해리", filter, PageRequest.of(0, 12));
+
+		// 매핑을 읽지 못하면 가격 구간만 빼고 검색하고, 다음 검색에서 다시 읽는다.
+		assertThat(response.books().getTotalElements()).isEqualTo(1);
+		assertThat(searchBodies).allSatisfy(body -> assertThat(body).doesNotContain("histogram"));
+		assertThat(requests).filteredOn(request -> request.endsWith("_mapping")).hasSize(2);
+	}
+
+	@Test
+	void searchByCursorFirstPageTest() {
+		searchResponse = CURSOR_RESPONSE;
+
+		BookSearchCursorResponse response = repository.searchByCursor("해리", null, 1);
+
+		assertThat(response.content()).extracting(BookDocument::getId).containsExactly(1L);
+		assertThat(response.hasNext()).isTrue();
+		assertThat(BookSearchCursor.decode(response.nextCursor()))
+			.isEqualTo(new BookSearchCursor("pit-2", 2.5, "1"));
+
+		// point in time 으로 검색하므로 색인 이름 없이 보내고, 다음 페이지가 있으니 닫지 않는다.
+		assertThat(requests).containsExactly("POST /3runner_book_alias/_pit", "POST /_search");
+		assertThat(searchBodies.getFirst()).contains("\"pit\":{\"id\":\"pit-1\"", "\"size\":2")
+			.doesNotContain("search_after");
+	}
+
+	@Test
+	void searchByCursorLastPageTest() {
+		searchResponse = CURSOR_RESPONSE;
+
+		BookSearchCursorResponse response = repository.searchByCursor("해리",
+			new BookSearchCursor("pit-1", 3.0, "7"), 2);
+
+		assertThat(response.content()).hasSize(2);
+		assertThat(response.hasNext()).isFalse();
+		assertThat(response.nextCursor()).isNull();
+		assertThat(requests).containsExactly("POST /_search", "DELETE /_pit");
+		assertThat(searchBodies.getFirst()).contains("\"search_after\":[3.0,\"7\"]");
+	}
+
+	@Test
+	void searchByCursorExpiredTest() {
+		searchResponse = PIT_MISSING_RESPONSE;
+		searchStatus = 404;
+
+		// keep alive 가 지나 point in time 이 지워졌으면 처음부터 다시 검색하라고 알린다.
+		assertThatThrownBy(() -> repository.searchByCursor("해리", new BookSearchCursor("pit-1", 3.0, "7"), 2))
+			.isInstanceOf(InvalidBookCursorException.class);
+		assertThat(requests).containsExactly("POST /_search");
+	}
+
+	@Test
+	void searchByCursorFirstPageNotFoundTest() {
+		searchResponse = PIT_MISSING_RESPONSE;
+		searchStatus = 404;
+
+		// 첫 페이지의 404 는 커서 문제가 아니므로 그대로 던지고, 연 point in time 은 닫는다.
+		assertThatThrownBy(() -> repository.searchByCursor("해리", null, 2))
+			.isInstanceOf(ResourceNotFoundException.class);
+		assertThat(requests).containsExactly("POST /3runner_book_alias/_pit", "POST /_search", "DELETE /_pit");
+	}
+}
@@ -0,0 +1,120 @@
+package com.nhnacademy.bookstore.global.elastic.book.service.impl;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.book.bookindex.repository.BookIndexOutboxRepository;
+import com.nhnacademy.bookstore.entity.bookindexoutbox.BookIndexOutbox;
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class BookLocalSearchServiceImplTest {
+	@Mock
+	private BookRepository bookRepository;
+	@Mock
+	private BookIndexOutboxRepository bookIndexOutboxRepository;
+
+	private BookLocalSearchServiceImpl bookLocalSearchService;
+
+	private final BookDocument harry = new BookDocument(1L, "해리 포터와 마법사의 돌", "J.K. 롤링", "a_thumbnail.png",
+		"문학수첩", List.of("판타지"), List.of("소설"), 10000, 9000);
+	private final BookDocument java = new BookDocument(2L, "자바의 정석", "남궁성", "b_thumbnail.png", "도우출판",
+		List.of("프로그래밍"), List.of("IT"), 30000, 27000);
+
+	@BeforeEach
+	void setUp() {
+		bookLocalSearchService = new BookLocalSearchServiceImpl(bookRepository, bookIndexOutboxRepository,
+			new SimpleMeterRegistry(), 1);
+	}
+
+	private void build() {
+		when(bookIndexOutboxRepository.findTopByOrderByIdDesc()).thenReturn(Optional.empty());
+		when(bookRepository.readBookIdsAfter(0, 1)).thenReturn(List.of(1L));
+		when(bookRepository.readBookIdsAfter(1, 1)).thenReturn(List.of(2L));
+		when(bookRepository.readBookIdsAfter(2, 1)).thenReturn(List.of());
+		when(bookRepository.readBookDocuments(List.of(1L))).thenReturn(List.of(harry));
+		when(bookRepository.readBookDocuments(List.of(2L))).thenReturn(List.of(java));
+		bookLocalSearchService.rebuild();
+	}
+
+	@Test
+	void tokenizeTest() {
+		assertThat(BookLocalSearchServiceImpl.tokenize("해리 포터!")).containsExactly("해리", "포터");
+		assertThat(BookLocalSearchServiceImpl.tokenize("C 언어")).containsExactly("c", "언어");
+		assertThat(BookLocalSearchServiceImpl.tokenize("Java")).containsExactly("ja", "av", "va");
+		assertThat(BookLocalSearchServiceImpl.tokenize(null)).isEmpty();
+	}
+
+	@Test
+	void notReadyTest() {
+		assertThat(bookLocalSearchService.isReady()).isFalse();
+		assertThat(bookLocalSearchService.search("해리", PageRequest.of(0, 10))).isEmpty();
+	}
+
+	@Test
+	void searchTest() {
+		build();
+
+		assertThat(bookLocalSearchService.isReady()).isTrue();
+		assertThat(bookLocalSearchService.search("해리포터", PageRequest.of(0, 10)).getContent())
+			.containsExactly(harry);
+		assertThat(bookLocalSearchService.search("정석", PageRequest.of(0, 10)).getContent())
+			.containsExactly(java);
+		assertThat(bookLocalSearchService.search("프로그래밍", PageRequest.of(0, 10)).getContent())
+			.containsExactly(java);
+		assertThat(bookLocalSearchService.search("없는책", PageRequest.of(0, 10))).isEmpty();
+	}
+
+	@Test
+	void pagingTest() {
+		build();
+
+		// 두 조각 중 하나만 맞아도 되므로 (70% 내림) 카테고리로 두 권 모두 찾는다.
+		Page<BookDocument> first = bookLocalSearchService.search("소설 IT", PageRequest.of(0, 1));
+
+		assertThat(first.getTotalElements()).isEqualTo(2);
+		assertThat(first.getContent()).hasSize(1);
+		assertThat(bookLocalSearchService.search("소설 IT", PageRequest.of(1, 1)).getContent()).hasSize(1);
+	}
+
+	@Test
+	void applyChangesTest() {
+		build();
+		BookIndexOutbox updated = mock(BookIndexOutbox.class);
+		when(updated.getBookId()).thenReturn(1L);
+		BookIndexOutbox deleted = mock(BookIndexOutbox.class);
+		when(deleted.getId()).thenReturn(6L);
+		when(deleted.getBookId()).thenReturn(2L);
+		when(bookIndexOutboxRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class)))
+			.thenReturn(List.of(updated, deleted));
+		when(bookIndexOutboxRepository.findByIdGreaterThanOrderByIdAsc(eq(6L), any(Limit.class)))
+			.thenReturn(List.of());
+		BookDocument renamed = new BookDocument(1L, "해리 포터와 비밀의 방", "J.K. 롤링", "a_thumbnail.png",
+			"문학수첩", List.of(), List.of("소설"), 10000, 9000);
+		when(bookRepository.readBookDocuments(Set.of(1L, 2L))).thenReturn(List.of(renamed));
+
+		bookLocalSearchService.applyChanges();
+
+		assertThat(bookLocalSearchService.search("비밀의 방", PageRequest.of(0, 10)).getContent())
+			.containsExactly(renamed);
+		assertThat(bookLocalSearchService.search("마법사", PageRequest.of(0, 10))).isEmpty();
+		assertThat(bookLocalSearchService.search("정석", PageRequest.of(0, 10))).isEmpty();
+	}
+}
@@ -0,0 +1,99 @@
+package com.nhnacademy.bookstore.global.elastic.book.service.impl;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.book.bookindex.repository.BookIndexOutboxRepository;
+import com.nhnacademy.bookstore.entity.bookindexoutbox.BookIndexOutbox;
+
+@ExtendWith(MockitoExtension.class)
+class BookOutboxFollowerTest {
+	@Mock
+	private BookRepository bookRepository;
+	@Mock
+	private BookIndexOutboxRepository bookIndexOutboxRepository;
+
+	private BookOutboxFollower outboxFollower;
+
+	@BeforeEach
+	void setUp() {
+		outboxFollower = new BookOutboxFollower(bookRepository, bookIndexOutboxRepository, 2);
+	}
+
+	private BookIndexOutbox outbox(long id, long bookId) {
+		BookIndexOutbox outbox = mock(BookIndexOutbox.class);
+		lenient().when(outbox.getId()).thenReturn(id);
+		when(outbox.getBookId()).thenReturn(bookId);
+		return outbox;
+	}
+
+	@Test
+	void rebuildTest() {
+		BookIndexOutbox latest = mock(BookIndexOutbox.class);
+		when(latest.getId()).thenReturn(7L);
+		when(bookIndexOutboxRepository.findTopByOrderByIdDesc()).thenReturn(Optional.of(latest));
+		when(bookRepository.readBookIdsAfter(0, 2)).thenReturn(List.of(1L, 2L));
+		when(bookRepository.readBookIdsAfter(2, 2)).thenReturn(List.of(3L));
+		when(bookRepository.readBookIdsAfter(3, 2)).thenReturn(List.of());
+
+		List<Long> read = new ArrayList<>();
+		List<Long> built = outboxFollower.rebuild(read::addAll, () -> read);
+
+		assertThat(built).containsExactly(1L, 2L, 3L);
+
+		// 읽기 전의 마지막 outbox 뒤부터 따라간다.
+		when(bookIndexOutboxRepository.findByIdGreaterThanOrderByIdAsc(7L, Limit.of(2))).thenReturn(List.of());
+		outboxFollower.applyChanges(bookIds -> fail("no changes"));
+	}
+
+	@Test
+	void rebuildFailureKeepsPositionTest() {
+		BookIndexOutbox latest = mock(BookIndexOutbox.class);
+		when(latest.getId()).thenReturn(7L);
+		when(bookIndexOutboxRepository.findTopByOrderByIdDesc()).thenReturn(Optional.of(latest));
+		when(bookRepository.readBookIdsAfter(0, 2)).thenReturn(List.of());
+
+		assertThatThrownBy(() -> outboxFollower.rebuild(bookIds -> {
+		}, () -> {
+			throw new IllegalStateException("build failed");
+		})).isInstanceOf(IllegalStateException.class);
+
+		when(bookIndexOutboxRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2))).thenReturn(List.of());
+		outboxFollower.applyChanges(bookIds -> fail("no changes"));
+	}
+
+	@Test
+	void applyChangesTest() {
+		List<BookIndexOutbox> first = List.of(outbox(1L, 10L), outbox(2L, 10L));
+		List<BookIndexOutbox> second = List.of(outbox(3L, 20L));
+		when(bookIndexOutboxRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2))).thenReturn(first);
+		when(bookIndexOutboxRepository.findByIdGreaterThanOrderByIdAsc(2L, Limit.of(2))).thenReturn(second);
+
+		// 두 번째 chunk 를 반영하다 실패하면 다음에는 그 chunk 부터 다시 읽는다.
+		List<Set<Long>> applied = new ArrayList<>();
+		assertThatThrownBy(() -> outboxFollower.applyChanges(bookIds -> {
+			if (bookIds.contains(20L)) {
+				throw new IllegalStateException("db down");
+			}
+			applied.add(Set.copyOf(bookIds));
+		})).isInstanceOf(IllegalStateException.class);
+		assertThat(applied).containsExactly(Set.of(10L));
+
+		when(bookIndexOutboxRepository.findByIdGreaterThanOrderByIdAsc(3L, Limit.of(2))).thenReturn(List.of());
+		outboxFollower.applyChanges(bookIds -> applied.add(Set.copyOf(bookIds)));
+		assertThat(applied).containsExactly(Set.of(10L), Set.of(20L));
+	}
+}
@@ -0,0 +1,223 @@
+package com.nhnacademy.bookstore.global.elastic.book.service.impl;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.nhnacademy.bookstore.book.book.repository.BookRedisRepository;
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BookSearchCacheServiceImplTest {
+	private final BookRedisRepository bookRedisRepository = mock(BookRedisRepository.class);
+	private final AtomicInteger searches = new AtomicInteger();
+	private SimpleMeterRegistry meterRegistry;
+	private BookSearchCacheServiceImpl bookSearchCacheService;
+
+	private final BiFunction<String, Pageable, Page<BookDocument>> loader = (keyword, pageable) -> {
+		searches.incrementAndGet();
+		return new PageImpl<>(List.of(new BookDocument()), pageable, 1);
+	};
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		bookSearchCacheService = new BookSearchCacheServiceImpl(bookRedisRepository, meterRegistry, 10,
+			Duration.ofMinutes(1));
+	}
+
+	@Test
+	void normalizeTest() {
+		assertThat(BookSearchCacheServiceImpl.normalize("  해리   포터\t")).isEqualTo("해리 포터");
+		// 자모로 나뉜 한글(NFD)도 같은 키워드가 된다.
+		assertThat(BookSearchCacheServiceImpl.normalize("\u1112\u1161\u11AB")).isEqualTo("\uD55C");
+		assertThat(BookSearchCacheServiceImpl.normalize("Java")).isEqualTo("Java");
+	}
+
+	@Test
+	void cacheByNormalizedKeywordTest() {
+		bookSearchCacheService.search("해리 포터", PageRequest.of(0, 12), loader);
+		bookSearchCacheService.search(" 해리  포터 ", PageRequest.of(0, 12), loader);
+		bookSearchCacheService.search("해리 포터", PageRequest.of(1, 12), loader);
+
+		assertThat(searches.get()).isEqualTo(2);
+		assertThat(meterRegistry.counter("cache.gets", "cache", "bookSearch", "result", "hit").count())
+			.isEqualTo(1.0);
+	}
+
+	@Test
+	void passNormalizedKeywordTest() {
+		bookSearchCacheService.search("  해리   포터 ", PageRequest.of(0, 12), (keyword, pageable) -> {
+			assertThat(keyword).isEqualTo("해리 포터");
+			assertThat(pageable).isEqualTo(PageRequest.of(0, 12));
+			return Page.empty();
+		});
+	}
+
+	@Test
+	void ttlTest() {
+		bookSearchCacheService = new BookSearchCacheServiceImpl(bookRedisRepository, meterRegistry, 10,
+			Duration.ZERO);
+
+		bookSearchCacheService.search("해리", PageRequest.of(0, 12), loader);
+		bookSearchCacheService.search("해리", PageRequest.of(0, 12), loader);
+
+		assertThat(searches.get()).isEqualTo(2);
+	}
+
+	@Test
+	void reloadExtendsTtlTest() throws InterruptedException {
+		bookSearchCacheService = new BookSearchCacheServiceImpl(bookRedisRepository, meterRegistry, 10,
+			Duration.ofMillis(500));
+
+		bookSearchCacheService.search("해리", PageRequest.of(0, 12), loader);
+		Thread.sleep(300);
+		bookSearchCacheService.reload(" 해리 ", PageRequest.of(0, 12), loader);
+		Thread.sleep(300);
+
+		// 처음 저장한 결과의 ttl 은 지났지만 다시 검색해 저장했으므로 캐시에서 꺼낸다.
+		bookSearchCacheService.search("해리", PageRequest.of(0, 12), loader);
+		assertThat(searches.get()).isEqualTo(2);
+		assertThat(meterRegistry.counter("cache.gets", "cache", "bookSearch", "result", "hit").count())
+			.isEqualTo(1.0);
+
+		// 꺼내 쓰는 것으로는 ttl 이 늘어나지 않는다.
+		Thread.sleep(600);
+		bookSearchCacheService.search("해리", PageRequest.of(0, 12), loader);
+		assertThat(searches.get()).isEqualTo(3);
+	}
+
+	@Test
+	void refreshWhenSequenceChangesTest() {
+		when(bookRedisRepository.readSequence()).thenReturn(1L, 1L, 2L);
+		bookSearchCacheService.refresh();
+
+		bookSearchCacheService.search("해리", PageRequest.of(0, 12), loader);
+		bookSearchCacheService.refresh();
+		bookSearchCacheService.search("해리", PageRequest.of(0, 12), loader);
+		assertThat(searches.get()).isEqualTo(1);
+
+		bookSearchCacheService.refresh();
+		bookSearchCacheService.search("해리", PageRequest.of(0, 12), loader);
+		assertThat(searches.get()).isEqualTo(2);
+	}
+
+	@Test
+	void refreshFailureKeepsCacheTest() {
+		when(bookRedisRepository.readSequence()).thenThrow(new IllegalStateException("redis down"));
+
+		bookSearchCacheService.search("해리", PageRequest.of(0, 12), loader);
+		bookSearchCacheService.refresh();
+		bookSearchCacheService.search("해리", PageRequest.of(0, 12), loader);
+
+		assertThat(searches.get()).isEqualTo(1);
+	}
+
+	@Test
+	void coalesceConcurrentSearchesTest() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		BiFunction<String, Pageable, Page<BookDocument>> slowLoader = (keyword, pageable) -> {
+			searches.incrementAndGet();
+			started.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return new PageImpl<>(List.of(new BookDocument()), pageable, 1);
+		};
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			Future<Page<BookDocument>> first = executor.submit(
+				() -> bookSearchCacheService.search("해리", PageRequest.of(0, 12), slowLoader));
+			assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+			List<Future<Page<BookDocument>>> others = List.of(
+				executor.submit(() -> bookSearchCacheService.search("해리", PageRequest.of(0, 12), slowLoader)),
+				executor.submit(() -> bookSearchCacheService.search("해리", PageRequest.of(0, 12), slowLoader)));
+
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (meterRegistry.counter("cache.gets", "cache", "bookSearch", "result", "coalesced").count() < 2
+				&& System.nanoTime() < deadline) {
+				Thread.onSpinWait();
+			}
+			release.countDown();
+
+			Page<BookDocument> result = first.get(5, TimeUnit.SECONDS);
+			for (Future<Page<BookDocument>> other : others) {
+				assertThat(other.get(5, TimeUnit.SECONDS)).isSameAs(result);
+			}
+			assertThat(searches.get()).isEqualTo(1);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void coalescedFailureTest() {
+		assertThatThrownBy(() -> bookSearchCacheService.search("해리", PageRequest.of(0, 12), (keyword, pageable) -> {
+			throw new IllegalStateException("es down");
+		})).isInstanceOf(IllegalStateException.class);
+
+		bookSearchCacheService.search("해리", PageRequest.of(0, 12), loader);
+		assertThat(searches.get()).isEqualTo(1);
+	}
+
+	@Test
+	void coalescedErrorTest() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		BiFunction<String, Pageable, Page<BookDocument>> failingLoader = (keyword, pageable) -> {
+			started.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			throw new StackOverflowError("too deep");
+		};
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<Page<BookDocument>> first = executor.submit(
+				() -> bookSearchCacheService.search("해리", PageRequest.of(0, 12), failingLoader));
+			assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+			Future<Page<BookDocument>> waiter = executor.submit(
+				() -> bookSearchCacheService.search("해리", PageRequest.of(0, 12), failingLoader));
+
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (meterRegistry.counter("cache.gets", "cache", "bookSearch", "result", "coalesced").count() < 1
+				&& System.nanoTime() < deadline) {
+				Thread.onSpinWait();
+			}
+			release.countDown();
+
+			// 기다리던 요청도 막히지 않고 같은 Error 로 끝난다.
+			assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+			assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		bookSearchCacheService.search("해리", PageRequest.of(0, 12), loader);
+		assertThat(searches.get()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,67 @@
+package com.nhnacademy.bookstore.global.elastic.book.service.impl;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import com.nhnacademy.bookstore.book.book.dto.response.BookStockResponse;
+import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
+
+@ExtendWith(MockitoExtension.class)
+class BookSearchHydrationServiceImplTest {
+	@Mock
+	private BookRepository bookRepository;
+	@InjectMocks
+	private BookSearchHydrationServiceImpl bookSearchHydrationService;
+
+	private final BookDocument harry = new BookDocument(1L, "해리 포터", "J.K. 롤링", "old_thumbnail.png", "문학수첩",
+		List.of("마법"), List.of("소설"), 15000, 13500);
+	private final BookDocument deleted = new BookDocument(2L, "지워진 책", "작가", null, "출판사",
+		List.of(), List.of(), 10000, 9000);
+
+	@Test
+	void hydrateTest() {
+		when(bookRepository.readBookStocks(List.of(1L, 2L)))
+			.thenReturn(List.of(new BookStockResponse(1L, 16000, 12000, 3, "new_thumbnail.png")));
+		Page<BookDocument> page = new PageImpl<>(List.of(harry, deleted), PageRequest.of(0, 2), 5);
+
+		Page<BookDocument> hydrated = bookSearchHydrationService.hydrate(page);
+
+		assertThat(hydrated.getContent()).hasSize(1);
+		BookDocument document = hydrated.getContent().getFirst();
+		assertThat(document.getSellingPrice()).isEqualTo(12000);
+		assertThat(document.getPrice()).isEqualTo(16000);
+		assertThat(document.getQuantity()).isEqualTo(3);
+		assertThat(document.getThumbnail()).isEqualTo("new_thumbnail.png");
+		assertThat(document.getTitle()).isEqualTo("해리 포터");
+		assertThat(hydrated.getTotalElements()).isEqualTo(4);
+		// 캐시에 들어 있을 수 있는 원래 문서는 바꾸지 않는다.
+		assertThat(harry.getSellingPrice()).isEqualTo(13500);
+		assertThat(harry.getQuantity()).isNull();
+	}
+
+	@Test
+	void hydrateFailureTest() {
+		when(bookRepository.readBookStocks(anyCollection())).thenThrow(new IllegalStateException("db down"));
+
+		assertThat(bookSearchHydrationService.hydrate(List.of(harry))).containsExactly(harry);
+	}
+
+	@Test
+	void hydrateEmptyTest() {
+		assertThat(bookSearchHydrationService.hydrate(List.<BookDocument>of())).isEmpty();
+		verify(bookRepository, never()).readBookStocks(anyCollection());
+	}
+}
@@ -0,0 +1,245 @@
+package com.nhnacademy.bookstore.global.elastic.book.service.impl;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.ResourceNotFoundException;
+import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
+
+import com.nhnacademy.bookstore.book.book.exception.InvalidBookCursorException;
+import com.nhnacademy.bookstore.global.elastic.book.dto.request.BookSearchCursor;
+import com.nhnacademy.bookstore.global.elastic.book.dto.request.BookSearchFilterRequest;
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookFacetResponse;
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookFacetSearchResponse;
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookSearchCursorResponse;
+import com.nhnacademy.bookstore.global.elastic.book.repository.ElasticSearchBookRepository;
+import com.nhnacademy.bookstore.global.elastic.book.repository.ElasticSearchCustomBookRepository;
+import com.nhnacademy.bookstore.global.elastic.book.service.BookLocalSearchService;
+import com.nhnacademy.bookstore.global.elastic.book.service.BookSearchCacheService;
+import com.nhnacademy.bookstore.global.elastic.book.service.BookSearchHydrationService;
+import com.nhnacademy.bookstore.global.elastic.document.book.BookDocument;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class BookSearchServiceImplTest {
+	@Mock
+	private ElasticSearchBookRepository elasticSearchBookRepository;
+	@Mock
+	private ElasticSearchCustomBookRepository elasticSearchCustomBookRepository;
+	@Mock
+	private BookSearchCacheService bookSearchCacheService;
+	@Mock
+	private BookLocalSearchService bookLocalSearchService;
+	@Mock
+	private BookSearchHydrationService bookSearchHydrationService;
+
+	private SimpleMeterRegistry meterRegistry;
+	private BookSearchServiceImpl bookSearchService;
+
+	private final Pageable pageable = PageRequest.of(0, 12);
+	private final Page<BookDocument> elasticPage = new PageImpl<>(List.of(new BookDocument()));
+	private final Page<BookDocument> localPage = new PageImpl<>(List.of(new BookDocument()));
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		bookSearchService = new BookSearchServiceImpl(elasticSearchBookRepository,
+			elasticSearchCustomBookRepository, bookSearchCacheService, bookLocalSearchService,
+			bookSearchHydrationService, meterRegistry, 2, Duration.ofSeconds(2), Duration.ofMinutes(1));
+		// 캐시는 항상 놓친 것으로 보고 loader 를 그대로 호출한다.
+		lenient().when(bookSearchCacheService.search(anyString(), any(Pageable.class), any(BiFunction.class)))
+			.thenAnswer(invocation -> ((BiFunction<String, Pageable, Page<BookDocument>>)invocation.getArgument(2))
+				.apply(invocation.getArgument(0), invocation.getArgument(1)));
+		// 현재 값 채우기는 받은 결과를 그대로 돌려준다.
+		lenient().when(bookSearchHydrationService.hydrate(any(Page.class)))
+			.thenAnswer(invocation -> invocation.getArgument(0));
+		lenient().when(bookSearchHydrationService.hydrate(anyList()))
+			.thenAnswer(invocation -> invocation.getArgument(0));
+	}
+
+	@Test
+	void searchElasticTest() {
+		when(elasticSearchBookRepository.findByCustomQuery("해리", pageable)).thenReturn(elasticPage);
+
+		assertThat(bookSearchService.search("해리", pageable)).isSameAs(elasticPage);
+		verify(bookLocalSearchService, never()).search(anyString(), any(Pageable.class));
+	}
+
+	@Test
+	void fallbackOnFailureTest() {
+		when(elasticSearchBookRepository.findByCustomQuery("해리", pageable))
+			.thenThrow(new DataAccessResourceFailureException("es down"));
+		when(bookLocalSearchService.isReady()).thenReturn(true);
+		when(bookLocalSearchService.search("해리", pageable)).thenReturn(localPage);
+
+		assertThat(bookSearchService.search("해리", pageable)).isSameAs(localPage);
+		assertThat(meterRegistry.counter("bookstore.book.search.fallback").count()).isEqualTo(1.0);
+	}
+
+	@Test
+	void openCircuitSkipsElasticTest() {
+		when(elasticSearchBookRepository.findByCustomQuery("해리", pageable))
+			.thenThrow(new DataAccessResourceFailureException("es down"));
+		when(bookLocalSearchService.isReady()).thenReturn(true);
+		when(bookLocalSearchService.search("해리", pageable)).thenReturn(localPage);
+
+		bookSearchService.search("해리", pageable);
+		bookSearchService.search("해리", pageable);
+		bookSearchService.search("해리", pageable);
+
+		verify(elasticSearchBookRepository, times(2)).findByCustomQuery("해리", pageable);
+		assertThat(meterRegistry.get("bookstore.book.search.circuit").gauge().value()).isEqualTo(2.0);
+	}
+
+	@Test
+	void badRequestKeepsCircuitClosedTest() {
+		when(elasticSearchBookRepository.findByCustomQuery("해리", pageable))
+			.thenThrow(new UncategorizedElasticsearchException("bad query", 400, "{}", null));
+		when(bookLocalSearchService.isReady()).thenReturn(true);
+		when(bookLocalSearchService.search("해리", pageable)).thenReturn(localPage);
+
+		bookSearchService.search("해리", pageable);
+		bookSearchService.search("해리", pageable);
+		bookSearchService.search("해리", pageable);
+
+		// 잘못된 쿼리는 elastic search 가 답을 한 것이므로 회로를 열지 않는다.
+		verify(elasticSearchBookRepository, times(3)).findByCustomQuery("해리", pageable);
+		assertThat(meterRegistry.get("bookstore.book.search.circuit").gauge().value()).isZero();
+	}
+
+	@Test
+	void isUnavailableTest() {
+		assertThat(BookSearchServiceImpl.isUnavailable(new DataAccessResourceFailureException("connection refused")))
+			.isTrue();
+		assertThat(BookSearchServiceImpl.isUnavailable(new QueryTimeoutException("timeout"))).isTrue();
+		assertThat(BookSearchServiceImpl.isUnavailable(
+			new UncategorizedElasticsearchException("unavailable", 503, "{}", null))).isTrue();
+		assertThat(BookSearchServiceImpl.isUnavailable(
+			new UncategorizedElasticsearchException("bad query", 400, "{}", null))).isFalse();
+		assertThat(BookSearchServiceImpl.isUnavailable(new ResourceNotFoundException("no such index"))).isFalse();
+		assertThat(BookSearchServiceImpl.isUnavailable(new IllegalArgumentException("bad keyword"))).isFalse();
+	}
+
+	@Test
+	void rethrowWhenLocalIndexNotReadyTest() {
+		when(elasticSearchBookRepository.findByCustomQuery("해리", pageable))
+			.thenThrow(new DataAccessResourceFailureException("es down"));
+		when(bookLocalSearchService.isReady()).thenReturn(false);
+
+		assertThatThrownBy(() -> bookSearchService.search("해리", pageable))
+			.isInstanceOf(DataAccessResourceFailureException.class);
+	}
+
+	@Test
+	void searchWithFacetsTest() {
+		BookSearchFilterRequest filter = new BookSearchFilterRequest(List.of("소설"), null, null, 10000, 20000);
+		BookFacetSearchResponse response = BookFacetSearchResponse.builder()
+			.books(elasticPage)
+			.categories(List.of(new BookFacetResponse("소설", 1)))
+			.build();
+		when(elasticSearchCustomBookRepository.searchWithFacets("해리", filter, pageable)).thenReturn(response);
+
+		BookFacetSearchResponse searched = bookSearchService.searchWithFacets("해리", filter, pageable);
+
+		assertThat(searched.books()).isSameAs(elasticPage);
+		assertThat(searched.categories()).isEqualTo(response.categories());
+		verify(bookSearchHydrationService).hydrate(elasticPage);
+	}
+
+	@Test
+	void searchWithFacetsFallbackTest() {
+		BookSearchFilterRequest filter = new BookSearchFilterRequest(null, null, null, null, null);
+		when(elasticSearchCustomBookRepository.searchWithFacets("해리", filter, pageable))
+			.thenThrow(new DataAccessResourceFailureException("es down"));
+		when(bookLocalSearchService.isReady()).thenReturn(true);
+		when(bookLocalSearchService.search("해리", pageable)).thenReturn(localPage);
+
+		BookFacetSearchResponse response = bookSearchService.searchWithFacets("해리", filter, pageable);
+
+		assertThat(response.books()).isSameAs(localPage);
+		assertThat(response.categories()).isEmpty();
+	}
+
+	@Test
+	void searchWithFacetsFilterNotFallbackTest() {
+		BookSearchFilterRequest filter = new BookSearchFilterRequest(null, List.of("마법"), null, null, null);
+		when(elasticSearchCustomBookRepository.searchWithFacets("해리", filter, pageable))
+			.thenThrow(new DataAccessResourceFailureException("es down"));
+
+		assertThatThrownBy(() -> bookSearchService.searchWithFacets("해리", filter, pageable))
+			.isInstanceOf(DataAccessResourceFailureException.class);
+		verify(bookLocalSearchService, never()).search(anyString(), any(Pageable.class));
+	}
+
+	@Test
+	void searchByCursorTest() {
+		BookSearchCursor cursor = new BookSearchCursor("pit-1", 2.5, "1");
+		BookSearchCursorResponse response = BookSearchCursorResponse.builder().content(List.of()).build();
+		when(elasticSearchCustomBookRepository.searchByCursor("해리", null, 12)).thenReturn(response);
+		when(elasticSearchCustomBookRepository.searchByCursor("해리", cursor, 12)).thenReturn(response);
+
+		assertThat(bookSearchService.searchByCursor("해리", null, 12)).isEqualTo(response);
+		assertThat(bookSearchService.searchByCursor("해리", cursor.encode(), 12)).isEqualTo(response);
+	}
+
+	@Test
+	void searchByCursorInvalidTest() {
+		assertThatThrownBy(() -> bookSearchService.searchByCursor("해리", "!!!", 12))
+			.isInstanceOf(InvalidBookCursorException.class);
+		verify(elasticSearchCustomBookRepository, never()).searchByCursor(anyString(), any(), anyInt());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void warmTest() {
+		doAnswer(invocation -> ((BiFunction<String, Pageable, Page<BookDocument>>)invocation.getArgument(2))
+			.apply(invocation.getArgument(0), invocation.getArgument(1)))
+			.when(bookSearchCacheService).reload(anyString(), any(Pageable.class), any(BiFunction.class));
+		Pageable firstPage = PageRequest.of(0, 12);
+		when(elasticSearchBookRepository.findByCustomQuery("해리", firstPage)).thenReturn(elasticPage);
+		when(elasticSearchBookRepository.findByCustomQuery("자바", firstPage))
+			.thenThrow(new DataAccessResourceFailureException("es down"));
+
+		bookSearchService.warm(List.of("해리", "자바", "정석"));
+
+		// 캐시에 있어도 다시 검색하고, 실패하면 남은 키워드는 건너뛴다.
+		verify(bookSearchCacheService, never()).search(anyString(), any(Pageable.class), any(BiFunction.class));
+		verify(elasticSearchBookRepository).findByCustomQuery("해리", firstPage);
+		verify(elasticSearchBookRepository, never()).findByCustomQuery(eq("정석"), any(Pageable.class));
+		verify(bookSearchHydrationService, never()).hydrate(any(Page.class));
+	}
+
+	@Test
+	void searchByCursorExpiredKeepsCircuitClosedTest() {
+		BookSearchCursor cursor = new BookSearchCursor("pit-1", 2.5, "1");
+		when(elasticSearchCustomBookRepository.searchByCursor("해리", cursor, 12))
+			.thenThrow(new InvalidBookCursorException("만료된 커서입니다."));
+
+		for (int i = 0; i < 3; i++) {
+			assertThatThrownBy(() -> bookSearchService.searchByCursor("해리", cursor.encode(), 12))
+				.isInstanceOf(InvalidBookCursorException.class);
+		}
+
+		// 만료된 커서는 elastic search 장애가 아니므로 회로를 열지 않는다.
+		verify(elasticSearchCustomBookRepository, times(3)).searchByCursor("해리", cursor, 12);
+		assertThat(meterRegistry.get("bookstore.book.search.circuit").gauge().value()).isZero();
+	}
+}
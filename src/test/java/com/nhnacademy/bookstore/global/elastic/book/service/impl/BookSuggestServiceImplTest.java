@@ -0,0 +1,210 @@
+package com.nhnacademy.bookstore.global.elastic.book.service.impl;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import com.nhnacademy.bookstore.book.book.dto.response.BookSuggestSourceResponse;
+import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.book.bookindex.repository.BookIndexOutboxRepository;
+import com.nhnacademy.bookstore.entity.bookindexoutbox.BookIndexOutbox;
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookSuggestResponse;
+import com.nhnacademy.bookstore.global.elastic.book.enums.BookSuggestType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class BookSuggestServiceImplTest {
+	@Mock
+	private BookRepository bookRepository;
+	@Mock
+	private BookIndexOutboxRepository bookIndexOutboxRepository;
+
+	private BookSuggestServiceImpl bookSuggestService;
+
+	private final BookSuggestSourceResponse harry = new BookSuggestSourceResponse(1L, "해리 포터와 마법사의 돌",
+		"J.K. 롤링", 100);
+	private final BookSuggestSourceResponse harryChamber = new BookSuggestSourceResponse(2L, "해리 포터와 비밀의 방",
+		"J.K. 롤링", 300);
+	private final BookSuggestSourceResponse java = new BookSuggestSourceResponse(3L, "Java 의 정석", "남궁성", 50);
+
+	@BeforeEach
+	void setUp() {
+		bookSuggestService = new BookSuggestServiceImpl(bookRepository, bookIndexOutboxRepository,
+			new SimpleMeterRegistry(), 2, 20);
+	}
+
+	private void build() {
+		when(bookIndexOutboxRepository.findTopByOrderByIdDesc()).thenReturn(Optional.empty());
+		when(bookRepository.readBookIdsAfter(0, 2)).thenReturn(List.of(1L, 2L));
+		when(bookRepository.readBookIdsAfter(2, 2)).thenReturn(List.of(3L));
+		when(bookRepository.readBookIdsAfter(3, 2)).thenReturn(List.of());
+		when(bookRepository.readBookSuggestSources(List.of(1L, 2L))).thenReturn(List.of(harry, harryChamber));
+		when(bookRepository.readBookSuggestSources(List.of(3L))).thenReturn(List.of(java));
+		bookSuggestService.rebuild();
+	}
+
+	@Test
+	void notReadyTest() {
+		assertThat(bookSuggestService.suggest("해리", 10)).isEmpty();
+	}
+
+	@Test
+	void suggestByViewCountTest() {
+		build();
+
+		assertThat(bookSuggestService.suggest("해리", 10))
+			.extracting(BookSuggestResponse::text)
+			.containsExactly("해리 포터와 비밀의 방", "해리 포터와 마법사의 돌");
+		assertThat(bookSuggestService.suggest("해리", 1)).hasSize(1);
+	}
+
+	@Test
+	void suggestWordStartTest() {
+		build();
+
+		// 제목 중간 단어로 시작해도 찾고, 대소문자와 공백은 무시한다.
+		assertThat(bookSuggestService.suggest("  비밀의   방", 10))
+			.extracting(BookSuggestResponse::text)
+			.containsExactly("해리 포터와 비밀의 방");
+		assertThat(bookSuggestService.suggest("JAVA", 10))
+			.extracting(BookSuggestResponse::bookId)
+			.containsExactly(3L);
+		assertThat(bookSuggestService.suggest("정석", 10)).hasSize(1);
+		assertThat(bookSuggestService.suggest(" ", 10)).isEmpty();
+	}
+
+	@Test
+	void suggestAuthorOnceTest() {
+		build();
+
+		// 같은 작가는 조회수가 가장 많은 도서 하나로 합친다.
+		assertThat(bookSuggestService.suggest("롤링", 10))
+			.containsExactly(new BookSuggestResponse("J.K. 롤링", BookSuggestType.AUTHOR, 2L));
+	}
+
+	@Test
+	void applyChangesTest() {
+		build();
+		BookIndexOutbox renamed = mock(BookIndexOutbox.class);
+		when(renamed.getBookId()).thenReturn(1L);
+		BookIndexOutbox deleted = mock(BookIndexOutbox.class);
+		when(deleted.getId()).thenReturn(6L);
+		when(deleted.getBookId()).thenReturn(3L);
+		when(bookIndexOutboxRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2)))
+			.thenReturn(List.of(renamed, deleted));
+		when(bookIndexOutboxRepository.findByIdGreaterThanOrderByIdAsc(6L, Limit.of(2))).thenReturn(List.of());
+		when(bookRepository.readBookSuggestSources(Set.of(1L, 3L)))
+			.thenReturn(List.of(new BookSuggestSourceResponse(1L, "해리 포터와 불의 잔", "J.K. 롤링", 100)));
+
+		bookSuggestService.applyChanges();
+
+		assertThat(bookSuggestService.suggest("해리", 10))
+			.extracting(BookSuggestResponse::text)
+			.containsExactly("해리 포터와 비밀의 방", "해리 포터와 불의 잔");
+		assertThat(bookSuggestService.suggest("마법사", 10)).isEmpty();
+		assertThat(bookSuggestService.suggest("java", 10)).isEmpty();
+	}
+
+	@Test
+	void suggestShortPrefixTest() {
+		// 짧은 접두어 하나에 키가 많은 경우
+		List<BookSuggestSourceResponse> sources = new ArrayList<>();
+		for (long id = 1; id <= 100; id++) {
+			sources.add(new BookSuggestSourceResponse(id, "해리 " + id, "", (int)id));
+		}
+		// 같은 제목은 조회수가 가장 많은 도서 하나만 남는다.
+		sources.add(new BookSuggestSourceResponse(101L, "해리 100", "", 1));
+		sources.add(new BookSuggestSourceResponse(102L, "java", "", 1000));
+
+		BookSuggestServiceImpl.PrefixIndex index = BookSuggestServiceImpl.PrefixIndex.empty(5)
+			.withChanges(Set.of(), sources);
+
+		assertThat(index.suggest("해", 3))
+			.extracting(BookSuggestResponse::text, BookSuggestResponse::bookId)
+			.containsExactly(tuple("해리 100", 100L), tuple("해리 99", 99L), tuple("해리 98", 98L));
+		assertThat(index.suggest("해리", 10)).hasSize(5);
+		assertThat(index.suggest("해리 1", 2))
+			.extracting(BookSuggestResponse::text)
+			.containsExactly("해리 100", "해리 19");
+		assertThat(index.suggest("ja", 5))
+			.extracting(BookSuggestResponse::text)
+			.containsExactly("java");
+
+		BookSuggestServiceImpl.PrefixIndex changed = index.withChanges(Set.of(100L), List.of());
+		assertThat(changed.suggest("해", 1))
+			.extracting(BookSuggestResponse::text, BookSuggestResponse::bookId)
+			.containsExactly(tuple("해리 99", 99L));
+	}
+
+	@Test
+	void suggestLargeRangeTest() {
+		// 구간이 커도 알파벳 앞쪽 키가 아니라 조회수 순서로 고른다.
+		List<BookSuggestSourceResponse> sources = new ArrayList<>();
+		for (long id = 1; id <= 3000; id++) {
+			sources.add(new BookSuggestSourceResponse(id, String.format("해리 포터 %04d", id), "", (int)id));
+		}
+		sources.add(new BookSuggestSourceResponse(3001L, "해리 포터 9999", "", 1));
+
+		BookSuggestServiceImpl.PrefixIndex index = BookSuggestServiceImpl.PrefixIndex.empty(5)
+			.withChanges(Set.of(), sources);
+
+		assertThat(index.suggest("해리 포터", 3))
+			.extracting(BookSuggestResponse::bookId)
+			.containsExactly(3000L, 2999L, 2998L);
+		assertThat(index.suggest("포터 0", 2))
+			.extracting(BookSuggestResponse::bookId)
+			.containsExactly(999L, 998L);
+		assertThat(index.suggest("해리 포터 9", 5))
+			.extracting(BookSuggestResponse::bookId)
+			.containsExactly(3001L);
+		assertThat(index.suggest("해리 포터 99999", 5)).isEmpty();
+	}
+
+	@Test
+	void applyChangesOnceTest() {
+		build();
+		BookIndexOutbox first = mock(BookIndexOutbox.class);
+		when(first.getBookId()).thenReturn(1L);
+		BookIndexOutbox second = mock(BookIndexOutbox.class);
+		when(second.getId()).thenReturn(2L);
+		when(second.getBookId()).thenReturn(2L);
+		BookIndexOutbox third = mock(BookIndexOutbox.class);
+		when(third.getId()).thenReturn(3L);
+		when(third.getBookId()).thenReturn(1L);
+		when(bookIndexOutboxRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2)))
+			.thenReturn(List.of(first, second));
+		when(bookIndexOutboxRepository.findByIdGreaterThanOrderByIdAsc(2L, Limit.of(2))).thenReturn(List.of(third));
+		when(bookIndexOutboxRepository.findByIdGreaterThanOrderByIdAsc(3L, Limit.of(2))).thenReturn(List.of());
+		when(bookRepository.readBookSuggestSources(Set.of(1L, 2L)))
+			.thenReturn(List.of(new BookSuggestSourceResponse(1L, "해리 포터와 불의 잔", "J.K. 롤링", 100), harryChamber));
+		when(bookRepository.readBookSuggestSources(Set.of(1L)))
+			.thenReturn(List.of(new BookSuggestSourceResponse(1L, "해리 포터와 혼혈 왕자", "J.K. 롤링", 500)));
+
+		bookSuggestService.applyChanges();
+
+		// 두 chunk 에 걸친 같은 도서는 나중에 읽은 것만 남는다.
+		assertThat(bookSuggestService.suggest("해리", 10))
+			.extracting(BookSuggestResponse::text)
+			.containsExactly("해리 포터와 혼혈 왕자", "해리 포터와 비밀의 방");
+		assertThat(bookSuggestService.suggest("불의", 10)).isEmpty();
+	}
+
+	@Test
+	void normalizeTest() {
+		assertThat(BookSuggestServiceImpl.normalize("  Java\t의   정석 ")).isEqualTo("java 의 정석");
+		assertThat(BookSuggestServiceImpl.normalize("한")).isEqualTo("한");
+		assertThat(BookSuggestServiceImpl.normalize(null)).isEmpty();
+	}
+}
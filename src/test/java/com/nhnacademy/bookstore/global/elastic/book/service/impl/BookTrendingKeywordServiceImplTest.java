@@ -0,0 +1,81 @@
+package com.nhnacademy.bookstore.global.elastic.book.service.impl;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookTrendingKeywordResponse;
+import com.nhnacademy.bookstore.global.elastic.book.service.BookSearchService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class BookTrendingKeywordServiceImplTest {
+	@Mock
+	private BookSearchService bookSearchService;
+
+	private BookTrendingKeywordServiceImpl bookTrendingKeywordService;
+
+	@BeforeEach
+	void setUp() {
+		bookTrendingKeywordService = new BookTrendingKeywordServiceImpl(bookSearchService, new SimpleMeterRegistry(),
+			10, 1);
+	}
+
+	@Test
+	void recordTest() {
+		bookTrendingKeywordService.record("해리 포터");
+		bookTrendingKeywordService.record("  해리   포터 ");
+		bookTrendingKeywordService.record("자바");
+		bookTrendingKeywordService.record(" ");
+		bookTrendingKeywordService.record(null);
+		bookTrendingKeywordService.record("가".repeat(51));
+
+		// 끝난 구간이 없으면 지금 구간에서 센다.
+		assertThat(bookTrendingKeywordService.readTrending(10)).containsExactly(
+			new BookTrendingKeywordResponse("해리 포터", 2), new BookTrendingKeywordResponse("자바", 1));
+	}
+
+	@Test
+	void rotateTest() {
+		bookTrendingKeywordService.record("해리 포터");
+		bookTrendingKeywordService.rotate();
+		bookTrendingKeywordService.record("자바");
+		bookTrendingKeywordService.record("자바");
+
+		// 끝난 구간이 있으면 그 구간의 순위를 보여준다.
+		assertThat(bookTrendingKeywordService.readTrending(10))
+			.containsExactly(new BookTrendingKeywordResponse("해리 포터", 1));
+
+		bookTrendingKeywordService.rotate();
+
+		assertThat(bookTrendingKeywordService.readTrending(10))
+			.containsExactly(new BookTrendingKeywordResponse("자바", 2));
+	}
+
+	@Test
+	void warmTest() {
+		bookTrendingKeywordService.record("자바");
+		bookTrendingKeywordService.record("자바");
+		bookTrendingKeywordService.record("해리 포터");
+
+		bookTrendingKeywordService.warm();
+
+		verify(bookSearchService).warm(List.of("자바"));
+	}
+
+	@Test
+	void warmNothingTest() {
+		bookTrendingKeywordService.warm();
+
+		verify(bookSearchService, never()).warm(anyCollection());
+	}
+}
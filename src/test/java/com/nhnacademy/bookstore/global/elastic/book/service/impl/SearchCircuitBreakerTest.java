@@ -0,0 +1,60 @@
+package com.nhnacademy.bookstore.global.elastic.book.service.impl;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class SearchCircuitBreakerTest {
+	private final AtomicLong now = new AtomicLong();
+	private final SearchCircuitBreaker circuitBreaker = new SearchCircuitBreaker(2, 100, 1000, now::get);
+
+	@Test
+	void openAfterFailuresTest() {
+		circuitBreaker.onFailure();
+		assertThat(circuitBreaker.tryAcquire()).isTrue();
+
+		circuitBreaker.onFailure();
+		assertThat(circuitBreaker.state()).isEqualTo(SearchCircuitBreaker.State.OPEN);
+		assertThat(circuitBreaker.tryAcquire()).isFalse();
+	}
+
+	@Test
+	void successResetsFailuresTest() {
+		circuitBreaker.onFailure();
+		circuitBreaker.onSuccess(10);
+		circuitBreaker.onFailure();
+
+		assertThat(circuitBreaker.state()).isEqualTo(SearchCircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	void slowCallCountsAsFailureTest() {
+		circuitBreaker.onSuccess(100);
+		circuitBreaker.onSuccess(200);
+
+		assertThat(circuitBreaker.state()).isEqualTo(SearchCircuitBreaker.State.OPEN);
+	}
+
+	@Test
+	void halfOpenProbeTest() {
+		circuitBreaker.onFailure();
+		circuitBreaker.onFailure();
+
+		now.set(1000);
+		assertThat(circuitBreaker.tryAcquire()).isTrue();
+		assertThat(circuitBreaker.state()).isEqualTo(SearchCircuitBreaker.State.HALF_OPEN);
+		assertThat(circuitBreaker.tryAcquire()).isFalse();
+
+		circuitBreaker.onFailure();
+		assertThat(circuitBreaker.state()).isEqualTo(SearchCircuitBreaker.State.OPEN);
+		assertThat(circuitBreaker.tryAcquire()).isFalse();
+
+		now.set(2000);
+		assertThat(circuitBreaker.tryAcquire()).isTrue();
+		circuitBreaker.onSuccess(10);
+		assertThat(circuitBreaker.state()).isEqualTo(SearchCircuitBreaker.State.CLOSED);
+		assertThat(circuitBreaker.tryAcquire()).isTrue();
+	}
+}
@@ -0,0 +1,50 @@
+package com.nhnacademy.bookstore.global.elastic.book.service.impl;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class SpaceSavingTest {
+
+	@Test
+	void countUnderCapacityTest() {
+		SpaceSaving summary = new SpaceSaving(3);
+		summary.offer("a");
+		summary.offer("b");
+		summary.offer("a");
+
+		assertThat(summary.top(10)).containsExactly(new SpaceSaving.Item("a", 2, 0), new SpaceSaving.Item("b", 1, 0));
+		assertThat(summary.top(1)).extracting(SpaceSaving.Item::value).containsExactly("a");
+	}
+
+	@Test
+	void replaceMinimumTest() {
+		SpaceSaving summary = new SpaceSaving(2);
+		summary.offer("a");
+		summary.offer("a");
+		summary.offer("b");
+
+		// 꽉 찼으므로 가장 적게 센 b 를 내보내고 그 수를 물려받는다.
+		summary.offer("c");
+
+		assertThat(summary.size()).isEqualTo(2);
+		assertThat(summary.top(10)).containsExactly(new SpaceSaving.Item("a", 2, 0), new SpaceSaving.Item("c", 2, 1));
+	}
+
+	@Test
+	void heavyHitterSurvivesTest() {
+		SpaceSaving summary = new SpaceSaving(10);
+		// 전체의 1/10 보다 자주 나오는 키워드는 다른 키워드가 아무리 많아도 남는다.
+		for (int i = 0; i < 1000; i++) {
+			summary.offer("popular");
+			summary.offer("keyword" + i);
+			summary.offer("keyword" + (i + 5000));
+		}
+
+		assertThat(summary.size()).isEqualTo(10);
+		SpaceSaving.Item top = summary.top(1).getFirst();
+		assertThat(top.value()).isEqualTo("popular");
+		assertThat(top.count() - top.error()).isLessThanOrEqualTo(1000);
+		assertThat(top.count()).isGreaterThanOrEqualTo(1000);
+	}
+}
@@ -0,0 +1,71 @@
+package com.nhnacademy.bookstore.global.elastic.controller;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
+
+import com.nhnacademy.bookstore.BaseDocumentTest;
+import com.nhnacademy.bookstore.book.book.exception.InvalidBookCursorException;
+import com.nhnacademy.bookstore.book.book.service.BookService;
+import com.nhnacademy.bookstore.book.bookcategory.service.BookCategoryService;
+import com.nhnacademy.bookstore.book.booktag.service.BookTagService;
+import com.nhnacademy.bookstore.global.elastic.book.dto.response.BookSearchCursorResponse;
+import com.nhnacademy.bookstore.global.elastic.book.service.BookSearchService;
+import com.nhnacademy.bookstore.global.elastic.book.service.BookSuggestService;
+import com.nhnacademy.bookstore.global.elastic.book.service.BookTrendingKeywordService;
+
+@WebMvcTest(
+	controllers = {
+		ElasticController.class
+	}
+)
+class ElasticControllerTest extends BaseDocumentTest {
+	@MockBean
+	private BookService bookService;
+	@MockBean
+	private BookCategoryService bookCategoryService;
+	@MockBean
+	private BookTagService bookTagService;
+	@MockBean
+	private BookSearchService bookSearchService;
+	@MockBean
+	private BookSuggestService bookSuggestService;
+	@MockBean
+	private BookTrendingKeywordService bookTrendingKeywordService;
+
+	@Test
+	void searchByCursorSizeTest() throws Exception {
+		given(bookSearchService.searchByCursor(anyString(), any(), anyInt()))
+			.willReturn(BookSearchCursorResponse.builder().content(List.of()).hasNext(false).build());
+
+		this.mockMvc.perform(RestDocumentationRequestBuilders.get("/bookstore/books/search/cursor")
+				.param("keyword", "해리")
+				.param("size", "0"))
+			.andExpect(status().isOk());
+		this.mockMvc.perform(RestDocumentationRequestBuilders.get("/bookstore/books/search/cursor")
+				.param("keyword", "해리")
+				.param("size", "100000"))
+			.andExpect(status().isOk());
+
+		verify(bookSearchService).searchByCursor("해리", null, 1);
+		verify(bookSearchService).searchByCursor("해리", null, 100);
+	}
+
+	@Test
+	void searchByCursorExpiredTest() throws Exception {
+		given(bookSearchService.searchByCursor("해리", "expired", 12))
+			.willThrow(new InvalidBookCursorException("만료된 커서입니다. 처음부터 다시 검색해주세요."));
+
+		this.mockMvc.perform(RestDocumentationRequestBuilders.get("/bookstore/books/search/cursor")
+				.param("keyword", "해리")
+				.param("after", "expired"))
+			.andExpect(status().isBadRequest());
+	}
+}
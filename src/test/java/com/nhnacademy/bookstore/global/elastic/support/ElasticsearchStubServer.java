@@ -0,0 +1,91 @@
+package com.nhnacademy.bookstore.global.elastic.support;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchClients;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * elastic search 대신 테스트가 정한 응답만 돌려주는 로컬 HTTP 서버.
+ * 실제 클라이언트가 보내는 요청 본문과, 응답을 읽는 방식까지 확인할 때 씁니다.
+ *
+ * @author 한민기
+ */
+public final class ElasticsearchStubServer implements AutoCloseable {
+	private final HttpServer server;
+
+	private ElasticsearchStubServer(HttpServer server) {
+		this.server = server;
+	}
+
+	/**
+	 * 빈 포트로 서버를 띄웁니다.
+	 *
+	 * @param handler 요청마다 응답을 정하는 함수
+	 * @return 띄운 서버
+	 * @throws IOException 포트를 열지 못한 경우
+	 */
+	public static ElasticsearchStubServer start(Handler handler) throws IOException {
+		HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/", exchange -> respond(exchange, handler));
+		server.start();
+		return new ElasticsearchStubServer(server);
+	}
+
+	/**
+	 * @return 이 서버로 보내는 실제 클라이언트
+	 */
+	public ElasticsearchTemplate template() {
+		return new ElasticsearchTemplate(ElasticsearchClients.createImperative(
+			ClientConfiguration.create("localhost:" + server.getAddress().getPort())));
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+	}
+
+	private static void respond(HttpExchange exchange, Handler handler) throws IOException {
+		String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+		Response response = handler.handle(exchange.getRequestMethod(), exchange.getRequestURI().getPath(), body);
+		byte[] bytes = response.body().getBytes(StandardCharsets.UTF_8);
+		// 클라이언트는 이 헤더가 없으면 elastic search 가 아니라고 보고 응답을 버린다.
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.getResponseHeaders().add("X-Elastic-Product", "Elasticsearch");
+		exchange.sendResponseHeaders(response.status(), bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	/**
+	 * 요청마다 응답을 정하는 함수.
+	 */
+	@FunctionalInterface
+	public interface Handler {
+		/**
+		 * @param method 요청 method
+		 * @param path   요청 경로
+		 * @param body   요청 본문
+		 * @return 응답
+		 */
+		Response handle(String method, String path, String body);
+	}
+
+	/**
+	 * @param status HTTP 상태
+	 * @param body   JSON 본문
+	 */
+	public record Response(int status, String body) {
+		public static Response ok(String body) {
+			return new Response(200, body);
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package com.nhnacademy.bookstore.purchase.payment.service.impl;
 
+import com.nhnacademy.bookstore.book.book.service.BookDetailCacheService;
+import com.nhnacademy.bookstore.book.ranking.service.BookRankingService;
 import com.nhnacademy.bookstore.book.book.exception.BookDoesNotExistException;
 import com.nhnacademy.bookstore.book.book.repository.BookRepository;
 import com.nhnacademy.bookstore.entity.book.Book;
@@ -49,6 +51,10 @@ class PaymentGuestServiceImplTest {
 
     @Mock
     private BookRepository bookRepository;
+    @Mock
+    private BookDetailCacheService bookDetailCacheService;
+    @Mock
+    private BookRankingService bookRankingService;
 
     @BeforeEach
     void setUp() {
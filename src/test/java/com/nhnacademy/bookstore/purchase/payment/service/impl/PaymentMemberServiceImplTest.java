@@ -1,5 +1,7 @@
 package com.nhnacademy.bookstore.purchase.payment.service.impl;
 
+import com.nhnacademy.bookstore.book.book.service.BookDetailCacheService;
+import com.nhnacademy.bookstore.book.ranking.service.BookRankingService;
 import com.nhnacademy.bookstore.book.book.exception.BookDoesNotExistException;
 import com.nhnacademy.bookstore.book.book.repository.BookRepository;
 import com.nhnacademy.bookstore.entity.book.Book;
@@ -68,6 +70,10 @@ class PaymentMemberServiceImplTest {
 
     @Mock
     private PointPolicyRepository pointPolicyRepository;
+    @Mock
+    private BookDetailCacheService bookDetailCacheService;
+    @Mock
+    private BookRankingService bookRankingService;
 
     @BeforeEach
     void setUp() {
@@ -7,10 +7,14 @@ import static org.mockito.Mockito.*;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
+import com.nhnacademy.bookstore.book.book.service.BookDetailCacheService;
 import com.nhnacademy.bookstore.book.book.repository.BookRepository;
+import com.nhnacademy.bookstore.book.ranking.enums.RankingType;
+import com.nhnacademy.bookstore.book.ranking.service.BookRankingService;
 import com.nhnacademy.bookstore.entity.book.Book;
 import com.nhnacademy.bookstore.entity.pointrecord.PointRecord;
 import com.nhnacademy.bookstore.purchase.purchasebook.exception.NotExistsPurchase;
@@ -59,6 +63,10 @@ public class RefundServiceImplTest {
     private RefundRecordRepository refundRecordRepository;
     @Mock
     private BookRepository bookRepository;
+    @Mock
+    private BookDetailCacheService bookDetailCacheService;
+    @Mock
+    private BookRankingService bookRankingService;
 
     @Test
     public void testReadTossOrderId() {
@@ -170,6 +178,7 @@ public class RefundServiceImplTest {
         purchaseBook1.setQuantity(2);
         purchaseBook1.setPrice(500);
         Book book1 = new Book();
+        book1.setId(1L);
         book1.setQuantity(10);
         purchaseBook1.setBook(book1);
 
@@ -177,6 +186,7 @@ public class RefundServiceImplTest {
         purchaseBook2.setQuantity(3);
         purchaseBook2.setPrice(500);
         Book book2 = new Book();
+        book2.setId(2L);
         book2.setQuantity(5);
         purchaseBook2.setBook(book2);
 
@@ -193,17 +203,24 @@ public class RefundServiceImplTest {
         List<RefundRecord> refundRecordList = Arrays.asList(refundRecord1, refundRecord2);
         refund.setRefundRecordList(refundRecordList);
 
+        ZonedDateTime orderedAt = ZonedDateTime.now().minusDays(2);
         Purchase purchase = new Purchase();
         purchase.setMember(member);
+        purchase.setCreatedAt(orderedAt);
         purchase.setPurchaseBookList(Arrays.asList(purchaseBook1, purchaseBook2));
         purchaseBook1.setPurchase(purchase);
         purchaseBook2.setPurchase(purchase);
 
         refundRecord1.setRefund(refund);
         refundRecord2.setRefund(refund);
+        when(refundRepository.findById(refundId)).thenReturn(Optional.of(refund));
 
         Boolean result = refundService.updateSuccessRefund(refundId);
 
+        assertTrue(result);
+        verify(bookRankingService).increaseScore(RankingType.BESTSELLER, Map.of(1L, -2L, 2L, -3L),
+            orderedAt.toLocalDate());
+
     }
 
     @Test